@@ -0,0 +1,116 @@
+package com.hydro.insite_grow_chamber_history_microservice.codec;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the encode and decode throughput of the Gorilla block codec in
+ * readings per second, and prints the compression ratio against the 29 bytes
+ * a reading takes uncompressed (timestamp, five floats and the light status).
+ *
+ * <p>
+ * The synthetic readings follow what a grow chamber reports: one reading a
+ * minute with a little arrival jitter, pH and TDS drifting slowly between
+ * dosing, temperatures following the day, and the lights on 16 hours a day.
+ * Values are rounded to two decimals like the history table stores them, and
+ * are encoded either as they are or as whole hundredths, the way the archive
+ * segments store them.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GorillaBlockCodecBenchmark {
+    private static final int ROWS = 1024;
+    private static final int METRICS = 5;
+    private static final int RAW_BYTES_PER_ROW = 8 + METRICS * 4 + 1;
+
+    @Param({ "0", "250" })
+    public int jitterMillis;
+
+    @Param({ "false", "true" })
+    public boolean hundredths;
+
+    private long[] timestamps;
+    private float[][] values;
+    private boolean[] lights;
+    private byte[] block;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        timestamps = new long[ROWS];
+        values = new float[ROWS][];
+        lights = new boolean[ROWS];
+
+        long time = 1782864000000L;
+        double ph = 6.0;
+        double tds = 800;
+        for(int i = 0; i < ROWS; i++) {
+            time += 60000 + (jitterMillis == 0 ? 0 : random.nextInt(2 * jitterMillis + 1) - jitterMillis);
+            ph = i % 360 == 0 ? 6.0 : ph + random.nextGaussian() * 0.002 + 0.0005;
+            tds = i % 360 == 0 ? 800 : tds - random.nextDouble() * 0.2;
+            double day = Math.sin(2 * Math.PI * (i % 1440) / 1440.0);
+
+            timestamps[i] = time;
+            lights[i] = i % 1440 < 960;
+            values[i] = new float[] { round(ph), round(tds), round(20.5 + day + random.nextGaussian() * 0.05),
+                    round(23 + 3 * day + random.nextGaussian() * 0.1),
+                    round(60 - 8 * day + random.nextGaussian() * 0.5) };
+            if(hundredths) {
+                for(int m = 0; m < METRICS; m++) {
+                    values[i][m] = Math.round(values[i][m] * 100f);
+                }
+            }
+        }
+        block = encode();
+
+        System.out.printf("%nCompression: %d readings in %d bytes, %.2f bytes per reading, ratio %.2fx%n", ROWS,
+                          block.length, (double) block.length / ROWS,
+                          (double) ROWS * RAW_BYTES_PER_ROW / block.length);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public byte[] encodeBlock() {
+        return encode();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void decodeBlock(Blackhole blackhole) {
+        GorillaBlockDecoder decoder = new GorillaBlockDecoder(block);
+        while(decoder.next()) {
+            blackhole.consume(decoder.getTimestamp());
+            for(int m = 0; m < METRICS; m++) {
+                blackhole.consume(decoder.getValue(m));
+            }
+            blackhole.consume(decoder.getFlag());
+        }
+    }
+
+    private byte[] encode() {
+        GorillaBlockEncoder encoder = new GorillaBlockEncoder(METRICS, ROWS);
+        for(int i = 0; i < ROWS; i++) {
+            encoder.append(timestamps[i], values[i], lights[i]);
+        }
+        return encoder.toByteArray();
+    }
+
+    private static float round(double value) {
+        return Math.round(value * 100) / 100f;
+    }
+}
@@ -0,0 +1,145 @@
+package com.hydro.streaming;
+
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberLogJsonWriter.GROW_CHAMBER_LOG_JSON_WRITER;
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberLogMapper.GROW_CHAMBER_LOG_MAPPER;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hydro.configs.ObjectMapperConfiguration;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+
+/**
+ * Compares writing a list endpoint body in rows per second the way the list
+ * endpoints do it, mapping every row to a {@link GrowChamberLog}, collecting
+ * the list and serializing it with the object mapper, against writing each row
+ * straight from the result set with a {@link JsonArrayRowHandler}. Both write
+ * to a stream that drops the bytes, with the object mapper the application
+ * uses.
+ *
+ * <p>
+ * The rows come from an in-memory result set over a minute of readings per row
+ * for a single system, so the driver is left out and only the mapping and JSON
+ * writing is measured. The row count is what a day of history for three
+ * systems returns.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonRowStreamingBenchmark {
+    private static final int ROWS = 4320;
+
+    private ObjectMapper objectMapper;
+    private float[][] values;
+    private Timestamp[] dates;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapperConfiguration().objectMapper();
+        Random random = new Random(42);
+        values = new float[ROWS][];
+        dates = new Timestamp[ROWS];
+
+        long time = 1782864000000L;
+        for(int i = 0; i < ROWS; i++) {
+            double day = Math.sin(2 * Math.PI * (i % 1440) / 1440.0);
+            values[i] = new float[] { round(6 + random.nextGaussian() * 0.05), round(800 - i % 360 * 0.1),
+                    round(20.5 + day), round(23 + 3 * day), round(60 - 8 * day) };
+            dates[i] = new Timestamp(time + i * 60000L);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mapperAndList() throws SQLException, IOException {
+        ResultSet rs = resultSet();
+        List<GrowChamberLog> logs = new ArrayList<>();
+        int rowNum = 0;
+        while(rs.next()) {
+            logs.add(GROW_CHAMBER_LOG_MAPPER.mapRow(rs, rowNum++));
+        }
+        objectMapper.writeValue(OutputStream.nullOutputStream(), logs);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void rowStreaming() throws SQLException, IOException {
+        ResultSet rs = resultSet();
+        JsonArrayRowHandler handler = new JsonArrayRowHandler(objectMapper.getFactory(),
+                                                              OutputStream.nullOutputStream(),
+                                                              GROW_CHAMBER_LOG_JSON_WRITER);
+        while(rs.next()) {
+            handler.processRow(rs);
+        }
+        handler.finish();
+    }
+
+    /**
+     * Creates a forward-only result set over the synthetic rows. Only the calls
+     * the mapper and the row writer make are supported.
+     *
+     * @return {@link ResultSet} positioned before the first row.
+     */
+    private ResultSet resultSet() {
+        int[] row = { -1 };
+        InvocationHandler handler = (proxy, method, args) -> {
+            if(method.getName().equals("next")) {
+                return ++row[0] < ROWS;
+            }
+            return column(row[0], (String) args[0]);
+        };
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                                                  handler);
+    }
+
+    private Object column(int row, String column) {
+        switch(column) {
+            case "id":
+                return row + 1;
+            case "system_id":
+                return 1;
+            case "ph":
+                return values[row][0];
+            case "tds":
+                return values[row][1];
+            case "water_temp_celsius":
+                return values[row][2];
+            case "air_temp_celsius":
+                return values[row][3];
+            case "humidity":
+                return values[row][4];
+            case "light_status":
+                return row % 1440 < 960;
+            case "insert_date_utc":
+                return dates[row];
+            default:
+                throw new IllegalArgumentException("Unknown column: " + column);
+        }
+    }
+
+    private static float round(double value) {
+        return Math.round(value * 100) / 100f;
+    }
+}
@@ -0,0 +1,26 @@
+package com.hydro.configs;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.hydro.insite_grow_chamber_history_microservice.rest.GrowChamberIngestRateLimitInterceptor;
+
+/**
+ * Web MVC config for registering the request interceptors.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Configuration
+public class WebMvcConfiguration implements WebMvcConfigurer {
+
+    @Autowired
+    private GrowChamberIngestRateLimitInterceptor ingestRateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(ingestRateLimitInterceptor).addPathPatterns(GrowChamberIngestRateLimitInterceptor.PATHS);
+    }
+}
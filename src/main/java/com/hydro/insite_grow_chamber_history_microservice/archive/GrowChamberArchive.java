@@ -0,0 +1,215 @@
+package com.hydro.insite_grow_chamber_history_microservice.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberArchiveSegment;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberArchiveDAO;
+
+/**
+ * Cold tier of the grow chamber history. Logs older than the archive threshold
+ * are kept as compressed segments in the grow_chamber_archive_segment table.
+ * The segments live in MySQL instead of on local disk, since the filesystem of
+ * a dyno is thrown away on every restart and is not shared between instances.
+ *
+ * <p>
+ * Segments are only ever added, never rewritten. Each archive run adds the
+ * logs it moved as new segments of at most {@link #SEGMENT_ROWS} logs, so a
+ * run costs the same no matter how much is already archived.
+ *
+ * <p>
+ * Reads only pick the segments whose dates overlap the request and decode
+ * them one at a time in date order, so a page stops decoding once it has its
+ * logs.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberArchive {
+    public static final int SEGMENT_ROWS = 64 * GrowChamberSegmentFile.BLOCK_ROWS;
+    public static final Comparator<GrowChamberLog> LOG_ORDER = Comparator.comparing(GrowChamberLog::getInsertDate)
+            .thenComparingInt(GrowChamberLog::getId);
+
+    @Value("${grow-chamber.archive.enabled}")
+    private boolean enabled;
+
+    @Value("${grow-chamber.archive.after-days}")
+    private int afterDays;
+
+    @Autowired
+    private GrowChamberArchiveDAO dao;
+
+    /**
+     * Determines if the archive is enabled.
+     *
+     * @return {@link Boolean} if old logs are moved to the archive.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the start of the oldest month that is still kept in MySQL. Every month
+     * before it is moved to the archive.
+     *
+     * @param now The current UTC time.
+     * @return {@link LocalDateTime} of the archive boundary.
+     */
+    public LocalDateTime getBoundary(LocalDateTime now) {
+        return YearMonth.from(now.minusDays(afterDays)).atDay(1).atStartOfDay();
+    }
+
+    /**
+     * Determines if the archive has to be read for the given request. It only has
+     * to be when the request starts before the archive boundary, counting the
+     * keyset cursor as its start. A request without a start only has to when the
+     * archive holds logs of its systems from before its end. Lookups by log id
+     * alone are not checked against the archive here, they only fall back to it
+     * when the log is not in MySQL.
+     *
+     * @param request The request to filter the logs on.
+     * @param now     The current UTC time.
+     * @return {@link Boolean} if the request can match archived logs.
+     */
+    public boolean covers(GrowChamberHistoryGetRequest request, LocalDateTime now) {
+        if(!enabled || (request.getId() != null && request.getSystemId() == null)) {
+            return false;
+        }
+
+        LocalDateTime start = getStart(request);
+        if(start != null) {
+            return start.isBefore(getBoundary(now));
+        }
+
+        LocalDateTime oldest = dao.getOldestDate(request.getSystemId());
+        return oldest != null && (request.getTo() == null || oldest.isBefore(request.getTo()));
+    }
+
+    /**
+     * Gets the insert date of the oldest archived log of the given systems.
+     *
+     * @param systemIds The ids of the systems. Can be null for every system.
+     * @return {@link LocalDateTime} of the oldest log, or null if nothing is
+     *         archived.
+     */
+    public LocalDateTime getOldestDate(Set<Integer> systemIds) {
+        return dao.getOldestDate(systemIds);
+    }
+
+    /**
+     * Adds logs of a single system to the archive as new segments. Only the given
+     * logs are encoded, the segments that are already archived are not touched.
+     *
+     * @param systemId The id of the system.
+     * @param logs     The logs to add, ordered by insert date.
+     */
+    public void write(int systemId, List<GrowChamberLog> logs) {
+        try {
+            for(int i = 0; i < logs.size(); i += SEGMENT_ROWS) {
+                List<GrowChamberLog> rows = logs.subList(i, Math.min(i + SEGMENT_ROWS, logs.size()));
+
+                GrowChamberArchiveSegment segment = new GrowChamberArchiveSegment();
+                segment.setSystemId(systemId);
+                segment.setFirstDate(rows.get(0).getInsertDate());
+                segment.setLastDate(rows.get(rows.size() - 1).getInsertDate());
+                segment.setMinId(rows.stream().mapToInt(GrowChamberLog::getId).min().getAsInt());
+                segment.setMaxId(rows.stream().mapToInt(GrowChamberLog::getId).max().getAsInt());
+                segment.setRowCount(rows.size());
+                segment.setData(GrowChamberSegmentFile.encode(systemId, rows));
+                dao.insertSegment(segment);
+            }
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the archived logs that match the request. The keyset cursor and
+     * limit of the request are applied, so the result can be merged with the
+     * MySQL page. Segments are decoded in date order until the page is full and
+     * the next segment starts after its last log.
+     *
+     * @param request The request to filter the logs on.
+     * @return List of {@link GrowChamberLog} objects ordered by insert date.
+     */
+    public List<GrowChamberLog> read(GrowChamberHistoryGetRequest request) {
+        Integer limit = request.getLimit();
+        Integer minId = request.getId() == null ? null : Collections.min(request.getId());
+        Integer maxId = request.getId() == null ? null : Collections.max(request.getId());
+
+        List<GrowChamberLog> logs = new ArrayList<>();
+        try {
+            for(GrowChamberArchiveSegment segment : dao.getSegments(request.getSystemId(), getStart(request),
+                                                                    request.getTo(), minId, maxId)) {
+                if(limit != null && logs.size() >= limit
+                        && segment.getFirstDate().isAfter(logs.get(limit - 1).getInsertDate())) {
+                    break;
+                }
+
+                GrowChamberSegmentFile.decode(dao.getSegmentData(segment.getId()), request.getFrom(), request.getTo())
+                        .stream().filter(l -> matches(l, request)).forEach(logs::add);
+                logs.sort(LOG_ORDER);
+                if(limit != null && logs.size() > limit) {
+                    logs.subList(limit, logs.size()).clear();
+                }
+            }
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return logs;
+    }
+
+    /**
+     * Removes all of the archived logs of a system.
+     *
+     * @param systemId The id of the system.
+     */
+    public void delete(int systemId) {
+        dao.deleteSegments(systemId);
+    }
+
+    /**
+     * Gets the first date the request can match, which is the later of its from
+     * date and its keyset cursor.
+     *
+     * @param request The request to filter the logs on.
+     * @return {@link LocalDateTime} of the start, or null if it has neither.
+     */
+    private LocalDateTime getStart(GrowChamberHistoryGetRequest request) {
+        LocalDateTime from = request.getFrom();
+        if(request.getAfterTimestamp() != null && (from == null || request.getAfterTimestamp().isAfter(from))) {
+            from = request.getAfterTimestamp();
+        }
+        return from;
+    }
+
+    private boolean matches(GrowChamberLog log, GrowChamberHistoryGetRequest request) {
+        if(request.getId() != null && !request.getId().contains(log.getId())) {
+            return false;
+        }
+        if(request.getLightStatus() != null && request.getLightStatus() != log.isLightsOn()) {
+            return false;
+        }
+        if(request.getAfterTimestamp() != null) {
+            int compare = log.getInsertDate().compareTo(request.getAfterTimestamp());
+            return compare > 0 || (compare == 0 && log.getId() > request.getAfterId());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,318 @@
+package com.hydro.insite_grow_chamber_history_microservice.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.codec.GorillaBlockDecoder;
+import com.hydro.insite_grow_chamber_history_microservice.codec.GorillaBlockEncoder;
+
+/**
+ * Encodes and decodes archive segments. A segment holds the logs of a single
+ * system, ordered by insert date, split into blocks of {@link #BLOCK_ROWS}
+ * rows. Each block is compressed on its own, and the header holds a time index
+ * of the blocks so a range read only decodes the blocks it needs.
+ *
+ * <pre>
+ * header: magic, version, system id, row count, block count
+ * index:  per block first millis, last millis, row count, offset, length
+ * blocks: scale flag, id deltas, then a Gorilla block of the times, metrics
+ *         and lights
+ * </pre>
+ *
+ * The metrics are stored with two decimals, and their float bits barely repeat
+ * between readings. When every value of a block round trips through hundredths
+ * the block stores the whole number of hundredths instead, which XORs down to
+ * a few bits.
+ *
+ * Version 1 segments, which deflate each column instead, can still be read.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public final class GrowChamberSegmentFile {
+    private static final int MAGIC = 0x47434853;
+    private static final short VERSION = 2;
+    private static final short DEFLATE_VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 4 + 4 + 4;
+    private static final int INDEX_ENTRY_BYTES = 8 + 8 + 4 + 8 + 4;
+    private static final int METRICS = 5;
+    private static final float SCALE = 100f;
+    static final int BLOCK_ROWS = 1024;
+
+    private GrowChamberSegmentFile() {}
+
+    /**
+     * Encodes the logs as a segment.
+     *
+     * @param systemId The id of the system the logs belong to.
+     * @param logs     The logs to encode, ordered by insert date.
+     * @return The encoded segment.
+     * @throws IOException If the logs can not be encoded.
+     */
+    public static byte[] encode(int systemId, List<GrowChamberLog> logs) throws IOException {
+        List<byte[]> blocks = new ArrayList<>();
+        for(int i = 0; i < logs.size(); i += BLOCK_ROWS) {
+            blocks.add(encodeBlock(logs.subList(i, Math.min(i + BLOCK_ROWS, logs.size()))));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(systemId);
+            out.writeInt(logs.size());
+            out.writeInt(blocks.size());
+
+            long offset = HEADER_BYTES + (long) INDEX_ENTRY_BYTES * blocks.size();
+            for(int b = 0; b < blocks.size(); b++) {
+                int first = b * BLOCK_ROWS;
+                int last = Math.min(first + BLOCK_ROWS, logs.size()) - 1;
+                out.writeLong(toMillis(logs.get(first).getInsertDate()));
+                out.writeLong(toMillis(logs.get(last).getInsertDate()));
+                out.writeInt(last - first + 1);
+                out.writeLong(offset);
+                out.writeInt(blocks.get(b).length);
+                offset += blocks.get(b).length;
+            }
+
+            for(byte[] block : blocks) {
+                out.write(block);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the logs of a segment that fall within the given range. Only the
+     * blocks that overlap the range are decoded.
+     *
+     * @param segment The encoded segment.
+     * @param from    Start of the range, inclusive. Can be null.
+     * @param to      End of the range, exclusive. Can be null.
+     * @return List of {@link GrowChamberLog} objects ordered by insert date.
+     * @throws IOException If the bytes are not a segment or are corrupt.
+     */
+    public static List<GrowChamberLog> decode(byte[] segment, LocalDateTime from, LocalDateTime to)
+            throws IOException {
+        long fromMillis = from == null ? Long.MIN_VALUE : toMillis(from);
+        long toMillis = to == null ? Long.MAX_VALUE : toMillis(to);
+
+        try {
+            ByteBuffer header = ByteBuffer.wrap(segment);
+            int magic = header.getInt();
+            short version = header.getShort();
+            if(magic != MAGIC || (version != VERSION && version != DEFLATE_VERSION)) {
+                throw new IOException("Not a grow chamber segment");
+            }
+
+            int systemId = header.getInt();
+            int rowCount = header.getInt();
+            int blockCount = header.getInt();
+
+            List<GrowChamberLog> logs = new ArrayList<>(Math.min(rowCount, BLOCK_ROWS));
+            for(int b = 0; b < blockCount; b++) {
+                long firstMillis = header.getLong();
+                long lastMillis = header.getLong();
+                int rows = header.getInt();
+                int offset = Math.toIntExact(header.getLong());
+                int length = header.getInt();
+                if(lastMillis < fromMillis || firstMillis >= toMillis) {
+                    continue;
+                }
+
+                if(offset < 0 || length < 0 || offset + length > segment.length) {
+                    throw new IOException("Unexpected end of segment");
+                }
+                byte[] block = Arrays.copyOfRange(segment, offset, offset + length);
+                List<GrowChamberLog> blockLogs = version == VERSION ? decodeBlock(block, systemId, rows)
+                        : inflateBlock(block, systemId, rows);
+                for(GrowChamberLog log : blockLogs) {
+                    long millis = toMillis(log.getInsertDate());
+                    if(millis >= fromMillis && millis < toMillis) {
+                        logs.add(log);
+                    }
+                }
+            }
+            return logs;
+        }
+        catch(BufferUnderflowException | ArithmeticException e) {
+            throw new IOException("Unexpected end of segment", e);
+        }
+    }
+
+    /**
+     * Encodes a block of logs. Ids are written as varint deltas from the previous
+     * row, the rest of the row goes through the {@link GorillaBlockEncoder}.
+     *
+     * @param logs The logs of the block.
+     * @return The compressed block.
+     * @throws IOException If the block can not be encoded.
+     */
+    private static byte[] encodeBlock(List<GrowChamberLog> logs) throws IOException {
+        List<float[]> rows = new ArrayList<>(logs.size());
+        boolean scaled = true;
+        for(GrowChamberLog log : logs) {
+            float[] values = { log.getPh(), log.getTds(), log.getWaterTemp(), log.getAirTemp(), log.getHumidity() };
+            for(float value : values) {
+                scaled &= Math.round(value * SCALE) / SCALE == value;
+            }
+            rows.add(values);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(scaled ? 1 : 0);
+        long previousId = 0;
+        for(GrowChamberLog log : logs) {
+            writeVarLong(bytes, log.getId() - previousId);
+            previousId = log.getId();
+        }
+
+        GorillaBlockEncoder encoder = new GorillaBlockEncoder(METRICS, logs.size());
+        for(int i = 0; i < logs.size(); i++) {
+            float[] values = rows.get(i);
+            if(scaled) {
+                for(int m = 0; m < METRICS; m++) {
+                    values[m] = Math.round(values[m] * SCALE);
+                }
+            }
+            encoder.append(toMillis(logs.get(i).getInsertDate()), values, logs.get(i).isLightsOn());
+        }
+        bytes.write(encoder.toByteArray());
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a block written by {@link #encodeBlock(List)}.
+     *
+     * @param block    The compressed block.
+     * @param systemId The id of the system the logs belong to.
+     * @param rows     The number of rows in the block.
+     * @return List of {@link GrowChamberLog} objects of the block.
+     * @throws IOException If the block is corrupt.
+     */
+    private static List<GrowChamberLog> decodeBlock(byte[] block, int systemId, int rows) throws IOException {
+        List<GrowChamberLog> logs = new ArrayList<>(rows);
+        ByteArrayInputStream in = new ByteArrayInputStream(block);
+        float scale = in.read() == 1 ? SCALE : 1f;
+        long id = 0;
+        for(int i = 0; i < rows; i++) {
+            GrowChamberLog log = new GrowChamberLog();
+            id += readVarLong(in);
+            log.setId((int) id);
+            log.setSystemId(systemId);
+            logs.add(log);
+        }
+
+        GorillaBlockDecoder decoder = new GorillaBlockDecoder(in.readAllBytes());
+        if(decoder.getRows() != rows || decoder.getMetrics() != METRICS) {
+            throw new IOException("Malformed segment block");
+        }
+        for(GrowChamberLog log : logs) {
+            decoder.next();
+            log.setInsertDate(LocalDateTime.ofInstant(Instant.ofEpochMilli(decoder.getTimestamp()), ZoneOffset.UTC));
+            log.setPh(decoder.getValue(0) / scale);
+            log.setTds(decoder.getValue(1) / scale);
+            log.setWaterTemp(decoder.getValue(2) / scale);
+            log.setAirTemp(decoder.getValue(3) / scale);
+            log.setHumidity(decoder.getValue(4) / scale);
+            log.setLightsOn(decoder.getFlag());
+        }
+        return logs;
+    }
+
+    /**
+     * Decodes a version 1 block, where every column was written one after another
+     * and deflated.
+     *
+     * @param block    The compressed block.
+     * @param systemId The id of the system the logs belong to.
+     * @param rows     The number of rows in the block.
+     * @return List of {@link GrowChamberLog} objects of the block.
+     * @throws IOException If the block is corrupt.
+     */
+    private static List<GrowChamberLog> inflateBlock(byte[] block, int systemId, int rows) throws IOException {
+        List<GrowChamberLog> logs = new ArrayList<>(rows);
+        try(DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(block)))) {
+            long id = 0;
+            for(int i = 0; i < rows; i++) {
+                GrowChamberLog log = new GrowChamberLog();
+                id += readVarLong(in);
+                log.setId((int) id);
+                log.setSystemId(systemId);
+                logs.add(log);
+            }
+
+            long millis = 0;
+            for(GrowChamberLog log : logs) {
+                millis += readVarLong(in);
+                log.setInsertDate(LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+            }
+            readColumn(in, logs, GrowChamberLog::setPh);
+            readColumn(in, logs, GrowChamberLog::setTds);
+            readColumn(in, logs, GrowChamberLog::setWaterTemp);
+            readColumn(in, logs, GrowChamberLog::setAirTemp);
+            readColumn(in, logs, GrowChamberLog::setHumidity);
+
+            byte[] lights = new byte[(rows + 7) / 8];
+            in.readFully(lights);
+            for(int i = 0; i < rows; i++) {
+                logs.get(i).setLightsOn((lights[i / 8] & (1 << (i % 8))) != 0);
+            }
+        }
+        return logs;
+    }
+
+    private static void readColumn(DataInputStream in, List<GrowChamberLog> logs, FloatSetter setter)
+            throws IOException {
+        for(GrowChamberLog log : logs) {
+            setter.set(log, in.readFloat());
+        }
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long zigzag = 0;
+        for(int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if(b < 0) {
+                throw new IOException("Unexpected end of segment block");
+            }
+            zigzag |= (long) (b & 0x7F) << shift;
+            if((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("Malformed segment block");
+    }
+
+    static long toMillis(LocalDateTime date) {
+        return date.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private interface FloatSetter {
+        void set(GrowChamberLog log, float value);
+    }
+}
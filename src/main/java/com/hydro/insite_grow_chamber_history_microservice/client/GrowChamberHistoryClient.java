@@ -1,6 +1,10 @@
 package com.hydro.insite_grow_chamber_history_microservice.client;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+
 import com.hydro.common.annotations.interfaces.Client;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberHistoryService;
 
 /**
  * Client method for Grow chamber history.
@@ -11,4 +15,16 @@ import com.hydro.common.annotations.interfaces.Client;
 @Client
 public class GrowChamberHistoryClient {
 
+    @Lazy
+    @Autowired
+    private GrowChamberHistoryService service;
+
+    /**
+     * Deletes all of the grow chamber logs of a system.
+     * 
+     * @param systemId The id of the system to delete the logs of.
+     */
+    public void deleteGrowChamberLogs(int systemId) {
+        service.deleteGrowChamberLogs(systemId);
+    }
 }
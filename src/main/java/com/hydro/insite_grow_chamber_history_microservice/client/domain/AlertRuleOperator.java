@@ -0,0 +1,63 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.util.function.DoublePredicate;
+
+import com.hydro.common.dictionary.enums.TextEnum;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Comparisons an alert rule can make between a reading and its threshold.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Alert rule comparison operators")
+public enum AlertRuleOperator implements TextEnum {
+    LESS_THAN("LESS_THAN", "below"),
+    LESS_THAN_OR_EQUAL("LESS_THAN_OR_EQUAL", "at or below"),
+    GREATER_THAN("GREATER_THAN", "above"),
+    GREATER_THAN_OR_EQUAL("GREATER_THAN_OR_EQUAL", "at or above");
+
+    private String textId;
+
+    private String description;
+
+    private AlertRuleOperator(String textId, String description) {
+        this.textId = textId;
+        this.description = description;
+    }
+
+    @Override
+    public String getTextId() {
+        return textId;
+    }
+
+    /**
+     * Gets how the operator reads in a sentence, such as "below".
+     * 
+     * @return {@link String} of the description.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Builds the comparison of a value against the given threshold.
+     * 
+     * @param threshold The threshold to compare to.
+     * @return {@link DoublePredicate} that is true when a value matches.
+     */
+    public DoublePredicate toPredicate(double threshold) {
+        switch(this) {
+            case LESS_THAN:
+                return v -> v < threshold;
+            case LESS_THAN_OR_EQUAL:
+                return v -> v <= threshold;
+            case GREATER_THAN:
+                return v -> v > threshold;
+            default:
+                return v -> v >= threshold;
+        }
+    }
+}
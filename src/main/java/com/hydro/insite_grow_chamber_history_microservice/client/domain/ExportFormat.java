@@ -0,0 +1,35 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import com.hydro.common.dictionary.enums.TextEnum;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Formats that grow chamber history can be exported as.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Grow chamber history export formats")
+public enum ExportFormat implements TextEnum {
+    NDJSON("NDJSON", "application/x-ndjson"),
+    CSV("CSV", "text/csv");
+
+    private String textId;
+
+    private String contentType;
+
+    private ExportFormat(String textId, String contentType) {
+        this.textId = textId;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public String getTextId() {
+        return textId;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,137 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Alert rule that a user defined for a system, such as pH below 5.5 for 10
+ * minutes while the lights are on.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "User defined alert rule of a system.")
+public class GrowChamberAlertRule {
+
+    @Schema(description = "Alert rule identifier.")
+    private int id;
+
+    @Schema(description = "System identifier.")
+    private int systemId;
+
+    @Schema(description = "The user that created the rule and is notified by it.")
+    private int userId;
+
+    @Schema(description = "Name of the rule.")
+    private String name;
+
+    @Schema(description = "The metric the rule checks.")
+    private GrowChamberMetric metric;
+
+    @Schema(description = "How the metric is compared to the threshold.")
+    private AlertRuleOperator operator;
+
+    @Schema(description = "The threshold the metric is compared to.")
+    private float threshold;
+
+    @Schema(description = "How many minutes the condition has to hold before the rule fires.")
+    private int durationMinutes;
+
+    @Schema(description = "Only match while the lights are in this state. Any state when not set.")
+    private Boolean lightStatus;
+
+    @Schema(description = "If the rule is evaluated.")
+    private Boolean enabled;
+
+    @Schema(description = "When the rule was created.")
+    private LocalDateTime insertDate;
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public GrowChamberMetric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(GrowChamberMetric metric) {
+        this.metric = metric;
+    }
+
+    public AlertRuleOperator getOperator() {
+        return operator;
+    }
+
+    public void setOperator(AlertRuleOperator operator) {
+        this.operator = operator;
+    }
+
+    public float getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(float threshold) {
+        this.threshold = threshold;
+    }
+
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(int durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public Boolean getLightStatus() {
+        return lightStatus;
+    }
+
+    public void setLightStatus(Boolean lightStatus) {
+        this.lightStatus = lightStatus;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public LocalDateTime getInsertDate() {
+        return insertDate;
+    }
+
+    public void setInsertDate(LocalDateTime insertDate) {
+        this.insertDate = insertDate;
+    }
+}
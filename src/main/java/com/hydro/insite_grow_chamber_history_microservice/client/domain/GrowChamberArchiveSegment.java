@@ -0,0 +1,105 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A compressed segment of archived grow chamber logs of a single system. The
+ * dates and ids of the logs in it are kept next to the segment so a read only
+ * decodes the segments it needs.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Schema(description = "Segment of archived grow chamber logs.")
+public class GrowChamberArchiveSegment {
+
+    @Schema(description = "Id of the segment.")
+    private int id;
+
+    @Schema(description = "The system the logs belong to.")
+    private int systemId;
+
+    @Schema(description = "Insert date of the first log in the segment.")
+    private LocalDateTime firstDate;
+
+    @Schema(description = "Insert date of the last log in the segment.")
+    private LocalDateTime lastDate;
+
+    @Schema(description = "Lowest log id in the segment.")
+    private int minId;
+
+    @Schema(description = "Highest log id in the segment.")
+    private int maxId;
+
+    @Schema(description = "Number of logs in the segment.")
+    private int rowCount;
+
+    @Schema(description = "The encoded logs.")
+    private byte[] data;
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public LocalDateTime getFirstDate() {
+        return firstDate;
+    }
+
+    public void setFirstDate(LocalDateTime firstDate) {
+        this.firstDate = firstDate;
+    }
+
+    public LocalDateTime getLastDate() {
+        return lastDate;
+    }
+
+    public void setLastDate(LocalDateTime lastDate) {
+        this.lastDate = lastDate;
+    }
+
+    public int getMinId() {
+        return minId;
+    }
+
+    public void setMinId(int minId) {
+        this.minId = minId;
+    }
+
+    public int getMaxId() {
+        return maxId;
+    }
+
+    public void setMaxId(int maxId) {
+        this.maxId = maxId;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public void setRowCount(int rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,116 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Deadband settings of a system. While enabled a reading is only stored when a
+ * metric moved more than its threshold from the last stored reading, the light
+ * status changed, or the max silence has passed.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Deadband ingest settings of a system.")
+public class GrowChamberDeadband {
+
+    @Schema(description = "System identifier.")
+    private int systemId;
+
+    @Schema(description = "If readings of the system are only stored when they change.")
+    private Boolean enabled;
+
+    @Schema(description = "How far the pH has to move from the last stored reading to be stored.")
+    private float phThreshold;
+
+    @Schema(description = "How far the TDS has to move from the last stored reading to be stored.")
+    private float tdsThreshold;
+
+    @Schema(description = "How far the water temperature has to move from the last stored reading to be stored.")
+    private float waterTempThreshold;
+
+    @Schema(description = "How far the air temperature has to move from the last stored reading to be stored.")
+    private float airTempThreshold;
+
+    @Schema(description = "How far the humidity has to move from the last stored reading to be stored.")
+    private float humidityThreshold;
+
+    @Schema(description = "Longest time in seconds between stored readings, even if nothing changed.")
+    private int maxSilenceSeconds;
+
+    @Schema(description = "When the settings were saved.")
+    private LocalDateTime insertDate;
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public float getPhThreshold() {
+        return phThreshold;
+    }
+
+    public void setPhThreshold(float phThreshold) {
+        this.phThreshold = phThreshold;
+    }
+
+    public float getTdsThreshold() {
+        return tdsThreshold;
+    }
+
+    public void setTdsThreshold(float tdsThreshold) {
+        this.tdsThreshold = tdsThreshold;
+    }
+
+    public float getWaterTempThreshold() {
+        return waterTempThreshold;
+    }
+
+    public void setWaterTempThreshold(float waterTempThreshold) {
+        this.waterTempThreshold = waterTempThreshold;
+    }
+
+    public float getAirTempThreshold() {
+        return airTempThreshold;
+    }
+
+    public void setAirTempThreshold(float airTempThreshold) {
+        this.airTempThreshold = airTempThreshold;
+    }
+
+    public float getHumidityThreshold() {
+        return humidityThreshold;
+    }
+
+    public void setHumidityThreshold(float humidityThreshold) {
+        this.humidityThreshold = humidityThreshold;
+    }
+
+    public int getMaxSilenceSeconds() {
+        return maxSilenceSeconds;
+    }
+
+    public void setMaxSilenceSeconds(int maxSilenceSeconds) {
+        this.maxSilenceSeconds = maxSilenceSeconds;
+    }
+
+    public LocalDateTime getInsertDate() {
+        return insertDate;
+    }
+
+    public void setInsertDate(LocalDateTime insertDate) {
+        this.insertDate = insertDate;
+    }
+}
@@ -0,0 +1,145 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Grow chamber ingest buffer statistics.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Statistics about the asynchronous grow chamber ingest buffer.")
+public class GrowChamberIngestStats {
+
+    @Schema(description = "If the asynchronous ingest mode is enabled.")
+    private boolean enabled;
+
+    @Schema(description = "Number of logs currently waiting to be flushed.")
+    private int queueDepth;
+
+    @Schema(description = "Maximum number of logs the queue can hold.")
+    private int queueCapacity;
+
+    @Schema(description = "Total number of logs accepted into the queue.")
+    private long acceptedCount;
+
+    @Schema(description = "Total number of logs rejected because the queue was full.")
+    private long rejectedCount;
+
+    @Schema(description = "Total number of logs written to the database.")
+    private long flushedCount;
+
+    @Schema(description = "Total number of logs that failed to be written after every retry.")
+    private long failedCount;
+
+    @Schema(description = "Number of flushes that failed and were retried.")
+    private long retries;
+
+    @Schema(description = "Number of flushes that have been performed.")
+    private long flushes;
+
+    @Schema(description = "Number of logs written by the last flush.")
+    private int lastFlushSize;
+
+    @Schema(description = "Duration of the last flush in milliseconds.")
+    private long lastFlushMillis;
+
+    @Schema(description = "Longest flush duration in milliseconds.")
+    private long maxFlushMillis;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public void setAcceptedCount(long acceptedCount) {
+        this.acceptedCount = acceptedCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(long rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public long getFlushedCount() {
+        return flushedCount;
+    }
+
+    public void setFlushedCount(long flushedCount) {
+        this.flushedCount = flushedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public long getRetries() {
+        return retries;
+    }
+
+    public void setRetries(long retries) {
+        this.retries = retries;
+    }
+
+    public long getFlushes() {
+        return flushes;
+    }
+
+    public void setFlushes(long flushes) {
+        this.flushes = flushes;
+    }
+
+    public int getLastFlushSize() {
+        return lastFlushSize;
+    }
+
+    public void setLastFlushSize(int lastFlushSize) {
+        this.lastFlushSize = lastFlushSize;
+    }
+
+    public long getLastFlushMillis() {
+        return lastFlushMillis;
+    }
+
+    public void setLastFlushMillis(long lastFlushMillis) {
+        this.lastFlushMillis = lastFlushMillis;
+    }
+
+    public long getMaxFlushMillis() {
+        return maxFlushMillis;
+    }
+
+    public void setMaxFlushMillis(long maxFlushMillis) {
+        this.maxFlushMillis = maxFlushMillis;
+    }
+}
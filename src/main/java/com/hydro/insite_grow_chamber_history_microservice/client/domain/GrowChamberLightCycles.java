@@ -0,0 +1,95 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Photoperiod report of a system over a date range, built from its light
+ * runs. A light status holds until the next run starts, and time after the
+ * last reading is not counted.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Light cycles of a system over a date range.")
+public class GrowChamberLightCycles {
+
+    @Schema(description = "System identifier.")
+    private int systemId;
+
+    @Schema(description = "Start of the range, inclusive.")
+    private LocalDateTime from;
+
+    @Schema(description = "End of the range, exclusive.")
+    private LocalDateTime to;
+
+    @Schema(description = "Seconds the lights were on over the range.")
+    private long lightSeconds;
+
+    @Schema(description = "Seconds the lights were off over the range.")
+    private long darkSeconds;
+
+    @Schema(description = "The on and off intervals within the range, in order.")
+    private List<GrowChamberLightRun> intervals;
+
+    @Schema(description = "Light and dark time of each UTC day in the range.")
+    private List<GrowChamberLightDay> days;
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public long getLightSeconds() {
+        return lightSeconds;
+    }
+
+    public void setLightSeconds(long lightSeconds) {
+        this.lightSeconds = lightSeconds;
+    }
+
+    public long getDarkSeconds() {
+        return darkSeconds;
+    }
+
+    public void setDarkSeconds(long darkSeconds) {
+        this.darkSeconds = darkSeconds;
+    }
+
+    public List<GrowChamberLightRun> getIntervals() {
+        return intervals;
+    }
+
+    public void setIntervals(List<GrowChamberLightRun> intervals) {
+        this.intervals = intervals;
+    }
+
+    public List<GrowChamberLightDay> getDays() {
+        return days;
+    }
+
+    public void setDays(List<GrowChamberLightDay> days) {
+        this.days = days;
+    }
+}
@@ -0,0 +1,59 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Light and dark time of a system over one UTC day.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Light and dark time of a system over one day.")
+public class GrowChamberLightDay {
+
+    @Schema(description = "The UTC day.")
+    private LocalDate date;
+
+    @Schema(description = "Seconds the lights were on.")
+    private long lightSeconds;
+
+    @Schema(description = "Seconds the lights were off.")
+    private long darkSeconds;
+
+    @Schema(description = "Hours the lights were on.")
+    private double lightHours;
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public long getLightSeconds() {
+        return lightSeconds;
+    }
+
+    public void setLightSeconds(long lightSeconds) {
+        this.lightSeconds = lightSeconds;
+    }
+
+    public long getDarkSeconds() {
+        return darkSeconds;
+    }
+
+    public void setDarkSeconds(long darkSeconds) {
+        this.darkSeconds = darkSeconds;
+    }
+
+    public double getLightHours() {
+        return lightHours;
+    }
+
+    public void setLightHours(double lightHours) {
+        this.lightHours = lightHours;
+    }
+}
@@ -0,0 +1,61 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Run of readings of a system that all had the same light status. A new run
+ * starts whenever the light status changes, so the runs of a system are its
+ * light transitions.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Light status run of a system.")
+public class GrowChamberLightRun {
+
+    @Schema(description = "System identifier.")
+    private int systemId;
+
+    @Schema(description = "If the lights were on during the run.")
+    private boolean lightsOn;
+
+    @Schema(description = "Date of the first reading of the run.")
+    private LocalDateTime startDate;
+
+    @Schema(description = "Date of the last reading of the run, or the end of the interval when returned as one.")
+    private LocalDateTime endDate;
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public boolean isLightsOn() {
+        return lightsOn;
+    }
+
+    public void setLightsOn(boolean lightsOn) {
+        this.lightsOn = lightsOn;
+    }
+
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDateTime startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDateTime endDate) {
+        this.endDate = endDate;
+    }
+}
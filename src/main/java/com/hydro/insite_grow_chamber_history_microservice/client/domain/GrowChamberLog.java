@@ -19,6 +19,9 @@ public class GrowChamberLog {
     @Schema(description = "System identifier.")
     private int systemId;
 
+    @Schema(description = "Optional sequence number of the reading on the device. A reading is only stored once per system and sequence number, so it can be retried safely.")
+    private Long seq;
+
     @Schema(description = "PH level of the system.")
     private float ph;
 
@@ -40,6 +43,9 @@ public class GrowChamberLog {
     @Schema(description = "When the log was created.")
     private LocalDateTime insertDate;
 
+    @Schema(description = "When the device took the reading, in UTC. Required for backfilled readings, which are stored at this date instead of the time they were received.")
+    private LocalDateTime deviceDate;
+
     public int getId() {
         return id;
     }
@@ -56,6 +62,14 @@ public class GrowChamberLog {
         this.systemId = systemId;
     }
 
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
     public float getPh() {
         return ph;
     }
@@ -112,4 +126,11 @@ public class GrowChamberLog {
         this.insertDate = insertDate;
     }
 
+    public LocalDateTime getDeviceDate() {
+        return deviceDate;
+    }
+
+    public void setDeviceDate(LocalDateTime deviceDate) {
+        this.deviceDate = deviceDate;
+    }
 }
@@ -0,0 +1,118 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Grow chamber logs as one array per field instead of one object per log. The
+ * values at the same index of every array make up one log. Field names are only
+ * written once and dates are sent as numbers, so charts get a much smaller
+ * payload than a list of {@link GrowChamberLog} objects.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Grow chamber logs in columns, ordered by insert date.")
+public class GrowChamberLogColumns {
+
+    @Schema(description = "Log identifiers.")
+    private int[] id;
+
+    @Schema(description = "System identifier of each log.")
+    private int[] systemId;
+
+    @Schema(description = "Insert date of each log in epoch milliseconds UTC.")
+    @JsonProperty("t")
+    private long[] times;
+
+    @Schema(description = "PH of each log.")
+    private float[] ph;
+
+    @Schema(description = "TDS of each log.")
+    private float[] tds;
+
+    @Schema(description = "Water temperature of each log.")
+    private float[] waterTemp;
+
+    @Schema(description = "Air temperature of each log.")
+    private float[] airTemp;
+
+    @Schema(description = "Humidity of each log.")
+    private float[] humidity;
+
+    @Schema(description = "Light status of each log.")
+    private boolean[] lightsOn;
+
+    public int[] getId() {
+        return id;
+    }
+
+    public void setId(int[] id) {
+        this.id = id;
+    }
+
+    public int[] getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int[] systemId) {
+        this.systemId = systemId;
+    }
+
+    public long[] getTimes() {
+        return times;
+    }
+
+    public void setTimes(long[] times) {
+        this.times = times;
+    }
+
+    public float[] getPh() {
+        return ph;
+    }
+
+    public void setPh(float[] ph) {
+        this.ph = ph;
+    }
+
+    public float[] getTds() {
+        return tds;
+    }
+
+    public void setTds(float[] tds) {
+        this.tds = tds;
+    }
+
+    public float[] getWaterTemp() {
+        return waterTemp;
+    }
+
+    public void setWaterTemp(float[] waterTemp) {
+        this.waterTemp = waterTemp;
+    }
+
+    public float[] getAirTemp() {
+        return airTemp;
+    }
+
+    public void setAirTemp(float[] airTemp) {
+        this.airTemp = airTemp;
+    }
+
+    public float[] getHumidity() {
+        return humidity;
+    }
+
+    public void setHumidity(float[] humidity) {
+        this.humidity = humidity;
+    }
+
+    public boolean[] getLightsOn() {
+        return lightsOn;
+    }
+
+    public void setLightsOn(boolean[] lightsOn) {
+        this.lightsOn = lightsOn;
+    }
+}
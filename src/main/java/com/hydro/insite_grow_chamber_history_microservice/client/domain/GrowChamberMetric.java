@@ -0,0 +1,46 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.util.function.ToDoubleFunction;
+
+import com.hydro.common.dictionary.enums.TextEnum;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * The numeric readings of a grow chamber log.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Grow chamber log metrics")
+public enum GrowChamberMetric implements TextEnum {
+    PH("PH", GrowChamberLog::getPh),
+    TDS("TDS", GrowChamberLog::getTds),
+    WATER_TEMP("WATER_TEMP", GrowChamberLog::getWaterTemp),
+    AIR_TEMP("AIR_TEMP", GrowChamberLog::getAirTemp),
+    HUMIDITY("HUMIDITY", GrowChamberLog::getHumidity);
+
+    private String textId;
+
+    private ToDoubleFunction<GrowChamberLog> getter;
+
+    private GrowChamberMetric(String textId, ToDoubleFunction<GrowChamberLog> getter) {
+        this.textId = textId;
+        this.getter = getter;
+    }
+
+    @Override
+    public String getTextId() {
+        return textId;
+    }
+
+    /**
+     * Gets the value of this metric from a log.
+     * 
+     * @param log The log to read.
+     * @return The value of the metric.
+     */
+    public double getValue(GrowChamberLog log) {
+        return getter.applyAsDouble(log);
+    }
+}
@@ -0,0 +1,44 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A single monthly partition of the grow chamber history table.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Partition of the grow chamber history table.")
+public class GrowChamberPartition {
+
+    @Schema(description = "Name of the partition.")
+    private String name;
+
+    @Schema(description = "Exclusive upper bound of the partition. Null for the catch-all partition.")
+    private LocalDateTime upperBound;
+
+    public GrowChamberPartition() {}
+
+    public GrowChamberPartition(String name, LocalDateTime upperBound) {
+        this.name = name;
+        this.upperBound = upperBound;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDateTime getUpperBound() {
+        return upperBound;
+    }
+
+    public void setUpperBound(LocalDateTime upperBound) {
+        this.upperBound = upperBound;
+    }
+}
@@ -0,0 +1,92 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Grow chamber ingest rate limit statistics.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Statistics about the per system grow chamber ingest rate limit.")
+public class GrowChamberRateLimitStats {
+
+    @Schema(description = "If the ingest rate limit is enabled.")
+    private boolean enabled;
+
+    @Schema(description = "Number of logs a system can send per second.")
+    private double rowsPerSecond;
+
+    @Schema(description = "Number of logs a system can send at once after being idle.")
+    private int burst;
+
+    @Schema(description = "Number of systems that have a bucket.")
+    private int systemCount;
+
+    @Schema(description = "Total number of logs that were allowed.")
+    private long allowedCount;
+
+    @Schema(description = "Total number of logs that were dropped for being over the limit.")
+    private long droppedCount;
+
+    @Schema(description = "Number of dropped logs by system id, for systems that had any dropped.")
+    private Map<Integer, Long> droppedBySystem;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public int getSystemCount() {
+        return systemCount;
+    }
+
+    public void setSystemCount(int systemCount) {
+        this.systemCount = systemCount;
+    }
+
+    public long getAllowedCount() {
+        return allowedCount;
+    }
+
+    public void setAllowedCount(long allowedCount) {
+        this.allowedCount = allowedCount;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    public void setDroppedCount(long droppedCount) {
+        this.droppedCount = droppedCount;
+    }
+
+    public Map<Integer, Long> getDroppedBySystem() {
+        return droppedBySystem;
+    }
+
+    public void setDroppedBySystem(Map<Integer, Long> droppedBySystem) {
+        this.droppedBySystem = droppedBySystem;
+    }
+}
@@ -0,0 +1,125 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Rollup of the grow chamber logs of a system over a single time bucket.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Rollup of grow chamber logs for a system over a time bucket.")
+public class GrowChamberRollup {
+
+    @Schema(description = "System identifier.")
+    private int systemId;
+
+    @Schema(description = "The resolution of the bucket.")
+    private HistoryResolution resolution;
+
+    @Schema(description = "The start of the bucket.")
+    private LocalDateTime bucketDate;
+
+    @Schema(description = "Number of readings in the bucket.")
+    private int count;
+
+    @Schema(description = "PH level summary.")
+    private MetricSummary ph;
+
+    @Schema(description = "Total dissolved solids summary.")
+    private MetricSummary tds;
+
+    @Schema(description = "Water temp summary in celsius.")
+    private MetricSummary waterTemp;
+
+    @Schema(description = "Air temp summary in celsius.")
+    private MetricSummary airTemp;
+
+    @Schema(description = "Humidity level summary.")
+    private MetricSummary humidity;
+
+    @Schema(description = "Date of the most recent reading in the bucket.")
+    private LocalDateTime lastDate;
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public HistoryResolution getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(HistoryResolution resolution) {
+        this.resolution = resolution;
+    }
+
+    public LocalDateTime getBucketDate() {
+        return bucketDate;
+    }
+
+    public void setBucketDate(LocalDateTime bucketDate) {
+        this.bucketDate = bucketDate;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public MetricSummary getPh() {
+        return ph;
+    }
+
+    public void setPh(MetricSummary ph) {
+        this.ph = ph;
+    }
+
+    public MetricSummary getTds() {
+        return tds;
+    }
+
+    public void setTds(MetricSummary tds) {
+        this.tds = tds;
+    }
+
+    public MetricSummary getWaterTemp() {
+        return waterTemp;
+    }
+
+    public void setWaterTemp(MetricSummary waterTemp) {
+        this.waterTemp = waterTemp;
+    }
+
+    public MetricSummary getAirTemp() {
+        return airTemp;
+    }
+
+    public void setAirTemp(MetricSummary airTemp) {
+        this.airTemp = airTemp;
+    }
+
+    public MetricSummary getHumidity() {
+        return humidity;
+    }
+
+    public void setHumidity(MetricSummary humidity) {
+        this.humidity = humidity;
+    }
+
+    public LocalDateTime getLastDate() {
+        return lastDate;
+    }
+
+    public void setLastDate(LocalDateTime lastDate) {
+        this.lastDate = lastDate;
+    }
+}
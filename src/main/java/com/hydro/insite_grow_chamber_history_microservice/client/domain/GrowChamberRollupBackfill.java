@@ -0,0 +1,61 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Progress of adding the history a system had before rollups were recorded
+ * to its rollups. The history is read in keyset order, so the last log that
+ * was read is where the next batch continues.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Schema(description = "Rollup backfill progress of a system.")
+public class GrowChamberRollupBackfill {
+
+    @Schema(description = "System identifier.")
+    private int systemId;
+
+    @Schema(description = "Logs inserted before this date are backfilled.")
+    private LocalDateTime endDate;
+
+    @Schema(description = "Insert date of the last log that was backfilled.")
+    private LocalDateTime lastDate;
+
+    @Schema(description = "Id of the last log that was backfilled.")
+    private Integer lastId;
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDateTime endDate) {
+        this.endDate = endDate;
+    }
+
+    public LocalDateTime getLastDate() {
+        return lastDate;
+    }
+
+    public void setLastDate(LocalDateTime lastDate) {
+        this.lastDate = lastDate;
+    }
+
+    public Integer getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(Integer lastId) {
+        this.lastId = lastId;
+    }
+}
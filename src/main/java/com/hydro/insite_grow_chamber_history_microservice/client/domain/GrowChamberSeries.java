@@ -0,0 +1,49 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Chart series of a system's history. The points of every segment are merged
+ * into a single list ordered by bucket date.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "History series of a system, stitched together from one or more resolutions.")
+public class GrowChamberSeries {
+
+    @Schema(description = "System identifier.")
+    private int systemId;
+
+    @Schema(description = "The segments the series was read from, oldest first.")
+    private List<GrowChamberSeriesSegment> segments;
+
+    @Schema(description = "The points of the series, oldest first.")
+    private List<GrowChamberRollup> points;
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public List<GrowChamberSeriesSegment> getSegments() {
+        return segments;
+    }
+
+    public void setSegments(List<GrowChamberSeriesSegment> segments) {
+        this.segments = segments;
+    }
+
+    public List<GrowChamberRollup> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<GrowChamberRollup> points) {
+        this.points = points;
+    }
+}
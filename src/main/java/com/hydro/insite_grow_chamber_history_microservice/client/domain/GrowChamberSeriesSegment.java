@@ -0,0 +1,56 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Part of a series that is read from a single resolution.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Part of a history series that is served from one resolution.")
+public class GrowChamberSeriesSegment {
+
+    @Schema(description = "The resolution the segment is read from.")
+    private HistoryResolution resolution;
+
+    @Schema(description = "Start of the segment, inclusive.")
+    private LocalDateTime from;
+
+    @Schema(description = "End of the segment, exclusive.")
+    private LocalDateTime to;
+
+    public GrowChamberSeriesSegment() {}
+
+    public GrowChamberSeriesSegment(HistoryResolution resolution, LocalDateTime from, LocalDateTime to) {
+        this.resolution = resolution;
+        this.from = from;
+        this.to = to;
+    }
+
+    public HistoryResolution getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(HistoryResolution resolution) {
+        this.resolution = resolution;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+}
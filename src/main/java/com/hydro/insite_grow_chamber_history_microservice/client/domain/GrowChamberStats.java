@@ -0,0 +1,115 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Statistics of every metric of a system over a window of the history. The
+ * statistics are computed by the database, so only this summary is read.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Metric statistics of a system over a window.")
+public class GrowChamberStats {
+
+    @Schema(description = "System identifier.")
+    private int systemId;
+
+    @Schema(description = "Start of the window, inclusive.")
+    private LocalDateTime from;
+
+    @Schema(description = "End of the window, exclusive.")
+    private LocalDateTime to;
+
+    @Schema(description = "Number of readings in the window.")
+    private int count;
+
+    @Schema(description = "Statistics of the pH.")
+    private MetricStats ph;
+
+    @Schema(description = "Statistics of the TDS.")
+    private MetricStats tds;
+
+    @Schema(description = "Statistics of the water temperature.")
+    private MetricStats waterTemp;
+
+    @Schema(description = "Statistics of the air temperature.")
+    private MetricStats airTemp;
+
+    @Schema(description = "Statistics of the humidity.")
+    private MetricStats humidity;
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public MetricStats getPh() {
+        return ph;
+    }
+
+    public void setPh(MetricStats ph) {
+        this.ph = ph;
+    }
+
+    public MetricStats getTds() {
+        return tds;
+    }
+
+    public void setTds(MetricStats tds) {
+        this.tds = tds;
+    }
+
+    public MetricStats getWaterTemp() {
+        return waterTemp;
+    }
+
+    public void setWaterTemp(MetricStats waterTemp) {
+        this.waterTemp = waterTemp;
+    }
+
+    public MetricStats getAirTemp() {
+        return airTemp;
+    }
+
+    public void setAirTemp(MetricStats airTemp) {
+        this.airTemp = airTemp;
+    }
+
+    public MetricStats getHumidity() {
+        return humidity;
+    }
+
+    public void setHumidity(MetricStats humidity) {
+        this.humidity = humidity;
+    }
+}
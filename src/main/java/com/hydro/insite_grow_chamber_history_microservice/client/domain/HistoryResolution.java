@@ -0,0 +1,78 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.hydro.common.dictionary.enums.TextEnum;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Resolutions that grow chamber history can be bucketed by.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Grow chamber history bucket resolutions")
+public enum HistoryResolution implements TextEnum {
+    RAW("RAW", null),
+    MINUTE("MINUTE", ChronoUnit.MINUTES),
+    HOUR("HOUR", ChronoUnit.HOURS),
+    DAY("DAY", ChronoUnit.DAYS);
+
+    private String textId;
+
+    private ChronoUnit unit;
+
+    private HistoryResolution(String textId, ChronoUnit unit) {
+        this.textId = textId;
+        this.unit = unit;
+    }
+
+    @Override
+    public String getTextId() {
+        return textId;
+    }
+
+    /**
+     * Gets the resolutions that are stored as rollups, which is every resolution
+     * except {@link #RAW}.
+     * 
+     * @return Set of the rollup resolutions.
+     */
+    public static Set<HistoryResolution> rollups() {
+        return EnumSet.complementOf(EnumSet.of(RAW));
+    }
+
+    /**
+     * Determines if this resolution is stored as a rollup.
+     * 
+     * @return {@link Boolean} of false for {@link #RAW}.
+     */
+    public boolean isRollup() {
+        return unit != null;
+    }
+
+    /**
+     * Gets the width of a single bucket. Raw history has no fixed width.
+     * 
+     * @return {@link Duration} of a bucket, or null for {@link #RAW}.
+     */
+    public Duration getDuration() {
+        return unit == null ? null : unit.getDuration();
+    }
+
+    /**
+     * Gets the start of the bucket that the given date falls in. Raw history is
+     * not bucketed, so the date is returned as is.
+     * 
+     * @param date The date to truncate.
+     * @return {@link LocalDateTime} of the bucket start.
+     */
+    public LocalDateTime truncate(LocalDateTime date) {
+        return unit == null ? date : date.truncatedTo(unit);
+    }
+}
@@ -0,0 +1,79 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Statistics of a single sensor metric over a window of readings.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Statistics of a sensor metric over a window of readings.")
+public class MetricStats {
+
+    @Schema(description = "Lowest value in the window.")
+    private float min;
+
+    @Schema(description = "Highest value in the window.")
+    private float max;
+
+    @Schema(description = "Average value in the window.")
+    private double mean;
+
+    @Schema(description = "Population standard deviation of the values in the window.")
+    private double stddev;
+
+    @Schema(description = "Median value in the window.")
+    private float p50;
+
+    @Schema(description = "95th percentile of the values in the window.")
+    private float p95;
+
+    public float getMin() {
+        return min;
+    }
+
+    public void setMin(float min) {
+        this.min = min;
+    }
+
+    public float getMax() {
+        return max;
+    }
+
+    public void setMax(float max) {
+        this.max = max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public void setMean(double mean) {
+        this.mean = mean;
+    }
+
+    public double getStddev() {
+        return stddev;
+    }
+
+    public void setStddev(double stddev) {
+        this.stddev = stddev;
+    }
+
+    public float getP50() {
+        return p50;
+    }
+
+    public void setP50(float p50) {
+        this.p50 = p50;
+    }
+
+    public float getP95() {
+        return p95;
+    }
+
+    public void setP95(float p95) {
+        this.p95 = p95;
+    }
+}
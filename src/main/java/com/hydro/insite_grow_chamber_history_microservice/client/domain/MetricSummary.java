@@ -0,0 +1,70 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Summary of a single sensor metric over a bucket of readings.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Summary of a sensor metric over a bucket of readings.")
+public class MetricSummary {
+
+    @Schema(description = "Lowest value in the bucket.")
+    private float min;
+
+    @Schema(description = "Highest value in the bucket.")
+    private float max;
+
+    @Schema(description = "Average value in the bucket.")
+    private float avg;
+
+    @Schema(description = "Most recent value in the bucket.")
+    private float last;
+
+    @JsonIgnore
+    private double sum;
+
+    public float getMin() {
+        return min;
+    }
+
+    public void setMin(float min) {
+        this.min = min;
+    }
+
+    public float getMax() {
+        return max;
+    }
+
+    public void setMax(float max) {
+        this.max = max;
+    }
+
+    public float getAvg() {
+        return avg;
+    }
+
+    public void setAvg(float avg) {
+        this.avg = avg;
+    }
+
+    public float getLast() {
+        return last;
+    }
+
+    public void setLast(float last) {
+        this.last = last;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public void setSum(double sum) {
+        this.sum = sum;
+    }
+}
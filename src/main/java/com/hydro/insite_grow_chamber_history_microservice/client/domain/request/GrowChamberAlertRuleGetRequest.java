@@ -0,0 +1,48 @@
+package com.hydro.insite_grow_chamber_history_microservice.client.domain.request;
+
+import java.util.Set;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * GrowChamberAlertRuleGetRequest for filtering grow chamber alert rules.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Grow Chamber Alert Rule get request object for filtering rules.")
+public class GrowChamberAlertRuleGetRequest {
+
+    @Schema(description = "List of alert rule ids.")
+    private Set<Integer> id;
+
+    @Schema(description = "List system ids.")
+    private Set<Integer> systemId;
+
+    @Schema(description = "If the rule is evaluated.")
+    private Boolean enabled;
+
+    public Set<Integer> getId() {
+        return id;
+    }
+
+    public void setId(Set<Integer> id) {
+        this.id = id;
+    }
+
+    public Set<Integer> getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(Set<Integer> systemId) {
+        this.systemId = systemId;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -1,7 +1,13 @@
 package com.hydro.insite_grow_chamber_history_microservice.client.domain.request;
 
+import java.time.LocalDateTime;
 import java.util.Set;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberMetric;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -22,6 +28,33 @@ public class GrowChamberHistoryGetRequest {
     @Schema(description = "The status of the lights.")
     private Boolean lightStatus;
 
+    @Schema(description = "Only include logs inserted on or after this UTC date.")
+    @DateTimeFormat(iso = ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @Schema(description = "Only include logs inserted before this UTC date.")
+    @DateTimeFormat(iso = ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    @Schema(description = "Maximum number of logs to return.")
+    private Integer limit;
+
+    @Schema(description = "Keyset cursor of the next page, as returned in the X-Next-Cursor header of the previous page.")
+    private String cursor;
+
+    @Schema(description = "Keyset cursor, the id of the last log of the previous page. Must be given with the after timestamp.")
+    private Integer afterId;
+
+    @Schema(description = "Keyset cursor, the insert date of the last log of the previous page. Must be given with the after id.")
+    @DateTimeFormat(iso = ISO.DATE_TIME)
+    private LocalDateTime afterTimestamp;
+
+    @Schema(description = "Downsample the logs of each system to at most this many points.")
+    private Integer maxPoints;
+
+    @Schema(description = "The metric to keep the shape of when downsampling. All metrics when not set.")
+    private GrowChamberMetric metric;
+
     public Set<Integer> getId() {
         return id;
     }
@@ -45,4 +78,68 @@ public class GrowChamberHistoryGetRequest {
     public void setLightStatus(Boolean lightStatus) {
         this.lightStatus = lightStatus;
     }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(Integer afterId) {
+        this.afterId = afterId;
+    }
+
+    public LocalDateTime getAfterTimestamp() {
+        return afterTimestamp;
+    }
+
+    public void setAfterTimestamp(LocalDateTime afterTimestamp) {
+        this.afterTimestamp = afterTimestamp;
+    }
+
+    public Integer getMaxPoints() {
+        return maxPoints;
+    }
+
+    public void setMaxPoints(Integer maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+
+    public GrowChamberMetric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(GrowChamberMetric metric) {
+        this.metric = metric;
+    }
 }
@@ -0,0 +1,46 @@
+package com.hydro.insite_grow_chamber_history_microservice.codec;
+
+/**
+ * Reads bit fields written by {@link BitWriter}.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+final class BitReader {
+    private final byte[] buffer;
+    private long position;
+
+    BitReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = (long) offset << 3;
+    }
+
+    /**
+     * Reads a single bit.
+     *
+     * @return {@link Boolean} of true if the bit is set.
+     */
+    boolean readBit() {
+        return readBits(1) == 1;
+    }
+
+    /**
+     * Reads an unsigned bit field.
+     *
+     * @param bits The number of bits to read, up to 64.
+     * @return The value of the bits.
+     */
+    long readBits(int bits) {
+        long value = 0;
+        while(bits > 0) {
+            int index = (int) (position >>> 3);
+            int available = 8 - (int) (position & 7);
+            int n = Math.min(available, bits);
+            int chunk = ((buffer[index] & 0xFF) >>> (available - n)) & ((1 << n) - 1);
+            value = (value << n) | chunk;
+            bits -= n;
+            position += n;
+        }
+        return value;
+    }
+}
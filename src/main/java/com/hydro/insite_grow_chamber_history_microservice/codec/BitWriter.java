@@ -0,0 +1,59 @@
+package com.hydro.insite_grow_chamber_history_microservice.codec;
+
+import java.util.Arrays;
+
+/**
+ * Appends values to a byte array one bit field at a time, most significant bit
+ * first.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+final class BitWriter {
+    private byte[] buffer;
+    private long bitCount;
+
+    BitWriter(int initialBytes) {
+        buffer = new byte[Math.max(initialBytes, 16)];
+    }
+
+    /**
+     * Writes a single bit.
+     *
+     * @param bit The bit to write.
+     */
+    void writeBit(boolean bit) {
+        writeBits(bit ? 1 : 0, 1);
+    }
+
+    /**
+     * Writes the lowest bits of the value.
+     *
+     * @param value The value to write.
+     * @param bits  The number of low bits of the value to write, up to 64.
+     */
+    void writeBits(long value, int bits) {
+        while(bits > 0) {
+            int index = (int) (bitCount >>> 3);
+            if(index >= buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+
+            int free = 8 - (int) (bitCount & 7);
+            int n = Math.min(free, bits);
+            int chunk = (int) ((value >>> (bits - n)) & ((1 << n) - 1));
+            buffer[index] |= chunk << (free - n);
+            bits -= n;
+            bitCount += n;
+        }
+    }
+
+    /**
+     * Gets the written bits, padded with zeros to a whole byte.
+     *
+     * @return The written bytes.
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, (int) ((bitCount + 7) >>> 3));
+    }
+}
@@ -0,0 +1,159 @@
+package com.hydro.insite_grow_chamber_history_microservice.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the readings of a block written by {@link GorillaBlockEncoder} one row
+ * at a time.
+ *
+ * <pre>
+ * GorillaBlockDecoder decoder = new GorillaBlockDecoder(block);
+ * while(decoder.next()) {
+ *     decoder.getTimestamp();
+ *     decoder.getValue(0);
+ *     decoder.getFlag();
+ * }
+ * </pre>
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public final class GorillaBlockDecoder {
+    private final BitReader bits;
+    private final int rows;
+    private final int metrics;
+    private final int[] values;
+    private final int[] leading;
+    private final int[] trailing;
+
+    private int row;
+    private long timestamp;
+    private long delta;
+    private boolean flag;
+
+    /**
+     * Creates a decoder for the given block.
+     *
+     * @param block The encoded block.
+     */
+    public GorillaBlockDecoder(byte[] block) {
+        ByteBuffer header = ByteBuffer.wrap(block, 0, GorillaBlockEncoder.HEADER_BYTES);
+        this.rows = header.getInt();
+        this.metrics = header.get();
+        this.timestamp = header.getLong();
+        this.bits = new BitReader(block, GorillaBlockEncoder.HEADER_BYTES);
+        this.values = new int[metrics];
+        this.leading = new int[metrics];
+        this.trailing = new int[metrics];
+    }
+
+    /**
+     * Gets the number of readings in the block.
+     *
+     * @return The row count of the block.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of float metrics of each reading.
+     *
+     * @return The metric count of the block.
+     */
+    public int getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Moves to the next reading of the block.
+     *
+     * @return {@link Boolean} of false once every reading has been read.
+     */
+    public boolean next() {
+        if(row >= rows) {
+            return false;
+        }
+
+        if(row == 0) {
+            for(int m = 0; m < metrics; m++) {
+                values[m] = (int) bits.readBits(32);
+            }
+        }
+        else {
+            readTimestamp();
+            for(int m = 0; m < metrics; m++) {
+                readValue(m);
+            }
+        }
+        flag = bits.readBit();
+        row++;
+        return true;
+    }
+
+    /**
+     * Gets the timestamp of the current reading.
+     *
+     * @return The epoch millis of the reading.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets a metric of the current reading.
+     *
+     * @param metric The index of the metric.
+     * @return The value of the metric.
+     */
+    public float getValue(int metric) {
+        return Float.intBitsToFloat(values[metric]);
+    }
+
+    /**
+     * Gets the boolean attribute of the current reading.
+     *
+     * @return The flag of the reading.
+     */
+    public boolean getFlag() {
+        return flag;
+    }
+
+    private void readTimestamp() {
+        long deltaOfDelta;
+        if(!bits.readBit()) {
+            deltaOfDelta = 0;
+        }
+        else if(!bits.readBit()) {
+            deltaOfDelta = signed(bits.readBits(7), 7);
+        }
+        else if(!bits.readBit()) {
+            deltaOfDelta = signed(bits.readBits(9), 9);
+        }
+        else if(!bits.readBit()) {
+            deltaOfDelta = signed(bits.readBits(12), 12);
+        }
+        else {
+            deltaOfDelta = bits.readBits(64);
+        }
+        delta += deltaOfDelta;
+        timestamp += delta;
+    }
+
+    private void readValue(int metric) {
+        if(!bits.readBit()) {
+            return;
+        }
+
+        if(bits.readBit()) {
+            leading[metric] = (int) bits.readBits(5);
+            trailing[metric] = 32 - leading[metric] - ((int) bits.readBits(5) + 1);
+        }
+        int significant = 32 - leading[metric] - trailing[metric];
+        values[metric] ^= (int) bits.readBits(significant) << trailing[metric];
+    }
+
+    private static long signed(long value, int bits) {
+        return (value << (64 - bits)) >> (64 - bits);
+    }
+}
@@ -0,0 +1,170 @@
+package com.hydro.insite_grow_chamber_history_microservice.codec;
+
+import java.nio.ByteBuffer;
+
+import io.jsonwebtoken.lang.Assert;
+
+/**
+ * Encodes a block of readings with the compression used by Facebook's Gorilla.
+ * Timestamps are written as the delta of their delta, which is a single bit
+ * for readings that arrive at a steady interval. Each float metric is XORed
+ * with its previous value and only the bits that changed are written, which is
+ * a single bit for a value that did not change.
+ *
+ * <p>
+ * Every block is self contained, its header holds the row count, the metric
+ * count and the first timestamp, so blocks can be decoded on their own with
+ * {@link GorillaBlockDecoder}.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public final class GorillaBlockEncoder {
+    static final int HEADER_BYTES = 4 + 1 + 8;
+
+    private final BitWriter bits;
+    private final int metrics;
+    private final int[] previousValues;
+    private final int[] previousLeading;
+    private final int[] previousTrailing;
+
+    private int rows;
+    private long firstTimestamp;
+    private long previousTimestamp;
+    private long previousDelta;
+
+    /**
+     * Creates an encoder for readings with the given number of float metrics.
+     *
+     * @param metrics      The number of float metrics of each reading.
+     * @param expectedRows The number of rows the block is expected to hold, used
+     *                     to size the buffer.
+     */
+    public GorillaBlockEncoder(int metrics, int expectedRows) {
+        Assert.isTrue(metrics > 0 && metrics <= Byte.MAX_VALUE, "Metric count must be between 1 and 127");
+        this.metrics = metrics;
+        this.bits = new BitWriter(expectedRows * (metrics + 1) * 2);
+        this.previousValues = new int[metrics];
+        this.previousLeading = new int[metrics];
+        this.previousTrailing = new int[metrics];
+    }
+
+    /**
+     * Appends a reading to the block. Timestamps must not go backwards.
+     *
+     * @param timestamp The epoch millis of the reading.
+     * @param values    The metrics of the reading.
+     * @param flag      A boolean attribute of the reading, such as the light
+     *                  status.
+     */
+    public void append(long timestamp, float[] values, boolean flag) {
+        Assert.isTrue(values.length == metrics, "Reading must have " + metrics + " metrics");
+        Assert.isTrue(rows == 0 || timestamp >= previousTimestamp, "Readings must be appended in time order");
+
+        if(rows == 0) {
+            firstTimestamp = timestamp;
+            for(int m = 0; m < metrics; m++) {
+                previousValues[m] = Float.floatToRawIntBits(values[m]);
+                previousLeading[m] = -1;
+                bits.writeBits(previousValues[m], 32);
+            }
+        }
+        else {
+            writeTimestamp(timestamp);
+            for(int m = 0; m < metrics; m++) {
+                writeValue(m, Float.floatToRawIntBits(values[m]));
+            }
+        }
+        bits.writeBit(flag);
+        previousTimestamp = timestamp;
+        rows++;
+    }
+
+    /**
+     * Gets the number of readings appended so far.
+     *
+     * @return The row count of the block.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Finishes the block.
+     *
+     * @return The encoded block, header included.
+     */
+    public byte[] toByteArray() {
+        byte[] body = bits.toByteArray();
+        return ByteBuffer.allocate(HEADER_BYTES + body.length).putInt(rows).put((byte) metrics)
+                .putLong(firstTimestamp).put(body).array();
+    }
+
+    /**
+     * Writes the delta of delta of the timestamp, using the smallest of the
+     * Gorilla buckets that fits it.
+     *
+     * @param timestamp The epoch millis of the reading.
+     */
+    private void writeTimestamp(long timestamp) {
+        long delta = timestamp - previousTimestamp;
+        long deltaOfDelta = delta - previousDelta;
+        previousDelta = delta;
+
+        if(deltaOfDelta == 0) {
+            bits.writeBit(false);
+        }
+        else if(deltaOfDelta >= -64 && deltaOfDelta <= 63) {
+            bits.writeBits(0b10, 2);
+            bits.writeBits(deltaOfDelta, 7);
+        }
+        else if(deltaOfDelta >= -256 && deltaOfDelta <= 255) {
+            bits.writeBits(0b110, 3);
+            bits.writeBits(deltaOfDelta, 9);
+        }
+        else if(deltaOfDelta >= -2048 && deltaOfDelta <= 2047) {
+            bits.writeBits(0b1110, 4);
+            bits.writeBits(deltaOfDelta, 12);
+        }
+        else {
+            bits.writeBits(0b1111, 4);
+            bits.writeBits(deltaOfDelta, 64);
+        }
+    }
+
+    /**
+     * Writes the XOR of the value with the previous value of the metric. When the
+     * changed bits fit in the previous window of leading and trailing zeros that
+     * window is reused, otherwise a new window is written.
+     *
+     * @param metric The index of the metric.
+     * @param value  The raw bits of the value.
+     */
+    private void writeValue(int metric, int value) {
+        int xor = value ^ previousValues[metric];
+        previousValues[metric] = value;
+
+        if(xor == 0) {
+            bits.writeBit(false);
+            return;
+        }
+
+        bits.writeBit(true);
+        int leading = Math.min(Integer.numberOfLeadingZeros(xor), 31);
+        int trailing = Integer.numberOfTrailingZeros(xor);
+        if(previousLeading[metric] >= 0 && leading >= previousLeading[metric]
+                && trailing >= previousTrailing[metric]) {
+            bits.writeBit(false);
+            bits.writeBits(xor >>> previousTrailing[metric], 32 - previousLeading[metric] - previousTrailing[metric]);
+        }
+        else {
+            int significant = 32 - leading - trailing;
+            bits.writeBit(true);
+            bits.writeBits(leading, 5);
+            bits.writeBits(significant - 1, 5);
+            bits.writeBits(xor >>> trailing, significant);
+            previousLeading[metric] = leading;
+            previousTrailing[metric] = trailing;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.hydro.insite_grow_chamber_history_microservice.dao;
+
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberAlertRuleMapper.GROW_CHAMBER_ALERT_RULE_MAPPER;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberAlertRule;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberAlertRuleGetRequest;
+import com.hydro.sql.abstracts.BaseDao;
+import com.hydro.sql.builder.SqlParamBuilder;
+
+/**
+ * Class that handles all the dao calls to the database for grow chamber alert
+ * rules.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Repository
+public class GrowChamberAlertRuleDAO extends BaseDao {
+    private static final String METRIC = "metric";
+    private static final String OPERATOR = "operator";
+    private static final String THRESHOLD = "threshold";
+    private static final String DURATION_MINUTES = "duration_minutes";
+    private static final String ENABLED = "enabled";
+
+    @Autowired
+    public GrowChamberAlertRuleDAO(DataSource source) {
+        super(source);
+    }
+
+    /**
+     * Get a list of alert rules for the given request.
+     * 
+     * @param request The request to filter the rules on.
+     * @return List of {@link GrowChamberAlertRule} objects.
+     */
+    public List<GrowChamberAlertRule> getAlertRules(GrowChamberAlertRuleGetRequest request) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(ID, request.getId())
+                .withParam(SYSTEM_ID, request.getSystemId()).withParam(ENABLED, request.getEnabled()).build();
+
+        return getPage(getSql("getAlertRules", params), params, GROW_CHAMBER_ALERT_RULE_MAPPER);
+    }
+
+    /**
+     * Gets the version of the alert rules, made up of the number of rules and the
+     * last time any of them changed. It changes whenever a rule is added, updated
+     * or deleted, so instances can tell when their compiled rules are stale.
+     * 
+     * @return {@link String} of the version of the rules.
+     */
+    public String getAlertRuleVersion() {
+        return get(getSql("getAlertRuleVersion"), new MapSqlParameterSource(), String.class);
+    }
+
+    /**
+     * Inserts a new alert rule.
+     * 
+     * @param rule The {@link GrowChamberAlertRule} to be inserted.
+     * @return {@link Integer} of the id of the new rule.
+     */
+    public int insertAlertRule(GrowChamberAlertRule rule) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        MapSqlParameterSource params = ruleParams(rule).addValue(USER_ID, rule.getUserId());
+
+        post(getSql("insertAlertRule", params), params, keyHolder);
+        return keyHolder.getKey().intValue();
+    }
+
+    /**
+     * Updates the definition of an alert rule.
+     * 
+     * @param id   The id of the rule to update.
+     * @param rule The new definition of the rule.
+     */
+    public void updateAlertRule(int id, GrowChamberAlertRule rule) {
+        MapSqlParameterSource params = ruleParams(rule).addValue(ID, id);
+        update(getSql("updateAlertRule", params), params);
+    }
+
+    /**
+     * Deletes the alert rule for the given id.
+     * 
+     * @param id The id of the rule to delete.
+     */
+    public void deleteAlertRule(int id) {
+        delete(getSql("deleteAlertRule"), parameterSource(ID, id));
+    }
+
+    /**
+     * Builds the params of the columns that make up the definition of a rule.
+     * The light status is added directly since it is null when the rule matches
+     * any light state.
+     * 
+     * @param rule The rule to get the values from.
+     * @return {@link MapSqlParameterSource} of the rule columns.
+     */
+    private MapSqlParameterSource ruleParams(GrowChamberAlertRule rule) {
+        return SqlParamBuilder.with().withParam(SYSTEM_ID, rule.getSystemId()).withParam(NAME, rule.getName())
+                .withParam(METRIC, rule.getMetric().getTextId()).withParam(OPERATOR, rule.getOperator().getTextId())
+                .withParam(THRESHOLD, rule.getThreshold()).withParam(DURATION_MINUTES, rule.getDurationMinutes())
+                .withParam(ENABLED, rule.getEnabled()).build().addValue(LIGHT_STATUS, rule.getLightStatus());
+    }
+}
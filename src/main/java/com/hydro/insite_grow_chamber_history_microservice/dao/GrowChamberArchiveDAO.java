@@ -0,0 +1,112 @@
+package com.hydro.insite_grow_chamber_history_microservice.dao;
+
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberArchiveSegmentMapper.GROW_CHAMBER_ARCHIVE_SEGMENT_MAPPER;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberArchiveSegment;
+import com.hydro.sql.abstracts.BaseDao;
+import com.hydro.sql.builder.SqlParamBuilder;
+
+/**
+ * Class that handles all the dao calls to the database for archived grow
+ * chamber log segments.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Repository
+public class GrowChamberArchiveDAO extends BaseDao {
+    private static final String FROM_DATE = "from_date";
+    private static final String TO_DATE = "to_date";
+    private static final String FIRST_DATE = "first_date_utc";
+    private static final String LAST_DATE = "last_date_utc";
+    private static final String MIN_ID = "min_id";
+    private static final String MAX_ID = "max_id";
+    private static final String ROW_COUNT = "row_count";
+    private static final String SEGMENT = "segment";
+
+    @Autowired
+    public GrowChamberArchiveDAO(DataSource source) {
+        super(source);
+    }
+
+    /**
+     * Get the segments that can hold logs within the given range and ids. Only
+     * what is known about each segment is read, the encoded logs are read one
+     * segment at a time through {@link #getSegmentData(int)}.
+     * 
+     * @param systemIds The ids of the systems. Can be null for every system.
+     * @param from      Start of the range, inclusive. Can be null.
+     * @param to        End of the range, exclusive. Can be null.
+     * @param minId     The lowest log id to look for. Can be null.
+     * @param maxId     The highest log id to look for. Can be null.
+     * @return List of {@link GrowChamberArchiveSegment} objects without their
+     *         data, ordered by first insert date.
+     */
+    public List<GrowChamberArchiveSegment> getSegments(Set<Integer> systemIds, LocalDateTime from, LocalDateTime to,
+            Integer minId, Integer maxId) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(SYSTEM_ID, systemIds)
+                .withParam(MIN_ID, minId).withParam(MAX_ID, maxId).build();
+        params.addValue(FROM_DATE, from == null ? null : Timestamp.valueOf(from)).addValue(TO_DATE, to == null ? null
+                : Timestamp.valueOf(to));
+
+        return getPage(getSql("getSegments", params), params, GROW_CHAMBER_ARCHIVE_SEGMENT_MAPPER);
+    }
+
+    /**
+     * Gets the encoded logs of a segment.
+     * 
+     * @param id The id of the segment.
+     * @return The segment data.
+     */
+    public byte[] getSegmentData(int id) {
+        MapSqlParameterSource params = parameterSource(ID, id);
+        return get(getSql("getSegmentData", params), params, byte[].class);
+    }
+
+    /**
+     * Gets the insert date of the oldest archived log of the given systems.
+     * 
+     * @param systemIds The ids of the systems. Can be null for every system.
+     * @return {@link LocalDateTime} of the oldest log, or null if there are none.
+     */
+    public LocalDateTime getOldestDate(Set<Integer> systemIds) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(SYSTEM_ID, systemIds).build();
+        Timestamp oldest = get(getSql("getOldestDate", params), params, Timestamp.class);
+        return oldest == null ? null : oldest.toLocalDateTime();
+    }
+
+    /**
+     * Adds a segment to the archive.
+     * 
+     * @param segment The {@link GrowChamberArchiveSegment} to be inserted.
+     */
+    public void insertSegment(GrowChamberArchiveSegment segment) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, segment.getSystemId())
+                .addValue(FIRST_DATE, Timestamp.valueOf(segment.getFirstDate()))
+                .addValue(LAST_DATE, Timestamp.valueOf(segment.getLastDate())).addValue(MIN_ID, segment.getMinId())
+                .addValue(MAX_ID, segment.getMaxId()).addValue(ROW_COUNT, segment.getRowCount())
+                .addValue(SEGMENT, segment.getData());
+
+        post(getSql("insertSegment", params), params);
+    }
+
+    /**
+     * Deletes all of the segments of a system.
+     * 
+     * @param systemId The id of the system.
+     */
+    public void deleteSegments(int systemId) {
+        delete(getSql("deleteSegments"), parameterSource(SYSTEM_ID, systemId));
+    }
+}
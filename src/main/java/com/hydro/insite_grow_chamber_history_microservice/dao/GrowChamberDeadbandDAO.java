@@ -0,0 +1,90 @@
+package com.hydro.insite_grow_chamber_history_microservice.dao;
+
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberDeadbandMapper.GROW_CHAMBER_DEADBAND_MAPPER;
+
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberDeadband;
+import com.hydro.sql.abstracts.BaseDao;
+import com.hydro.sql.builder.SqlParamBuilder;
+
+/**
+ * Class that handles all the dao calls to the database for grow chamber
+ * deadband settings.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Repository
+public class GrowChamberDeadbandDAO extends BaseDao {
+    private static final String ENABLED = "enabled";
+    private static final String PH_THRESHOLD = "ph_threshold";
+    private static final String TDS_THRESHOLD = "tds_threshold";
+    private static final String WATER_TEMP_THRESHOLD = "water_temp_threshold";
+    private static final String AIR_TEMP_THRESHOLD = "air_temp_threshold";
+    private static final String HUMIDITY_THRESHOLD = "humidity_threshold";
+    private static final String MAX_SILENCE_SECONDS = "max_silence_seconds";
+
+    @Autowired
+    public GrowChamberDeadbandDAO(DataSource source) {
+        super(source);
+    }
+
+    /**
+     * Get the deadband settings of the given systems.
+     * 
+     * @param systemIds The ids of the systems. Can be null for every system.
+     * @param enabled   Only get settings in this state. Can be null for either.
+     * @return List of {@link GrowChamberDeadband} objects.
+     */
+    public List<GrowChamberDeadband> getDeadbands(Set<Integer> systemIds, Boolean enabled) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(SYSTEM_ID, systemIds)
+                .withParam(ENABLED, enabled).build();
+
+        return getPage(getSql("getDeadbands", params), params, GROW_CHAMBER_DEADBAND_MAPPER);
+    }
+
+    /**
+     * Gets the version of the deadband settings, made up of the number of
+     * settings and the last time any of them changed. It changes whenever
+     * settings are saved or deleted, so instances can tell when theirs are stale.
+     * 
+     * @return {@link String} of the version of the settings.
+     */
+    public String getDeadbandVersion() {
+        return get(getSql("getDeadbandVersion"), new MapSqlParameterSource(), String.class);
+    }
+
+    /**
+     * Saves the deadband settings of a system, replacing the ones it had.
+     * 
+     * @param deadband The {@link GrowChamberDeadband} to be saved.
+     */
+    public void upsertDeadband(GrowChamberDeadband deadband) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(SYSTEM_ID, deadband.getSystemId())
+                .withParam(ENABLED, deadband.getEnabled()).withParam(PH_THRESHOLD, deadband.getPhThreshold())
+                .withParam(TDS_THRESHOLD, deadband.getTdsThreshold())
+                .withParam(WATER_TEMP_THRESHOLD, deadband.getWaterTempThreshold())
+                .withParam(AIR_TEMP_THRESHOLD, deadband.getAirTempThreshold())
+                .withParam(HUMIDITY_THRESHOLD, deadband.getHumidityThreshold())
+                .withParam(MAX_SILENCE_SECONDS, deadband.getMaxSilenceSeconds()).build();
+
+        post(getSql("upsertDeadband", params), params);
+    }
+
+    /**
+     * Deletes the deadband settings of a system.
+     * 
+     * @param systemId The id of the system.
+     */
+    public void deleteDeadband(int systemId) {
+        delete(getSql("deleteDeadband"), parameterSource(SYSTEM_ID, systemId));
+    }
+}
@@ -1,18 +1,30 @@
 package com.hydro.insite_grow_chamber_history_microservice.dao;
 
 import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberLogMapper.GROW_CHAMBER_LOG_MAPPER;
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberStatsMapper.GROW_CHAMBER_STATS_MAPPER;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberStats;
 import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
 import com.hydro.sql.abstracts.BaseDao;
 import com.hydro.sql.builder.SqlParamBuilder;
@@ -25,10 +37,25 @@ import com.hydro.sql.builder.SqlParamBuilder;
  */
 @Repository
 public class GrowChamberHistoryDAO extends BaseDao {
+    private static final String ROW_COUNT = "row_count";
+    private static final String FROM_DATE = "from_date";
+    private static final String TO_DATE = "to_date";
+    private static final String AFTER_ID = "after_id";
+    private static final String AFTER_TIMESTAMP = "after_timestamp";
+    private static final String LIMIT = "limit";
+    private static final String BATCH_ID = "batch_id";
+    private static final String ROW_NUM = "row_num";
+    private static final String MERGED = "merged";
+    private static final int MAX_BATCH_ROWS = 500;
+
+    private final NamedParameterJdbcTemplate streamingTemplate;
 
     @Autowired
     public GrowChamberHistoryDAO(DataSource source) {
         super(source);
+        JdbcTemplate template = new JdbcTemplate(source);
+        template.setFetchSize(Integer.MIN_VALUE);
+        this.streamingTemplate = new NamedParameterJdbcTemplate(template);
     }
 
     /**
@@ -38,16 +65,74 @@ public class GrowChamberHistoryDAO extends BaseDao {
      * @return List of {@link GrowChamberLog} objects.
      */
     public List<GrowChamberLog> getGrowChamberLogs(GrowChamberHistoryGetRequest request) {
-        MapSqlParameterSource params = SqlParamBuilder.with().withParam(ID, request.getId())
-                .withParam(SYSTEM_ID, request.getSystemId()).withParam(LIGHT_STATUS, request.getLightStatus()).build();
-
+        MapSqlParameterSource params = buildRequestParams(request);
         return getPage(getSql("getGrowChamberLogs", params), params, GROW_CHAMBER_LOG_MAPPER);
     }
 
+    /**
+     * Get the most recent grow chamber log of every system. The newest insert date
+     * of each system is found with the system and date index, so only one index
+     * entry per system is read. Logs sharing the newest date are all returned in
+     * id order.
+     * 
+     * @return List of {@link GrowChamberLog} objects.
+     */
+    public List<GrowChamberLog> getLatestGrowChamberLogs() {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        return getPage(getSql("getLatestGrowChamberLogs", params), params, GROW_CHAMBER_LOG_MAPPER);
+    }
+
+    /**
+     * Streams the grow chamber logs for the given request to the handler one row
+     * at a time. The query is run with a forward-only streaming result set, so
+     * rows are not buffered by the driver and memory use does not grow with the
+     * number of rows.
+     * 
+     * @param request The request to filter the logs on.
+     * @param handler The handler to pass each row to.
+     */
+    public void streamGrowChamberLogs(GrowChamberHistoryGetRequest request, RowCallbackHandler handler) {
+        MapSqlParameterSource params = buildRequestParams(request);
+        streamingTemplate.query(getSql("getGrowChamberLogs", params), params, handler);
+    }
+
+    /**
+     * Counts the grow chamber logs of each system that match the request. The
+     * limit of the request is not applied.
+     * 
+     * @param request The request to filter the logs on.
+     * @return Map of system id to the number of matching logs.
+     */
+    public Map<Integer, Integer> getGrowChamberLogCounts(GrowChamberHistoryGetRequest request) {
+        MapSqlParameterSource params = buildRequestParams(request);
+        Map<Integer, Integer> counts = new HashMap<>();
+        streamingTemplate.query(getSql("getGrowChamberLogCounts", params), params, (RowCallbackHandler) rs -> {
+            counts.put(rs.getInt(SYSTEM_ID), rs.getInt(ROW_COUNT));
+        });
+        return counts;
+    }
+
+    /**
+     * Gets the min, max, mean, standard deviation and percentiles of every metric
+     * of each system for the readings that match the request. Everything is
+     * aggregated by the database in a single pass over the readings, so only one
+     * row per system is read. The percentiles use the nearest rank. The limit of
+     * the request is not applied.
+     * 
+     * @param request The request to filter the logs on.
+     * @return List of {@link GrowChamberStats} ordered by system id. A system
+     *         without readings in the request is left out.
+     */
+    public List<GrowChamberStats> getGrowChamberLogStats(GrowChamberHistoryGetRequest request) {
+        MapSqlParameterSource params = buildRequestParams(request);
+        return getPage(getSql("getGrowChamberLogStats", params), params, GROW_CHAMBER_STATS_MAPPER);
+    }
+
     /**
      * Method for creating a new entry into the grow chamber history table.
      * 
-     * @param log The {@link GrowChamberLog} object to be inserted.
+     * @param log The {@link GrowChamberLog} object to be inserted, with its insert
+     *            date set.
      * @return {@link GrowChamberLog} of the log that was created.
      */
     public int insertGrowChamberLog(GrowChamberLog log) {
@@ -55,9 +140,174 @@ public class GrowChamberHistoryDAO extends BaseDao {
         MapSqlParameterSource params = SqlParamBuilder.with().withParam(SYSTEM_ID, log.getSystemId())
                 .withParam(PH, log.getPh()).withParam(TDS, log.getTds())
                 .withParam(WATER_TEMP_CELSIUS, log.getWaterTemp()).withParam(AIR_TEMP_CELSIUS, log.getAirTemp())
-                .withParam(HUMIDITY, log.getHumidity()).withParam(LIGHT_STATUS, log.isLightsOn()).build();
+                .withParam(HUMIDITY, log.getHumidity()).withParam(LIGHT_STATUS, log.isLightsOn())
+                .withParam(INSERT_DATE, Timestamp.valueOf(log.getInsertDate())).build();
 
         post(getSql("insertGrowChamberLog", params), params, keyHolder);
         return keyHolder.getKey().intValue();
     }
+
+    /**
+     * Inserts the given logs into the grow chamber history table using multi-row
+     * insert statements. The logs are written in chunks of {@link #MAX_BATCH_ROWS}
+     * so a large upload does not exceed the statement size limits.
+     * 
+     * @param logs The {@link GrowChamberLog} objects to be inserted.
+     * @return List of the generated ids, in the same order as the given logs.
+     */
+    public List<Integer> insertGrowChamberLogs(List<GrowChamberLog> logs) {
+        List<Integer> ids = new ArrayList<>(logs.size());
+        for(int i = 0; i < logs.size(); i += MAX_BATCH_ROWS) {
+            List<GrowChamberLog> chunk = logs.subList(i, Math.min(i + MAX_BATCH_ROWS, logs.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            MapSqlParameterSource params = parameterSource(ROW_COUNT, chunk.size());
+
+            for(int j = 0; j < chunk.size(); j++) {
+                GrowChamberLog log = chunk.get(j);
+                params.addValue(SYSTEM_ID + j, log.getSystemId()).addValue(PH + j, log.getPh())
+                        .addValue(TDS + j, log.getTds()).addValue(WATER_TEMP_CELSIUS + j, log.getWaterTemp())
+                        .addValue(AIR_TEMP_CELSIUS + j, log.getAirTemp()).addValue(HUMIDITY + j, log.getHumidity())
+                        .addValue(LIGHT_STATUS + j, log.isLightsOn())
+                        .addValue(INSERT_DATE + j, Timestamp.valueOf(log.getInsertDate()));
+            }
+
+            post(getSql("insertGrowChamberLogBatch", params), params, keyHolder);
+            for(Map<String, Object> key : keyHolder.getKeyList()) {
+                ids.add(((Number) key.values().iterator().next()).intValue());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Merges readings that were taken in the past into the history. The logs are
+     * bulk loaded into the staging table and merged with set based statements.
+     * A log is skipped when its system already has a log at the same insert
+     * date, including an earlier log of the same upload, so an upload can be
+     * sent again safely. Every log is given the id of the log that is stored at
+     * its insert date. The systems of the logs are locked until the transaction
+     * ends, so two uploads of the same readings running at the same time can not
+     * both see the insert date as free. This has to run in a transaction.
+     * 
+     * @param logs The logs to merge, with their insert dates set.
+     * @return List of the {@link GrowChamberLog} objects that were added, ordered
+     *         by insert date.
+     */
+    public List<GrowChamberLog> mergeGrowChamberLogs(List<GrowChamberLog> logs) {
+        if(logs.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        long batchId = ThreadLocalRandom.current().nextLong();
+        for(int i = 0; i < logs.size(); i += MAX_BATCH_ROWS) {
+            List<GrowChamberLog> chunk = logs.subList(i, Math.min(i + MAX_BATCH_ROWS, logs.size()));
+            MapSqlParameterSource params = parameterSource(ROW_COUNT, chunk.size()).addValue(BATCH_ID, batchId);
+
+            for(int j = 0; j < chunk.size(); j++) {
+                GrowChamberLog log = chunk.get(j);
+                params.addValue(ROW_NUM + j, i + j).addValue(SYSTEM_ID + j, log.getSystemId())
+                        .addValue(PH + j, log.getPh()).addValue(TDS + j, log.getTds())
+                        .addValue(WATER_TEMP_CELSIUS + j, log.getWaterTemp())
+                        .addValue(AIR_TEMP_CELSIUS + j, log.getAirTemp()).addValue(HUMIDITY + j, log.getHumidity())
+                        .addValue(LIGHT_STATUS + j, log.isLightsOn())
+                        .addValue(INSERT_DATE + j, Timestamp.valueOf(log.getInsertDate()));
+            }
+            post(getSql("stageGrowChamberLogs", params), params);
+        }
+
+        MapSqlParameterSource lockParams = parameterSource(SYSTEM_ID,
+                                                           logs.stream().map(GrowChamberLog::getSystemId)
+                                                                   .collect(Collectors.toSet()));
+        streamingTemplate.queryForList(getSql("lockMergeSystems", lockParams), lockParams, Integer.class);
+
+        MapSqlParameterSource params = parameterSource(BATCH_ID, batchId);
+        update(getSql("markNewStagedLogs", params), params);
+        post(getSql("mergeStagedLogs", params), params);
+
+        List<GrowChamberLog> merged = new ArrayList<>();
+        streamingTemplate.query(getSql("getStagedLogIds", params), params, (RowCallbackHandler) rs -> {
+            GrowChamberLog log = logs.get(rs.getInt(ROW_NUM));
+            log.setId(rs.getInt(ID));
+            if(rs.getBoolean(MERGED)) {
+                merged.add(log);
+            }
+        });
+
+        delete(getSql("deleteStagedLogs", params), params);
+        return merged;
+    }
+
+    /**
+     * Gets the insert date of the oldest grow chamber log.
+     * 
+     * @return {@link LocalDateTime} of the oldest log, or null if there are none.
+     */
+    public LocalDateTime getOldestInsertDate() {
+        Timestamp oldest = get(getSql("getOldestInsertDate"), new MapSqlParameterSource(), Timestamp.class);
+        return oldest == null ? null : oldest.toLocalDateTime();
+    }
+
+    /**
+     * Gets the ids of the systems that have logs within the given range.
+     * 
+     * @param from Start of the range, inclusive.
+     * @param to   End of the range, exclusive.
+     * @return List of system ids.
+     */
+    public List<Integer> getSystemIdsWithLogs(LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue(FROM_DATE, Timestamp.valueOf(from))
+                .addValue(TO_DATE, Timestamp.valueOf(to));
+        return streamingTemplate.queryForList(getSql("getSystemIdsWithLogs", params), params, Integer.class);
+    }
+
+    /**
+     * Deletes all of the grow chamber logs of a system.
+     * 
+     * @param systemId The id of the system to delete the logs of.
+     */
+    public void deleteGrowChamberLogs(int systemId) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, systemId);
+        delete(getSql("deleteGrowChamberLogs", params), params);
+    }
+
+    /**
+     * Deletes the given logs of a system within a range. The range lets MySQL
+     * prune the partitions the logs can not be in. The ids are deleted in chunks
+     * of {@link #MAX_BATCH_ROWS}.
+     * 
+     * @param systemId The id of the system the logs belong to.
+     * @param ids      The ids of the logs to delete.
+     * @param from     Start of the range, inclusive.
+     * @param to       End of the range, exclusive.
+     */
+    public void deleteGrowChamberLogs(int systemId, List<Integer> ids, LocalDateTime from, LocalDateTime to) {
+        for(int i = 0; i < ids.size(); i += MAX_BATCH_ROWS) {
+            MapSqlParameterSource params = SqlParamBuilder.with().withParam(SYSTEM_ID, systemId)
+                    .withParam(ID, ids.subList(i, Math.min(i + MAX_BATCH_ROWS, ids.size()))).build();
+            params.addValue(FROM_DATE, Timestamp.valueOf(from)).addValue(TO_DATE, Timestamp.valueOf(to));
+            delete(getSql("deleteGrowChamberLogs", params), params);
+        }
+    }
+
+    /**
+     * Builds the parameters for filtering grow chamber logs. The date and keyset
+     * cursor parameters are only added when set so that their clauses are left
+     * out of the query otherwise.
+     * 
+     * @param request The request to filter the logs on.
+     * @return {@link MapSqlParameterSource} of the request filters.
+     */
+    private MapSqlParameterSource buildRequestParams(GrowChamberHistoryGetRequest request) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(ID, request.getId())
+                .withParam(SYSTEM_ID, request.getSystemId()).withParam(LIGHT_STATUS, request.getLightStatus()).build();
+
+        if(request.getFrom() != null) params.addValue(FROM_DATE, Timestamp.valueOf(request.getFrom()));
+        if(request.getTo() != null) params.addValue(TO_DATE, Timestamp.valueOf(request.getTo()));
+        if(request.getLimit() != null) params.addValue(LIMIT, request.getLimit());
+        if(request.getAfterTimestamp() != null) {
+            params.addValue(AFTER_TIMESTAMP, Timestamp.valueOf(request.getAfterTimestamp()));
+            params.addValue(AFTER_ID, request.getAfterId());
+        }
+        return params;
+    }
 }
@@ -0,0 +1,58 @@
+package com.hydro.insite_grow_chamber_history_microservice.dao;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.hydro.sql.abstracts.BaseDao;
+
+/**
+ * Class that handles all the dao calls to the database for the leases that
+ * keep a scheduled job to a single instance. Lease times come from the
+ * database clock, so instances with drifting clocks agree on when a lease
+ * expires.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Repository
+public class GrowChamberLeaseDAO extends BaseDao {
+    private static final String NAME = "name";
+    private static final String OWNER = "owner";
+    private static final String LEASE_SECONDS = "lease_seconds";
+
+    @Autowired
+    public GrowChamberLeaseDAO(DataSource source) {
+        super(source);
+    }
+
+    /**
+     * Takes the lease of a job, or extends it when the owner already holds it.
+     * The lease is only taken from another owner once it has expired.
+     * 
+     * @param name         The name of the job.
+     * @param owner        The owner taking the lease.
+     * @param leaseSeconds How long the lease is held for.
+     * @return {@link Boolean} if the owner holds the lease.
+     */
+    public boolean acquireLease(String name, String owner, long leaseSeconds) {
+        MapSqlParameterSource params = parameterSource(NAME, name).addValue(OWNER, owner)
+                .addValue(LEASE_SECONDS, leaseSeconds);
+        post(getSql("acquireLease", params), params);
+        return get(getSql("isLeaseOwner", params), params, Integer.class) > 0;
+    }
+
+    /**
+     * Gives up the lease of a job so another instance can take it straight away.
+     * Nothing happens when the owner no longer holds it.
+     * 
+     * @param name  The name of the job.
+     * @param owner The owner of the lease.
+     */
+    public void releaseLease(String name, String owner) {
+        MapSqlParameterSource params = parameterSource(NAME, name).addValue(OWNER, owner);
+        update(getSql("releaseLease", params), params);
+    }
+}
@@ -0,0 +1,156 @@
+package com.hydro.insite_grow_chamber_history_microservice.dao;
+
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberLightRunBackfillMapper.GROW_CHAMBER_LIGHT_RUN_BACKFILL_MAPPER;
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberLightRunMapper.GROW_CHAMBER_LIGHT_RUN_MAPPER;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightRun;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightRunBackfill;
+import com.hydro.sql.abstracts.BaseDao;
+
+/**
+ * Class that handles all the dao calls to the database for grow chamber light
+ * runs.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Repository
+public class GrowChamberLightRunDAO extends BaseDao {
+    private static final String ROW_COUNT = "row_count";
+    private static final String FROM_DATE = "from_date";
+    private static final String TO_DATE = "to_date";
+    private static final String START_DATE = "start_date_utc";
+    private static final String END_DATE = "end_date_utc";
+    private static final String LAST_DATE = "last_date_utc";
+    private static final String LAST_ID = "last_id";
+    private static final int MAX_BATCH_ROWS = 500;
+
+    @Autowired
+    public GrowChamberLightRunDAO(DataSource source) {
+        super(source);
+    }
+
+    /**
+     * Get the light runs of a system that start within the date range, and the
+     * run that was going on at the start of the range.
+     * 
+     * @param systemId The id of the system.
+     * @param from     Start of the range, inclusive.
+     * @param to       End of the range, exclusive.
+     * @return List of {@link GrowChamberLightRun} objects ordered by start date.
+     */
+    public List<GrowChamberLightRun> getLightRuns(int systemId, LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, systemId)
+                .addValue(FROM_DATE, Timestamp.valueOf(from)).addValue(TO_DATE, Timestamp.valueOf(to));
+
+        return getPage(getSql("getLightRuns", params), params, GROW_CHAMBER_LIGHT_RUN_MAPPER);
+    }
+
+    /**
+     * Get the last light run of a system that started at or before the date.
+     * 
+     * @param systemId The id of the system.
+     * @param date     The date to get the run at.
+     * @return {@link GrowChamberLightRun} going on at the date, or null if the
+     *         system has no run before it.
+     */
+    public GrowChamberLightRun getLightRunAt(int systemId, LocalDateTime date) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, systemId).addValue(TO_DATE, Timestamp.valueOf(date));
+        List<GrowChamberLightRun> runs = getPage(getSql("getLightRunAt", params), params,
+                                                 GROW_CHAMBER_LIGHT_RUN_MAPPER);
+        return runs.isEmpty() ? null : runs.get(0);
+    }
+
+    /**
+     * Saves the given runs. A run that is already stored at the same start date
+     * only has its end date moved forward.
+     * 
+     * @param runs The runs to save.
+     */
+    public void upsertLightRuns(List<GrowChamberLightRun> runs) {
+        for(int i = 0; i < runs.size(); i += MAX_BATCH_ROWS) {
+            List<GrowChamberLightRun> chunk = runs.subList(i, Math.min(i + MAX_BATCH_ROWS, runs.size()));
+            MapSqlParameterSource params = parameterSource(ROW_COUNT, chunk.size());
+
+            for(int j = 0; j < chunk.size(); j++) {
+                GrowChamberLightRun r = chunk.get(j);
+                params.addValue(SYSTEM_ID + j, r.getSystemId()).addValue(LIGHT_STATUS + j, r.isLightsOn())
+                        .addValue(START_DATE + j, Timestamp.valueOf(r.getStartDate()))
+                        .addValue(END_DATE + j, Timestamp.valueOf(r.getEndDate()));
+            }
+
+            post(getSql("upsertLightRuns", params), params);
+        }
+    }
+
+    /**
+     * Replaces the light runs of a system that start within the date range with
+     * the given runs.
+     * 
+     * @param systemId The id of the system.
+     * @param from     Start of the range, inclusive.
+     * @param to       End of the range, inclusive.
+     * @param runs     The runs to store in place of the range.
+     */
+    public void rebuildLightRuns(int systemId, LocalDateTime from, LocalDateTime to, List<GrowChamberLightRun> runs) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, systemId)
+                .addValue(FROM_DATE, Timestamp.valueOf(from)).addValue(TO_DATE, Timestamp.valueOf(to));
+
+        delete(getSql("deleteLightRuns", params), params);
+        upsertLightRuns(runs);
+    }
+
+    /**
+     * Deletes all of the light runs of a system.
+     * 
+     * @param systemId The id of the system.
+     */
+    public void deleteLightRuns(int systemId) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, systemId);
+        delete(getSql("deleteLightRuns", params), params);
+    }
+
+    /**
+     * Get the systems whose light runs before the light run table existed have
+     * not been backfilled yet.
+     * 
+     * @return List of {@link GrowChamberLightRunBackfill} objects ordered by
+     *         system id.
+     */
+    public List<GrowChamberLightRunBackfill> getLightRunBackfills() {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        return getPage(getSql("getLightRunBackfills", params), params, GROW_CHAMBER_LIGHT_RUN_BACKFILL_MAPPER);
+    }
+
+    /**
+     * Saves the last log that was backfilled for the system.
+     * 
+     * @param backfill The backfill progress of the system.
+     */
+    public void updateLightRunBackfill(GrowChamberLightRunBackfill backfill) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, backfill.getSystemId())
+                .addValue(LAST_DATE, Timestamp.valueOf(backfill.getLastDate()))
+                .addValue(LAST_ID, backfill.getLastId());
+        update(getSql("updateLightRunBackfill", params), params);
+    }
+
+    /**
+     * Removes the backfill of a system once all of its history has been read.
+     * 
+     * @param systemId The id of the system.
+     */
+    public void deleteLightRunBackfill(int systemId) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, systemId);
+        delete(getSql("deleteLightRunBackfill", params), params);
+    }
+}
@@ -0,0 +1,84 @@
+package com.hydro.insite_grow_chamber_history_microservice.dao;
+
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberPartitionMapper.GROW_CHAMBER_PARTITION_MAPPER;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberPartition;
+import com.hydro.sql.abstracts.BaseDao;
+
+/**
+ * Class that handles the partition maintenance of the grow chamber history
+ * table. Partition names can not be bound as parameters, so the statements that
+ * change partitions are built here from names the maintenance job generated.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Repository
+public class GrowChamberPartitionDAO extends BaseDao {
+    private static final String REORGANIZE_PARTITION = "ALTER TABLE grow_chamber_history REORGANIZE PARTITION %s INTO (%s, PARTITION %s VALUES LESS THAN (MAXVALUE))";
+    private static final String DROP_PARTITION = "ALTER TABLE grow_chamber_history DROP PARTITION %s";
+    private static final String PARTITION_HAS_ROWS = "SELECT COUNT(*) FROM (SELECT 1 FROM grow_chamber_history PARTITION (%s) LIMIT 1) p";
+    private static final String PARTITION_DEFINITION = "PARTITION %s VALUES LESS THAN ('%s')";
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @Autowired
+    public GrowChamberPartitionDAO(DataSource source) {
+        super(source);
+    }
+
+    /**
+     * Get the partitions of the grow chamber history table in range order.
+     * 
+     * @return List of {@link GrowChamberPartition} objects, empty if the table is
+     *         not partitioned.
+     */
+    public List<GrowChamberPartition> getPartitions() {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        return getPage(getSql("getPartitions", params), params, GROW_CHAMBER_PARTITION_MAPPER);
+    }
+
+    /**
+     * Splits the given partitions off of the catch-all partition. When the
+     * catch-all is empty this only changes metadata.
+     * 
+     * @param catchAll   The name of the partition that has no upper bound.
+     * @param partitions The partitions to add, in range order.
+     */
+    public void addPartitions(String catchAll, List<GrowChamberPartition> partitions) {
+        String definitions = partitions.stream()
+                .map(p -> String.format(PARTITION_DEFINITION, p.getName(), p.getUpperBound().format(BOUND_FORMAT)))
+                .collect(Collectors.joining(", "));
+        update(String.format(REORGANIZE_PARTITION, catchAll, definitions, catchAll), new MapSqlParameterSource());
+    }
+
+    /**
+     * Determines if a partition has no logs left in it.
+     * 
+     * @param partition The partition to check.
+     * @return {@link Boolean} if the partition is empty.
+     */
+    public boolean isEmpty(GrowChamberPartition partition) {
+        return get(String.format(PARTITION_HAS_ROWS, partition.getName()), new MapSqlParameterSource(),
+                   Integer.class) == 0;
+    }
+
+    /**
+     * Drops the given partitions along with all of the logs in them.
+     * 
+     * @param partitions The partitions to drop.
+     */
+    public void dropPartitions(List<GrowChamberPartition> partitions) {
+        String names = partitions.stream().map(GrowChamberPartition::getName).collect(Collectors.joining(", "));
+        update(String.format(DROP_PARTITION, names), new MapSqlParameterSource());
+    }
+}
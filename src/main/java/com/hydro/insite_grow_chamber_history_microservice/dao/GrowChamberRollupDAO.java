@@ -0,0 +1,199 @@
+package com.hydro.insite_grow_chamber_history_microservice.dao;
+
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberRollupBackfillMapper.GROW_CHAMBER_ROLLUP_BACKFILL_MAPPER;
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberRollupMapper.GROW_CHAMBER_ROLLUP_MAPPER;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollup;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollupBackfill;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.MetricSummary;
+import com.hydro.sql.abstracts.BaseDao;
+import com.hydro.sql.builder.SqlParamBuilder;
+
+/**
+ * Class that handles all the dao calls to the database for grow chamber
+ * history rollups.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Repository
+public class GrowChamberRollupDAO extends BaseDao {
+    private static final String ROW_COUNT = "row_count";
+    private static final String FROM_DATE = "from_date";
+    private static final String TO_DATE = "to_date";
+    private static final String RESOLUTION = "resolution";
+    private static final String BUCKET_DATE = "bucket_date_utc";
+    private static final String READING_COUNT = "reading_count";
+    private static final String LAST_DATE = "last_date_utc";
+    private static final String LIMIT = "limit";
+    private static final String LAST_ID = "last_id";
+    private static final String PREVIOUS_LAST_ID = "previous_last_id";
+    private static final int MAX_BATCH_ROWS = 200;
+
+    private final NamedParameterJdbcTemplate template;
+
+    @Autowired
+    public GrowChamberRollupDAO(DataSource source) {
+        super(source);
+        this.template = new NamedParameterJdbcTemplate(source);
+    }
+
+    /**
+     * Get the rollups of the given systems at a resolution, for buckets that start
+     * within the given date range.
+     * 
+     * @param systemId   The ids of the systems to get rollups for.
+     * @param resolution The resolution of the buckets.
+     * @param from       Start of the range, inclusive. Can be null.
+     * @param to         End of the range, exclusive. Can be null.
+     * @return List of {@link GrowChamberRollup} objects ordered by bucket.
+     */
+    public List<GrowChamberRollup> getRollups(Set<Integer> systemId, HistoryResolution resolution, LocalDateTime from,
+            LocalDateTime to) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(SYSTEM_ID, systemId).build();
+
+        if(resolution != null) params.addValue(RESOLUTION, resolution.getTextId());
+        if(from != null) params.addValue(FROM_DATE, Timestamp.valueOf(from));
+        if(to != null) params.addValue(TO_DATE, Timestamp.valueOf(to));
+
+        return getPage(getSql("getRollups", params), params, GROW_CHAMBER_ROLLUP_MAPPER);
+    }
+
+    /**
+     * Merges the given partial rollups into the stored buckets. Buckets that do
+     * not exist are created, otherwise the counts and sums are added, the min and
+     * max widened, and the last values replaced when the partial is newer.
+     * 
+     * @param rollups The partial rollups to merge.
+     */
+    public void upsertRollups(List<GrowChamberRollup> rollups) {
+        for(int i = 0; i < rollups.size(); i += MAX_BATCH_ROWS) {
+            List<GrowChamberRollup> chunk = rollups.subList(i, Math.min(i + MAX_BATCH_ROWS, rollups.size()));
+            MapSqlParameterSource params = parameterSource(ROW_COUNT, chunk.size());
+
+            for(int j = 0; j < chunk.size(); j++) {
+                GrowChamberRollup r = chunk.get(j);
+                params.addValue(SYSTEM_ID + j, r.getSystemId())
+                        .addValue(RESOLUTION + j, r.getResolution().getTextId())
+                        .addValue(BUCKET_DATE + j, Timestamp.valueOf(r.getBucketDate()))
+                        .addValue(READING_COUNT + j, r.getCount())
+                        .addValue(LAST_DATE + j, Timestamp.valueOf(r.getLastDate()));
+                addMetricParams(params, PH, j, r.getPh());
+                addMetricParams(params, TDS, j, r.getTds());
+                addMetricParams(params, WATER_TEMP_CELSIUS, j, r.getWaterTemp());
+                addMetricParams(params, AIR_TEMP_CELSIUS, j, r.getAirTemp());
+                addMetricParams(params, HUMIDITY, j, r.getHumidity());
+            }
+
+            post(getSql("upsertRollups", params), params);
+        }
+    }
+
+    /**
+     * Adds the min, max, sum and last parameters of a metric for a row.
+     * 
+     * @param params  The params to add to.
+     * @param column  The column name of the metric.
+     * @param index   The row index in the statement.
+     * @param summary The summary to get the values from.
+     */
+    private void addMetricParams(MapSqlParameterSource params, String column, int index, MetricSummary summary) {
+        params.addValue(column + "_min" + index, summary.getMin()).addValue(column + "_max" + index, summary.getMax())
+                .addValue(column + "_sum" + index, summary.getSum())
+                .addValue(column + "_last" + index, summary.getLast());
+    }
+
+    /**
+     * Gets the ids of the systems that have rollups.
+     * 
+     * @return List of system ids.
+     */
+    public List<Integer> getSystemIds() {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        return template.queryForList(getSql("getRollupSystemIds", params), params, Integer.class);
+    }
+
+    /**
+     * Deletes the oldest rollups of a system at a resolution, for buckets that
+     * start before the given date. At most the limit is deleted per call, so a
+     * large backlog does not hold its locks for long.
+     * 
+     * @param systemId   The id of the system.
+     * @param resolution The resolution of the buckets.
+     * @param before     Delete buckets that start before this date.
+     * @param limit      The most rollups to delete.
+     * @return The number of rollups that were deleted.
+     */
+    public int deleteRollups(int systemId, HistoryResolution resolution, LocalDateTime before, int limit) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, systemId)
+                .addValue(RESOLUTION, resolution.getTextId()).addValue(TO_DATE, Timestamp.valueOf(before))
+                .addValue(LIMIT, limit);
+        return template.update(getSql("deleteRollups", params), params);
+    }
+
+    /**
+     * Gets the rollup backfill progress of every system whose history before the
+     * rollups has not been backfilled yet.
+     * 
+     * @return List of {@link GrowChamberRollupBackfill} objects ordered by system
+     *         id.
+     */
+    public List<GrowChamberRollupBackfill> getRollupBackfills() {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        return getPage(getSql("getRollupBackfills", params), params, GROW_CHAMBER_ROLLUP_BACKFILL_MAPPER);
+    }
+
+    /**
+     * Gets the rollup backfill progress of the given systems and locks it until
+     * the transaction ends, so the backfill can not move on in the meantime.
+     * 
+     * @param systemIds The ids of the systems.
+     * @return List of {@link GrowChamberRollupBackfill} objects of the systems
+     *         that still have history to backfill.
+     */
+    public List<GrowChamberRollupBackfill> lockRollupBackfills(Set<Integer> systemIds) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, systemIds);
+        return getPage(getSql("lockRollupBackfills", params), params, GROW_CHAMBER_ROLLUP_BACKFILL_MAPPER);
+    }
+
+    /**
+     * Saves the last log that was backfilled for the system, as long as the
+     * progress is still at the given last id.
+     * 
+     * @param backfill       The backfill progress of the system.
+     * @param previousLastId The last id the batch started after.
+     * @return {@link Boolean} if the progress was saved.
+     */
+    public boolean updateRollupBackfill(GrowChamberRollupBackfill backfill, Integer previousLastId) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, backfill.getSystemId())
+                .addValue(LAST_DATE, Timestamp.valueOf(backfill.getLastDate())).addValue(LAST_ID, backfill.getLastId())
+                .addValue(PREVIOUS_LAST_ID, previousLastId);
+        return template.update(getSql("updateRollupBackfill", params), params) > 0;
+    }
+
+    /**
+     * Removes the backfill of a system once all of its history has been read, as
+     * long as the progress is still at the given last id.
+     * 
+     * @param systemId       The id of the system.
+     * @param previousLastId The last id the batch started after.
+     * @return {@link Boolean} if the backfill was removed.
+     */
+    public boolean deleteRollupBackfill(int systemId, Integer previousLastId) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, systemId).addValue(PREVIOUS_LAST_ID, previousLastId);
+        return template.update(getSql("deleteRollupBackfill", params), params) > 0;
+    }
+}
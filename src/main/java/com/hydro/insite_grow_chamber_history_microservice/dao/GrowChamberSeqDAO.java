@@ -0,0 +1,155 @@
+package com.hydro.insite_grow_chamber_history_microservice.dao;
+
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberSeqMapper.GROW_CHAMBER_SEQ_MAPPER;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.sql.abstracts.BaseDao;
+import com.hydro.sql.builder.SqlParamBuilder;
+
+/**
+ * Class that handles all the dao calls to the database for the device sequence
+ * numbers of grow chamber logs. The history table is partitioned by insert
+ * date, so it can not hold a unique key on the sequence number and they are
+ * claimed in their own table instead.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Repository
+public class GrowChamberSeqDAO extends BaseDao {
+    private static final String ROW_COUNT = "row_count";
+    private static final String SEQ = "seq";
+    private static final String CLAIM_ID = "claim_id";
+    private static final String LOG_ID = "log_id";
+    private static final String BEFORE_DATE = "before_date";
+    private static final String LIMIT = "limit";
+    private static final int MAX_BATCH_ROWS = 500;
+
+    private final NamedParameterJdbcTemplate template;
+
+    @Autowired
+    public GrowChamberSeqDAO(DataSource source) {
+        super(source);
+        this.template = new NamedParameterJdbcTemplate(source);
+    }
+
+    /**
+     * Claims the sequence numbers of the given logs. Sequence numbers that are
+     * already claimed are ignored, and when another transaction holds the same
+     * one this waits for it to finish.
+     * 
+     * @param claimId The id that marks the rows of this claim.
+     * @param logs    The logs to claim the sequence numbers of.
+     * @return {@link Integer} of the number of sequence numbers that were claimed.
+     */
+    public int claimSeqs(long claimId, List<GrowChamberLog> logs) {
+        int claimed = 0;
+        for(int i = 0; i < logs.size(); i += MAX_BATCH_ROWS) {
+            List<GrowChamberLog> chunk = logs.subList(i, Math.min(i + MAX_BATCH_ROWS, logs.size()));
+            MapSqlParameterSource params = seqParams(claimId, chunk);
+            claimed += template.update(getSql("claimSeqs", params), params);
+        }
+        return claimed;
+    }
+
+    /**
+     * Gets the sequence numbers that were claimed with the given claim id.
+     * 
+     * @param claimId The id that marks the rows of the claim.
+     * @return List of {@link GrowChamberLog} objects with the system id and seq.
+     */
+    public List<GrowChamberLog> getClaimedSeqs(long claimId) {
+        MapSqlParameterSource params = parameterSource(CLAIM_ID, claimId);
+        return getPage(getSql("getClaimedSeqs", params), params, GROW_CHAMBER_SEQ_MAPPER);
+    }
+
+    /**
+     * Gets the claimed sequence numbers of a system with the id of the log that
+     * was stored for each.
+     * 
+     * @param systemId The id of the system.
+     * @param seq      The sequence numbers to get.
+     * @return List of {@link GrowChamberLog} objects with the system id, seq and
+     *         id.
+     */
+    public List<GrowChamberLog> getSeqs(int systemId, Set<Long> seq) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(SYSTEM_ID, systemId).withParam(SEQ, seq)
+                .build();
+        return getPage(getSql("getSeqs", params), params, GROW_CHAMBER_SEQ_MAPPER);
+    }
+
+    /**
+     * Sets the ids of the logs that were stored for the claimed sequence numbers.
+     * 
+     * @param claimId The id that marks the rows of the claim.
+     * @param logs    The stored logs, with their ids.
+     */
+    public void updateSeqLogIds(long claimId, List<GrowChamberLog> logs) {
+        for(int i = 0; i < logs.size(); i += MAX_BATCH_ROWS) {
+            List<GrowChamberLog> chunk = logs.subList(i, Math.min(i + MAX_BATCH_ROWS, logs.size()));
+            MapSqlParameterSource params = seqParams(claimId, chunk);
+            for(int j = 0; j < chunk.size(); j++) {
+                params.addValue(LOG_ID + j, chunk.get(j).getId());
+            }
+            post(getSql("updateSeqLogIds", params), params);
+        }
+    }
+
+    /**
+     * Deletes the claimed sequence numbers of a system.
+     * 
+     * @param systemId The id of the system.
+     */
+    public void deleteSeqs(int systemId) {
+        MapSqlParameterSource params = parameterSource(SYSTEM_ID, systemId);
+        delete(getSql("deleteSeqs", params), params);
+    }
+
+    /**
+     * Deletes sequence numbers that were claimed before the given date. Rows are
+     * deleted in chunks so the table is not locked for long.
+     * 
+     * @param before The date to delete before, exclusive.
+     * @param limit  The most rows to delete in one statement.
+     * @return {@link Integer} of the number of rows deleted.
+     */
+    public int deleteSeqsBefore(LocalDateTime before, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue(BEFORE_DATE, Timestamp.valueOf(before))
+                .addValue(LIMIT, limit);
+
+        int deleted = 0;
+        int count;
+        do {
+            count = template.update(getSql("deleteSeqsBefore", params), params);
+            deleted += count;
+        } while(count == limit);
+        return deleted;
+    }
+
+    /**
+     * Builds the system id and seq params of each log in a chunk.
+     * 
+     * @param claimId The id that marks the rows of the claim.
+     * @param chunk   The logs of the statement.
+     * @return {@link MapSqlParameterSource} of the rows.
+     */
+    private MapSqlParameterSource seqParams(long claimId, List<GrowChamberLog> chunk) {
+        MapSqlParameterSource params = parameterSource(ROW_COUNT, chunk.size()).addValue(CLAIM_ID, claimId);
+        for(int j = 0; j < chunk.size(); j++) {
+            params.addValue(SYSTEM_ID + j, chunk.get(j).getSystemId()).addValue(SEQ + j, chunk.get(j).getSeq());
+        }
+        return params;
+    }
+}
@@ -0,0 +1,38 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.AlertRuleOperator;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberAlertRule;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberMetric;
+import com.hydro.sql.abstracts.AbstractMapper;
+
+/**
+ * Mapper class to map a Grow Chamber Alert Rule Object
+ * {@link GrowChamberAlertRule}
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberAlertRuleMapper extends AbstractMapper<GrowChamberAlertRule> {
+	public static GrowChamberAlertRuleMapper GROW_CHAMBER_ALERT_RULE_MAPPER = new GrowChamberAlertRuleMapper();
+
+	public GrowChamberAlertRule mapRow(ResultSet rs, int rowNum) throws SQLException {
+		GrowChamberAlertRule rule = new GrowChamberAlertRule();
+
+		rule.setId(rs.getInt(ID));
+		rule.setSystemId(rs.getInt(SYSTEM_ID));
+		rule.setUserId(rs.getInt(USER_ID));
+		rule.setName(rs.getString(NAME));
+		rule.setMetric(GrowChamberMetric.valueOf(rs.getString("metric")));
+		rule.setOperator(AlertRuleOperator.valueOf(rs.getString("operator")));
+		rule.setThreshold(rs.getFloat("threshold"));
+		rule.setDurationMinutes(rs.getInt("duration_minutes"));
+		rule.setLightStatus(rs.getObject(LIGHT_STATUS) == null ? null : rs.getBoolean(LIGHT_STATUS));
+		rule.setEnabled(rs.getBoolean("enabled"));
+		rule.setInsertDate(rs.getTimestamp(INSERT_DATE).toLocalDateTime());
+
+		return rule;
+	}
+}
@@ -0,0 +1,32 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberArchiveSegment;
+import com.hydro.sql.abstracts.AbstractMapper;
+
+/**
+ * Mapper class to map a Grow Chamber Archive Segment Object
+ * {@link GrowChamberArchiveSegment}
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class GrowChamberArchiveSegmentMapper extends AbstractMapper<GrowChamberArchiveSegment> {
+	public static GrowChamberArchiveSegmentMapper GROW_CHAMBER_ARCHIVE_SEGMENT_MAPPER = new GrowChamberArchiveSegmentMapper();
+
+	public GrowChamberArchiveSegment mapRow(ResultSet rs, int rowNum) throws SQLException {
+		GrowChamberArchiveSegment segment = new GrowChamberArchiveSegment();
+
+		segment.setId(rs.getInt(ID));
+		segment.setSystemId(rs.getInt(SYSTEM_ID));
+		segment.setFirstDate(rs.getTimestamp("first_date_utc").toLocalDateTime());
+		segment.setLastDate(rs.getTimestamp("last_date_utc").toLocalDateTime());
+		segment.setMinId(rs.getInt("min_id"));
+		segment.setMaxId(rs.getInt("max_id"));
+		segment.setRowCount(rs.getInt("row_count"));
+
+		return segment;
+	}
+}
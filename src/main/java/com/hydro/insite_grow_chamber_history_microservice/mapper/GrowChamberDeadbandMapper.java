@@ -0,0 +1,34 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberDeadband;
+import com.hydro.sql.abstracts.AbstractMapper;
+
+/**
+ * Mapper class to map a Grow Chamber Deadband Object
+ * {@link GrowChamberDeadband}
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberDeadbandMapper extends AbstractMapper<GrowChamberDeadband> {
+	public static GrowChamberDeadbandMapper GROW_CHAMBER_DEADBAND_MAPPER = new GrowChamberDeadbandMapper();
+
+	public GrowChamberDeadband mapRow(ResultSet rs, int rowNum) throws SQLException {
+		GrowChamberDeadband deadband = new GrowChamberDeadband();
+
+		deadband.setSystemId(rs.getInt(SYSTEM_ID));
+		deadband.setEnabled(rs.getBoolean("enabled"));
+		deadband.setPhThreshold(rs.getFloat("ph_threshold"));
+		deadband.setTdsThreshold(rs.getFloat("tds_threshold"));
+		deadband.setWaterTempThreshold(rs.getFloat("water_temp_threshold"));
+		deadband.setAirTempThreshold(rs.getFloat("air_temp_threshold"));
+		deadband.setHumidityThreshold(rs.getFloat("humidity_threshold"));
+		deadband.setMaxSilenceSeconds(rs.getInt("max_silence_seconds"));
+		deadband.setInsertDate(rs.getTimestamp(INSERT_DATE).toLocalDateTime());
+
+		return deadband;
+	}
+}
@@ -0,0 +1,31 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightRunBackfill;
+import com.hydro.sql.abstracts.AbstractMapper;
+
+/**
+ * Mapper class to map a Grow Chamber Light Run Backfill Object
+ * {@link GrowChamberLightRunBackfill}
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class GrowChamberLightRunBackfillMapper extends AbstractMapper<GrowChamberLightRunBackfill> {
+	public static GrowChamberLightRunBackfillMapper GROW_CHAMBER_LIGHT_RUN_BACKFILL_MAPPER = new GrowChamberLightRunBackfillMapper();
+
+	public GrowChamberLightRunBackfill mapRow(ResultSet rs, int rowNum) throws SQLException {
+		GrowChamberLightRunBackfill backfill = new GrowChamberLightRunBackfill();
+		Timestamp lastDate = rs.getTimestamp("last_date_utc");
+
+		backfill.setSystemId(rs.getInt(SYSTEM_ID));
+		backfill.setEndDate(rs.getTimestamp("end_date_utc").toLocalDateTime());
+		backfill.setLastDate(lastDate == null ? null : lastDate.toLocalDateTime());
+		backfill.setLastId(rs.getObject("last_id") == null ? null : rs.getInt("last_id"));
+
+		return backfill;
+	}
+}
@@ -0,0 +1,29 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightRun;
+import com.hydro.sql.abstracts.AbstractMapper;
+
+/**
+ * Mapper class to map a Grow Chamber Light Run Object
+ * {@link GrowChamberLightRun}
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberLightRunMapper extends AbstractMapper<GrowChamberLightRun> {
+	public static GrowChamberLightRunMapper GROW_CHAMBER_LIGHT_RUN_MAPPER = new GrowChamberLightRunMapper();
+
+	public GrowChamberLightRun mapRow(ResultSet rs, int rowNum) throws SQLException {
+		GrowChamberLightRun run = new GrowChamberLightRun();
+
+		run.setSystemId(rs.getInt(SYSTEM_ID));
+		run.setLightsOn(rs.getBoolean(LIGHT_STATUS));
+		run.setStartDate(rs.getTimestamp("start_date_utc").toLocalDateTime());
+		run.setEndDate(rs.getTimestamp("end_date_utc").toLocalDateTime());
+
+		return run;
+	}
+}
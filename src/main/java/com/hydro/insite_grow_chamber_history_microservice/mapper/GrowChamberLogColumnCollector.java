@@ -0,0 +1,111 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLogColumns;
+
+/**
+ * Row handler that reads each grow chamber history row straight into primitive
+ * columns, so no {@link GrowChamberLog} object is created per row. The columns
+ * grow as rows are added and are trimmed once they are collected.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberLogColumnCollector implements RowCallbackHandler {
+	private static final String ID = "id";
+	private static final String SYSTEM_ID = "system_id";
+	private static final String PH = "ph";
+	private static final String TDS = "tds";
+	private static final String WATER_TEMP_CELSIUS = "water_temp_celsius";
+	private static final String AIR_TEMP_CELSIUS = "air_temp_celsius";
+	private static final String HUMIDITY = "humidity";
+	private static final String LIGHT_STATUS = "light_status";
+	private static final String INSERT_DATE = "insert_date_utc";
+	private static final int INITIAL_ROWS = 256;
+
+	private int[] ids = new int[INITIAL_ROWS];
+	private int[] systemIds = new int[INITIAL_ROWS];
+	private long[] times = new long[INITIAL_ROWS];
+	private float[] ph = new float[INITIAL_ROWS];
+	private float[] tds = new float[INITIAL_ROWS];
+	private float[] waterTemp = new float[INITIAL_ROWS];
+	private float[] airTemp = new float[INITIAL_ROWS];
+	private float[] humidity = new float[INITIAL_ROWS];
+	private boolean[] lightsOn = new boolean[INITIAL_ROWS];
+	private int size;
+
+	@Override
+	public void processRow(ResultSet rs) throws SQLException {
+		int row = nextRow();
+		ids[row] = rs.getInt(ID);
+		systemIds[row] = rs.getInt(SYSTEM_ID);
+		times[row] = rs.getTimestamp(INSERT_DATE).toLocalDateTime().toInstant(ZoneOffset.UTC).toEpochMilli();
+		ph[row] = rs.getFloat(PH);
+		tds[row] = rs.getFloat(TDS);
+		waterTemp[row] = rs.getFloat(WATER_TEMP_CELSIUS);
+		airTemp[row] = rs.getFloat(AIR_TEMP_CELSIUS);
+		humidity[row] = rs.getFloat(HUMIDITY);
+		lightsOn[row] = rs.getBoolean(LIGHT_STATUS);
+	}
+
+	/**
+	 * Adds a log that was already read, such as one from the hot window.
+	 *
+	 * @param log The log to add.
+	 */
+	public void add(GrowChamberLog log) {
+		int row = nextRow();
+		ids[row] = log.getId();
+		systemIds[row] = log.getSystemId();
+		times[row] = log.getInsertDate().toInstant(ZoneOffset.UTC).toEpochMilli();
+		ph[row] = log.getPh();
+		tds[row] = log.getTds();
+		waterTemp[row] = log.getWaterTemp();
+		airTemp[row] = log.getAirTemp();
+		humidity[row] = log.getHumidity();
+		lightsOn[row] = log.isLightsOn();
+	}
+
+	/**
+	 * Gets the collected rows as columns.
+	 *
+	 * @return {@link GrowChamberLogColumns} of every row in the order it was
+	 *         added.
+	 */
+	public GrowChamberLogColumns getColumns() {
+		GrowChamberLogColumns columns = new GrowChamberLogColumns();
+		columns.setId(Arrays.copyOf(ids, size));
+		columns.setSystemId(Arrays.copyOf(systemIds, size));
+		columns.setTimes(Arrays.copyOf(times, size));
+		columns.setPh(Arrays.copyOf(ph, size));
+		columns.setTds(Arrays.copyOf(tds, size));
+		columns.setWaterTemp(Arrays.copyOf(waterTemp, size));
+		columns.setAirTemp(Arrays.copyOf(airTemp, size));
+		columns.setHumidity(Arrays.copyOf(humidity, size));
+		columns.setLightsOn(Arrays.copyOf(lightsOn, size));
+		return columns;
+	}
+
+	private int nextRow() {
+		if(size == ids.length) {
+			int capacity = ids.length * 2;
+			ids = Arrays.copyOf(ids, capacity);
+			systemIds = Arrays.copyOf(systemIds, capacity);
+			times = Arrays.copyOf(times, capacity);
+			ph = Arrays.copyOf(ph, capacity);
+			tds = Arrays.copyOf(tds, capacity);
+			waterTemp = Arrays.copyOf(waterTemp, capacity);
+			airTemp = Arrays.copyOf(airTemp, capacity);
+			humidity = Arrays.copyOf(humidity, capacity);
+			lightsOn = Arrays.copyOf(lightsOn, capacity);
+		}
+		return size++;
+	}
+}
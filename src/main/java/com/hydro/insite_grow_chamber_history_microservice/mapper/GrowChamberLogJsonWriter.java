@@ -0,0 +1,67 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.streaming.JsonRowWriter;
+
+/**
+ * Writes a grow chamber history row as JSON straight from the result set. Field
+ * names and formats match the JSON of a {@link GrowChamberLog}.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberLogJsonWriter implements JsonRowWriter {
+	public static final GrowChamberLogJsonWriter GROW_CHAMBER_LOG_JSON_WRITER = new GrowChamberLogJsonWriter();
+
+	private static final String ID = "id";
+	private static final String SYSTEM_ID = "system_id";
+	private static final String PH = "ph";
+	private static final String TDS = "tds";
+	private static final String WATER_TEMP_CELSIUS = "water_temp_celsius";
+	private static final String AIR_TEMP_CELSIUS = "air_temp_celsius";
+	private static final String HUMIDITY = "humidity";
+	private static final String LIGHT_STATUS = "light_status";
+	private static final String INSERT_DATE = "insert_date_utc";
+
+	@Override
+	public void write(ResultSet rs, JsonGenerator json) throws SQLException, IOException {
+		write(json, rs.getInt(ID), rs.getInt(SYSTEM_ID), rs.getFloat(PH), rs.getFloat(TDS), rs.getFloat(WATER_TEMP_CELSIUS),
+				rs.getFloat(AIR_TEMP_CELSIUS), rs.getFloat(HUMIDITY), rs.getBoolean(LIGHT_STATUS),
+				rs.getTimestamp(INSERT_DATE).toLocalDateTime());
+	}
+
+	/**
+	 * Writes a log that was not read from a result set, like an archived log, in
+	 * the same shape as a row.
+	 * 
+	 * @param log  The log to write.
+	 * @param json The generator to write the log to.
+	 * @throws IOException If the generator can not be written to.
+	 */
+	public void write(GrowChamberLog log, JsonGenerator json) throws IOException {
+		write(json, log.getId(), log.getSystemId(), log.getPh(), log.getTds(), log.getWaterTemp(), log.getAirTemp(),
+				log.getHumidity(), log.isLightsOn(), log.getInsertDate());
+	}
+
+	private void write(JsonGenerator json, int id, int systemId, float ph, float tds, float waterTemp, float airTemp,
+			float humidity, boolean lightsOn, LocalDateTime insertDate) throws IOException {
+		json.writeStartObject();
+		json.writeNumberField("id", id);
+		json.writeNumberField("systemId", systemId);
+		json.writeNumberField("ph", ph);
+		json.writeNumberField("tds", tds);
+		json.writeNumberField("waterTemp", waterTemp);
+		json.writeNumberField("airTemp", airTemp);
+		json.writeNumberField("humidity", humidity);
+		json.writeBooleanField("lightsOn", lightsOn);
+		json.writeStringField("insertDate", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(insertDate));
+		json.writeEndObject();
+	}
+}
@@ -0,0 +1,139 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.ExportFormat;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+
+/**
+ * Row handler that writes each grow chamber history row straight to an output
+ * stream as it is read, so an export never holds more than the current row in
+ * memory. Field names and formats match the JSON of a {@link GrowChamberLog}.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberLogRowWriter implements RowCallbackHandler {
+	private static final String ID = "id";
+	private static final String SYSTEM_ID = "system_id";
+	private static final String PH = "ph";
+	private static final String TDS = "tds";
+	private static final String WATER_TEMP_CELSIUS = "water_temp_celsius";
+	private static final String AIR_TEMP_CELSIUS = "air_temp_celsius";
+	private static final String HUMIDITY = "humidity";
+	private static final String LIGHT_STATUS = "light_status";
+	private static final String INSERT_DATE = "insert_date_utc";
+	private static final String CSV_HEADER = "id,systemId,ph,tds,waterTemp,airTemp,humidity,lightsOn,insertDate\n";
+
+	private final ExportFormat format;
+	private final JsonGenerator json;
+	private final Writer csv;
+
+	public GrowChamberLogRowWriter(JsonFactory factory, ExportFormat format, OutputStream out) throws IOException {
+		this.format = format;
+		if(format == ExportFormat.CSV) {
+			this.json = null;
+			this.csv = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+			this.csv.write(CSV_HEADER);
+		}
+		else {
+			this.csv = null;
+			this.json = factory.createGenerator(out);
+			this.json.setPrettyPrinter(new MinimalPrettyPrinter(""));
+		}
+	}
+
+	@Override
+	public void processRow(ResultSet rs) throws SQLException {
+		try {
+			if(format == ExportFormat.CSV) {
+				writeCsv(rs);
+			}
+			else {
+				writeJson(rs);
+			}
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Writes a log that was not read from a result set, like an archived log, in
+	 * the same format as a row.
+	 * 
+	 * @param log The log to write.
+	 * @throws IOException If the stream can not be written to.
+	 */
+	public void write(GrowChamberLog log) throws IOException {
+		if(format == ExportFormat.CSV) {
+			writeCsv(log.getId(), log.getSystemId(), log.getPh(), log.getTds(), log.getWaterTemp(), log.getAirTemp(),
+					log.getHumidity(), log.isLightsOn(), log.getInsertDate());
+		}
+		else {
+			GrowChamberLogJsonWriter.GROW_CHAMBER_LOG_JSON_WRITER.write(log, json);
+			json.writeRaw('\n');
+		}
+	}
+
+	/**
+	 * Flushes anything still buffered to the underlying stream.
+	 * 
+	 * @throws IOException If the stream can not be written to.
+	 */
+	public void flush() throws IOException {
+		if(format == ExportFormat.CSV) {
+			csv.flush();
+		}
+		else {
+			json.flush();
+		}
+	}
+
+	private void writeJson(ResultSet rs) throws SQLException, IOException {
+		GrowChamberLogJsonWriter.GROW_CHAMBER_LOG_JSON_WRITER.write(rs, json);
+		json.writeRaw('\n');
+	}
+
+	private void writeCsv(ResultSet rs) throws SQLException, IOException {
+		writeCsv(rs.getInt(ID), rs.getInt(SYSTEM_ID), rs.getFloat(PH), rs.getFloat(TDS), rs.getFloat(WATER_TEMP_CELSIUS),
+				rs.getFloat(AIR_TEMP_CELSIUS), rs.getFloat(HUMIDITY), rs.getBoolean(LIGHT_STATUS),
+				rs.getTimestamp(INSERT_DATE).toLocalDateTime());
+	}
+
+	private void writeCsv(int id, int systemId, float ph, float tds, float waterTemp, float airTemp, float humidity,
+			boolean lightsOn, LocalDateTime insertDate) throws IOException {
+		csv.write(Integer.toString(id));
+		csv.write(',');
+		csv.write(Integer.toString(systemId));
+		csv.write(',');
+		csv.write(Float.toString(ph));
+		csv.write(',');
+		csv.write(Float.toString(tds));
+		csv.write(',');
+		csv.write(Float.toString(waterTemp));
+		csv.write(',');
+		csv.write(Float.toString(airTemp));
+		csv.write(',');
+		csv.write(Float.toString(humidity));
+		csv.write(',');
+		csv.write(Boolean.toString(lightsOn));
+		csv.write(',');
+		csv.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(insertDate));
+		csv.write('\n');
+	}
+}
@@ -0,0 +1,35 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberPartition;
+import com.hydro.sql.abstracts.AbstractMapper;
+
+/**
+ * Mapper class to map a Grow Chamber Partition Object
+ * {@link GrowChamberPartition} from the partition metadata.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberPartitionMapper extends AbstractMapper<GrowChamberPartition> {
+	public static GrowChamberPartitionMapper GROW_CHAMBER_PARTITION_MAPPER = new GrowChamberPartitionMapper();
+
+	private static final String PARTITION_NAME = "partition_name";
+	private static final String PARTITION_DESCRIPTION = "partition_description";
+	private static final String MAXVALUE = "MAXVALUE";
+	private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	public GrowChamberPartition mapRow(ResultSet rs, int rowNum) throws SQLException {
+		GrowChamberPartition partition = new GrowChamberPartition();
+		String description = rs.getString(PARTITION_DESCRIPTION).replace("'", "");
+
+		partition.setName(rs.getString(PARTITION_NAME));
+		partition.setUpperBound(MAXVALUE.equals(description) ? null : LocalDateTime.parse(description, BOUND_FORMAT));
+
+		return partition;
+	}
+}
@@ -0,0 +1,31 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollupBackfill;
+import com.hydro.sql.abstracts.AbstractMapper;
+
+/**
+ * Mapper class to map a Grow Chamber Rollup Backfill Object
+ * {@link GrowChamberRollupBackfill}
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class GrowChamberRollupBackfillMapper extends AbstractMapper<GrowChamberRollupBackfill> {
+	public static GrowChamberRollupBackfillMapper GROW_CHAMBER_ROLLUP_BACKFILL_MAPPER = new GrowChamberRollupBackfillMapper();
+
+	public GrowChamberRollupBackfill mapRow(ResultSet rs, int rowNum) throws SQLException {
+		GrowChamberRollupBackfill backfill = new GrowChamberRollupBackfill();
+		Timestamp lastDate = rs.getTimestamp("last_date_utc");
+
+		backfill.setSystemId(rs.getInt(SYSTEM_ID));
+		backfill.setEndDate(rs.getTimestamp("end_date_utc").toLocalDateTime());
+		backfill.setLastDate(lastDate == null ? null : lastDate.toLocalDateTime());
+		backfill.setLastId(rs.getObject("last_id") == null ? null : rs.getInt("last_id"));
+
+		return backfill;
+	}
+}
@@ -0,0 +1,55 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollup;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.MetricSummary;
+import com.hydro.sql.abstracts.AbstractMapper;
+
+/**
+ * Mapper class to map a Grow Chamber Rollup Object {@link GrowChamberRollup}
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberRollupMapper extends AbstractMapper<GrowChamberRollup> {
+	public static GrowChamberRollupMapper GROW_CHAMBER_ROLLUP_MAPPER = new GrowChamberRollupMapper();
+
+	public GrowChamberRollup mapRow(ResultSet rs, int rowNum) throws SQLException {
+		GrowChamberRollup rollup = new GrowChamberRollup();
+
+		rollup.setSystemId(rs.getInt(SYSTEM_ID));
+		rollup.setResolution(HistoryResolution.valueOf(rs.getString("resolution")));
+		rollup.setBucketDate(rs.getTimestamp("bucket_date_utc").toLocalDateTime());
+		rollup.setCount(rs.getInt("reading_count"));
+		rollup.setPh(mapMetric(rs, PH));
+		rollup.setTds(mapMetric(rs, TDS));
+		rollup.setWaterTemp(mapMetric(rs, WATER_TEMP_CELSIUS));
+		rollup.setAirTemp(mapMetric(rs, AIR_TEMP_CELSIUS));
+		rollup.setHumidity(mapMetric(rs, HUMIDITY));
+		rollup.setLastDate(rs.getTimestamp("last_date_utc").toLocalDateTime());
+
+		return rollup;
+	}
+
+	/**
+	 * Maps the min, max, avg and last columns of a metric.
+	 * 
+	 * @param rs     The result set to map from.
+	 * @param column The column name of the metric.
+	 * @return {@link MetricSummary} of the metric.
+	 * @throws SQLException
+	 */
+	private MetricSummary mapMetric(ResultSet rs, String column) throws SQLException {
+		MetricSummary summary = new MetricSummary();
+
+		summary.setMin(rs.getFloat(column + "_min"));
+		summary.setMax(rs.getFloat(column + "_max"));
+		summary.setAvg(rs.getFloat(column + "_avg"));
+		summary.setLast(rs.getFloat(column + "_last"));
+
+		return summary;
+	}
+}
@@ -0,0 +1,29 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.sql.abstracts.AbstractMapper;
+
+/**
+ * Mapper class to map a claimed sequence number of a system to a Grow Chamber
+ * Log Object {@link GrowChamberLog}. Only the system id, the sequence number and
+ * the id of the log that was stored for it are set.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberSeqMapper extends AbstractMapper<GrowChamberLog> {
+	public static GrowChamberSeqMapper GROW_CHAMBER_SEQ_MAPPER = new GrowChamberSeqMapper();
+
+	public GrowChamberLog mapRow(ResultSet rs, int rowNum) throws SQLException {
+		GrowChamberLog log = new GrowChamberLog();
+
+		log.setId(rs.getInt("log_id"));
+		log.setSystemId(rs.getInt(SYSTEM_ID));
+		log.setSeq(rs.getLong("seq"));
+
+		return log;
+	}
+}
@@ -0,0 +1,53 @@
+package com.hydro.insite_grow_chamber_history_microservice.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberStats;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.MetricStats;
+import com.hydro.sql.abstracts.AbstractMapper;
+
+/**
+ * Mapper class to map a Grow Chamber Stats Object {@link GrowChamberStats}.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberStatsMapper extends AbstractMapper<GrowChamberStats> {
+	public static GrowChamberStatsMapper GROW_CHAMBER_STATS_MAPPER = new GrowChamberStatsMapper();
+
+	public GrowChamberStats mapRow(ResultSet rs, int rowNum) throws SQLException {
+		GrowChamberStats stats = new GrowChamberStats();
+
+		stats.setSystemId(rs.getInt(SYSTEM_ID));
+		stats.setCount(rs.getInt("reading_count"));
+		stats.setPh(mapMetric(rs, PH));
+		stats.setTds(mapMetric(rs, TDS));
+		stats.setWaterTemp(mapMetric(rs, WATER_TEMP_CELSIUS));
+		stats.setAirTemp(mapMetric(rs, AIR_TEMP_CELSIUS));
+		stats.setHumidity(mapMetric(rs, HUMIDITY));
+
+		return stats;
+	}
+
+	/**
+	 * Maps the min, max, avg, stddev and percentile columns of a metric.
+	 * 
+	 * @param rs     The result set to map from.
+	 * @param column The column name of the metric.
+	 * @return {@link MetricStats} of the metric.
+	 * @throws SQLException
+	 */
+	private MetricStats mapMetric(ResultSet rs, String column) throws SQLException {
+		MetricStats stats = new MetricStats();
+
+		stats.setMin(rs.getFloat(column + "_min"));
+		stats.setMax(rs.getFloat(column + "_max"));
+		stats.setMean(rs.getDouble(column + "_avg"));
+		stats.setStddev(rs.getDouble(column + "_stddev"));
+		stats.setP50(rs.getFloat(column + "_p50"));
+		stats.setP95(rs.getFloat(column + "_p95"));
+
+		return stats;
+	}
+}
@@ -0,0 +1,101 @@
+package com.hydro.insite_grow_chamber_history_microservice.rest;
+
+import static org.springframework.http.MediaType.*;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import com.hydro.common.annotations.interfaces.HasAccess;
+import com.hydro.common.annotations.interfaces.RestApiController;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberAlertRule;
+import com.hydro.insite_grow_chamber_history_microservice.openapi.TagGrowChamberHistory;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberAlertRuleService;
+
+import io.swagger.v3.oas.annotations.Operation;
+
+@RequestMapping("/api/grow-chamber-history-app/alert-rules")
+@RestApiController
+@TagGrowChamberHistory
+public class GrowChamberAlertRuleController {
+
+    @Autowired
+    private GrowChamberAlertRuleService service;
+
+    /**
+     * Get the alert rules of a system.
+     * 
+     * @param systemId The id of the system to get rules for.
+     * @return List of {@link GrowChamberAlertRule} objects.
+     */
+    @Operation(summary = "Get the alert rules of a system", description = "Gets every alert rule defined on a system the current user has access to.")
+    @GetMapping(value = "/{systemId}/system", produces = APPLICATION_JSON_VALUE)
+    @HasAccess(WebRole.USER)
+    public List<GrowChamberAlertRule> getAlertRules(@PathVariable int systemId) {
+        return service.getAlertRules(systemId);
+    }
+
+    /**
+     * Get an alert rule by id.
+     * 
+     * @param id The id of the rule.
+     * @return {@link GrowChamberAlertRule} of the rule.
+     */
+    @Operation(summary = "Get an alert rule by id", description = "Gets a single alert rule by the id of the rule.")
+    @GetMapping(value = "/{id}", produces = APPLICATION_JSON_VALUE)
+    @HasAccess(WebRole.USER)
+    public GrowChamberAlertRule getAlertRuleById(@PathVariable int id) {
+        return service.getAlertRuleById(id);
+    }
+
+    /**
+     * Creates an alert rule on a system. The current user is notified whenever
+     * the rule fires.
+     * 
+     * @param systemId The id of the system to create the rule on.
+     * @param rule     The rule to create.
+     * @return {@link GrowChamberAlertRule} that was created.
+     */
+    @Operation(summary = "Create an alert rule on a system", description = "Given a GrowChamberAlertRule, such as PH LESS_THAN 5.5 for 10 minutes while the lights are on, the rule is stored and evaluated against every new reading of the system.")
+    @PostMapping(value = "/{systemId}/system", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    @HasAccess(WebRole.USER)
+    public GrowChamberAlertRule createAlertRule(@PathVariable int systemId, @RequestBody GrowChamberAlertRule rule) {
+        return service.createAlertRule(systemId, rule);
+    }
+
+    /**
+     * Updates the definition of an alert rule. Only the user that created it, the
+     * owner of the system or an admin can update it.
+     * 
+     * @param id   The id of the rule.
+     * @param rule The new definition of the rule.
+     * @return {@link GrowChamberAlertRule} that was updated.
+     */
+    @Operation(summary = "Update an alert rule", description = "Replaces the definition of an alert rule. The timing of the rule restarts when its condition changes.")
+    @PutMapping(value = "/{id}", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    @HasAccess(WebRole.USER)
+    public GrowChamberAlertRule updateAlertRule(@PathVariable int id, @RequestBody GrowChamberAlertRule rule) {
+        return service.updateAlertRule(id, rule);
+    }
+
+    /**
+     * Deletes an alert rule. Only the user that created it, the owner of the
+     * system or an admin can delete it.
+     * 
+     * @param id The id of the rule.
+     */
+    @Operation(summary = "Delete an alert rule", description = "Deletes an alert rule so it is no longer evaluated.")
+    @DeleteMapping(value = "/{id}")
+    @HasAccess(WebRole.USER)
+    public void deleteAlertRule(@PathVariable int id) {
+        service.deleteAlertRule(id);
+    }
+}
@@ -0,0 +1,70 @@
+package com.hydro.insite_grow_chamber_history_microservice.rest;
+
+import static org.springframework.http.MediaType.*;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import com.hydro.common.annotations.interfaces.HasAccess;
+import com.hydro.common.annotations.interfaces.RestApiController;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberDeadband;
+import com.hydro.insite_grow_chamber_history_microservice.openapi.TagGrowChamberHistory;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberDeadbandService;
+
+import io.swagger.v3.oas.annotations.Operation;
+
+@RequestMapping("/api/grow-chamber-history-app/deadband")
+@RestApiController
+@TagGrowChamberHistory
+public class GrowChamberDeadbandController {
+
+    @Autowired
+    private GrowChamberDeadbandService service;
+
+    /**
+     * Get the deadband settings of a system.
+     * 
+     * @param systemId The id of the system.
+     * @return {@link GrowChamberDeadband} of the system.
+     */
+    @Operation(summary = "Get the deadband settings of a system", description = "Gets the thresholds and max silence a system uses to only store readings that changed.")
+    @GetMapping(value = "/{systemId}/system", produces = APPLICATION_JSON_VALUE)
+    @HasAccess(WebRole.USER)
+    public GrowChamberDeadband getDeadband(@PathVariable int systemId) {
+        return service.getDeadband(systemId);
+    }
+
+    /**
+     * Saves the deadband settings of a system. Only the owner of the system or an
+     * admin can save them.
+     * 
+     * @param systemId The id of the system.
+     * @param deadband The settings to save.
+     * @return {@link GrowChamberDeadband} that was saved.
+     */
+    @Operation(summary = "Save the deadband settings of a system", description = "Given a GrowChamberDeadband, readings of the system are only stored when a metric moves past its threshold, the light status changes, or the max silence has passed. Readings that are not stored are still published and checked by anomaly detection and alert rules. Only the owner of the system or an admin can save the settings.")
+    @PutMapping(value = "/{systemId}/system", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    @HasAccess(WebRole.USER)
+    public GrowChamberDeadband saveDeadband(@PathVariable int systemId, @RequestBody GrowChamberDeadband deadband) {
+        return service.saveDeadband(systemId, deadband);
+    }
+
+    /**
+     * Deletes the deadband settings of a system. Only the owner of the system or
+     * an admin can delete them.
+     * 
+     * @param systemId The id of the system.
+     */
+    @Operation(summary = "Delete the deadband settings of a system", description = "Deletes the deadband settings of a system so every reading is stored again.")
+    @DeleteMapping(value = "/{systemId}/system")
+    @HasAccess(WebRole.USER)
+    public void deleteDeadband(@PathVariable int systemId) {
+        service.deleteDeadband(systemId);
+    }
+}
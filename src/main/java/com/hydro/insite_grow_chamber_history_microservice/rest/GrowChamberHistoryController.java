@@ -2,22 +2,49 @@ package com.hydro.insite_grow_chamber_history_microservice.rest;
 
 import static org.springframework.http.MediaType.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.google.common.collect.Sets;
 import com.hydro.common.annotations.interfaces.HasAccess;
 import com.hydro.common.annotations.interfaces.RestApiController;
 import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.jwt.utility.JwtHolder;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.ExportFormat;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberIngestStats;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightCycles;
 import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLogColumns;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRateLimitStats;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollup;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberSeries;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberStats;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
 import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
 import com.hydro.insite_grow_chamber_history_microservice.openapi.TagGrowChamberHistory;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberCursor;
 import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberHistoryService;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberIngestBuffer;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberIngestRateLimiter;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberLightCycleService;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberRollupService;
 
 import io.swagger.v3.oas.annotations.Operation;
 
@@ -25,34 +52,244 @@ import io.swagger.v3.oas.annotations.Operation;
 @RestApiController
 @TagGrowChamberHistory
 public class GrowChamberHistoryController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     @Autowired
     private GrowChamberHistoryService service;
 
+    @Autowired
+    private GrowChamberIngestBuffer ingestBuffer;
+
+    @Autowired
+    private GrowChamberIngestRateLimiter rateLimiter;
+
+    @Autowired
+    private GrowChamberRollupService rollupService;
+
+    @Autowired
+    private GrowChamberLightCycleService lightCycleService;
+
+    @Autowired
+    private JwtHolder jwtHolder;
+
+    /**
+     * Get a list of grow chamber logs for the given request. When the page is
+     * full the cursor of the next page is returned in the
+     * {@value #NEXT_CURSOR_HEADER} header.
+     * 
+     * @param request The request to filter the logs on.
+     * @return List of {@link GrowChamberLog} objects.
+     */
+    @Operation(summary = "Get list of logs for the given request", description = "Given a GrowChamberHistoryGetRequest, it will get a list of logs that match the request. When a limit is set and the page is full, pass the X-Next-Cursor header as the cursor to get the next page.")
+    @GetMapping(produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
+    @HasAccess(WebRole.ADMIN)
+    public ResponseEntity<List<GrowChamberLog>> getGrowChamberLogs(GrowChamberHistoryGetRequest request) {
+        List<GrowChamberLog> logs = service.getGrowChamberLogs(request);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if(isFullPage(request, logs.size())) {
+            response.header(NEXT_CURSOR_HEADER, GrowChamberCursor.encode(logs.get(logs.size() - 1)));
+        }
+        return response.body(logs);
+    }
+
     /**
-     * Get a list of grow chamber logs for the given request.
+     * Get the grow chamber logs for the given request as columns. Selected with
+     * the {@code shape=columns} query parameter. Pages the same way as
+     * {@link #getGrowChamberLogs(GrowChamberHistoryGetRequest)}.
      * 
      * @param request The request to filter the logs on.
+     * @return {@link GrowChamberLogColumns} of the logs.
+     */
+    @Operation(summary = "Get the logs for the given request as columns", description = "Pass shape=columns to get one array per field, such as {\"t\":[...],\"ph\":[...]}, instead of a list of log objects. Dates are epoch milliseconds.")
+    @GetMapping(params = "shape=columns", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
+    @HasAccess(WebRole.ADMIN)
+    public ResponseEntity<GrowChamberLogColumns> getGrowChamberLogColumns(GrowChamberHistoryGetRequest request) {
+        GrowChamberLogColumns columns = service.getGrowChamberLogColumns(request);
+        int size = columns.getId().length;
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if(isFullPage(request, size)) {
+            response.header(NEXT_CURSOR_HEADER,
+                            GrowChamberCursor.encode(columns.getTimes()[size - 1], columns.getId()[size - 1]));
+        }
+        return response.body(columns);
+    }
+
+    /**
+     * Get a list of grow chamber logs by system id. When max points is given the
+     * logs are downsampled with LTTB so spikes stay visible.
+     * 
+     * @param systemId  The id of the system to get logs for.
+     * @param maxPoints The most logs to return.
      * @return List of {@link GrowChamberLog} objects.
      */
-    @Operation(summary = "Get list of logs for the given request", description = "Given a GrowChamberHistoryGetRequest, it will get a list of logs that match the request")
-    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get list of logs by system id", description = "Get a list of logs for a given system id to filter on. Pass maxPoints to downsample the logs for a chart.")
+    @GetMapping(value = "/{systemId}/system", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
+    @HasAccess(WebRole.ADMIN)
+    public List<GrowChamberLog> getGrowChamberLogsBySystemId(@PathVariable int systemId,
+            @RequestParam(required = false) Integer maxPoints) {
+        return service.getGrowChamberLogsBySystemId(systemId, maxPoints);
+    }
+
+    /**
+     * Get the grow chamber logs of a system as columns. Selected with the
+     * {@code shape=columns} query parameter.
+     * 
+     * @param systemId  The id of the system to get logs for.
+     * @param maxPoints The most logs to return.
+     * @return {@link GrowChamberLogColumns} of the logs.
+     */
+    @Operation(summary = "Get the logs of a system as columns", description = "Pass shape=columns to get one array per field instead of a list of log objects. Pass maxPoints to downsample the logs for a chart.")
+    @GetMapping(value = "/{systemId}/system", params = "shape=columns", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
     @HasAccess(WebRole.ADMIN)
-    public List<GrowChamberLog> getGrowChamberLogs(GrowChamberHistoryGetRequest request) {
-        return service.getGrowChamberLogs(request);
+    public GrowChamberLogColumns getGrowChamberLogColumnsBySystemId(@PathVariable int systemId,
+            @RequestParam(required = false) Integer maxPoints) {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(systemId));
+        request.setMaxPoints(maxPoints);
+        return service.getGrowChamberLogColumns(request);
     }
 
     /**
-     * Get a list of grow chamber logs by system id.
+     * Get the most recent log of a system. This is served from memory.
      * 
-     * @param systemId The id of the system to get logs for.
+     * @param systemId The id of the system to get the log for.
+     * @return {@link GrowChamberLog} of the latest reading.
+     */
+    @Operation(summary = "Get the latest log of a system", description = "Returns the most recent reading of a system without querying the history.")
+    @GetMapping(value = "/{systemId}/latest", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
+    @HasAccess(WebRole.ADMIN)
+    public GrowChamberLog getLatestGrowChamberLog(@PathVariable int systemId) {
+        return service.getLatestGrowChamberLog(systemId);
+    }
+
+    /**
+     * Get the most recent log of each of the given systems.
+     * 
+     * @param systemId The ids of the systems to get logs for.
      * @return List of {@link GrowChamberLog} objects.
      */
-    @Operation(summary = "Get list of logs by system id", description = "Get a list of logs for a given system id to filter on.")
-    @GetMapping(value = "/{systemId}/system", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the latest log of multiple systems", description = "Returns the most recent reading of each given system. Systems without any readings are left out.")
+    @GetMapping(value = "/latest", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
+    @HasAccess(WebRole.ADMIN)
+    public List<GrowChamberLog> getLatestGrowChamberLogs(@RequestParam Set<Integer> systemId) {
+        return service.getLatestGrowChamberLogs(systemId);
+    }
+
+    /**
+     * Get the bucketed history of a system at the given resolution. Each bucket
+     * has the min, max, average and last value of every metric.
+     * 
+     * @param systemId   The id of the system to get the history for.
+     * @param resolution The size of the buckets.
+     * @param from       Start of the range, inclusive.
+     * @param to         End of the range, exclusive.
+     * @return List of {@link GrowChamberRollup} objects ordered by bucket.
+     */
+    @Operation(summary = "Get the bucketed history of a system", description = "Returns the minute, hour or day rollups of a system over the given date range.")
+    @GetMapping(value = "/{systemId}/rollups", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
+    @HasAccess(WebRole.ADMIN)
+    public List<GrowChamberRollup> getRollups(@PathVariable int systemId, @RequestParam HistoryResolution resolution,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        return rollupService.getRollups(Sets.newHashSet(systemId), resolution, from, to);
+    }
+
+    /**
+     * Get the statistics of every metric for the given systems over a window. The
+     * statistics are computed by the database instead of from the logs.
+     * 
+     * @param systemId The ids of the systems to get the statistics of.
+     * @param from     Start of the window, inclusive.
+     * @param to       End of the window, exclusive.
+     * @return List of {@link GrowChamberStats} objects, one for each system with
+     *         readings in the window.
+     */
+    @Operation(summary = "Get the metric statistics of systems over a window", description = "Returns the min, max, mean, standard deviation, median and 95th percentile of every metric for each system, without returning the logs.")
+    @GetMapping(value = "/stats", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
+    @HasAccess(WebRole.ADMIN)
+    public List<GrowChamberStats> getGrowChamberStats(@RequestParam Set<Integer> systemId,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        return service.getGrowChamberStats(systemId, from, to);
+    }
+
+    /**
+     * Get the light cycles of a system over a date range, read from its light
+     * transitions instead of every reading.
+     * 
+     * @param systemId The id of the system to get the light cycles for.
+     * @param from     Start of the range, inclusive.
+     * @param to       End of the range, exclusive.
+     * @return {@link GrowChamberLightCycles} of the range.
+     */
+    @Operation(summary = "Get the light cycles of a system", description = "Returns the on and off intervals of the lights and the light hours of each UTC day over the given date range.")
+    @GetMapping(value = "/{systemId}/light-cycles", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
+    @HasAccess(WebRole.ADMIN)
+    public GrowChamberLightCycles getLightCycles(@PathVariable int systemId,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        return lightCycleService.getLightCycles(systemId, from, to);
+    }
+
+    /**
+     * Get the history of a system as a chart series. The resolution is chosen
+     * from the length of the range and the point budget, and ranges that reach
+     * past the retention of a resolution are stitched from coarser rollups.
+     * 
+     * @param systemId  The id of the system to get the series for.
+     * @param from      Start of the range, inclusive.
+     * @param to        End of the range, exclusive.
+     * @param maxPoints The most points the series should have.
+     * @return {@link GrowChamberSeries} of the range.
+     */
+    @Operation(summary = "Get the history series of a system", description = "Picks the raw, minute, hour or day resolution that fits the range into the max points and stitches resolutions together where older data has expired.")
+    @GetMapping(value = "/{systemId}/series", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
     @HasAccess(WebRole.ADMIN)
-    public List<GrowChamberLog> getGrowChamberLogsBySystemId(@PathVariable int systemId) {
-        return service.getGrowChamberLogsBySystemId(systemId);
+    public GrowChamberSeries getGrowChamberSeries(@PathVariable int systemId,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "500") int maxPoints) {
+        return service.getGrowChamberSeries(systemId, from, to, maxPoints);
+    }
+
+    /**
+     * Exports the logs of a system as a stream of rows. The request filters such
+     * as the date range can be applied to limit what is exported. The format
+     * parameter wins over the accept header, and NDJSON is used when neither
+     * names a format.
+     * 
+     * @param systemId The id of the system to export logs for.
+     * @param format   The format to export the logs in.
+     * @param accept   The accept header of the request.
+     * @param request  The request to filter the logs on.
+     * @return {@link StreamingResponseBody} that writes the logs.
+     */
+    @Operation(summary = "Export the logs of a system", description = "Streams the logs of a system as NDJSON or CSV without loading the full history into memory. Pass format, or an Accept of application/x-ndjson or text/csv, to pick the format.")
+    @GetMapping(value = "/{systemId}/export")
+    @HasAccess(WebRole.ADMIN)
+    public ResponseEntity<StreamingResponseBody> exportGrowChamberLogs(@PathVariable int systemId,
+            @RequestParam(required = false) ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            GrowChamberHistoryGetRequest request) {
+        ExportFormat exportFormat = format != null ? format : getExportFormat(accept);
+        request.setSystemId(Sets.newHashSet(systemId));
+        return ResponseEntity.ok().header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType())
+                .body(out -> service.exportGrowChamberLogs(request, exportFormat, out));
+    }
+
+    /**
+     * Streams the grow chamber logs for the given request as a JSON array. Rows are
+     * written to the response as they are read, without building the logs first.
+     * 
+     * @param request The request to filter the logs on.
+     * @return {@link StreamingResponseBody} that writes the logs.
+     */
+    @Operation(summary = "Stream list of logs for the given request", description = "Same body as the list endpoint, written straight from the database rows. Only the stored history is read.")
+    @GetMapping(value = "/stream")
+    @HasAccess(WebRole.ADMIN)
+    public ResponseEntity<StreamingResponseBody> streamGrowChamberLogs(GrowChamberHistoryGetRequest request) {
+        return ResponseEntity.ok().contentType(APPLICATION_JSON)
+                .body(out -> service.streamGrowChamberLogs(request, out));
     }
 
     /**
@@ -62,22 +299,174 @@ public class GrowChamberHistoryController {
      * @return {@link GrowChamberLog} objects.
      */
     @Operation(summary = "Get a grow chamber log by id", description = "Gets a single grow chamber log object by the id of the log.")
-    @GetMapping(value = "/{id}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{id}", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
     @HasAccess(WebRole.ADMIN)
     public GrowChamberLog getGrowChamberLogsById(@PathVariable int id) {
         return service.getGrowChamberLogsById(id);
     }
 
     /**
-     * Method for creating a new entry into the grow chamber history table.
+     * Method for creating a new entry into the grow chamber history table. When
+     * the asynchronous ingest mode is enabled the log is queued and a 202 is
+     * returned, or a 503 if the queue is full. A system can only send logs for
+     * itself, so the system id is taken from its token.
      * 
      * @param log The {@link GrowChamberLog} object to be inserted.
      * @return {@link GrowChamberLog} of the log that was created.
      */
     @Operation(summary = "Create a new entry in the grow chamber log", description = "Given a GrowChamberLog object, the entry will be inserted into the table.")
-    @PostMapping(produces = APPLICATION_JSON_VALUE)
+    @PostMapping(consumes = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE}, produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
+    @HasAccess(WebRole.SYSTEM)
+    public ResponseEntity<GrowChamberLog> insertGrowChamberLog(@RequestBody GrowChamberLog log) {
+        assignSystem(List.of(log));
+        if(ingestBuffer.isEnabled()) {
+            return ingestBuffer.offer(List.of(log)) ? ResponseEntity.status(HttpStatus.ACCEPTED).body(log)
+                    : ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(service.insertGrowChamberLog(log));
+    }
+
+    /**
+     * Method for creating multiple entries into the grow chamber history table
+     * with a single batch insert. When the asynchronous ingest mode is enabled
+     * the logs are queued and a 202 is returned without ids. Every log counts
+     * against the rate limit of the system, and a 429 is returned when the batch
+     * does not fit.
+     * 
+     * @param logs The {@link GrowChamberLog} objects to be inserted.
+     * @return List of the ids of the created logs, in request order.
+     */
+    @Operation(summary = "Create a batch of entries in the grow chamber log", description = "Given a list of GrowChamberLog objects, all entries will be inserted with a single batch and their ids returned.")
+    @PostMapping(value = "/batch", consumes = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE}, produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
     @HasAccess(WebRole.SYSTEM)
-    public GrowChamberLog insertGrowChamberLog(@RequestBody GrowChamberLog log) {
-        return service.insertGrowChamberLog(log);
+    public ResponseEntity<List<Integer>> insertGrowChamberLogs(@RequestBody List<GrowChamberLog> logs) {
+        assignSystem(logs);
+        if(!acquireRows(logs)) {
+            return tooManyRequests(logs);
+        }
+        if(ingestBuffer.isEnabled()) {
+            return ingestBuffer.offer(logs) ? ResponseEntity.status(HttpStatus.ACCEPTED).build()
+                    : ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(service.insertGrowChamberLogs(logs));
+    }
+
+    /**
+     * Method for loading readings that a device buffered while it was offline.
+     * Each log is stored at its device date, and logs that are already stored
+     * are skipped. This always runs synchronously, so the ids are returned.
+     * Every log counts against the rate limit of the system, and a 429 is
+     * returned when the upload does not fit.
+     *
+     * @param logs The {@link GrowChamberLog} objects to backfill.
+     * @return List of the ids of the logs, in request order.
+     */
+    @Operation(summary = "Backfill historical entries in the grow chamber log", description = "Given a list of GrowChamberLog objects with device dates, in any order, the entries are merged into the history at their device dates and their ids returned.")
+    @PostMapping(value = "/backfill", consumes = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE}, produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
+    @HasAccess(WebRole.SYSTEM)
+    public ResponseEntity<List<Integer>> backfillGrowChamberLogs(@RequestBody List<GrowChamberLog> logs) {
+        assignSystem(logs);
+        if(!acquireRows(logs)) {
+            return tooManyRequests(logs);
+        }
+        return ResponseEntity.ok(service.backfillGrowChamberLogs(logs));
+    }
+
+    /**
+     * Gets the statistics of the asynchronous ingest buffer.
+     * 
+     * @return {@link GrowChamberIngestStats} of the buffer.
+     */
+    @Operation(summary = "Get the ingest buffer statistics", description = "Returns the queue depth, flush latency and counters of the asynchronous ingest buffer.")
+    @GetMapping(value = "/ingest/stats", produces = APPLICATION_JSON_VALUE)
+    @HasAccess(WebRole.DEVELOPER)
+    public GrowChamberIngestStats getIngestStats() {
+        return ingestBuffer.getStats();
+    }
+
+    /**
+     * Gets the statistics of the per system ingest rate limit.
+     * 
+     * @return {@link GrowChamberRateLimitStats} of the rate limit.
+     */
+    @Operation(summary = "Get the ingest rate limit statistics", description = "Returns the allowed and dropped ingest log counters, and the dropped count of each system that went over its limit.")
+    @GetMapping(value = "/ingest/rate-limit/stats", produces = APPLICATION_JSON_VALUE)
+    @HasAccess(WebRole.DEVELOPER)
+    public GrowChamberRateLimitStats getRateLimitStats() {
+        return rateLimiter.getStats();
+    }
+
+    /**
+     * Sets the system of the token on the logs when a system sent them, the same
+     * way the websocket ingest uses the system of the session. Logs sent with
+     * any other token keep the system id they were sent with.
+     * 
+     * @param logs The logs that were sent.
+     */
+    private void assignSystem(List<GrowChamberLog> logs) {
+        if(WebRole.SYSTEM.equals(jwtHolder.getWebRole())) {
+            int systemId = jwtHolder.getSystem().getId();
+            logs.forEach(l -> l.setSystemId(systemId));
+        }
+    }
+
+    /**
+     * Charges the logs past the first to the rate limit of the system that sent
+     * them. The first log was charged by the
+     * {@link GrowChamberIngestRateLimitInterceptor} before the body was read.
+     * 
+     * @param logs The logs that were sent.
+     * @return {@link Boolean} of false if the system is over its limit.
+     */
+    private boolean acquireRows(List<GrowChamberLog> logs) {
+        return !WebRole.SYSTEM.equals(jwtHolder.getWebRole())
+                || rateLimiter.tryAcquire(jwtHolder.getSystem().getId(), logs.size() - 1);
+    }
+
+    /**
+     * Builds the 429 response for logs that were over the rate limit.
+     * 
+     * @param logs The logs that were dropped.
+     * @return {@link ResponseEntity} with the time to wait before sending again.
+     */
+    private <T> ResponseEntity<T> tooManyRequests(List<GrowChamberLog> logs) {
+        long retryAfter = rateLimiter.getRetryAfterSeconds(jwtHolder.getSystem().getId(), logs.size());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter)).build();
+    }
+
+    /**
+     * Gets the export format of the most specific media type in the accept header
+     * that names one.
+     * 
+     * @param accept The accept header of the request.
+     * @return {@link ExportFormat} of the accept header, or NDJSON if it does not
+     *         name one.
+     */
+    private ExportFormat getExportFormat(String accept) {
+        if(accept != null) {
+            List<MediaType> types = MediaType.parseMediaTypes(accept);
+            MediaType.sortBySpecificityAndQuality(types);
+            for(MediaType type : types) {
+                for(ExportFormat format : ExportFormat.values()) {
+                    if(type.equalsTypeAndSubtype(MediaType.valueOf(format.getContentType()))) {
+                        return format;
+                    }
+                }
+            }
+        }
+        return ExportFormat.NDJSON;
+    }
+
+    /**
+     * Determines if a page filled its limit, so there can be a next page. Pages
+     * of downsampled logs have no next page.
+     * 
+     * @param request The request of the page.
+     * @param size    The number of logs in the page.
+     * @return {@link Boolean} if the cursor of the next page should be returned.
+     */
+    private boolean isFullPage(GrowChamberHistoryGetRequest request, int size) {
+        return request.getLimit() != null && request.getMaxPoints() == null && size > 0 && size >= request.getLimit();
     }
 }
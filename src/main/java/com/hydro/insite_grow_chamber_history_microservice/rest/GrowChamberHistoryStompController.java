@@ -0,0 +1,152 @@
+package com.hydro.insite_grow_chamber_history_microservice.rest;
+
+import java.security.Principal;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+
+import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberHistoryService;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberIngestBuffer;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberIngestRateLimiter;
+import com.hydro.insite_subscription_microservice.client.SubscriptionNotifierClient;
+import com.hydro.insite_subscription_microservice.client.domain.NotificationSocket;
+import com.hydro.insite_subscription_microservice.client.domain.SystemPrincipal;
+import com.hydro.insite_subscription_microservice.notification.IngestRejectedNotification;
+
+/**
+ * Ingest of grow chamber logs over the websocket session a system already
+ * holds. Messages are sent to {@code /app/grow-chamber/logs} or
+ * {@code /app/grow-chamber/logs/batch}. The system id is always taken from the
+ * session principal, never from the payload.
+ *
+ * <p>
+ * A STOMP send has no response, so logs that are not accepted are reported
+ * back to the session on {@link NotificationSocket#QUEUE_SYSTEM_INGEST_NOTIFICATION}
+ * with the status the REST ingest endpoints would have answered with.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Controller
+public class GrowChamberHistoryStompController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberHistoryStompController.class);
+
+    @Autowired
+    private GrowChamberHistoryService service;
+
+    @Autowired
+    private GrowChamberIngestBuffer ingestBuffer;
+
+    @Autowired
+    private GrowChamberIngestRateLimiter rateLimiter;
+
+    @Autowired
+    private SubscriptionNotifierClient subscriptionNotifierClient;
+
+    /**
+     * Inserts a single log for the system of the session.
+     *
+     * @param log       The {@link GrowChamberLog} to be inserted.
+     * @param principal The principal of the session.
+     */
+    @MessageMapping("/grow-chamber/logs")
+    public void insertGrowChamberLog(@Payload GrowChamberLog log, Principal principal) {
+        insert(List.of(log), principal);
+    }
+
+    /**
+     * Inserts a batch of logs for the system of the session.
+     *
+     * @param logs      The {@link GrowChamberLog} objects to be inserted.
+     * @param principal The principal of the session.
+     */
+    @MessageMapping("/grow-chamber/logs/batch")
+    public void insertGrowChamberLogs(@Payload List<GrowChamberLog> logs, Principal principal) {
+        insert(logs, principal);
+    }
+
+    /**
+     * Reports a message that failed to the session that sent it, so the system
+     * knows its logs were not written.
+     *
+     * @param e         The exception thrown while handling the message.
+     * @param principal The principal of the session.
+     */
+    @MessageExceptionHandler
+    public void handleException(Exception e, Principal principal) {
+        int status;
+        if(e instanceof InsufficientPermissionsException) {
+            status = 403;
+        }
+        else if(e instanceof IllegalArgumentException) {
+            status = 400;
+        }
+        else {
+            status = 500;
+            LOGGER.error("Failed to insert grow chamber logs sent over the websocket", e);
+        }
+
+        if(principal != null) {
+            reject(principal, status, e.getMessage(), 0, null);
+        }
+    }
+
+    /**
+     * Assigns the system of the session to the logs and writes them, either
+     * through the ingest buffer or inline. Logs of a system that is over its
+     * rate limit and logs the full ingest buffer does not take are dropped and
+     * reported back to the session.
+     *
+     * @param logs      The logs to write.
+     * @param principal The principal of the session.
+     */
+    private void insert(List<GrowChamberLog> logs, Principal principal) {
+        if(!(principal instanceof SystemPrincipal)) {
+            throw new InsufficientPermissionsException("Insufficient permissions! Only systems can send logs.");
+        }
+
+        int systemId = ((SystemPrincipal) principal).getSystem().getId();
+        if(!rateLimiter.tryAcquire(systemId, logs.size())) {
+            LOGGER.debug("System '{}' is over its rate limit, '{}' logs were dropped", systemId, logs.size());
+            reject(principal, 429, "Too many requests, resend the logs later.", logs.size(),
+                   rateLimiter.getRetryAfterSeconds(systemId, logs.size()));
+            return;
+        }
+        logs.forEach(l -> l.setSystemId(systemId));
+
+        if(!ingestBuffer.isEnabled()) {
+            service.insertGrowChamberLogs(logs);
+        }
+        else if(!ingestBuffer.offer(logs)) {
+            LOGGER.warn("Ingest buffer full, '{}' logs from system '{}' were rejected", logs.size(), systemId);
+            reject(principal, 503, "Ingest buffer is full, resend the logs later.", logs.size(), null);
+        }
+    }
+
+    /**
+     * Tells the session that sent the logs they were not written.
+     *
+     * @param principal         The principal of the session.
+     * @param status            The status matching the reason.
+     * @param message           The reason the logs were rejected.
+     * @param logCount          The number of logs that were rejected.
+     * @param retryAfterSeconds Seconds to wait before resending, or null.
+     */
+    private void reject(Principal principal, int status, String message, int logCount, Long retryAfterSeconds) {
+        IngestRejectedNotification notification = new IngestRejectedNotification();
+        notification.setStatus(status);
+        notification.setMessage(message);
+        notification.setLogCount(logCount);
+        notification.setRetryAfterSeconds(retryAfterSeconds);
+        subscriptionNotifierClient.sendToSystem(notification, NotificationSocket.QUEUE_SYSTEM_INGEST_NOTIFICATION,
+                                                principal.getName());
+    }
+}
@@ -0,0 +1,59 @@
+package com.hydro.insite_grow_chamber_history_microservice.rest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.jwt.utility.JwtHolder;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberIngestRateLimiter;
+
+/**
+ * Rejects log ingest requests from a system that is over its rate limit with a
+ * 429 before the request body is read, so a flooding system never reaches the
+ * service or the database. Every request is charged for its first log here,
+ * and the endpoint charges the rest of the logs once the body is read. The
+ * system is taken from the token of the request. Tokens of anything other than
+ * a system are left for the access check of the endpoint.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberIngestRateLimitInterceptor implements HandlerInterceptor {
+
+    /**
+     * The ingest endpoints the interceptor is registered on.
+     */
+    public static final String[] PATHS = { "/api/grow-chamber-history-app/logs",
+                                           "/api/grow-chamber-history-app/logs/batch",
+                                           "/api/grow-chamber-history-app/logs/backfill" };
+
+    @Autowired
+    private JwtHolder jwtHolder;
+
+    @Autowired
+    private GrowChamberIngestRateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if(!HttpMethod.POST.matches(request.getMethod()) || !WebRole.SYSTEM.equals(jwtHolder.getWebRole())) {
+            return true;
+        }
+
+        int systemId = jwtHolder.getSystem().getId();
+        if(rateLimiter.tryAcquire(systemId, 1)) {
+            return true;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimiter.getRetryAfterSeconds(systemId, 1)));
+        return false;
+    }
+}
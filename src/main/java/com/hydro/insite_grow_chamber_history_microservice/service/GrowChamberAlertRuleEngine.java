@@ -0,0 +1,229 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Sets;
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberAlertRule;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberAlertRuleGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberAlertRuleDAO;
+import com.hydro.insite_hydro_system_microservice.client.HydroSystemClient;
+import com.hydro.insite_hydro_system_microservice.client.domain.request.HydroSystemGetRequest;
+import com.hydro.insite_subscription_microservice.client.SubscriptionNotifierClient;
+import com.hydro.insite_subscription_microservice.notification.AlertRuleNotification;
+
+/**
+ * Evaluates the alert rules that users defined for their systems against every
+ * reading as it is written. The enabled rules are loaded once on startup and
+ * compiled into a {@link GrowChamberAlertRuleEvaluator} each, grouped by
+ * system, and are recompiled for a system whenever its rules change. A reading
+ * only visits the rules of its own system and nothing is read back from the
+ * history.
+ *
+ * <p>
+ * A rule can be changed through any instance, so every instance also checks
+ * the version of the rules on a short schedule and recompiles them all when it
+ * moved. Rules whose definition did not change keep their state.
+ *
+ * <p>
+ * Access to the system is checked again when a rule fires, so a user the
+ * system is no longer shared with stops being notified. A notification that
+ * fails to send is logged and never fails the write.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberAlertRuleEngine {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberAlertRuleEngine.class);
+
+    @Value("${grow-chamber.alert-rules.enabled}")
+    private boolean enabled;
+
+    @Autowired
+    private GrowChamberAlertRuleDAO dao;
+
+    @Autowired
+    private HydroSystemClient hydroSystemClient;
+
+    @Autowired
+    private SubscriptionNotifierClient subscriptionNotifierClient;
+
+    private final Map<Integer, List<GrowChamberAlertRuleEvaluator>> evaluators = new ConcurrentHashMap<>();
+    private volatile String version;
+
+    /**
+     * Compiles the enabled rules of every system. Runs on startup, and again on
+     * the refresh schedule whenever the version of the rules has changed since
+     * they were last compiled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${grow-chamber.alert-rules.refresh-cron}")
+    public void loadRules() {
+        if(!enabled) {
+            return;
+        }
+
+        try {
+            String current = dao.getAlertRuleVersion();
+            if(current != null && current.equals(version)) {
+                return;
+            }
+
+            GrowChamberAlertRuleGetRequest request = new GrowChamberAlertRuleGetRequest();
+            request.setEnabled(true);
+            List<GrowChamberAlertRule> rules = dao.getAlertRules(request);
+            Map<Integer, List<GrowChamberAlertRule>> bySystem = rules.stream()
+                    .collect(Collectors.groupingBy(GrowChamberAlertRule::getSystemId));
+            evaluators.keySet().retainAll(bySystem.keySet());
+            bySystem.forEach(this::compile);
+            version = current;
+            LOGGER.info("Compiled {} grow chamber alert rules", rules.size());
+        }
+        catch(Exception e) {
+            LOGGER.error("Failed to load the grow chamber alert rules", e);
+        }
+    }
+
+    /**
+     * Recompiles the rules of a system after they were changed. Rules whose
+     * definition did not change keep their state.
+     *
+     * @param systemId The id of the system.
+     */
+    public void reload(int systemId) {
+        if(!enabled) {
+            return;
+        }
+
+        GrowChamberAlertRuleGetRequest request = new GrowChamberAlertRuleGetRequest();
+        request.setSystemId(Sets.newHashSet(systemId));
+        request.setEnabled(true);
+        compile(systemId, dao.getAlertRules(request));
+    }
+
+    /**
+     * Checks each of the committed logs against the rules of its system and
+     * notifies the users whose rules fired.
+     *
+     * @param logs The logs that were written, in insert order.
+     */
+    public void evaluate(List<GrowChamberLog> logs) {
+        if(!enabled) {
+            return;
+        }
+
+        for(GrowChamberLog log : logs) {
+            List<GrowChamberAlertRuleEvaluator> rules = evaluators.get(log.getSystemId());
+            if(rules == null) {
+                continue;
+            }
+
+            for(GrowChamberAlertRuleEvaluator evaluator : rules) {
+                if(evaluator.accept(log)) {
+                    try {
+                        notifyUser(evaluator.getRule(), log);
+                    }
+                    catch(RuntimeException e) {
+                        LOGGER.error("Failed to notify the user of alert rule '{}'", evaluator.getRule().getId(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the state of the rules of a system and compiles them again from the
+     * stored rules, so conditions are timed from the next reading. Rules of a
+     * system that was unregistered are gone from the database and are dropped.
+     *
+     * @param systemId The id of the system.
+     */
+    public void evict(int systemId) {
+        evaluators.remove(systemId);
+        reload(systemId);
+    }
+
+    /**
+     * Replaces the evaluators of a system with the given rules. Evaluators of
+     * rules that did not change are reused.
+     *
+     * @param systemId The id of the system.
+     * @param rules    The enabled rules of the system.
+     */
+    private void compile(int systemId, List<GrowChamberAlertRule> rules) {
+        evaluators.compute(systemId, (id, current) -> {
+            if(rules.isEmpty()) {
+                return null;
+            }
+
+            Map<Integer, GrowChamberAlertRuleEvaluator> existing = new HashMap<>();
+            if(current != null) {
+                current.forEach(e -> existing.put(e.getRule().getId(), e));
+            }
+
+            List<GrowChamberAlertRuleEvaluator> compiled = new ArrayList<>(rules.size());
+            for(GrowChamberAlertRule rule : rules) {
+                GrowChamberAlertRuleEvaluator evaluator = existing.get(rule.getId());
+                if(evaluator != null && evaluator.hasSameDefinition(rule)) {
+                    evaluator.setRule(rule);
+                    compiled.add(evaluator);
+                }
+                else {
+                    compiled.add(new GrowChamberAlertRuleEvaluator(rule));
+                }
+            }
+            return compiled;
+        });
+    }
+
+    /**
+     * Sends an alert rule notification to the user that created the rule, as
+     * long as they still own the system or have it shared with them.
+     *
+     * @param rule The rule that fired.
+     * @param log  The log that the rule fired on.
+     */
+    private void notifyUser(GrowChamberAlertRule rule, GrowChamberLog log) {
+        HydroSystemGetRequest request = new HydroSystemGetRequest();
+        request.setId(Sets.newHashSet(rule.getSystemId()));
+        List<HydroSystem> systems = hydroSystemClient.getSystems(request);
+        if(systems.isEmpty()) {
+            LOGGER.warn("No system found for alert rule '{}' on system '{}'", rule.getId(), rule.getSystemId());
+            return;
+        }
+
+        HydroSystem system = systems.get(0);
+        if(system.getOwnerUserId() != rule.getUserId()
+                && !hydroSystemClient.hasSystemAccess(rule.getSystemId(), rule.getUserId())) {
+            LOGGER.info("User '{}' no longer has access to system '{}', alert rule '{}' not notified",
+                        rule.getUserId(), rule.getSystemId(), rule.getId());
+            return;
+        }
+
+        AlertRuleNotification notification = new AlertRuleNotification();
+        notification.setRuleId(rule.getId());
+        notification.setSystemId(rule.getSystemId());
+        notification.setMessage(String.format("Rule '%s' on system '%s': %s of %.2f has been %s %.2f for %d minutes",
+                                              rule.getName(), system.getName(), rule.getMetric().getTextId(),
+                                              rule.getMetric().getValue(log), rule.getOperator().getDescription(),
+                                              rule.getThreshold(), rule.getDurationMinutes()));
+        notification.setCreated(log.getInsertDate());
+        subscriptionNotifierClient.sendToUser(notification, rule.getUserId());
+    }
+}
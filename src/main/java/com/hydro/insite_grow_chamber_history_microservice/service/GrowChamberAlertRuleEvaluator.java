@@ -0,0 +1,131 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberAlertRule;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberMetric;
+
+/**
+ * An alert rule compiled for evaluation. The metric, comparison and light state
+ * of the rule are resolved once when the evaluator is built, and each reading
+ * is then checked against them in constant time.
+ *
+ * <p>
+ * The only state kept is when the condition started to hold. The rule fires
+ * once the condition has held for the duration of the rule, and does not fire
+ * again until a reading breaks the condition. Readings older than the last one
+ * seen are ignored.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberAlertRuleEvaluator {
+    private static final long NONE = Long.MIN_VALUE;
+
+    private volatile GrowChamberAlertRule rule;
+    private final GrowChamberMetric metric;
+    private final DoublePredicate comparison;
+    private final Boolean lightStatus;
+    private final long durationMillis;
+
+    private long matchingSince = NONE;
+    private long lastTime = NONE;
+    private boolean firing;
+
+    /**
+     * Compiles the given rule.
+     *
+     * @param rule The rule to evaluate.
+     */
+    public GrowChamberAlertRuleEvaluator(GrowChamberAlertRule rule) {
+        this.rule = rule;
+        this.metric = rule.getMetric();
+        this.comparison = rule.getOperator().toPredicate(rule.getThreshold());
+        this.lightStatus = rule.getLightStatus();
+        this.durationMillis = rule.getDurationMinutes() * 60000L;
+    }
+
+    /**
+     * Checks the next reading of the system against the rule.
+     *
+     * @param log The reading to check.
+     * @return {@link Boolean} of true if the rule fired with this reading.
+     */
+    public synchronized boolean accept(GrowChamberLog log) {
+        long time = log.getInsertDate().toInstant(ZoneOffset.UTC).toEpochMilli();
+        if(time < lastTime) {
+            return false;
+        }
+        lastTime = time;
+
+        if(!matches(log)) {
+            matchingSince = NONE;
+            firing = false;
+            return false;
+        }
+
+        if(matchingSince == NONE) {
+            matchingSince = time;
+        }
+        if(firing || time - matchingSince < durationMillis) {
+            return false;
+        }
+
+        firing = true;
+        return true;
+    }
+
+    /**
+     * Determines if the rule is currently firing.
+     *
+     * @return {@link Boolean} if the condition has held for the duration.
+     */
+    public synchronized boolean isFiring() {
+        return firing;
+    }
+
+    /**
+     * Gets the rule this evaluator was compiled from.
+     *
+     * @return {@link GrowChamberAlertRule} of the evaluator.
+     */
+    public GrowChamberAlertRule getRule() {
+        return rule;
+    }
+
+    /**
+     * Replaces the rule with a newer copy of it, so a rule that was renamed or
+     * reassigned keeps its state and is notified with its current name. The new
+     * copy must have the same definition.
+     *
+     * @param other The newer copy of the rule.
+     */
+    public void setRule(GrowChamberAlertRule other) {
+        if(!hasSameDefinition(other)) {
+            throw new IllegalArgumentException("Alert rule " + other.getId() + " has a different definition.");
+        }
+        this.rule = other;
+    }
+
+    /**
+     * Determines if the given rule would compile to the same evaluator, so the
+     * state of this one can be kept when the rules of a system are reloaded. The
+     * name of the rule is not part of its definition.
+     *
+     * @param other The rule to compare to.
+     * @return {@link Boolean} if the definitions are the same.
+     */
+    public boolean hasSameDefinition(GrowChamberAlertRule other) {
+        return rule.getId() == other.getId() && metric == other.getMetric()
+                && rule.getOperator() == other.getOperator() && rule.getThreshold() == other.getThreshold()
+                && rule.getDurationMinutes() == other.getDurationMinutes()
+                && Objects.equals(lightStatus, other.getLightStatus());
+    }
+
+    private boolean matches(GrowChamberLog log) {
+        return (lightStatus == null || lightStatus == log.isLightsOn()) && comparison.test(metric.getValue(log));
+    }
+}
@@ -0,0 +1,165 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberTransactions.afterCommit;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.google.common.collect.Sets;
+import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.common.exception.NotFoundException;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberAlertRule;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberAlertRuleGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberAlertRuleDAO;
+import com.hydro.insite_hydro_system_microservice.client.HydroSystemClient;
+
+import io.jsonwebtoken.lang.Assert;
+
+/**
+ * Grow Chamber Alert Rule class that handles all service calls to the dao.
+ * Every change is handed to the {@link GrowChamberAlertRuleEngine} once it
+ * commits. Anyone with access to a system can see its rules, but a rule can only
+ * be changed by the user that created it, the owner of the system or an admin.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Transactional
+@Service
+public class GrowChamberAlertRuleService {
+
+    @Autowired
+    private GrowChamberAlertRuleDAO dao;
+
+    @Autowired
+    private GrowChamberAlertRuleEngine ruleEngine;
+
+    @Autowired
+    private HydroSystemClient hydroSystemClient;
+
+    @Autowired
+    private GrowChamberSystemAccess systemAccess;
+
+    /**
+     * Get the alert rules of a system.
+     * 
+     * @param systemId The id of the system.
+     * @return List of {@link GrowChamberAlertRule} objects.
+     */
+    public List<GrowChamberAlertRule> getAlertRules(int systemId) {
+        systemAccess.checkAccess(systemId);
+
+        GrowChamberAlertRuleGetRequest request = new GrowChamberAlertRuleGetRequest();
+        request.setSystemId(Sets.newHashSet(systemId));
+        return dao.getAlertRules(request);
+    }
+
+    /**
+     * Get an alert rule by id.
+     * 
+     * @param id The id of the rule.
+     * @return {@link GrowChamberAlertRule} of the rule.
+     */
+    public GrowChamberAlertRule getAlertRuleById(int id) {
+        GrowChamberAlertRuleGetRequest request = new GrowChamberAlertRuleGetRequest();
+        request.setId(Sets.newHashSet(id));
+        List<GrowChamberAlertRule> rules = dao.getAlertRules(request);
+        if(rules.isEmpty()) {
+            throw new NotFoundException("Alert Rule", id);
+        }
+
+        systemAccess.checkAccess(rules.get(0).getSystemId());
+        return rules.get(0);
+    }
+
+    /**
+     * Creates a new alert rule on a system for the current user, who is the one
+     * notified when it fires. Rules only notify users that have access to the
+     * system, so this is checked for admins as well.
+     * 
+     * @param systemId The id of the system.
+     * @param rule     The rule to create.
+     * @return {@link GrowChamberAlertRule} that was created.
+     */
+    public GrowChamberAlertRule createAlertRule(int systemId, GrowChamberAlertRule rule) {
+        if(!hydroSystemClient.hasSystemAccess(systemId, systemAccess.getUserId())) {
+            throw new InsufficientPermissionsException("Insufficient permissions! You can only create alert rules on systems you have access to.");
+        }
+        validate(rule);
+
+        rule.setSystemId(systemId);
+        rule.setUserId(systemAccess.getUserId());
+        if(rule.getEnabled() == null) {
+            rule.setEnabled(true);
+        }
+
+        int id = dao.insertAlertRule(rule);
+        afterCommit(() -> ruleEngine.reload(systemId));
+        return getAlertRuleById(id);
+    }
+
+    /**
+     * Updates the definition of an alert rule. The rule stays on the same system
+     * and keeps notifying the user that created it. Only that user, the owner
+     * of the system or an admin can update it.
+     * 
+     * @param id   The id of the rule.
+     * @param rule The new definition of the rule.
+     * @return {@link GrowChamberAlertRule} that was updated.
+     */
+    public GrowChamberAlertRule updateAlertRule(int id, GrowChamberAlertRule rule) {
+        GrowChamberAlertRule existing = getAlertRuleById(id);
+        checkRuleOwner(existing);
+        validate(rule);
+
+        rule.setSystemId(existing.getSystemId());
+        if(rule.getEnabled() == null) {
+            rule.setEnabled(existing.getEnabled());
+        }
+
+        dao.updateAlertRule(id, rule);
+        afterCommit(() -> ruleEngine.reload(existing.getSystemId()));
+        return getAlertRuleById(id);
+    }
+
+    /**
+     * Deletes an alert rule. Only the user that created it, the owner of the
+     * system or an admin can delete it.
+     * 
+     * @param id The id of the rule.
+     */
+    public void deleteAlertRule(int id) {
+        GrowChamberAlertRule existing = getAlertRuleById(id);
+        checkRuleOwner(existing);
+        dao.deleteAlertRule(id);
+        afterCommit(() -> ruleEngine.reload(existing.getSystemId()));
+    }
+
+    /**
+     * Confirms the current user created the rule or owns its system, unless they
+     * are an admin.
+     * 
+     * @param rule The rule to change.
+     */
+    private void checkRuleOwner(GrowChamberAlertRule rule) {
+        if(!systemAccess.isAdmin() && rule.getUserId() != systemAccess.getUserId()
+                && !systemAccess.isOwner(rule.getSystemId())) {
+            throw new InsufficientPermissionsException("Insufficient permissions! You can not change this alert rule.");
+        }
+    }
+
+    /**
+     * Validates the definition of a rule.
+     * 
+     * @param rule The rule to validate.
+     */
+    private void validate(GrowChamberAlertRule rule) {
+        Assert.hasText(rule.getName(), "Alert rule name is required.");
+        Assert.notNull(rule.getMetric(), "Alert rule metric is required.");
+        Assert.notNull(rule.getOperator(), "Alert rule operator is required.");
+        Assert.isTrue(rule.getDurationMinutes() >= 0, "Alert rule duration can not be negative.");
+    }
+}
@@ -0,0 +1,258 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Sets;
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberMetric;
+import com.hydro.insite_hydro_system_microservice.client.HydroSystemClient;
+import com.hydro.insite_hydro_system_microservice.client.domain.request.HydroSystemGetRequest;
+import com.hydro.insite_subscription_microservice.client.SubscriptionNotifierClient;
+import com.hydro.insite_subscription_microservice.notification.SystemFailureNotification;
+
+/**
+ * Watches the readings of every system as they are written and notifies the
+ * owner of a system when a reading goes out of bounds. A reading is an
+ * excursion when it is outside the static range of its metric, or when it is
+ * more than the z threshold away from the exponentially weighted moving average
+ * of the system. The deviation has a floor per metric, in the units of the
+ * metric, so a metric that has held steady does not alert on the smallest
+ * change. Each reading is checked in constant
+ * time against state held in memory, so nothing is read back from the history.
+ *
+ * <p>
+ * The owner is only notified when a metric enters an excursion, not for every
+ * reading while it stays there. A notification that fails to send is logged,
+ * so it never fails the write or stops the other readings from being checked.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberAnomalyDetector {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberAnomalyDetector.class);
+    private static final GrowChamberMetric[] METRICS = GrowChamberMetric.values();
+
+    @Value("${grow-chamber.anomaly.enabled}")
+    private boolean enabled;
+
+    @Value("${grow-chamber.anomaly.ewma-alpha}")
+    private double alpha;
+
+    @Value("${grow-chamber.anomaly.z-threshold}")
+    private double zThreshold;
+
+    @Value("${grow-chamber.anomaly.warmup-readings}")
+    private int warmupReadings;
+
+    @Value("${grow-chamber.anomaly.ph.min}")
+    private double phMin;
+
+    @Value("${grow-chamber.anomaly.ph.max}")
+    private double phMax;
+
+    @Value("${grow-chamber.anomaly.ph.min-deviation}")
+    private double phMinDeviation;
+
+    @Value("${grow-chamber.anomaly.tds.min}")
+    private double tdsMin;
+
+    @Value("${grow-chamber.anomaly.tds.max}")
+    private double tdsMax;
+
+    @Value("${grow-chamber.anomaly.tds.min-deviation}")
+    private double tdsMinDeviation;
+
+    @Value("${grow-chamber.anomaly.water-temp.min}")
+    private double waterTempMin;
+
+    @Value("${grow-chamber.anomaly.water-temp.max}")
+    private double waterTempMax;
+
+    @Value("${grow-chamber.anomaly.water-temp.min-deviation}")
+    private double waterTempMinDeviation;
+
+    @Value("${grow-chamber.anomaly.air-temp.min}")
+    private double airTempMin;
+
+    @Value("${grow-chamber.anomaly.air-temp.max}")
+    private double airTempMax;
+
+    @Value("${grow-chamber.anomaly.air-temp.min-deviation}")
+    private double airTempMinDeviation;
+
+    @Value("${grow-chamber.anomaly.humidity.min-deviation}")
+    private double humidityMinDeviation;
+
+    @Autowired
+    private HydroSystemClient hydroSystemClient;
+
+    @Autowired
+    private SubscriptionNotifierClient subscriptionNotifierClient;
+
+    private final Map<Integer, SystemState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Checks each of the committed logs and notifies the owners of the systems
+     * that went into an excursion.
+     *
+     * @param logs The logs that were written, in insert order.
+     */
+    public void evaluate(List<GrowChamberLog> logs) {
+        if(!enabled) {
+            return;
+        }
+
+        for(GrowChamberLog log : logs) {
+            List<String> excursions = states.computeIfAbsent(log.getSystemId(), id -> new SystemState()).update(log);
+            if(!excursions.isEmpty()) {
+                try {
+                    notifyOwner(log, excursions);
+                }
+                catch(RuntimeException e) {
+                    LOGGER.error("Failed to notify the owner of an anomaly on system '{}'", log.getSystemId(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the state of a system.
+     *
+     * @param systemId The id of the system.
+     */
+    public void evict(int systemId) {
+        states.remove(systemId);
+    }
+
+    /**
+     * Sends a system failure notification to the owner of the system of the log.
+     *
+     * @param log        The log that caused the excursion.
+     * @param excursions Description of each metric that went out of bounds.
+     */
+    private void notifyOwner(GrowChamberLog log, List<String> excursions) {
+        HydroSystemGetRequest request = new HydroSystemGetRequest();
+        request.setId(Sets.newHashSet(log.getSystemId()));
+        List<HydroSystem> systems = hydroSystemClient.getSystems(request);
+        if(systems.isEmpty()) {
+            LOGGER.warn("No system found for anomaly on system '{}'", log.getSystemId());
+            return;
+        }
+
+        SystemFailureNotification notification = new SystemFailureNotification();
+        notification.setMessage(String.format("System '%s': %s", systems.get(0).getName(),
+                                              String.join("; ", excursions)));
+        notification.setCreated(log.getInsertDate());
+        subscriptionNotifierClient.sendToUser(notification, systems.get(0).getOwnerUserId());
+    }
+
+    /**
+     * Gets the static range of a metric.
+     *
+     * @param metric The metric.
+     * @return The min and max of the metric, or null if it has no static range.
+     */
+    private double[] getRange(GrowChamberMetric metric) {
+        switch(metric) {
+            case PH:
+                return new double[] { phMin, phMax };
+            case TDS:
+                return new double[] { tdsMin, tdsMax };
+            case WATER_TEMP:
+                return new double[] { waterTempMin, waterTempMax };
+            case AIR_TEMP:
+                return new double[] { airTempMin, airTempMax };
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Gets the smallest deviation a metric is scored against, so a reading of a
+     * metric that has held steady is not an excursion for the smallest change.
+     *
+     * @param metric The metric.
+     * @return The floor of the deviation, in the units of the metric.
+     */
+    private double getMinDeviation(GrowChamberMetric metric) {
+        switch(metric) {
+            case PH:
+                return phMinDeviation;
+            case TDS:
+                return tdsMinDeviation;
+            case WATER_TEMP:
+                return waterTempMinDeviation;
+            case AIR_TEMP:
+                return airTempMinDeviation;
+            default:
+                return humidityMinDeviation;
+        }
+    }
+
+    /**
+     * The moving average and variance of every metric of a single system, and
+     * which metrics are currently in an excursion.
+     */
+    private final class SystemState {
+        private final double[] mean = new double[METRICS.length];
+        private final double[] variance = new double[METRICS.length];
+        private final boolean[] excursion = new boolean[METRICS.length];
+        private int readings;
+
+        /**
+         * Scores the log against the state and then folds it into the averages.
+         *
+         * @param log The log to check.
+         * @return List of the metrics that went into an excursion with this log.
+         */
+        synchronized List<String> update(GrowChamberLog log) {
+            List<String> entered = new ArrayList<>();
+            for(int m = 0; m < METRICS.length; m++) {
+                double value = METRICS[m].getValue(log);
+                String reason = check(METRICS[m], m, value);
+                if(reason != null && !excursion[m]) {
+                    entered.add(reason);
+                }
+                excursion[m] = reason != null;
+
+                if(readings == 0) {
+                    mean[m] = value;
+                }
+                else {
+                    double diff = value - mean[m];
+                    double increment = alpha * diff;
+                    mean[m] += increment;
+                    variance[m] = (1 - alpha) * (variance[m] + diff * increment);
+                }
+            }
+            readings++;
+            return entered;
+        }
+
+        private String check(GrowChamberMetric metric, int m, double value) {
+            double[] range = getRange(metric);
+            if(range != null && (value < range[0] || value > range[1])) {
+                return String.format("%s of %.2f is outside of %.2f to %.2f", metric.getTextId(), value, range[0],
+                                     range[1]);
+            }
+
+            double deviation = Math.max(Math.sqrt(variance[m]), getMinDeviation(metric));
+            if(readings >= warmupReadings && Math.abs(value - mean[m]) / deviation > zThreshold) {
+                return String.format("%s of %.2f is %.1f standard deviations from its average of %.2f",
+                                     metric.getTextId(), value, Math.abs(value - mean[m]) / deviation, mean[m]);
+            }
+            return null;
+        }
+    }
+}
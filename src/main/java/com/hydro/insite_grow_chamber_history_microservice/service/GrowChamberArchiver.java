@@ -0,0 +1,119 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.hydro.insite_grow_chamber_history_microservice.archive.GrowChamberArchive;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberHistoryDAO;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberLeaseDAO;
+
+/**
+ * Moves grow chamber logs that are older than the archive threshold out of
+ * MySQL and into the archive, one system and month at a time. Each system and
+ * month is moved in its own transaction, so the logs are only deleted from
+ * MySQL when their segments commit with them.
+ *
+ * <p>
+ * Only one instance archives at a time. A run takes the {@link #LEASE} lease
+ * first and extends it before each month, and stops when the lease was taken
+ * over after it expired.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberArchiver {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberArchiver.class);
+    static final String LEASE = "GROW_CHAMBER_ARCHIVE";
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${grow-chamber.archive.lease-minutes}")
+    private int leaseMinutes;
+
+    @Autowired
+    private GrowChamberArchive archive;
+
+    @Autowired
+    private GrowChamberHistoryDAO dao;
+
+    @Autowired
+    private GrowChamberHistoryService historyService;
+
+    @Autowired
+    private GrowChamberLeaseDAO leaseDao;
+
+    /**
+     * Archives every month that is entirely before the archive boundary. Does
+     * nothing when another instance holds the lease.
+     */
+    @Scheduled(cron = "${grow-chamber.archive.cron}")
+    public void archiveOldLogs() {
+        if(!archive.isEnabled()) {
+            return;
+        }
+
+        try {
+            if(!acquireLease()) {
+                return;
+            }
+
+            LocalDateTime boundary = archive.getBoundary(LocalDateTime.now(ZoneOffset.UTC));
+            LocalDateTime oldest = dao.getOldestInsertDate();
+            if(oldest == null) {
+                return;
+            }
+
+            for(YearMonth month = YearMonth.from(oldest); start(month).isBefore(boundary); month = month.plusMonths(1)) {
+                if(!acquireLease()) {
+                    LOGGER.warn("Grow chamber history archive lease was lost before '{}'", month);
+                    return;
+                }
+                archiveMonth(month);
+            }
+        }
+        catch(Exception e) {
+            LOGGER.error("Grow chamber history archive failed", e);
+        }
+        finally {
+            leaseDao.releaseLease(LEASE, owner);
+        }
+    }
+
+    /**
+     * Takes the archive lease, or extends it when this instance holds it.
+     *
+     * @return {@link Boolean} if this instance holds the lease.
+     */
+    private boolean acquireLease() {
+        return leaseDao.acquireLease(LEASE, owner, leaseMinutes * 60L);
+    }
+
+    /**
+     * Archives a single month of every system that has logs in it.
+     *
+     * @param month The month to archive.
+     */
+    private void archiveMonth(YearMonth month) {
+        LocalDateTime from = start(month);
+        LocalDateTime to = start(month.plusMonths(1));
+
+        for(int systemId : dao.getSystemIdsWithLogs(from, to)) {
+            int count = historyService.archiveGrowChamberLogs(systemId, from, to);
+            LOGGER.info("Archived '{}' grow chamber logs of system '{}' for '{}'", count, systemId, month);
+        }
+    }
+
+    private LocalDateTime start(YearMonth month) {
+        return month.atDay(1).atStartOfDay();
+    }
+}
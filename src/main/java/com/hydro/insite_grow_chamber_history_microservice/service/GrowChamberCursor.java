@@ -0,0 +1,89 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+
+import io.jsonwebtoken.lang.Assert;
+
+/**
+ * Keyset cursor of the grow chamber history pages. A page is continued from the
+ * insert date and id of its last log, and both are needed to not skip or repeat
+ * logs that share an insert date. Clients get them as a single opaque token so
+ * they can not send one without the other.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public final class GrowChamberCursor {
+    private static final String SEPARATOR = ":";
+
+    private GrowChamberCursor() {}
+
+    /**
+     * Builds the cursor that continues after the given log.
+     *
+     * @param log The last log of the page.
+     * @return The cursor token.
+     */
+    public static String encode(GrowChamberLog log) {
+        return encode(log.getInsertDate().toInstant(ZoneOffset.UTC).toEpochMilli(), log.getId());
+    }
+
+    /**
+     * Builds the cursor that continues after the log with the given insert date
+     * and id.
+     *
+     * @param insertDate The insert date of the last log in epoch milliseconds.
+     * @param id         The id of the last log.
+     * @return The cursor token.
+     */
+    public static String encode(long insertDate, int id) {
+        String key = insertDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Validates the keyset of the request and replaces its cursor token with the
+     * insert date and id it holds. Either the token or both the after timestamp
+     * and after id can be given, never a mix of them.
+     *
+     * @param request The request to resolve the cursor of.
+     */
+    public static void resolve(GrowChamberHistoryGetRequest request) {
+        if(request.getCursor() == null) {
+            Assert.isTrue((request.getAfterTimestamp() == null) == (request.getAfterId() == null),
+                          "After timestamp and after id must be given together.");
+            return;
+        }
+
+        Assert.isTrue(request.getAfterTimestamp() == null && request.getAfterId() == null,
+                      "Cursor can not be combined with an after timestamp or after id.");
+        String[] key = decode(request.getCursor());
+        try {
+            request.setAfterTimestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(key[0])),
+                                                              ZoneOffset.UTC));
+            request.setAfterId(Integer.parseInt(key[1]));
+        }
+        catch(NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+        request.setCursor(null);
+    }
+
+    private static String[] decode(String cursor) {
+        try {
+            String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR);
+            Assert.isTrue(key.length == 2, "Invalid cursor.");
+            return key;
+        }
+        catch(IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberDeadband;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberDeadbandDAO;
+
+/**
+ * Drops the readings of systems in deadband mode that did not change. A
+ * reading is stored when any metric moved more than its threshold from the
+ * last stored reading of the system, when the light status changed, or when
+ * the max silence has passed since the last stored reading, so a steady system
+ * still shows up in the history. Metrics are compared in hundredths, the
+ * precision the history table stores them in.
+ *
+ * <p>
+ * The enabled settings are loaded once on startup and reloaded for a system
+ * whenever they change. Settings can be changed through any instance, so every
+ * instance also checks the version of the settings on a short schedule and
+ * reloads them all when it moved. The last stored reading of every system is
+ * held in memory, so the first reading after a restart is always stored.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberDeadbandFilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberDeadbandFilter.class);
+
+    @Value("${grow-chamber.deadband.enabled}")
+    private boolean enabled;
+
+    @Autowired
+    private GrowChamberDeadbandDAO dao;
+
+    private final Map<Integer, GrowChamberDeadband> settings = new ConcurrentHashMap<>();
+    private final Map<Integer, GrowChamberLog> lastStored = new ConcurrentHashMap<>();
+    private volatile String version;
+
+    /**
+     * Loads the enabled settings of every system. Runs on startup, and again on
+     * the refresh schedule whenever the version of the settings has changed since
+     * they were last loaded. Systems whose settings are gone lose their last
+     * stored reading.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${grow-chamber.deadband.refresh-cron}")
+    public void loadSettings() {
+        if(!enabled) {
+            return;
+        }
+
+        try {
+            String current = dao.getDeadbandVersion();
+            if(current != null && current.equals(version)) {
+                return;
+            }
+
+            Map<Integer, GrowChamberDeadband> loaded = new HashMap<>();
+            dao.getDeadbands(null, true).forEach(d -> loaded.put(d.getSystemId(), d));
+            settings.keySet().retainAll(loaded.keySet());
+            lastStored.keySet().retainAll(loaded.keySet());
+            settings.putAll(loaded);
+            version = current;
+            LOGGER.info("Loaded deadband settings of {} systems", settings.size());
+        }
+        catch(Exception e) {
+            LOGGER.error("Failed to load the grow chamber deadband settings", e);
+        }
+    }
+
+    /**
+     * Reloads the settings of a system after they were changed. The last stored
+     * reading is kept, so the new thresholds apply from the next reading.
+     *
+     * @param systemId The id of the system.
+     */
+    public void reload(int systemId) {
+        if(!enabled) {
+            return;
+        }
+
+        List<GrowChamberDeadband> deadbands = dao.getDeadbands(Sets.newHashSet(systemId), true);
+        if(deadbands.isEmpty()) {
+            settings.remove(systemId);
+            lastStored.remove(systemId);
+        }
+        else {
+            settings.put(systemId, deadbands.get(0));
+        }
+    }
+
+    /**
+     * Determines if the readings of a system go through the deadband.
+     *
+     * @param systemId The id of the system.
+     * @return {@link Boolean} if the system is in deadband mode.
+     */
+    public boolean isActive(int systemId) {
+        return enabled && settings.containsKey(systemId);
+    }
+
+    /**
+     * Finds the logs that do not have to be stored. Each of them is mapped to
+     * the stored log it did not move away from, which is either an earlier log
+     * of the same list or the last stored log of its system.
+     *
+     * @param logs The logs to check, in insert order.
+     * @return Map of each log that should not be stored to the log that stands in
+     *         for it. Empty when every log has to be stored.
+     */
+    public Map<GrowChamberLog, GrowChamberLog> filter(List<GrowChamberLog> logs) {
+        if(!enabled || settings.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Integer, GrowChamberLog> previous = new HashMap<>();
+        Map<GrowChamberLog, GrowChamberLog> suppressed = new IdentityHashMap<>();
+        for(GrowChamberLog log : logs) {
+            GrowChamberDeadband deadband = settings.get(log.getSystemId());
+            if(deadband == null) {
+                continue;
+            }
+
+            GrowChamberLog last = previous.computeIfAbsent(log.getSystemId(), lastStored::get);
+            if(last != null && !hasChanged(deadband, last, log)) {
+                suppressed.put(log, last);
+            }
+            else {
+                previous.put(log.getSystemId(), log);
+            }
+        }
+        return suppressed;
+    }
+
+    /**
+     * Records the logs that were stored, so the next readings are compared to
+     * them.
+     *
+     * @param logs The logs that were stored, with their ids.
+     */
+    public void remember(List<GrowChamberLog> logs) {
+        for(GrowChamberLog log : logs) {
+            if(isActive(log.getSystemId())) {
+                lastStored.merge(log.getSystemId(), log,
+                                 (a, b) -> b.getInsertDate().isBefore(a.getInsertDate()) ? a : b);
+            }
+        }
+    }
+
+    /**
+     * Drops the last stored reading of a system and reloads its settings.
+     * Settings of a system that was unregistered are gone from the database and
+     * are dropped.
+     *
+     * @param systemId The id of the system.
+     */
+    public void evict(int systemId) {
+        lastStored.remove(systemId);
+        reload(systemId);
+    }
+
+    /**
+     * Checks if the log moved far enough from the last stored log to be stored.
+     *
+     * @param deadband The settings of the system.
+     * @param last     The last stored log of the system.
+     * @param log      The log to check.
+     * @return {@link Boolean} if the log has to be stored.
+     */
+    private boolean hasChanged(GrowChamberDeadband deadband, GrowChamberLog last, GrowChamberLog log) {
+        if(last.isLightsOn() != log.isLightsOn()) {
+            return true;
+        }
+        if(!log.getInsertDate().isBefore(last.getInsertDate().plusSeconds(deadband.getMaxSilenceSeconds()))) {
+            return true;
+        }
+
+        return moved(last.getPh(), log.getPh(), deadband.getPhThreshold())
+                || moved(last.getTds(), log.getTds(), deadband.getTdsThreshold())
+                || moved(last.getWaterTemp(), log.getWaterTemp(), deadband.getWaterTempThreshold())
+                || moved(last.getAirTemp(), log.getAirTemp(), deadband.getAirTempThreshold())
+                || moved(last.getHumidity(), log.getHumidity(), deadband.getHumidityThreshold());
+    }
+
+    private boolean moved(float last, float value, float threshold) {
+        return Math.abs(Math.round(value * 100) - Math.round(last * 100)) > Math.round(threshold * 100);
+    }
+}
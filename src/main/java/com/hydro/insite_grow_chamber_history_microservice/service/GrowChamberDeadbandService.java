@@ -0,0 +1,135 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberTransactions.afterCommit;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.google.common.collect.Sets;
+import com.hydro.common.exception.NotFoundException;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberDeadband;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberDeadbandDAO;
+
+import io.jsonwebtoken.lang.Assert;
+
+/**
+ * Grow Chamber Deadband class that handles all service calls to the dao. Every
+ * change is handed to the {@link GrowChamberDeadbandFilter} once it commits.
+ * The settings decide what ends up in the history of a system, so anyone with
+ * access can see them but only the owner or an admin can change them. The
+ * thresholds and max silence are capped, so the deadband can not stop a system
+ * from recording history.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Transactional
+@Service
+public class GrowChamberDeadbandService {
+
+    @Value("${grow-chamber.deadband.max-silence-seconds}")
+    private int maxSilenceSeconds;
+
+    @Value("${grow-chamber.deadband.max-threshold.ph}")
+    private float maxPhThreshold;
+
+    @Value("${grow-chamber.deadband.max-threshold.tds}")
+    private float maxTdsThreshold;
+
+    @Value("${grow-chamber.deadband.max-threshold.water-temp}")
+    private float maxWaterTempThreshold;
+
+    @Value("${grow-chamber.deadband.max-threshold.air-temp}")
+    private float maxAirTempThreshold;
+
+    @Value("${grow-chamber.deadband.max-threshold.humidity}")
+    private float maxHumidityThreshold;
+
+    @Autowired
+    private GrowChamberDeadbandDAO dao;
+
+    @Autowired
+    private GrowChamberDeadbandFilter deadbandFilter;
+
+    @Autowired
+    private GrowChamberSystemAccess systemAccess;
+
+    /**
+     * Get the deadband settings of a system.
+     * 
+     * @param systemId The id of the system.
+     * @return {@link GrowChamberDeadband} of the system.
+     */
+    public GrowChamberDeadband getDeadband(int systemId) {
+        systemAccess.checkAccess(systemId);
+
+        List<GrowChamberDeadband> deadbands = dao.getDeadbands(Sets.newHashSet(systemId), null);
+        if(deadbands.isEmpty()) {
+            throw new NotFoundException("Deadband for System", systemId);
+        }
+        return deadbands.get(0);
+    }
+
+    /**
+     * Saves the deadband settings of a system. The settings apply from the next
+     * reading of the system. Only the owner of the system or an admin can save
+     * them.
+     * 
+     * @param systemId The id of the system.
+     * @param deadband The settings to save.
+     * @return {@link GrowChamberDeadband} that was saved.
+     */
+    public GrowChamberDeadband saveDeadband(int systemId, GrowChamberDeadband deadband) {
+        systemAccess.checkOwner(systemId);
+        validate(deadband);
+
+        deadband.setSystemId(systemId);
+        if(deadband.getEnabled() == null) {
+            deadband.setEnabled(true);
+        }
+
+        dao.upsertDeadband(deadband);
+        afterCommit(() -> deadbandFilter.reload(systemId));
+        return getDeadband(systemId);
+    }
+
+    /**
+     * Deletes the deadband settings of a system, so every reading is stored
+     * again. Only the owner of the system or an admin can delete them.
+     * 
+     * @param systemId The id of the system.
+     */
+    public void deleteDeadband(int systemId) {
+        systemAccess.checkOwner(systemId);
+        dao.deleteDeadband(systemId);
+        afterCommit(() -> deadbandFilter.reload(systemId));
+    }
+
+    /**
+     * Validates the deadband settings.
+     * 
+     * @param deadband The settings to validate.
+     */
+    private void validate(GrowChamberDeadband deadband) {
+        Assert.isTrue(deadband.getPhThreshold() >= 0 && deadband.getTdsThreshold() >= 0
+                && deadband.getWaterTempThreshold() >= 0 && deadband.getAirTempThreshold() >= 0
+                && deadband.getHumidityThreshold() >= 0, "Deadband thresholds can not be negative.");
+        Assert.isTrue(deadband.getPhThreshold() <= maxPhThreshold, "Deadband pH threshold can be at most "
+                + maxPhThreshold + ".");
+        Assert.isTrue(deadband.getTdsThreshold() <= maxTdsThreshold, "Deadband TDS threshold can be at most "
+                + maxTdsThreshold + ".");
+        Assert.isTrue(deadband.getWaterTempThreshold() <= maxWaterTempThreshold,
+                      "Deadband water temp threshold can be at most " + maxWaterTempThreshold + ".");
+        Assert.isTrue(deadband.getAirTempThreshold() <= maxAirTempThreshold,
+                      "Deadband air temp threshold can be at most " + maxAirTempThreshold + ".");
+        Assert.isTrue(deadband.getHumidityThreshold() <= maxHumidityThreshold,
+                      "Deadband humidity threshold can be at most " + maxHumidityThreshold + ".");
+        Assert.isTrue(deadband.getMaxSilenceSeconds() > 0, "Deadband max silence must be greater than zero.");
+        Assert.isTrue(deadband.getMaxSilenceSeconds() <= maxSilenceSeconds,
+                      "Deadband max silence can be at most " + maxSilenceSeconds + " seconds.");
+    }
+}
@@ -1,16 +1,57 @@
 package com.hydro.insite_grow_chamber_history_microservice.service;
 
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberLogJsonWriter.GROW_CHAMBER_LOG_JSON_WRITER;
+import static com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberLogMapper.GROW_CHAMBER_LOG_MAPPER;
+import static com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberTransactions.afterCommit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
 import com.hydro.common.exception.NotFoundException;
+import com.hydro.insite_grow_chamber_history_microservice.archive.GrowChamberArchive;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.ExportFormat;
 import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLogColumns;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollup;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberSeries;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberSeriesSegment;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberStats;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.MetricSummary;
 import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
 import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberHistoryDAO;
+import com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberLogColumnCollector;
+import com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberLogRowWriter;
+import com.hydro.insite_subscription_microservice.client.SubscriptionNotifierClient;
+import com.hydro.insite_subscription_microservice.client.domain.NotificationSocket;
+import com.hydro.insite_subscription_microservice.notification.TelemetryNotification;
+import com.hydro.streaming.JsonArrayRowHandler;
+
+import io.jsonwebtoken.lang.Assert;
 
 /**
  * Grow Chamber History class that handles all service calls to the dao
@@ -21,17 +62,92 @@ import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberHistory
 @Transactional
 @Service
 public class GrowChamberHistoryService {
+    private static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(5);
+    private static final int MIN_SEGMENT_POINTS = 3;
+
+    @Value("${grow-chamber.backfill.max-rows}")
+    private int backfillMaxRows;
+
+    @Value("${grow-chamber.retention.raw-days}")
+    private int rawRetentionDays;
+
     @Autowired
     private GrowChamberHistoryDAO dao;
 
+    @Autowired
+    private GrowChamberRollupService rollupService;
+
+    @Autowired
+    private GrowChamberLightCycleService lightCycleService;
+
+    @Autowired
+    private GrowChamberSeriesPlanner seriesPlanner;
+
+    @Autowired
+    private GrowChamberLatestCache latestCache;
+
+    @Autowired
+    private GrowChamberHotWindow hotWindow;
+
+    @Autowired
+    private GrowChamberAnomalyDetector anomalyDetector;
+
+    @Autowired
+    private GrowChamberAlertRuleEngine ruleEngine;
+
+    @Autowired
+    private GrowChamberIngestDeduplicator deduplicator;
+
+    @Autowired
+    private GrowChamberDeadbandFilter deadbandFilter;
+
+    @Autowired
+    private SubscriptionNotifierClient subscriptionNotifierClient;
+
+    @Autowired
+    private GrowChamberArchive archive;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
-     * Get a list of grow chamber logs for the given request.
+     * Get a list of grow chamber logs for the given request. Requests for the
+     * recent history of given systems are answered from the hot window. When the
+     * request has max points the logs of each system are downsampled. The keyset
+     * cursor of the request is resolved through {@link GrowChamberCursor}.
      * 
      * @param request The request to filter the logs on.
      * @return List of {@link GrowChamberLog} objects.
      */
     public List<GrowChamberLog> getGrowChamberLogs(GrowChamberHistoryGetRequest request) {
-        return dao.getGrowChamberLogs(request);
+        GrowChamberCursor.resolve(request);
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        return request.getMaxPoints() == null ? readGrowChamberLogs(request, now)
+                : getDownsampledGrowChamberLogs(request, now);
+    }
+
+    /**
+     * Get the grow chamber logs for the given request as columns. When the logs
+     * only come from MySQL the rows are read straight into the columns without
+     * creating a {@link GrowChamberLog} per row. Otherwise the logs are read like
+     * {@link #getGrowChamberLogs(GrowChamberHistoryGetRequest)} and then turned
+     * into columns.
+     * 
+     * @param request The request to filter the logs on.
+     * @return {@link GrowChamberLogColumns} of the logs ordered by insert date.
+     */
+    @Transactional(readOnly = true)
+    public GrowChamberLogColumns getGrowChamberLogColumns(GrowChamberHistoryGetRequest request) {
+        GrowChamberCursor.resolve(request);
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        GrowChamberLogColumnCollector collector = new GrowChamberLogColumnCollector();
+        if(request.getMaxPoints() == null && !hotWindow.covers(request, now) && !archive.covers(request, now)) {
+            dao.streamGrowChamberLogs(request, collector);
+        }
+        else {
+            getGrowChamberLogs(request).forEach(collector::add);
+        }
+        return collector.getColumns();
     }
 
     /**
@@ -41,13 +157,27 @@ public class GrowChamberHistoryService {
      * @return List of {@link GrowChamberLog} objects.
      */
     public List<GrowChamberLog> getGrowChamberLogsBySystemId(int systemId) {
+        return getGrowChamberLogsBySystemId(systemId, null);
+    }
+
+    /**
+     * Get a list of grow chamber logs by system id, downsampled to the given
+     * number of points.
+     * 
+     * @param systemId  The id of the system to get logs for.
+     * @param maxPoints The most logs to return. Can be null to return every log.
+     * @return List of {@link GrowChamberLog} objects.
+     */
+    public List<GrowChamberLog> getGrowChamberLogsBySystemId(int systemId, Integer maxPoints) {
         GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
         request.setSystemId(Sets.newHashSet(systemId));
+        request.setMaxPoints(maxPoints);
         return getGrowChamberLogs(request);
     }
 
     /**
-     * Get a {@link GrowChamberLog} by log id.
+     * Get a {@link GrowChamberLog} by log id. The archive is only read when the
+     * log is not in MySQL.
      * 
      * @param id The id of the log
      * @return {@link GrowChamberLog} objects.
@@ -55,18 +185,699 @@ public class GrowChamberHistoryService {
     public GrowChamberLog getGrowChamberLogsById(int id) {
         GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
         request.setId(Sets.newHashSet(id));
-        return getGrowChamberLogs(request).stream().findFirst()
-                .orElseThrow(() -> new NotFoundException("Grow Chamber Log", id));
+        List<GrowChamberLog> logs = dao.getGrowChamberLogs(request);
+        if(logs.isEmpty() && archive.isEnabled()) {
+            logs = archive.read(request);
+        }
+        return logs.stream().findFirst().orElseThrow(() -> new NotFoundException("Grow Chamber Log", id));
+    }
+
+    /**
+     * Get the most recent grow chamber log of a system. This is read from memory
+     * and does not touch the database.
+     * 
+     * @param systemId The id of the system to get the log for.
+     * @return {@link GrowChamberLog} of the latest reading.
+     */
+    public GrowChamberLog getLatestGrowChamberLog(int systemId) {
+        GrowChamberLog log = latestCache.get(systemId);
+        if(log == null) {
+            throw new NotFoundException("Latest Grow Chamber Log for System", systemId);
+        }
+        return log;
+    }
+
+    /**
+     * Get the most recent grow chamber log of each of the given systems. Systems
+     * that have not logged anything are left out.
+     * 
+     * @param systemIds The ids of the systems to get logs for.
+     * @return List of {@link GrowChamberLog} objects.
+     */
+    public List<GrowChamberLog> getLatestGrowChamberLogs(Collection<Integer> systemIds) {
+        return latestCache.get(systemIds);
     }
 
     /**
-     * Method for creating a new entry into the grow chamber history table.
+     * Get the min, max, mean, standard deviation, median and 95th percentile of
+     * every metric for each of the systems over a window. The statistics are
+     * computed by the database over the stored history, so the logs are never
+     * loaded. Windows that start before the history that is kept in the database
+     * are rejected, since their stats would silently leave out the archived or
+     * dropped readings.
+     * 
+     * @param systemIds The ids of the systems to get the statistics of.
+     * @param from      Start of the window, inclusive.
+     * @param to        End of the window, exclusive.
+     * @return List of {@link GrowChamberStats} ordered by system id. A system
+     *         without readings in the window is left out.
+     */
+    @Transactional(readOnly = true)
+    public List<GrowChamberStats> getGrowChamberStats(Set<Integer> systemIds, LocalDateTime from, LocalDateTime to) {
+        Assert.notEmpty(systemIds, "At least one system is required for stats.");
+        Assert.notNull(from, "From date is required for stats.");
+        Assert.notNull(to, "To date is required for stats.");
+        Assert.isTrue(from.isBefore(to), "From date must be before the to date.");
+        LocalDateTime cutoff = getLiveCutoff(LocalDateTime.now(ZoneOffset.UTC));
+        Assert.isTrue(cutoff == null || !from.isBefore(cutoff),
+                      "From date is older than the history that is kept in the database.");
+
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(systemIds);
+        request.setFrom(from);
+        request.setTo(to);
+
+        List<GrowChamberStats> stats = dao.getGrowChamberLogStats(request);
+        stats.forEach(s -> {
+            s.setFrom(from);
+            s.setTo(to);
+        });
+        return stats;
+    }
+
+    /**
+     * Get the history of a system as a chart series. The resolution is picked so
+     * the series stays within the point budget, and older parts of the range are
+     * read from coarser rollups once the finer data has expired. Each segment
+     * gets a share of the budget by how much of the range it covers.
+     * 
+     * @param systemId  The id of the system to get the series for.
+     * @param from      Start of the range, inclusive.
+     * @param to        End of the range, exclusive.
+     * @param maxPoints The most points the series should have.
+     * @return {@link GrowChamberSeries} of the range.
+     */
+    @Transactional(readOnly = true)
+    public GrowChamberSeries getGrowChamberSeries(int systemId, LocalDateTime from, LocalDateTime to,
+            int maxPoints) {
+        Assert.isTrue(from.isBefore(to), "The from date must be before the to date.");
+        Assert.isTrue(maxPoints > 0, "Max points must be greater than zero.");
+
+        List<GrowChamberSeriesSegment> segments = seriesPlanner.plan(from, to, maxPoints,
+                                                                     LocalDateTime.now(ZoneOffset.UTC));
+        long rangeSeconds = Duration.between(from, to).getSeconds();
+        List<GrowChamberRollup> points = new ArrayList<>();
+        for(GrowChamberSeriesSegment segment : segments) {
+            long segmentSeconds = Duration.between(segment.getFrom(), segment.getTo()).getSeconds();
+            int budget = (int) Math.max(MIN_SEGMENT_POINTS, maxPoints * segmentSeconds / Math.max(rangeSeconds, 1));
+            points.addAll(getSegmentPoints(systemId, segment, budget));
+        }
+
+        GrowChamberSeries series = new GrowChamberSeries();
+        series.setSystemId(systemId);
+        series.setSegments(segments);
+        series.setPoints(points);
+        return series;
+    }
+
+    /**
+     * Exports the grow chamber logs for the given request to the output stream in
+     * the given format. Rows are written as they are read from the database.
+     * Archived months are read through {@link #exportGrowChamberLogs}.
+     * 
+     * @param request The request to filter the logs on.
+     * @param format  The format to write the logs in.
+     * @param out     The stream to write the logs to.
+     * @throws IOException If the stream can not be written to.
+     */
+    @Transactional(readOnly = true)
+    public void exportGrowChamberLogs(GrowChamberHistoryGetRequest request, ExportFormat format, OutputStream out)
+            throws IOException {
+        GrowChamberCursor.resolve(request);
+        GrowChamberLogRowWriter writer = new GrowChamberLogRowWriter(objectMapper.getFactory(), format, out);
+        exportGrowChamberLogs(request, writer::write, writer);
+        writer.flush();
+    }
+
+    /**
+     * Writes the grow chamber logs for the given request to the output stream as
+     * a JSON array. Each row is written as it is read from the database, so no
+     * {@link GrowChamberLog} objects are built for rows that are still in the
+     * history table.
+     * 
+     * @param request The request to filter the logs on.
+     * @param out     The stream to write the logs to.
+     * @throws IOException If the stream can not be written to.
+     */
+    @Transactional(readOnly = true)
+    public void streamGrowChamberLogs(GrowChamberHistoryGetRequest request, OutputStream out) throws IOException {
+        GrowChamberCursor.resolve(request);
+        JsonArrayRowHandler handler = new JsonArrayRowHandler(objectMapper.getFactory(), out,
+                                                              GROW_CHAMBER_LOG_JSON_WRITER);
+        exportGrowChamberLogs(request, l -> GROW_CHAMBER_LOG_JSON_WRITER.write(l, handler.getGenerator()), handler);
+        handler.finish();
+    }
+
+    /**
+     * Method for creating a new entry into the grow chamber history table. A log
+     * with a sequence number that was already stored for the system is not
+     * stored again, and the log that was stored for it is returned instead. A log
+     * that the deadband of its system does not store is returned as it was
+     * received, without an id.
      * 
      * @param log The {@link GrowChamberLog} object to be inserted.
      * @return {@link GrowChamberLog} of the log that was created.
      */
     public GrowChamberLog insertGrowChamberLog(GrowChamberLog log) {
+        log.setInsertDate(receivedDate());
+        if(log.getSeq() != null || deadbandFilter.isActive(log.getSystemId())) {
+            Integer id = insertGrowChamberLogs(List.of(log)).get(0);
+            if(id == null) {
+                return log;
+            }
+
+            GrowChamberLog created = getGrowChamberLogsById(id);
+            created.setSeq(log.getSeq());
+            return created;
+        }
+
         int growChamberId = dao.insertGrowChamberLog(log);
-        return getGrowChamberLogsById(growChamberId);
+        GrowChamberLog created = getGrowChamberLogsById(growChamberId);
+        afterInsert(List.of(created), List.of(created));
+        return created;
+    }
+
+    /**
+     * Method for creating multiple entries into the grow chamber history table in
+     * a single batch. Every log is stamped with {@link #receivedDate()} so that
+     * the whole batch is written with one multi-row insert.
+     * 
+     * @param logs The {@link GrowChamberLog} objects to be inserted.
+     * @return List of the ids of the created logs, in request order. The id is
+     *         null for a log that the deadband of its system did not store.
+     */
+    public List<Integer> insertGrowChamberLogs(List<GrowChamberLog> logs) {
+        Assert.notEmpty(logs, "At least one log is required for a batch insert.");
+
+        LocalDateTime now = receivedDate();
+        logs.forEach(l -> l.setInsertDate(now));
+        return persistGrowChamberLogs(logs);
+    }
+
+    /**
+     * Gets the insert date a reading received now is stamped with. Every insert
+     * path stamps readings with this in the application, rather than leaving it
+     * to the database, so the history is on a single clock. The time is
+     * truncated to the second like the history table stores it.
+     * 
+     * @return {@link LocalDateTime} of the current UTC time.
+     */
+    static LocalDateTime receivedDate() {
+        return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Writes logs that already have their insert date set. This is the group
+     * commit used by the {@link GrowChamberIngestBuffer} flusher, so the whole
+     * batch is written in one transaction. Retries of logs that were already
+     * stored are dropped first and get the id of the stored log. Only the new
+     * logs go through the deadband, and logs of systems in deadband mode that did
+     * not change are not written and get no id. Only the write is skipped, they
+     * still go to the latest cache, light runs, telemetry, anomaly detector and
+     * alert rules like every other new reading.
+     * 
+     * @param logs The {@link GrowChamberLog} objects to be written.
+     * @return List of the ids of the logs, in request order. The id is null for a
+     *         log that the deadband of its system did not store.
+     */
+    public List<Integer> persistGrowChamberLogs(List<GrowChamberLog> logs) {
+        Map<GrowChamberLog, GrowChamberLog> suppressed = new IdentityHashMap<>();
+        List<GrowChamberLog> readings = writeGrowChamberLogs(logs, suppressed);
+        List<GrowChamberLog> created = suppressed.isEmpty() ? readings
+                : readings.stream().filter(l -> !suppressed.containsKey(l)).collect(Collectors.toList());
+
+        if(!readings.isEmpty()) {
+            afterInsert(created, readings);
+        }
+        return logs.stream().map(l -> suppressed.containsKey(l) || l.getId() == 0 ? null : l.getId())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Backfills readings that a device buffered while it was offline. Each log is
+     * stored at its device date instead of the time it was received, and logs
+     * that are already stored at that date are skipped. The rollups, light runs,
+     * latest cache and hot window are corrected for the added logs. Telemetry,
+     * anomaly and alert rule checks are not run since the readings are history.
+     * 
+     * @param logs The {@link GrowChamberLog} objects to backfill.
+     * @return List of the ids of the logs, in request order.
+     */
+    public List<Integer> backfillGrowChamberLogs(List<GrowChamberLog> logs) {
+        Assert.notEmpty(logs, "At least one log is required for a backfill.");
+        Assert.isTrue(logs.size() <= backfillMaxRows, "A backfill can have at most " + backfillMaxRows + " logs.");
+
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime oldest = getLiveCutoff(now);
+        for(GrowChamberLog log : logs) {
+            Assert.notNull(log.getDeviceDate(), "Device date is required for a backfill.");
+            Assert.isTrue(!log.getDeviceDate().isAfter(now.plus(MAX_CLOCK_SKEW)),
+                          "Device date can not be in the future.");
+            Assert.isTrue(oldest == null || !log.getDeviceDate().isBefore(oldest),
+                          "Device date is older than the history that is kept in the database.");
+            log.setInsertDate(log.getDeviceDate().truncatedTo(ChronoUnit.SECONDS));
+        }
+
+        List<GrowChamberLog> merged = new ArrayList<>();
+        if(logs.stream().anyMatch(l -> l.getSeq() != null)) {
+            deduplicator.insertNew(logs, batch -> {
+                merged.addAll(dao.mergeGrowChamberLogs(batch));
+                return batch.stream().map(GrowChamberLog::getId).collect(Collectors.toList());
+            });
+            afterCommit(() -> deduplicator.remember(logs));
+        }
+        else {
+            merged.addAll(dao.mergeGrowChamberLogs(logs));
+        }
+
+        rollupService.recordLateLogs(merged);
+        lightCycleService.rebuildLogs(merged);
+        afterCommit(() -> latestCache.update(merged));
+        afterCommit(() -> hotWindow.append(merged));
+        return logs.stream().map(GrowChamberLog::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * Deletes all of the grow chamber logs of a system. The history table is
+     * partitioned and can not cascade from the systems table, so this has to be
+     * called when a system is unregistered.
+     * 
+     * @param systemId The id of the system to delete the logs of.
+     */
+    public void deleteGrowChamberLogs(int systemId) {
+        dao.deleteGrowChamberLogs(systemId);
+        archive.delete(systemId);
+        deduplicator.delete(systemId);
+        lightCycleService.deleteLightRuns(systemId);
+        afterCommit(() -> latestCache.evict(systemId));
+        afterCommit(() -> hotWindow.evict(systemId));
+        afterCommit(() -> anomalyDetector.evict(systemId));
+        afterCommit(() -> ruleEngine.evict(systemId));
+        afterCommit(() -> deduplicator.evict(systemId));
+        afterCommit(() -> deadbandFilter.evict(systemId));
+    }
+
+    /**
+     * Moves the logs of a system within a range from MySQL into the archive. The
+     * range is read a segment at a time with the keyset cursor, so only one
+     * segment of logs is held in memory. The segments are added and the logs
+     * deleted in the same transaction, so a log is never lost or in both places
+     * once it commits.
+     * 
+     * @param systemId The id of the system.
+     * @param from     Start of the range, inclusive.
+     * @param to       End of the range, exclusive.
+     * @return The number of logs that were archived.
+     */
+    public int archiveGrowChamberLogs(int systemId, LocalDateTime from, LocalDateTime to) {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(systemId));
+        request.setFrom(from);
+        request.setTo(to);
+        request.setLimit(GrowChamberArchive.SEGMENT_ROWS);
+
+        int count = 0;
+        List<GrowChamberLog> logs;
+        do {
+            logs = dao.getGrowChamberLogs(request);
+            if(!logs.isEmpty()) {
+                archive.write(systemId, logs);
+                dao.deleteGrowChamberLogs(systemId, logs.stream().map(GrowChamberLog::getId)
+                        .collect(Collectors.toList()), from, to);
+
+                GrowChamberLog last = logs.get(logs.size() - 1);
+                request.setAfterTimestamp(last.getInsertDate());
+                request.setAfterId(last.getId());
+                count += logs.size();
+            }
+        } while(logs.size() == GrowChamberArchive.SEGMENT_ROWS);
+        return count;
+    }
+
+    /**
+     * Reads the logs of the request from the hot window, MySQL and the archive.
+     * The part of the range the hot window holds is read from memory and only
+     * the part before it goes to MySQL and the archive.
+     * 
+     * @param request The request to filter the logs on.
+     * @param now     The current UTC time.
+     * @return List of {@link GrowChamberLog} objects ordered by insert date.
+     */
+    private List<GrowChamberLog> readGrowChamberLogs(GrowChamberHistoryGetRequest request, LocalDateTime now) {
+        LocalDateTime coveredFrom = hotWindow.getCoveredFrom(request, now);
+        if(coveredFrom != null) {
+            List<GrowChamberLog> logs = readAroundHotWindow(request, coveredFrom, now);
+            if(logs != null) {
+                return logs;
+            }
+        }
+        return readStoredGrowChamberLogs(request, now);
+    }
+
+    /**
+     * Reads the logs from before the hot window from MySQL and the archive, and
+     * the rest from the hot window. The older part is read first, so the recent
+     * part is only read when the limit is not reached yet.
+     * 
+     * @param request     The request to filter the logs on.
+     * @param coveredFrom The time from which the hot window holds every log.
+     * @param now         The current UTC time.
+     * @return List of {@link GrowChamberLog} objects ordered by insert date, or
+     *         null if the hot window no longer holds the start of its part.
+     */
+    private List<GrowChamberLog> readAroundHotWindow(GrowChamberHistoryGetRequest request, LocalDateTime coveredFrom,
+            LocalDateTime now) {
+        boolean older = (request.getFrom() == null || request.getFrom().isBefore(coveredFrom))
+                && (request.getAfterTimestamp() == null || request.getAfterTimestamp().isBefore(coveredFrom));
+        if(!older) {
+            LocalDateTime from = request.getFrom() == null || request.getFrom().isBefore(coveredFrom) ? coveredFrom
+                    : request.getFrom();
+            return hotWindow.read(copyRequest(request, from, request.getTo(), request.getLimit()), now);
+        }
+
+        List<GrowChamberLog> logs = new ArrayList<>(readStoredGrowChamberLogs(copyRequest(request, request.getFrom(),
+                                                                                          coveredFrom,
+                                                                                          request.getLimit()),
+                                                                              now));
+        Integer remaining = request.getLimit() == null ? null : request.getLimit() - logs.size();
+        if(remaining != null && remaining <= 0) {
+            return logs;
+        }
+
+        List<GrowChamberLog> recent = hotWindow.read(copyRequest(request, coveredFrom, request.getTo(), remaining),
+                                                     now);
+        if(recent == null) {
+            return null;
+        }
+        logs.addAll(recent);
+        return logs;
+    }
+
+    /**
+     * Reads the logs of the request from MySQL and the archive.
+     * 
+     * @param request The request to filter the logs on.
+     * @param now     The current UTC time.
+     * @return List of {@link GrowChamberLog} objects ordered by insert date.
+     */
+    private List<GrowChamberLog> readStoredGrowChamberLogs(GrowChamberHistoryGetRequest request, LocalDateTime now) {
+        List<GrowChamberLog> logs = dao.getGrowChamberLogs(request);
+        if(!archive.covers(request, now)) {
+            return logs;
+        }
+        return mergeArchived(archive.read(request), logs, request.getLimit());
+    }
+
+    /**
+     * Writes the logs of the request in order. Archived months are read one at a
+     * time and merged with what MySQL still has of them, so only a single month
+     * is held in memory. Everything after the archive boundary is streamed
+     * straight from MySQL to the row handler.
+     * 
+     * @param request  The request to filter the logs on.
+     * @param archived Writes a log of an archived month.
+     * @param rows     Handles the rows streamed from MySQL.
+     * @throws IOException If a log can not be written.
+     */
+    private void exportGrowChamberLogs(GrowChamberHistoryGetRequest request, LogWriter archived,
+            RowCallbackHandler rows) throws IOException {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        if(!archive.covers(request, now)) {
+            dao.streamGrowChamberLogs(request, rows);
+            return;
+        }
+
+        LocalDateTime boundary = archive.getBoundary(now);
+        LocalDateTime end = request.getTo() == null || request.getTo().isAfter(boundary) ? boundary : request.getTo();
+        LocalDateTime start = request.getFrom() == null ? oldest(archive.getOldestDate(request.getSystemId()),
+                                                                 dao.getOldestInsertDate())
+                : request.getFrom();
+
+        Integer remaining = request.getLimit();
+        YearMonth month = start == null ? null : YearMonth.from(start);
+        while(month != null && month.atDay(1).atStartOfDay().isBefore(end) && (remaining == null || remaining > 0)) {
+            LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+            LocalDateTime monthEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+            GrowChamberHistoryGetRequest part = copyRequest(request, monthStart.isBefore(start) ? start : monthStart,
+                                                            monthEnd.isAfter(end) ? end : monthEnd, remaining);
+
+            List<GrowChamberLog> logs = mergeArchived(archive.read(part), dao.getGrowChamberLogs(part), remaining);
+            for(GrowChamberLog log : logs) {
+                archived.write(log);
+            }
+            remaining = remaining == null ? null : remaining - logs.size();
+            month = month.plusMonths(1);
+        }
+
+        if(end.equals(boundary) && (remaining == null || remaining > 0)) {
+            LocalDateTime from = request.getFrom() != null && request.getFrom().isAfter(boundary) ? request.getFrom()
+                    : boundary;
+            dao.streamGrowChamberLogs(copyRequest(request, from, request.getTo(), remaining), rows);
+        }
+    }
+
+    private LocalDateTime oldest(LocalDateTime a, LocalDateTime b) {
+        if(a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return a.isBefore(b) ? a : b;
+    }
+
+    private GrowChamberHistoryGetRequest copyRequest(GrowChamberHistoryGetRequest request, LocalDateTime from,
+            LocalDateTime to, Integer limit) {
+        GrowChamberHistoryGetRequest copy = new GrowChamberHistoryGetRequest();
+        copy.setId(request.getId());
+        copy.setSystemId(request.getSystemId());
+        copy.setLightStatus(request.getLightStatus());
+        copy.setFrom(from);
+        copy.setTo(to);
+        copy.setLimit(limit);
+        copy.setAfterId(request.getAfterId());
+        copy.setAfterTimestamp(request.getAfterTimestamp());
+        copy.setMetric(request.getMetric());
+        return copy;
+    }
+
+    /**
+     * Reads the logs of the request and downsamples the logs of each system to
+     * the max points of the request. When the logs only come from MySQL they are
+     * streamed through the downsampler, so only the kept logs are held in
+     * memory.
+     * 
+     * @param request The request to filter the logs on.
+     * @param now     The current UTC time.
+     * @return List of {@link GrowChamberLog} objects ordered by insert date.
+     */
+    private List<GrowChamberLog> getDownsampledGrowChamberLogs(GrowChamberHistoryGetRequest request,
+            LocalDateTime now) {
+        Assert.isTrue(request.getMaxPoints() >= 3, "Max points must be at least 3.");
+
+        Map<Integer, GrowChamberLogDownsampler> downsamplers = new HashMap<>();
+        if(request.getLimit() == null && !hotWindow.covers(request, now) && !archive.covers(request, now)) {
+            dao.getGrowChamberLogCounts(request).forEach((systemId, count) -> downsamplers
+                    .put(systemId, new GrowChamberLogDownsampler(count, request.getMaxPoints(), request.getMetric())));
+            dao.streamGrowChamberLogs(request, rs -> {
+                GrowChamberLog log = GROW_CHAMBER_LOG_MAPPER.mapRow(rs, 0);
+                downsamplers.computeIfAbsent(log.getSystemId(), id -> new GrowChamberLogDownsampler(0, request
+                        .getMaxPoints(), request.getMetric())).add(log);
+            });
+        }
+        else {
+            List<GrowChamberLog> logs = readGrowChamberLogs(request, now);
+            Map<Integer, Integer> counts = new HashMap<>();
+            logs.forEach(l -> counts.merge(l.getSystemId(), 1, Integer::sum));
+            counts.forEach((systemId, count) -> downsamplers
+                    .put(systemId, new GrowChamberLogDownsampler(count, request.getMaxPoints(), request.getMetric())));
+            logs.forEach(l -> downsamplers.get(l.getSystemId()).add(l));
+        }
+
+        List<GrowChamberLog> points = new ArrayList<>();
+        downsamplers.values().forEach(d -> points.addAll(d.getPoints()));
+        points.sort(GrowChamberArchive.LOG_ORDER);
+        return points;
+    }
+
+    /**
+     * Merges archived logs with the logs read from MySQL. Logs are merged by id,
+     * so a log is never returned twice.
+     * 
+     * @param archived The archived logs, ordered by insert date.
+     * @param logs     The MySQL logs, ordered by insert date.
+     * @param limit    The most logs to return. Can be null.
+     * @return List of {@link GrowChamberLog} objects ordered by insert date.
+     */
+    private List<GrowChamberLog> mergeArchived(List<GrowChamberLog> archived, List<GrowChamberLog> logs,
+            Integer limit) {
+        Map<Integer, GrowChamberLog> merged = new LinkedHashMap<>();
+        archived.forEach(l -> merged.put(l.getId(), l));
+        logs.forEach(l -> merged.put(l.getId(), l));
+
+        List<GrowChamberLog> sorted = new ArrayList<>(merged.values());
+        sorted.sort(GrowChamberArchive.LOG_ORDER);
+        return limit == null || sorted.size() <= limit ? sorted : new ArrayList<>(sorted.subList(0, limit));
+    }
+
+    /**
+     * Reads the points of a single segment. Raw segments are read from the history
+     * table and returned as single reading buckets so every point has the same
+     * shape. The planner only estimates how many readings a raw segment has, so
+     * a system that reports more often is downsampled to the segment's share of
+     * the point budget.
+     * 
+     * @param systemId  The id of the system.
+     * @param segment   The segment to read.
+     * @param maxPoints The most raw points to return for the segment.
+     * @return List of {@link GrowChamberRollup} objects ordered by bucket.
+     */
+    private List<GrowChamberRollup> getSegmentPoints(int systemId, GrowChamberSeriesSegment segment,
+            int maxPoints) {
+        HistoryResolution resolution = segment.getResolution();
+        if(resolution.isRollup()) {
+            return rollupService.getRollups(Sets.newHashSet(systemId), resolution,
+                                            resolution.truncate(segment.getFrom()), segment.getTo());
+        }
+
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(systemId));
+        request.setFrom(segment.getFrom());
+        request.setTo(segment.getTo());
+        request.setMaxPoints(maxPoints);
+
+        List<GrowChamberRollup> points = new ArrayList<>();
+        for(GrowChamberLog log : getGrowChamberLogs(request)) {
+            GrowChamberRollup point = new GrowChamberRollup();
+            point.setSystemId(log.getSystemId());
+            point.setResolution(HistoryResolution.RAW);
+            point.setBucketDate(log.getInsertDate());
+            point.setLastDate(log.getInsertDate());
+            point.setCount(1);
+            point.setPh(singleReading(log.getPh()));
+            point.setTds(singleReading(log.getTds()));
+            point.setWaterTemp(singleReading(log.getWaterTemp()));
+            point.setAirTemp(singleReading(log.getAirTemp()));
+            point.setHumidity(singleReading(log.getHumidity()));
+            points.add(point);
+        }
+        return points;
+    }
+
+    private MetricSummary singleReading(float value) {
+        MetricSummary summary = new MetricSummary();
+        summary.setMin(value);
+        summary.setMax(value);
+        summary.setAvg(value);
+        summary.setLast(value);
+        summary.setSum(value);
+        return summary;
+    }
+
+    /**
+     * Writes the new logs with a single batch insert and sets their ids. When any
+     * of the logs has a sequence number the batch goes through the
+     * {@link GrowChamberIngestDeduplicator} first, and duplicates get the id of
+     * the log that was already stored. The logs that are left go through the
+     * deadband, and the ones it does not store are left without an id.
+     * 
+     * @param logs       The logs to write, with their insert dates set.
+     * @param suppressed Collects the logs that the deadband did not store.
+     * @return List of the logs that were new, stored or not, in insert order.
+     */
+    private List<GrowChamberLog> writeGrowChamberLogs(List<GrowChamberLog> logs,
+            Map<GrowChamberLog, GrowChamberLog> suppressed) {
+        if(logs.stream().anyMatch(l -> l.getSeq() != null)) {
+            List<GrowChamberLog> created = deduplicator.insertNew(logs, l -> insertStoredLogs(l, suppressed));
+            afterCommit(() -> deduplicator.remember(logs));
+            return created;
+        }
+
+        List<Integer> ids = insertStoredLogs(logs, suppressed);
+        for(int i = 0; i < ids.size(); i++) {
+            logs.get(i).setId(ids.get(i));
+        }
+        return logs;
+    }
+
+    /**
+     * Inserts the logs that the deadband stores.
+     * 
+     * @param logs       The new logs, in insert order.
+     * @param suppressed Collects the logs that the deadband did not store.
+     * @return List of the ids of the logs, in order. The id is 0 for a log that
+     *         was not stored.
+     */
+    private List<Integer> insertStoredLogs(List<GrowChamberLog> logs, Map<GrowChamberLog, GrowChamberLog> suppressed) {
+        Map<GrowChamberLog, GrowChamberLog> unchanged = deadbandFilter.filter(logs);
+        if(unchanged.isEmpty()) {
+            return dao.insertGrowChamberLogs(logs);
+        }
+        suppressed.putAll(unchanged);
+
+        List<GrowChamberLog> stored = logs.stream().filter(l -> !unchanged.containsKey(l)).collect(Collectors.toList());
+        Iterator<Integer> storedIds = stored.isEmpty() ? Collections.emptyIterator()
+                : dao.insertGrowChamberLogs(stored).iterator();
+        return logs.stream().map(l -> unchanged.containsKey(l) ? 0 : storedIds.next()).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the oldest date that is still kept in the history table. Older months
+     * are either in the archive or dropped by the raw retention.
+     * 
+     * @param now The current UTC time.
+     * @return {@link LocalDateTime} of the oldest date, or null if there is none.
+     */
+    private LocalDateTime getLiveCutoff(LocalDateTime now) {
+        if(archive.isEnabled()) {
+            return archive.getBoundary(now);
+        }
+        return rawRetentionDays > 0 ? now.minusDays(rawRetentionDays) : null;
+    }
+
+    /**
+     * Updates everything that is derived from the history once new logs have been
+     * written. Runs in the same transaction as the insert. Each consumer runs on
+     * its own after the commit, so one failing does not stop the others. The
+     * rollups and hot window mirror the history table, so they only get the
+     * stored logs, everything else gets every reading.
+     * 
+     * @param stored   The logs that were written, with their ids and insert
+     *                 dates.
+     * @param readings Every new reading, stored or not, in insert order.
+     */
+    private void afterInsert(List<GrowChamberLog> stored, List<GrowChamberLog> readings) {
+        rollupService.recordLogs(stored);
+        lightCycleService.recordLogs(readings);
+        afterCommit(() -> latestCache.update(readings));
+        afterCommit(() -> hotWindow.append(stored));
+        afterCommit(() -> publishTelemetry(readings));
+        afterCommit(() -> anomalyDetector.evaluate(readings));
+        afterCommit(() -> ruleEngine.evaluate(readings));
+        afterCommit(() -> deadbandFilter.remember(stored));
+    }
+
+    /**
+     * Publishes each log to the telemetry topic of its system so live graphs do
+     * not have to poll the history.
+     * 
+     * @param logs The logs that were written.
+     */
+    private void publishTelemetry(List<GrowChamberLog> logs) {
+        for(GrowChamberLog log : logs) {
+            TelemetryNotification notification = new TelemetryNotification();
+            notification.setId(log.getId());
+            notification.setSystemId(log.getSystemId());
+            notification.setPh(log.getPh());
+            notification.setTds(log.getTds());
+            notification.setWaterTemp(log.getWaterTemp());
+            notification.setAirTemp(log.getAirTemp());
+            notification.setHumidity(log.getHumidity());
+            notification.setLightsOn(log.isLightsOn());
+            notification.setInsertDate(log.getInsertDate());
+            subscriptionNotifierClient.send(notification,
+                                            String.format(NotificationSocket.TOPIC_SYSTEM_TELEMETRY, log.getSystemId()));
+        }
+    }
+
+    private interface LogWriter {
+        void write(GrowChamberLog log) throws IOException;
     }
 }
@@ -0,0 +1,532 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.archive.GrowChamberArchive;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberHistoryDAO;
+
+/**
+ * Keeps the last hours of grow chamber logs of every system that is being read
+ * in memory, so recent history queries do not have to go to the database. Each
+ * system has its own ring of primitive columns that is loaded from the database
+ * the first time the system is read and then kept current as logs are
+ * committed. The ring holds every log of the last hours however fast the
+ * system reports, growing as needed, and logs only fall out of it once they
+ * are older than the window.
+ *
+ * <p>
+ * A window knows the time from which it holds every log of its system. That
+ * time moves forward as old logs fall out of the window. A request that starts
+ * before it only has the part before it read from the database.
+ *
+ * <p>
+ * Only the logs committed on this instance are appended, so once a window is
+ * older than the refresh minutes it reads the logs written by other instances
+ * since its newest log. The read starts {@link #REFRESH_OVERLAP_MILLIS} before
+ * that log, to pick up logs that were stamped before it but committed after
+ * the last refresh. Windows of systems that have not been read for the idle
+ * minutes are dropped. Zero turns either off.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberHotWindow {
+    private static final int INITIAL_ROWS = 64;
+    static final long REFRESH_OVERLAP_MILLIS = 60000L;
+
+    @Value("${grow-chamber.hot-window.enabled}")
+    private boolean enabled;
+
+    @Value("${grow-chamber.hot-window.hours}")
+    private int hours;
+
+    @Value("${grow-chamber.hot-window.refresh-minutes}")
+    private int refreshMinutes;
+
+    @Value("${grow-chamber.hot-window.idle-minutes}")
+    private int idleMinutes;
+
+    @Autowired
+    private GrowChamberHistoryDAO dao;
+
+    private final Map<Integer, SystemWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Determines if the request can be answered from memory. It has to be for
+     * given systems and start within the window.
+     *
+     * @param request The request to filter the logs on.
+     * @param now     The current UTC time.
+     * @return {@link Boolean} if the request falls within the window.
+     */
+    public boolean covers(GrowChamberHistoryGetRequest request, LocalDateTime now) {
+        return enabled && request.getSystemId() != null && !request.getSystemId().isEmpty()
+                && request.getFrom() != null && !request.getFrom().isBefore(now.minusHours(hours));
+    }
+
+    /**
+     * Gets the time from which the windows of the systems of the request hold
+     * every log. Systems that have not been read before are loaded from the
+     * database first, and windows older than the refresh minutes are refreshed.
+     *
+     * @param request The request to filter the logs on.
+     * @param now     The current UTC time.
+     * @return {@link LocalDateTime} from which every system is held, or null if
+     *         the request ends before the window.
+     */
+    public LocalDateTime getCoveredFrom(GrowChamberHistoryGetRequest request, LocalDateTime now) {
+        if(!enabled || request.getSystemId() == null || request.getSystemId().isEmpty()
+                || (request.getTo() != null && !request.getTo().isAfter(now.minusHours(hours)))) {
+            return null;
+        }
+
+        long coveredFrom = Long.MIN_VALUE;
+        for(int systemId : request.getSystemId()) {
+            coveredFrom = Math.max(coveredFrom, window(systemId, now).getCoveredFrom());
+        }
+        return toDate(coveredFrom);
+    }
+
+    /**
+     * Reads the logs that match the request from memory. Systems that have not
+     * been read before are loaded from the database first, and windows older
+     * than the refresh minutes are refreshed.
+     *
+     * @param request The request to filter the logs on. It must be covered by the
+     *                window.
+     * @param now     The current UTC time.
+     * @return List of {@link GrowChamberLog} objects ordered by insert date, or
+     *         null if a window no longer holds the start of the request.
+     */
+    public List<GrowChamberLog> read(GrowChamberHistoryGetRequest request, LocalDateTime now) {
+        long from = toMillis(request.getFrom());
+        long to = request.getTo() == null ? Long.MAX_VALUE : toMillis(request.getTo());
+        int limit = request.getLimit() == null ? Integer.MAX_VALUE : request.getLimit();
+
+        List<GrowChamberLog> logs = new ArrayList<>();
+        for(int systemId : request.getSystemId()) {
+            if(!window(systemId, now).collect(systemId, from, to, limit, request, logs)) {
+                return null;
+            }
+        }
+
+        logs.sort(GrowChamberArchive.LOG_ORDER);
+        return logs.size() <= limit ? logs : new ArrayList<>(logs.subList(0, limit));
+    }
+
+    /**
+     * Adds committed logs to the windows of their systems. Systems that have not
+     * been read yet are skipped, they are loaded from the database when they
+     * are.
+     *
+     * @param logs The logs that were written.
+     */
+    public void append(List<GrowChamberLog> logs) {
+        if(!enabled) {
+            return;
+        }
+
+        for(GrowChamberLog log : logs) {
+            SystemWindow window = windows.get(log.getSystemId());
+            if(window != null) {
+                window.append(log);
+            }
+        }
+    }
+
+    /**
+     * Drops the window of a system.
+     *
+     * @param systemId The id of the system.
+     */
+    public void evict(int systemId) {
+        windows.remove(systemId);
+    }
+
+    /**
+     * Drops the windows of systems that have not been read for the idle minutes.
+     */
+    @Scheduled(cron = "${grow-chamber.hot-window.evict-cron}")
+    public void evictIdleWindows() {
+        evictIdleWindows(LocalDateTime.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Drops the windows that were last read before the idle minutes.
+     *
+     * @param now The current UTC time.
+     */
+    void evictIdleWindows(LocalDateTime now) {
+        if(idleMinutes <= 0) {
+            return;
+        }
+
+        long idleBefore = toMillis(now) - idleMinutes * 60000L;
+        windows.values().removeIf(w -> w.getLastRead() < idleBefore);
+    }
+
+    /**
+     * Gets the window of a system, loading or refreshing it first when needed.
+     *
+     * @param systemId The id of the system.
+     * @param now      The current UTC time.
+     * @return {@link SystemWindow} of the system.
+     */
+    private SystemWindow window(int systemId, LocalDateTime now) {
+        long nowMillis = toMillis(now);
+        SystemWindow window = windows.computeIfAbsent(systemId, id -> new SystemWindow());
+        window.touch(nowMillis);
+        if(!window.isLoaded()) {
+            load(systemId, window, now);
+        }
+        else if(isStale(window, nowMillis)) {
+            refresh(systemId, window, now);
+        }
+        return window;
+    }
+
+    private boolean isStale(SystemWindow window, long now) {
+        return refreshMinutes > 0 && now - window.getRefreshedAt() >= refreshMinutes * 60000L;
+    }
+
+    /**
+     * Loads the window of a system from the database. The window is registered
+     * before the query, so logs committed while it runs are appended to it and
+     * merged with the loaded ones.
+     *
+     * @param systemId The id of the system.
+     * @param window   The window to load.
+     * @param now      The current UTC time.
+     */
+    private void load(int systemId, SystemWindow window, LocalDateTime now) {
+        LocalDateTime from = now.minusHours(hours);
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(systemId));
+        request.setFrom(from);
+        window.load(dao.getGrowChamberLogs(request), toMillis(from), toMillis(now));
+    }
+
+    /**
+     * Reads the logs of a system written since the newest log of its window and
+     * adds the ones the window does not hold yet.
+     *
+     * @param systemId The id of the system.
+     * @param window   The window to refresh.
+     * @param now      The current UTC time.
+     */
+    private void refresh(int systemId, SystemWindow window, LocalDateTime now) {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(systemId));
+        request.setFrom(toDate(window.getRefreshFrom()));
+        window.refresh(dao.getGrowChamberLogs(request), toMillis(now));
+    }
+
+    private static long toMillis(LocalDateTime date) {
+        return date.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toDate(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    /**
+     * The logs of a single system, ordered by insert date and id, in a ring of
+     * columns that grows to hold every log of the window.
+     */
+    private final class SystemWindow {
+        private long[] times = new long[INITIAL_ROWS];
+        private int[] ids = new int[INITIAL_ROWS];
+        private float[] ph = new float[INITIAL_ROWS];
+        private float[] tds = new float[INITIAL_ROWS];
+        private float[] waterTemp = new float[INITIAL_ROWS];
+        private float[] airTemp = new float[INITIAL_ROWS];
+        private float[] humidity = new float[INITIAL_ROWS];
+        private boolean[] lightsOn = new boolean[INITIAL_ROWS];
+
+        private int capacity = INITIAL_ROWS;
+        private int head;
+        private int size;
+        private long coveredFrom = Long.MAX_VALUE;
+        private boolean loaded;
+        private long refreshedAt;
+        private volatile long lastRead;
+
+        synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        synchronized long getRefreshedAt() {
+            return refreshedAt;
+        }
+
+        synchronized long getCoveredFrom() {
+            return coveredFrom;
+        }
+
+        /**
+         * Gets the time a refresh reads from, which is shortly before the newest
+         * log so logs that were committed late are not missed.
+         *
+         * @return {@link Long} of the time in epoch millis.
+         */
+        synchronized long getRefreshFrom() {
+            if(size == 0) {
+                return coveredFrom;
+            }
+            return Math.max(coveredFrom, times[slot(size - 1)] - REFRESH_OVERLAP_MILLIS);
+        }
+
+        long getLastRead() {
+            return lastRead;
+        }
+
+        void touch(long now) {
+            lastRead = Math.max(lastRead, now);
+        }
+
+        /**
+         * Merges the logs read from the database with anything appended while they
+         * were being read.
+         *
+         * @param logs        The logs read from the database.
+         * @param coveredFrom The start of the range that was read.
+         * @param loadedAt    The time the logs were read.
+         */
+        synchronized void load(List<GrowChamberLog> logs, long coveredFrom, long loadedAt) {
+            if(loaded) {
+                return;
+            }
+
+            Map<Integer, GrowChamberLog> merged = new LinkedHashMap<>();
+            logs.forEach(l -> merged.put(l.getId(), l));
+            for(int i = 0; i < size; i++) {
+                merged.put(ids[slot(i)], toLog(0, slot(i)));
+            }
+
+            List<GrowChamberLog> sorted = new ArrayList<>(merged.values());
+            sorted.sort(GrowChamberArchive.LOG_ORDER);
+            head = 0;
+            size = 0;
+            this.coveredFrom = coveredFrom;
+            this.refreshedAt = loadedAt;
+            sorted.forEach(this::append);
+            loaded = true;
+        }
+
+        /**
+         * Adds the logs read by a refresh that the window does not hold yet.
+         *
+         * @param logs        The logs read from the database.
+         * @param refreshedAt The time the logs were read.
+         */
+        synchronized void refresh(List<GrowChamberLog> logs, long refreshedAt) {
+            for(GrowChamberLog log : logs) {
+                if(!contains(toMillis(log.getInsertDate()), log.getId())) {
+                    append(log);
+                }
+            }
+            this.refreshedAt = Math.max(this.refreshedAt, refreshedAt);
+        }
+
+        /**
+         * Adds a log in insert date order. Logs normally arrive in order, so this
+         * is an append to the end of the ring.
+         *
+         * @param log The log to add.
+         */
+        synchronized void append(GrowChamberLog log) {
+            long time = toMillis(log.getInsertDate());
+            if(loaded && time < coveredFrom) {
+                return;
+            }
+
+            if(size == capacity) {
+                grow(capacity * 2);
+            }
+
+            int position = size;
+            while(position > 0 && isAfter(slot(position - 1), time, log.getId())) {
+                move(slot(position - 1), slot(position));
+                position--;
+            }
+
+            int slot = slot(position);
+            times[slot] = time;
+            ids[slot] = log.getId();
+            ph[slot] = log.getPh();
+            tds[slot] = log.getTds();
+            waterTemp[slot] = log.getWaterTemp();
+            airTemp[slot] = log.getAirTemp();
+            humidity[slot] = log.getHumidity();
+            lightsOn[slot] = log.isLightsOn();
+            size++;
+
+            long horizon = times[slot(size - 1)] - hours * 3600000L;
+            while(size > 0 && times[head] < horizon) {
+                dropOldest();
+            }
+        }
+
+        /**
+         * Adds the logs between from and to that match the request to the list.
+         *
+         * @return {@link Boolean} of false if the window does not hold every log
+         *         from the start of the range.
+         */
+        synchronized boolean collect(int systemId, long from, long to, int limit,
+                GrowChamberHistoryGetRequest request, List<GrowChamberLog> logs) {
+            if(!loaded || from < coveredFrom) {
+                return false;
+            }
+
+            boolean keyset = request.getAfterTimestamp() != null;
+            long afterTimestamp = keyset ? toMillis(request.getAfterTimestamp()) : Long.MIN_VALUE;
+            int afterId = keyset ? request.getAfterId() : 0;
+
+            int added = 0;
+            for(int i = firstAtOrAfter(from); i < size && added < limit; i++) {
+                int slot = slot(i);
+                if(times[slot] >= to) {
+                    break;
+                }
+                if(request.getId() != null && !request.getId().contains(ids[slot])) {
+                    continue;
+                }
+                if(request.getLightStatus() != null && request.getLightStatus() != lightsOn[slot]) {
+                    continue;
+                }
+                if(times[slot] < afterTimestamp || (times[slot] == afterTimestamp && ids[slot] <= afterId)) {
+                    continue;
+                }
+                logs.add(toLog(systemId, slot));
+                added++;
+            }
+            return true;
+        }
+
+        private int firstAtOrAfter(long time) {
+            int low = 0;
+            int high = size;
+            while(low < high) {
+                int mid = (low + high) >>> 1;
+                if(times[slot(mid)] < time) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private boolean contains(long time, int id) {
+            for(int i = firstAtOrAfter(time); i < size && times[slot(i)] == time; i++) {
+                if(ids[slot(i)] == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isAfter(int slot, long time, int id) {
+            return times[slot] > time || (times[slot] == time && ids[slot] > id);
+        }
+
+        private void dropOldest() {
+            coveredFrom = Math.max(coveredFrom, times[head] + 1);
+            head = (head + 1) % capacity;
+            size--;
+        }
+
+        private void grow(int newCapacity) {
+            times = Arrays.copyOf(unwrap(times), newCapacity);
+            ids = Arrays.copyOf(unwrap(ids), newCapacity);
+            ph = Arrays.copyOf(unwrap(ph), newCapacity);
+            tds = Arrays.copyOf(unwrap(tds), newCapacity);
+            waterTemp = Arrays.copyOf(unwrap(waterTemp), newCapacity);
+            airTemp = Arrays.copyOf(unwrap(airTemp), newCapacity);
+            humidity = Arrays.copyOf(unwrap(humidity), newCapacity);
+            lightsOn = Arrays.copyOf(unwrap(lightsOn), newCapacity);
+            capacity = newCapacity;
+            head = 0;
+        }
+
+        private long[] unwrap(long[] column) {
+            long[] ordered = new long[size];
+            for(int i = 0; i < size; i++) {
+                ordered[i] = column[slot(i)];
+            }
+            return ordered;
+        }
+
+        private int[] unwrap(int[] column) {
+            int[] ordered = new int[size];
+            for(int i = 0; i < size; i++) {
+                ordered[i] = column[slot(i)];
+            }
+            return ordered;
+        }
+
+        private float[] unwrap(float[] column) {
+            float[] ordered = new float[size];
+            for(int i = 0; i < size; i++) {
+                ordered[i] = column[slot(i)];
+            }
+            return ordered;
+        }
+
+        private boolean[] unwrap(boolean[] column) {
+            boolean[] ordered = new boolean[size];
+            for(int i = 0; i < size; i++) {
+                ordered[i] = column[slot(i)];
+            }
+            return ordered;
+        }
+
+        private void move(int from, int to) {
+            times[to] = times[from];
+            ids[to] = ids[from];
+            ph[to] = ph[from];
+            tds[to] = tds[from];
+            waterTemp[to] = waterTemp[from];
+            airTemp[to] = airTemp[from];
+            humidity[to] = humidity[from];
+            lightsOn[to] = lightsOn[from];
+        }
+
+        private int slot(int index) {
+            return (head + index) % capacity;
+        }
+
+        private GrowChamberLog toLog(int systemId, int slot) {
+            GrowChamberLog log = new GrowChamberLog();
+            log.setId(ids[slot]);
+            log.setSystemId(systemId);
+            log.setPh(ph[slot]);
+            log.setTds(tds[slot]);
+            log.setWaterTemp(waterTemp[slot]);
+            log.setAirTemp(airTemp[slot]);
+            log.setHumidity(humidity[slot]);
+            log.setLightsOn(lightsOn[slot]);
+            log.setInsertDate(toDate(times[slot]));
+            return log;
+        }
+    }
+}
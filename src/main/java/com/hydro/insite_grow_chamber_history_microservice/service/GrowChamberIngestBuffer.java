@@ -0,0 +1,343 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberIngestStats;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+
+/**
+ * Write-behind buffer for grow chamber logs. When the asynchronous ingest mode
+ * is enabled, logs are acknowledged as soon as they are in the bounded queue
+ * and a background flusher group commits them every flush interval or once
+ * enough rows have been collected, whichever comes first.
+ *
+ * <p>
+ * A log is acknowledged before it is written, so a flush that fails is
+ * retried with a growing backoff instead of being dropped. The flusher does
+ * not take new logs while it retries, so a database that stays down fills the
+ * queue and new logs are turned away instead of being accepted and lost. A
+ * batch is only dropped once every retry has failed.
+ *
+ * <p>
+ * A batch holds the logs of many systems, and a single system that does not
+ * exist anymore fails the whole batch on its foreign keys. Such a batch is not
+ * retried but split by system, so only the logs of the failing system are
+ * dropped.
+ *
+ * <p>
+ * The flusher is the only one writing while the buffer runs. On stop it is
+ * given time to empty the queue, and is interrupted and waited on when it
+ * does not, so the final drain never runs next to it.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberIngestBuffer implements SmartLifecycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberIngestBuffer.class);
+    private static final long SHUTDOWN_WAIT_MILLIS = 10000;
+
+    @Value("${grow-chamber.ingest.async.enabled}")
+    private boolean enabled;
+
+    @Value("${grow-chamber.ingest.async.capacity}")
+    private int capacity;
+
+    @Value("${grow-chamber.ingest.async.flush-interval-ms}")
+    private long flushIntervalMillis;
+
+    @Value("${grow-chamber.ingest.async.flush-rows}")
+    private int flushRows;
+
+    @Value("${grow-chamber.ingest.async.flush-retries}")
+    private int flushRetries;
+
+    @Lazy
+    @Autowired
+    private GrowChamberHistoryService service;
+
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private volatile int lastFlushSize;
+    private volatile long lastFlushMillis;
+    private volatile long maxFlushMillis;
+
+    private final List<GrowChamberLog> unflushed = new ArrayList<>();
+    private BlockingQueue<GrowChamberLog> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    /**
+     * Determines if the asynchronous ingest mode is enabled.
+     *
+     * @return {@link Boolean} if logs should be queued instead of written inline.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Adds the given logs to the queue. The logs are stamped with
+     * {@link GrowChamberHistoryService#receivedDate()} so they keep the time they
+     * were received, not the time they were flushed. Either the whole list is accepted or none of it is.
+     *
+     * @param logs The logs to queue.
+     * @return {@link Boolean} of false if the queue does not have room for the
+     *         logs.
+     */
+    public synchronized boolean offer(List<GrowChamberLog> logs) {
+        if(!running || queue.remainingCapacity() < logs.size()) {
+            rejectedCount.addAndGet(logs.size());
+            return false;
+        }
+
+        LocalDateTime now = GrowChamberHistoryService.receivedDate();
+        for(GrowChamberLog log : logs) {
+            log.setInsertDate(now);
+            queue.add(log);
+        }
+        acceptedCount.addAndGet(logs.size());
+        return true;
+    }
+
+    /**
+     * Gets a snapshot of the current buffer statistics.
+     *
+     * @return {@link GrowChamberIngestStats} of the buffer.
+     */
+    public GrowChamberIngestStats getStats() {
+        GrowChamberIngestStats stats = new GrowChamberIngestStats();
+        stats.setEnabled(enabled);
+        stats.setQueueDepth(queue == null ? 0 : queue.size());
+        stats.setQueueCapacity(enabled ? capacity : 0);
+        stats.setAcceptedCount(acceptedCount.get());
+        stats.setRejectedCount(rejectedCount.get());
+        stats.setFlushedCount(flushedCount.get());
+        stats.setFailedCount(failedCount.get());
+        stats.setRetries(retries.get());
+        stats.setFlushes(flushes.get());
+        stats.setLastFlushSize(lastFlushSize);
+        stats.setLastFlushMillis(lastFlushMillis);
+        stats.setMaxFlushMillis(maxFlushMillis);
+        return stats;
+    }
+
+    @Override
+    public void start() {
+        if(!enabled) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(capacity);
+        running = true;
+        flusher = new Thread(this::flushLoop, "grow-chamber-ingest-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        LOGGER.info("Asynchronous grow chamber ingest enabled with capacity '{}'", capacity);
+    }
+
+    @Override
+    public void stop() {
+        if(!running) {
+            return;
+        }
+
+        synchronized(this) {
+            running = false;
+        }
+
+        try {
+            flusher.join(SHUTDOWN_WAIT_MILLIS);
+            if(flusher.isAlive()) {
+                LOGGER.warn("Grow chamber ingest flusher did not finish in time, interrupting it");
+                flusher.interrupt();
+                flusher.join();
+            }
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<GrowChamberLog> remaining = new ArrayList<>(unflushed);
+        unflushed.clear();
+        queue.drainTo(remaining);
+        if(!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        LOGGER.info("Grow chamber ingest buffer stopped, '{}' logs flushed in total", flushedCount.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Waits for the first log of a batch, then keeps collecting until either the
+     * flush interval has passed or the batch is full. Exits once the buffer is
+     * stopped and the queue has been emptied, or when it is interrupted. Logs it
+     * was interrupted before writing are left for the final drain.
+     */
+    private void flushLoop() {
+        while(running || !queue.isEmpty()) {
+            try {
+                GrowChamberLog first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if(first == null) {
+                    continue;
+                }
+
+                List<GrowChamberLog> batch = new ArrayList<>(flushRows);
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while(batch.size() < flushRows) {
+                    long remaining = deadline - System.nanoTime();
+                    GrowChamberLog next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if(next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, flushRows - batch.size());
+                }
+                List<GrowChamberLog> left = flush(batch);
+                if(!left.isEmpty()) {
+                    unflushed.addAll(left);
+                    return;
+                }
+            }
+            catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes the batch and records the flush metrics.
+     *
+     * @param batch The logs to write.
+     * @return List of {@link GrowChamberLog} objects that were not written
+     *         because the flush was interrupted.
+     */
+    private List<GrowChamberLog> flush(List<GrowChamberLog> batch) {
+        long start = System.nanoTime();
+        List<GrowChamberLog> left = write(batch);
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        flushes.incrementAndGet();
+        lastFlushSize = batch.size();
+        lastFlushMillis = millis;
+        maxFlushMillis = Math.max(maxFlushMillis, millis);
+        return left;
+    }
+
+    /**
+     * Writes the batch in a single transaction. A failed write is retried up to
+     * the configured number of times, waiting one more flush interval before each
+     * attempt. A batch that breaks a constraint is not retried, it is split by
+     * system instead, and the logs of a single system that break one are dropped.
+     *
+     * @param batch The logs to write.
+     * @return List of {@link GrowChamberLog} objects that were not written
+     *         because the flush was interrupted.
+     */
+    private List<GrowChamberLog> write(List<GrowChamberLog> batch) {
+        for(int attempt = 0;; attempt++) {
+            try {
+                service.persistGrowChamberLogs(batch);
+                flushedCount.addAndGet(batch.size());
+                return Collections.emptyList();
+            }
+            catch(DataIntegrityViolationException e) {
+                if(batch.stream().map(GrowChamberLog::getSystemId).distinct().count() > 1) {
+                    LOGGER.warn("Failed to flush '{}' grow chamber logs, splitting them by system", batch.size(), e);
+                    return split(batch);
+                }
+                drop(batch, attempt + 1, e);
+                return Collections.emptyList();
+            }
+            catch(Exception e) {
+                if(attempt >= flushRetries) {
+                    drop(batch, attempt + 1, e);
+                    return Collections.emptyList();
+                }
+                retries.incrementAndGet();
+                LOGGER.warn("Failed to flush '{}' grow chamber logs, retrying", batch.size(), e);
+                if(!backoff(attempt)) {
+                    return batch;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the logs of each system in the batch on their own.
+     *
+     * @param batch The logs to write.
+     * @return List of {@link GrowChamberLog} objects that were not written
+     *         because the flush was interrupted.
+     */
+    private List<GrowChamberLog> split(List<GrowChamberLog> batch) {
+        List<GrowChamberLog> left = new ArrayList<>();
+        for(List<GrowChamberLog> logs : batch.stream()
+                .collect(Collectors.groupingBy(GrowChamberLog::getSystemId, LinkedHashMap::new, Collectors.toList()))
+                .values()) {
+            left.addAll(left.isEmpty() ? write(logs) : logs);
+        }
+        return left;
+    }
+
+    /**
+     * Drops logs that could not be written.
+     *
+     * @param logs     The logs that are dropped.
+     * @param attempts The number of attempts that were made.
+     * @param e        The failure of the last attempt.
+     */
+    private void drop(List<GrowChamberLog> logs, int attempts, Exception e) {
+        failedCount.addAndGet(logs.size());
+        LOGGER.error("Failed to flush '{}' grow chamber logs of systems '{}' after '{}' attempts, the logs were dropped",
+                     logs.size(), logs.stream().map(GrowChamberLog::getSystemId).distinct().collect(Collectors.toList()),
+                     attempts, e);
+    }
+
+    /**
+     * Waits before the next attempt of a failed flush.
+     *
+     * @param attempt The attempt that failed, starting at zero.
+     * @return {@link Boolean} of false if the wait was interrupted and the batch
+     *         should not be retried.
+     */
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(flushIntervalMillis * (attempt + 1));
+            return true;
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberSeqDAO;
+
+import io.jsonwebtoken.lang.Assert;
+
+/**
+ * Makes sure a reading that a device sends with a sequence number is only
+ * stored once, so a device can retry a request that timed out without creating
+ * a duplicate log. The sequence numbers are claimed with an insert ignore on a
+ * unique key before the logs are written, and logs whose number was already
+ * claimed are dropped and given the id of the log that was stored for it.
+ *
+ * <p>
+ * The last sequence numbers of each system are also kept in memory, so the
+ * usual retry of a recent reading is answered without going to the database.
+ * Claimed numbers are pruned after the retention, so a device has to keep its
+ * numbers unique for at least that long.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberIngestDeduplicator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberIngestDeduplicator.class);
+    private static final int PRUNE_ROWS = 10000;
+
+    @Value("${grow-chamber.ingest.seq.window}")
+    private int windowSize;
+
+    @Value("${grow-chamber.ingest.seq.retention-days}")
+    private int retentionDays;
+
+    @Autowired
+    private GrowChamberSeqDAO dao;
+
+    private final Map<Integer, SeqWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Writes the logs that have not been stored before. Logs without a sequence
+     * number are always written. Every duplicate is given the id of the log that
+     * was stored for its sequence number, so the ids of all the logs are set once
+     * this returns.
+     *
+     * @param logs   The logs to write.
+     * @param insert Writes the given logs and returns their ids in order.
+     * @return List of the {@link GrowChamberLog} objects that were written.
+     */
+    public List<GrowChamberLog> insertNew(List<GrowChamberLog> logs,
+            Function<List<GrowChamberLog>, List<Integer>> insert) {
+        Set<GrowChamberLog> dropped = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<GrowChamberLog, GrowChamberLog> repeats = new IdentityHashMap<>();
+        Map<Integer, Map<Long, GrowChamberLog>> firsts = new HashMap<>();
+        List<GrowChamberLog> sequenced = new ArrayList<>();
+
+        for(GrowChamberLog log : logs) {
+            if(log.getSeq() == null) {
+                continue;
+            }
+            Assert.isTrue(log.getSeq() >= 0, "Sequence number can not be negative.");
+
+            Integer known = window(log.getSystemId()).get(log.getSeq());
+            GrowChamberLog first = firsts.computeIfAbsent(log.getSystemId(), id -> new HashMap<>())
+                    .putIfAbsent(log.getSeq(), log);
+            if(known != null) {
+                log.setId(known);
+                dropped.add(log);
+            }
+            else if(first != null) {
+                repeats.put(log, first);
+                dropped.add(log);
+            }
+            else {
+                sequenced.add(log);
+            }
+        }
+
+        long claimId = ThreadLocalRandom.current().nextLong();
+        if(!sequenced.isEmpty() && dao.claimSeqs(claimId, sequenced) < sequenced.size()) {
+            dropped.addAll(resolveClaimed(claimId, sequenced));
+        }
+
+        List<GrowChamberLog> created = logs.stream().filter(l -> !dropped.contains(l)).collect(Collectors.toList());
+        if(!created.isEmpty()) {
+            List<Integer> ids = insert.apply(created);
+            for(int i = 0; i < ids.size(); i++) {
+                created.get(i).setId(ids.get(i));
+            }
+        }
+
+        List<GrowChamberLog> claimed = sequenced.stream().filter(l -> !dropped.contains(l)).collect(Collectors.toList());
+        if(!claimed.isEmpty()) {
+            dao.updateSeqLogIds(claimId, claimed);
+        }
+        repeats.forEach((repeat, first) -> repeat.setId(first.getId()));
+
+        if(created.size() < logs.size()) {
+            LOGGER.info("Dropped {} duplicate grow chamber logs", logs.size() - created.size());
+        }
+        return created;
+    }
+
+    /**
+     * Adds the sequence numbers of stored logs to the windows of their systems.
+     * This should only be called once the logs are committed.
+     *
+     * @param logs The logs, with their ids.
+     */
+    public void remember(List<GrowChamberLog> logs) {
+        for(GrowChamberLog log : logs) {
+            if(log.getSeq() != null && log.getId() > 0) {
+                window(log.getSystemId()).put(log.getSeq(), log.getId());
+            }
+        }
+    }
+
+    /**
+     * Deletes the claimed sequence numbers of a system.
+     *
+     * @param systemId The id of the system.
+     */
+    public void delete(int systemId) {
+        dao.deleteSeqs(systemId);
+    }
+
+    /**
+     * Drops the window of a system.
+     *
+     * @param systemId The id of the system.
+     */
+    public void evict(int systemId) {
+        windows.remove(systemId);
+    }
+
+    /**
+     * Deletes the sequence numbers that were claimed before the retention.
+     */
+    @Scheduled(cron = "${grow-chamber.ingest.seq.prune-cron}")
+    public void pruneSeqs() {
+        try {
+            LocalDateTime before = LocalDateTime.now(ZoneOffset.UTC).minusDays(retentionDays);
+            LOGGER.info("Pruned {} grow chamber sequence numbers", dao.deleteSeqsBefore(before, PRUNE_ROWS));
+        }
+        catch(Exception e) {
+            LOGGER.error("Grow chamber sequence number pruning failed", e);
+        }
+    }
+
+    /**
+     * Finds the logs whose sequence number was already claimed and gives them the
+     * id of the log that was stored for it.
+     *
+     * @param claimId   The id the sequence numbers were claimed with.
+     * @param sequenced The logs that were claimed.
+     * @return List of the {@link GrowChamberLog} objects that were not claimed.
+     */
+    private List<GrowChamberLog> resolveClaimed(long claimId, List<GrowChamberLog> sequenced) {
+        Map<Integer, Set<Long>> claimed = new HashMap<>();
+        for(GrowChamberLog c : dao.getClaimedSeqs(claimId)) {
+            claimed.computeIfAbsent(c.getSystemId(), id -> new HashSet<>()).add(c.getSeq());
+        }
+
+        List<GrowChamberLog> duplicates = sequenced.stream()
+                .filter(l -> !claimed.getOrDefault(l.getSystemId(), Set.of()).contains(l.getSeq()))
+                .collect(Collectors.toList());
+
+        Map<Integer, Set<Long>> seqs = new HashMap<>();
+        duplicates.forEach(l -> seqs.computeIfAbsent(l.getSystemId(), id -> new HashSet<>()).add(l.getSeq()));
+        Map<Integer, Map<Long, Integer>> stored = new HashMap<>();
+        seqs.forEach((systemId, seq) -> dao.getSeqs(systemId, seq).forEach(
+                s -> stored.computeIfAbsent(systemId, id -> new HashMap<>()).put(s.getSeq(), s.getId())));
+
+        duplicates.forEach(l -> l.setId(stored.getOrDefault(l.getSystemId(), Map.of()).getOrDefault(l.getSeq(), 0)));
+        return duplicates;
+    }
+
+    private SeqWindow window(int systemId) {
+        return windows.computeIfAbsent(systemId, id -> new SeqWindow());
+    }
+
+    /**
+     * The most recent sequence numbers of a single system and the ids of the logs
+     * that were stored for them.
+     */
+    private final class SeqWindow {
+        private final Map<Long, Integer> ids = new LinkedHashMap<>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+                return size() > windowSize;
+            }
+        };
+
+        synchronized Integer get(long seq) {
+            return ids.get(seq);
+        }
+
+        synchronized void put(long seq, int id) {
+            ids.put(seq, id);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRateLimitStats;
+
+/**
+ * Limits how many logs each system can send, so a unit that floods the ingest
+ * endpoints can not take the connection pool from every other system. Every
+ * system has its own token bucket that refills at the configured rows per
+ * second up to the burst, and every log costs one token, so a batch costs as
+ * much as the same logs sent one at a time.
+ *
+ * <p>
+ * A bucket is held as a single long, the time at which it will be full again,
+ * and is taken from with a compare and set. Taking tokens moves that time
+ * forward by one refill interval per token, and tokens are only available
+ * while it stays less than the burst worth of intervals ahead of now. A batch
+ * larger than the burst is let through only when the bucket is full, and then
+ * holds the system off until its rows are paid back. No lock is held, so the
+ * check costs the same with any number of concurrent requests. The totals are
+ * kept in {@link LongAdder}s, so every request does not contend on one counter.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberIngestRateLimiter {
+    private static final long NANOS_PER_SECOND = 1000000000L;
+
+    @Value("${grow-chamber.ingest.rate-limit.enabled}")
+    private boolean enabled;
+
+    @Value("${grow-chamber.ingest.rate-limit.rows-per-second}")
+    private double rowsPerSecond;
+
+    @Value("${grow-chamber.ingest.rate-limit.burst}")
+    private int burst;
+
+    private final Map<Integer, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * Takes a token for every row from the bucket of the system.
+     *
+     * @param systemId The id of the system that sent the logs.
+     * @param rows     The number of logs that were sent.
+     * @return {@link Boolean} of false if the system is over its limit and the
+     *         logs should be dropped.
+     */
+    public boolean tryAcquire(int systemId, int rows) {
+        return tryAcquire(systemId, rows, System.nanoTime());
+    }
+
+    /**
+     * Takes a token for every row from the bucket of the system at the given
+     * time.
+     *
+     * @param systemId The id of the system that sent the logs.
+     * @param rows     The number of logs that were sent.
+     * @param now      The current time in nanoseconds.
+     * @return {@link Boolean} of false if the system is over its limit.
+     */
+    boolean tryAcquire(int systemId, int rows, long now) {
+        if(!enabled || rows <= 0) {
+            return true;
+        }
+
+        long interval = getInterval();
+        long window = interval * Math.max(1, burst);
+        Bucket bucket = buckets.computeIfAbsent(systemId, id -> new Bucket(now));
+        while(true) {
+            long fullAt = bucket.fullAt.get();
+            long next = Math.max(fullAt, now) + interval * rows;
+            if(next - now > window && fullAt > now) {
+                bucket.dropped.add(rows);
+                droppedCount.add(rows);
+                return false;
+            }
+            if(bucket.fullAt.compareAndSet(fullAt, next)) {
+                allowedCount.add(rows);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of seconds a system that was dropped should wait before
+     * sending the rows again.
+     *
+     * @param systemId The id of the system that sent the logs.
+     * @param rows     The number of logs that were dropped.
+     * @return The number of seconds, at least 1.
+     */
+    public long getRetryAfterSeconds(int systemId, int rows) {
+        return getRetryAfterSeconds(systemId, rows, System.nanoTime());
+    }
+
+    /**
+     * Gets the number of seconds a system should wait at the given time before
+     * the rows fit in its bucket, or the bucket is full for a batch larger than
+     * the burst.
+     *
+     * @param systemId The id of the system that sent the logs.
+     * @param rows     The number of logs that were dropped.
+     * @param now      The current time in nanoseconds.
+     * @return The number of seconds, at least 1.
+     */
+    long getRetryAfterSeconds(int systemId, int rows, long now) {
+        Bucket bucket = buckets.get(systemId);
+        if(bucket == null) {
+            return 1;
+        }
+
+        long interval = getInterval();
+        long fullAt = bucket.fullAt.get();
+        long wait = Math.min(fullAt + interval * rows - interval * Math.max(1, burst), fullAt) - now;
+        return Math.max(1, (wait + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Gets a snapshot of the current rate limit statistics.
+     *
+     * @return {@link GrowChamberRateLimitStats} of the limiter.
+     */
+    public GrowChamberRateLimitStats getStats() {
+        Map<Integer, Long> droppedBySystem = new TreeMap<>();
+        buckets.forEach((systemId, bucket) -> {
+            long dropped = bucket.dropped.sum();
+            if(dropped > 0) {
+                droppedBySystem.put(systemId, dropped);
+            }
+        });
+
+        GrowChamberRateLimitStats stats = new GrowChamberRateLimitStats();
+        stats.setEnabled(enabled);
+        stats.setRowsPerSecond(rowsPerSecond);
+        stats.setBurst(burst);
+        stats.setSystemCount(buckets.size());
+        stats.setAllowedCount(allowedCount.sum());
+        stats.setDroppedCount(droppedCount.sum());
+        stats.setDroppedBySystem(droppedBySystem);
+        return stats;
+    }
+
+    /**
+     * Gets the time it takes the bucket to refill one token.
+     *
+     * @return The interval in nanoseconds.
+     */
+    private long getInterval() {
+        return Math.max(1, Math.round(NANOS_PER_SECOND / rowsPerSecond));
+    }
+
+    /**
+     * The token bucket of a single system and the number of its rows that were
+     * dropped.
+     */
+    private static final class Bucket {
+        private final AtomicLong fullAt;
+        private final LongAdder dropped = new LongAdder();
+
+        Bucket(long now) {
+            this.fullAt = new AtomicLong(now);
+        }
+    }
+}
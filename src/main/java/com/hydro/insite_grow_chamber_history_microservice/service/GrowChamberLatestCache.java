@@ -0,0 +1,123 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberHistoryDAO;
+
+/**
+ * Keeps the most recent grow chamber log of every system in memory so the
+ * current state of a system can be read without going to the database. The
+ * cache is warmed once the application is ready and updated as logs are
+ * committed.
+ *
+ * <p>
+ * Logs are copied on the way in and on the way out, so a caller changing a
+ * log it passed in or got back can not change what the cache holds.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberLatestCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberLatestCache.class);
+
+    @Autowired
+    private GrowChamberHistoryDAO dao;
+
+    private final Map<Integer, GrowChamberLog> latest = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the latest log of every system from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        List<GrowChamberLog> logs = dao.getLatestGrowChamberLogs();
+        update(logs);
+        LOGGER.info("Latest grow chamber log cache warmed for '{}' systems", latest.size());
+    }
+
+    /**
+     * Gets the latest log of a system.
+     *
+     * @param systemId The id of the system.
+     * @return {@link GrowChamberLog} of the system, or null if it has no logs.
+     */
+    public GrowChamberLog get(int systemId) {
+        GrowChamberLog log = latest.get(systemId);
+        return log == null ? null : copy(log);
+    }
+
+    /**
+     * Gets the latest log of each of the given systems. Systems without any logs
+     * are left out.
+     *
+     * @param systemIds The ids of the systems.
+     * @return List of {@link GrowChamberLog} objects.
+     */
+    public List<GrowChamberLog> get(Collection<Integer> systemIds) {
+        List<GrowChamberLog> logs = new ArrayList<>(systemIds.size());
+        for(Integer systemId : systemIds) {
+            GrowChamberLog log = latest.get(systemId);
+            if(log != null) {
+                logs.add(copy(log));
+            }
+        }
+        return logs;
+    }
+
+    /**
+     * Replaces the cached log of each system when the given log is newer. Logs
+     * with the same insert date are ordered by id. A reading that the deadband
+     * did not store has no id, so it replaces the cached log when it was
+     * received later, but not a log stored in the same second.
+     *
+     * @param logs The logs that were written.
+     */
+    public void update(List<GrowChamberLog> logs) {
+        for(GrowChamberLog log : logs) {
+            latest.merge(log.getSystemId(), copy(log), (current, next) -> isNewer(next, current) ? next : current);
+        }
+    }
+
+    /**
+     * Removes the cached log of a system.
+     *
+     * @param systemId The id of the system.
+     */
+    public void evict(int systemId) {
+        latest.remove(systemId);
+    }
+
+    private GrowChamberLog copy(GrowChamberLog log) {
+        GrowChamberLog copy = new GrowChamberLog();
+        copy.setId(log.getId());
+        copy.setSystemId(log.getSystemId());
+        copy.setSeq(log.getSeq());
+        copy.setPh(log.getPh());
+        copy.setTds(log.getTds());
+        copy.setWaterTemp(log.getWaterTemp());
+        copy.setAirTemp(log.getAirTemp());
+        copy.setHumidity(log.getHumidity());
+        copy.setLightsOn(log.isLightsOn());
+        copy.setInsertDate(log.getInsertDate());
+        copy.setDeviceDate(log.getDeviceDate());
+        return copy;
+    }
+
+    private boolean isNewer(GrowChamberLog log, GrowChamberLog current) {
+        int compare = log.getInsertDate().compareTo(current.getInsertDate());
+        return compare > 0 || (compare == 0 && log.getId() >= current.getId());
+    }
+}
@@ -0,0 +1,347 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightCycles;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightDay;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightRun;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightRunBackfill;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberHistoryDAO;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberLightRunDAO;
+
+import io.jsonwebtoken.lang.Assert;
+
+/**
+ * Service for maintaining and reading the light runs of the grow chamber
+ * history. Each run is a stretch of readings with the same light status, so a
+ * photoperiod report only has to read the light transitions of a range instead
+ * of every reading in it. Runs are updated incrementally as logs are inserted
+ * and are kept after the raw history is archived.
+ *
+ * <p>
+ * A system that stops sending readings for longer than the max gap is offline,
+ * not still in its last light status. The run is closed at its last reading
+ * and the next reading starts a new run, and the time in between is left out of
+ * the light and dark time of the cycles.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Transactional
+@Service
+public class GrowChamberLightCycleService {
+    private static final long SECONDS_PER_HOUR = 3600;
+
+    @Value("${grow-chamber.light-runs.max-gap-seconds}")
+    private long maxGapSeconds;
+
+    @Autowired
+    private GrowChamberLightRunDAO dao;
+
+    @Autowired
+    private GrowChamberHistoryDAO historyDao;
+
+    /**
+     * Get the light cycles of a system over a date range. Runs of the same light
+     * status next to each other are joined, and each interval lasts until the
+     * next one starts. An interval followed by a gap longer than the max gap,
+     * and the last interval, end at their last reading.
+     *
+     * @param systemId The id of the system.
+     * @param from     Start of the range, inclusive.
+     * @param to       End of the range, exclusive.
+     * @return {@link GrowChamberLightCycles} of the range.
+     */
+    @Transactional(readOnly = true)
+    public GrowChamberLightCycles getLightCycles(int systemId, LocalDateTime from, LocalDateTime to) {
+        Assert.notNull(from, "From date is required for light cycles.");
+        Assert.notNull(to, "To date is required for light cycles.");
+        Assert.isTrue(from.isBefore(to), "From date must be before the to date.");
+
+        List<GrowChamberLightRun> runs = joinRuns(dao.getLightRuns(systemId, from, to));
+        List<GrowChamberLightRun> intervals = new ArrayList<>();
+        for(int i = 0; i < runs.size(); i++) {
+            GrowChamberLightRun run = runs.get(i);
+            LocalDateTime end = run.getEndDate();
+            if(i + 1 < runs.size() && !isGap(run.getEndDate(), runs.get(i + 1).getStartDate())) {
+                end = runs.get(i + 1).getStartDate();
+            }
+            LocalDateTime clippedStart = run.getStartDate().isBefore(from) ? from : run.getStartDate();
+            LocalDateTime clippedEnd = end.isAfter(to) ? to : end;
+            if(clippedStart.isBefore(clippedEnd)) {
+                intervals.add(newRun(systemId, run.isLightsOn(), clippedStart, clippedEnd));
+            }
+        }
+
+        GrowChamberLightCycles cycles = new GrowChamberLightCycles();
+        cycles.setSystemId(systemId);
+        cycles.setFrom(from);
+        cycles.setTo(to);
+        cycles.setIntervals(intervals);
+        cycles.setDays(splitDays(intervals));
+        cycles.setLightSeconds(cycles.getDays().stream().mapToLong(GrowChamberLightDay::getLightSeconds).sum());
+        cycles.setDarkSeconds(cycles.getDays().stream().mapToLong(GrowChamberLightDay::getDarkSeconds).sum());
+        return cycles;
+    }
+
+    /**
+     * Adds the given logs to the light runs of their systems. A log with the same
+     * light status as the run going on at its date extends the run, unless it
+     * came after a gap longer than the max gap. Any other log starts a new run.
+     * Each system reads its current run once and every run that changed is
+     * written in one statement.
+     *
+     * @param logs The logs that were inserted. Each log must have its insert date.
+     */
+    public void recordLogs(List<GrowChamberLog> logs) {
+        if(logs.isEmpty()) {
+            return;
+        }
+
+        List<GrowChamberLightRun> changed = new ArrayList<>();
+        for(Map.Entry<Integer, List<GrowChamberLog>> entry : groupBySystem(logs).entrySet()) {
+            List<GrowChamberLog> systemLogs = entry.getValue();
+            GrowChamberLightRun run = dao.getLightRunAt(entry.getKey(), systemLogs.get(0).getInsertDate());
+            for(GrowChamberLog log : systemLogs) {
+                if(run != null && run.isLightsOn() == log.isLightsOn()
+                        && !isGap(run.getEndDate(), log.getInsertDate())) {
+                    if(log.getInsertDate().isAfter(run.getEndDate())) {
+                        run.setEndDate(log.getInsertDate());
+                    }
+                }
+                else {
+                    run = newRun(log.getSystemId(), log.isLightsOn(), log.getInsertDate(), log.getInsertDate());
+                }
+
+                if(changed.isEmpty() || changed.get(changed.size() - 1) != run) {
+                    changed.add(run);
+                }
+            }
+        }
+        dao.upsertLightRuns(changed);
+    }
+
+    /**
+     * Rebuilds the light runs around logs that were added to the past of the
+     * history, since a backfilled reading can split a run. The runs that overlap
+     * the dates of the logs are built again from the stored readings of that
+     * range.
+     *
+     * <p>
+     * Readings the deadband did not store still extended the runs when they came
+     * in, so the start and end of the old runs are kept as readings too, and two
+     * readings inside the same old run are never split by the max gap.
+     *
+     * @param logs The logs that were added. Each log must have its insert date.
+     */
+    public void rebuildLogs(List<GrowChamberLog> logs) {
+        for(Map.Entry<Integer, List<GrowChamberLog>> entry : groupBySystem(logs).entrySet()) {
+            int systemId = entry.getKey();
+            List<GrowChamberLog> systemLogs = entry.getValue();
+            LocalDateTime from = systemLogs.get(0).getInsertDate();
+            LocalDateTime to = systemLogs.get(systemLogs.size() - 1).getInsertDate();
+
+            List<GrowChamberLightRun> existing = dao.getLightRuns(systemId, from, to.plusSeconds(1));
+            for(GrowChamberLightRun run : existing) {
+                if(run.getStartDate().isBefore(from)) {
+                    from = run.getStartDate();
+                }
+                if(run.getEndDate().isAfter(to)) {
+                    to = run.getEndDate();
+                }
+            }
+
+            GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+            request.setSystemId(Sets.newHashSet(systemId));
+            request.setFrom(from);
+            request.setTo(to.plusSeconds(1));
+            dao.rebuildLightRuns(systemId, from, to,
+                                 buildRuns(systemId, historyDao.getGrowChamberLogs(request), existing));
+        }
+    }
+
+    /**
+     * Records a batch of the history a system had before light runs were
+     * recorded, and saves how far the backfill of the system got along with the
+     * runs.
+     *
+     * @param backfill The backfill progress of the system, set to the last log of
+     *                 the batch.
+     * @param logs     The batch of logs in insert date order.
+     * @param complete If this was the last batch of the system.
+     */
+    public void recordBackfill(GrowChamberLightRunBackfill backfill, List<GrowChamberLog> logs, boolean complete) {
+        recordLogs(logs);
+        if(complete) {
+            dao.deleteLightRunBackfill(backfill.getSystemId());
+        }
+        else {
+            dao.updateLightRunBackfill(backfill);
+        }
+    }
+
+    /**
+     * Deletes all of the light runs of a system.
+     *
+     * @param systemId The id of the system.
+     */
+    public void deleteLightRuns(int systemId) {
+        dao.deleteLightRuns(systemId);
+    }
+
+    /**
+     * Groups the logs by system, each ordered by insert date.
+     *
+     * @param logs The logs to group.
+     * @return Map of system id to its logs.
+     */
+    private Map<Integer, List<GrowChamberLog>> groupBySystem(List<GrowChamberLog> logs) {
+        return logs.stream().sorted(Comparator.comparing(GrowChamberLog::getInsertDate))
+                .collect(Collectors.groupingBy(GrowChamberLog::getSystemId, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * Joins runs next to each other that have the same light status and no gap
+     * between them. Runs split by a backfill can end up this way.
+     *
+     * @param runs The runs ordered by start date.
+     * @return List of the joined runs.
+     */
+    private List<GrowChamberLightRun> joinRuns(List<GrowChamberLightRun> runs) {
+        List<GrowChamberLightRun> joined = new ArrayList<>();
+        for(GrowChamberLightRun run : runs) {
+            GrowChamberLightRun last = joined.isEmpty() ? null : joined.get(joined.size() - 1);
+            if(last != null && last.isLightsOn() == run.isLightsOn() && !isGap(last.getEndDate(), run.getStartDate())) {
+                if(run.getEndDate().isAfter(last.getEndDate())) {
+                    last.setEndDate(run.getEndDate());
+                }
+            }
+            else {
+                joined.add(run);
+            }
+        }
+        return joined;
+    }
+
+    /**
+     * Builds the runs of the stored readings and the start and end of the old
+     * runs of the same range.
+     *
+     * @param systemId The id of the system.
+     * @param stored   The stored readings of the range.
+     * @param existing The old runs of the range.
+     * @return List of the runs ordered by start date.
+     */
+    private List<GrowChamberLightRun> buildRuns(int systemId, List<GrowChamberLog> stored,
+            List<GrowChamberLightRun> existing) {
+        List<GrowChamberLightRun> readings = new ArrayList<>();
+        stored.forEach(l -> readings.add(newRun(systemId, l.isLightsOn(), l.getInsertDate(), l.getInsertDate())));
+        for(GrowChamberLightRun run : existing) {
+            readings.add(newRun(systemId, run.isLightsOn(), run.getStartDate(), run.getStartDate()));
+            readings.add(newRun(systemId, run.isLightsOn(), run.getEndDate(), run.getEndDate()));
+        }
+        readings.sort(Comparator.comparing(GrowChamberLightRun::getStartDate));
+
+        List<GrowChamberLightRun> runs = new ArrayList<>();
+        GrowChamberLightRun current = null;
+        for(GrowChamberLightRun reading : readings) {
+            if(current != null && current.isLightsOn() == reading.isLightsOn()
+                    && (!isGap(current.getEndDate(), reading.getStartDate())
+                            || isWithinRun(existing, current.getEndDate(), reading))) {
+                current.setEndDate(reading.getStartDate());
+            }
+            else {
+                current = reading;
+                runs.add(current);
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Determines if a reading and the date before it are inside the same old run
+     * of the same light status.
+     *
+     * @param existing The old runs.
+     * @param previous The date of the reading before it.
+     * @param reading  The reading.
+     * @return {@link Boolean} if an old run covers both.
+     */
+    private boolean isWithinRun(List<GrowChamberLightRun> existing, LocalDateTime previous,
+            GrowChamberLightRun reading) {
+        return existing.stream().anyMatch(r -> r.isLightsOn() == reading.isLightsOn()
+                && !previous.isBefore(r.getStartDate()) && !reading.getStartDate().isAfter(r.getEndDate()));
+    }
+
+    /**
+     * Determines if the system was offline between two readings.
+     *
+     * @param last The date of the last reading.
+     * @param next The date of the next reading.
+     * @return {@link Boolean} if the readings are further apart than the max gap.
+     */
+    private boolean isGap(LocalDateTime last, LocalDateTime next) {
+        return maxGapSeconds > 0 && Duration.between(last, next).getSeconds() > maxGapSeconds;
+    }
+
+    /**
+     * Splits the intervals at UTC midnight and adds up the light and dark time of
+     * each day.
+     *
+     * @param intervals The intervals ordered by start date.
+     * @return List of {@link GrowChamberLightDay} objects ordered by date.
+     */
+    private List<GrowChamberLightDay> splitDays(List<GrowChamberLightRun> intervals) {
+        Map<LocalDate, GrowChamberLightDay> days = new LinkedHashMap<>();
+        for(GrowChamberLightRun interval : intervals) {
+            LocalDateTime start = interval.getStartDate();
+            while(start.isBefore(interval.getEndDate())) {
+                LocalDateTime midnight = start.toLocalDate().plusDays(1).atStartOfDay();
+                LocalDateTime end = midnight.isBefore(interval.getEndDate()) ? midnight : interval.getEndDate();
+                long seconds = Duration.between(start, end).getSeconds();
+
+                GrowChamberLightDay day = days.computeIfAbsent(start.toLocalDate(), this::newDay);
+                if(interval.isLightsOn()) {
+                    day.setLightSeconds(day.getLightSeconds() + seconds);
+                    day.setLightHours((double) day.getLightSeconds() / SECONDS_PER_HOUR);
+                }
+                else {
+                    day.setDarkSeconds(day.getDarkSeconds() + seconds);
+                }
+                start = end;
+            }
+        }
+        return new ArrayList<>(days.values());
+    }
+
+    private GrowChamberLightDay newDay(LocalDate date) {
+        GrowChamberLightDay day = new GrowChamberLightDay();
+        day.setDate(date);
+        return day;
+    }
+
+    private GrowChamberLightRun newRun(int systemId, boolean lightsOn, LocalDateTime start, LocalDateTime end) {
+        GrowChamberLightRun run = new GrowChamberLightRun();
+        run.setSystemId(systemId);
+        run.setLightsOn(lightsOn);
+        run.setStartDate(start);
+        run.setEndDate(end);
+        return run;
+    }
+}
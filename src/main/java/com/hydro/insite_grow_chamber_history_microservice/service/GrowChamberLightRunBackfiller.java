@@ -0,0 +1,94 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightRunBackfill;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberLightRunDAO;
+
+/**
+ * Records the light runs of the history systems had before light runs were
+ * recorded. Each system left to backfill has a row in
+ * grow_chamber_light_run_backfill with the date light runs started being
+ * recorded and the keyset of the last log it got to. Every run reads at most
+ * {@link #BATCHES_PER_RUN} batches of {@link #BATCH_ROWS} logs, so the history
+ * is never scanned in one go and the backfill picks up where it left off after
+ * a restart.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+public class GrowChamberLightRunBackfiller {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberLightRunBackfiller.class);
+    static final int BATCH_ROWS = 5000;
+    static final int BATCHES_PER_RUN = 20;
+
+    @Autowired
+    private GrowChamberLightRunDAO dao;
+
+    @Autowired
+    private GrowChamberHistoryService historyService;
+
+    @Autowired
+    private GrowChamberLightCycleService lightCycleService;
+
+    /**
+     * Records the next batches of the systems that are left to backfill.
+     */
+    @Scheduled(cron = "${grow-chamber.light-runs.backfill-cron}")
+    public void backfillLightRuns() {
+        try {
+            int batches = 0;
+            for(GrowChamberLightRunBackfill backfill : dao.getLightRunBackfills()) {
+                boolean complete = false;
+                while(!complete && batches < BATCHES_PER_RUN) {
+                    complete = backfill(backfill);
+                    batches++;
+                }
+                if(batches >= BATCHES_PER_RUN) {
+                    return;
+                }
+            }
+        }
+        catch(Exception e) {
+            LOGGER.error("Grow chamber light run backfill failed", e);
+        }
+    }
+
+    /**
+     * Records the next batch of logs of a system.
+     *
+     * @param backfill The backfill progress of the system.
+     * @return {@link Boolean} if the system has no logs left to backfill.
+     */
+    private boolean backfill(GrowChamberLightRunBackfill backfill) {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(backfill.getSystemId()));
+        request.setTo(backfill.getEndDate());
+        request.setAfterTimestamp(backfill.getLastDate());
+        request.setAfterId(backfill.getLastId());
+        request.setLimit(BATCH_ROWS);
+        List<GrowChamberLog> logs = historyService.getGrowChamberLogs(request);
+
+        boolean complete = logs.size() < BATCH_ROWS;
+        if(!logs.isEmpty()) {
+            GrowChamberLog last = logs.get(logs.size() - 1);
+            backfill.setLastDate(last.getInsertDate());
+            backfill.setLastId(last.getId());
+        }
+        lightCycleService.recordBackfill(backfill, logs, complete);
+        if(complete) {
+            LOGGER.info("Backfilled the light runs of system '{}'", backfill.getSystemId());
+        }
+        return complete;
+    }
+}
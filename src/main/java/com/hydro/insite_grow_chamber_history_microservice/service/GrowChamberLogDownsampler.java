@@ -0,0 +1,195 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberMetric;
+
+import io.jsonwebtoken.lang.Assert;
+
+/**
+ * Downsamples the logs of a single system with Largest-Triangle-Three-Buckets.
+ * The first and last logs are kept, and the logs in between are split into
+ * equal buckets of which the log that forms the largest triangle with the
+ * previously kept log and the average of the next bucket is kept. Unlike
+ * averaging a bucket this keeps spikes, since a spike forms a large triangle.
+ *
+ * <p>
+ * Logs are added one at a time in insert date order and only two buckets are
+ * held at once, so it can sit on a streamed query. The row count has to be
+ * known up front to size the buckets. Rows that arrive past that count are
+ * added to the last bucket.
+ *
+ * <p>
+ * When no metric is given the area of every metric is added up, each scaled by
+ * the spread of that metric around the bucket so no metric drowns out the
+ * others.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberLogDownsampler {
+    private final Set<GrowChamberMetric> metrics;
+    private final int maxPoints;
+    private final double bucketSize;
+    private final boolean passThrough;
+
+    private final List<GrowChamberLog> points = new ArrayList<>();
+    private List<GrowChamberLog> current = new ArrayList<>();
+    private List<GrowChamberLog> next = new ArrayList<>();
+    private int currentBucket;
+    private int rows;
+    private GrowChamberLog previous;
+    private boolean finished;
+
+    /**
+     * Creates a downsampler for the given number of rows.
+     *
+     * @param rowCount  The number of rows that will be added.
+     * @param maxPoints The most points to keep, at least 3.
+     * @param metric    The metric to keep the shape of, or null for all of them.
+     */
+    public GrowChamberLogDownsampler(int rowCount, int maxPoints, GrowChamberMetric metric) {
+        Assert.isTrue(maxPoints >= 3, "Max points must be at least 3.");
+        this.metrics = metric == null ? EnumSet.allOf(GrowChamberMetric.class) : EnumSet.of(metric);
+        this.maxPoints = maxPoints;
+        this.passThrough = rowCount <= maxPoints;
+        this.bucketSize = (double) (rowCount - 2) / (maxPoints - 2);
+    }
+
+    /**
+     * Adds the next log.
+     *
+     * @param log The log, newer than every log added before it.
+     */
+    public void add(GrowChamberLog log) {
+        int index = rows++;
+        if(passThrough || index == 0) {
+            points.add(log);
+            previous = log;
+            return;
+        }
+
+        int bucket = Math.min((int) ((index - 1) / bucketSize), maxPoints - 3);
+        while(bucket > currentBucket + 1) {
+            points.add(select(current, average(next)));
+            current = next;
+            next = new ArrayList<>();
+            currentBucket++;
+        }
+        (bucket == currentBucket ? current : next).add(log);
+    }
+
+    /**
+     * Finishes the last buckets.
+     *
+     * @return List of the kept {@link GrowChamberLog} objects in insert date order.
+     */
+    public List<GrowChamberLog> getPoints() {
+        if(passThrough || finished || rows < 2) {
+            return points;
+        }
+
+        List<GrowChamberLog> holder = next.isEmpty() ? current : next;
+        GrowChamberLog last = holder.remove(holder.size() - 1);
+        if(!next.isEmpty()) {
+            points.add(select(current, average(next)));
+            points.add(select(next, last));
+        }
+        else if(!current.isEmpty()) {
+            points.add(select(current, last));
+        }
+        points.add(last);
+
+        finished = true;
+        return points;
+    }
+
+    /**
+     * Picks the log of the bucket that forms the largest triangle with the
+     * previously kept log and the target.
+     *
+     * @param bucket The logs of the bucket.
+     * @param target The log, or bucket average, that follows the bucket.
+     * @return {@link GrowChamberLog} that was kept.
+     */
+    private GrowChamberLog select(List<GrowChamberLog> bucket, GrowChamberLog target) {
+        double ax = 0;
+        double cx = millis(target) - millis(previous);
+
+        double[] areas = new double[bucket.size()];
+        for(GrowChamberMetric metric : metrics) {
+            double ay = metric.getValue(previous);
+            double cy = metric.getValue(target);
+            double min = Math.min(ay, cy);
+            double max = Math.max(ay, cy);
+            for(GrowChamberLog log : bucket) {
+                min = Math.min(min, metric.getValue(log));
+                max = Math.max(max, metric.getValue(log));
+            }
+            if(max == min) {
+                continue;
+            }
+
+            for(int i = 0; i < bucket.size(); i++) {
+                double bx = millis(bucket.get(i)) - millis(previous);
+                double by = metric.getValue(bucket.get(i));
+                areas[i] += Math.abs((ax - cx) * (by - ay) - (ax - bx) * (cy - ay)) / (max - min);
+            }
+        }
+
+        int best = 0;
+        for(int i = 1; i < areas.length; i++) {
+            if(areas[i] > areas[best]) {
+                best = i;
+            }
+        }
+        previous = bucket.get(best);
+        return previous;
+    }
+
+    /**
+     * Gets the average point of a bucket. Only the insert date and the metrics
+     * are set.
+     *
+     * @param bucket The logs of the bucket.
+     * @return {@link GrowChamberLog} of the averages.
+     */
+    private GrowChamberLog average(List<GrowChamberLog> bucket) {
+        long base = millis(bucket.get(0));
+        double time = 0;
+        double ph = 0;
+        double tds = 0;
+        double waterTemp = 0;
+        double airTemp = 0;
+        double humidity = 0;
+        for(GrowChamberLog log : bucket) {
+            time += millis(log) - base;
+            ph += log.getPh();
+            tds += log.getTds();
+            waterTemp += log.getWaterTemp();
+            airTemp += log.getAirTemp();
+            humidity += log.getHumidity();
+        }
+
+        int n = bucket.size();
+        GrowChamberLog average = new GrowChamberLog();
+        average.setInsertDate(LocalDateTime.ofInstant(Instant.ofEpochMilli(base + Math.round(time / n)), ZoneOffset.UTC));
+        average.setPh((float) (ph / n));
+        average.setTds((float) (tds / n));
+        average.setWaterTemp((float) (waterTemp / n));
+        average.setAirTemp((float) (airTemp / n));
+        average.setHumidity((float) (humidity / n));
+        return average;
+    }
+
+    private long millis(GrowChamberLog log) {
+        return log.getInsertDate().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,129 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.hydro.insite_grow_chamber_history_microservice.archive.GrowChamberArchive;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberPartition;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberPartitionDAO;
+
+/**
+ * Maintains the monthly partitions of the grow chamber history table. Months
+ * are added ahead of time so new logs never land in the catch-all partition,
+ * and months that are entirely past the raw retention are dropped as a whole
+ * instead of being deleted row by row. When the archive is enabled it decides
+ * what stays in MySQL, so only months it has already emptied are dropped.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberPartitionMaintenance {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberPartitionMaintenance.class);
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    @Value("${grow-chamber.partition.months-ahead}")
+    private int monthsAhead;
+
+    @Value("${grow-chamber.retention.raw-days}")
+    private int rawRetentionDays;
+
+    @Autowired
+    private GrowChamberPartitionDAO dao;
+
+    @Autowired
+    private GrowChamberArchive archive;
+
+    /**
+     * Adds the upcoming months and drops the expired ones. Runs on startup and
+     * then on the configured schedule.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${grow-chamber.partition.maintenance-cron}")
+    public void maintainPartitions() {
+        try {
+            List<GrowChamberPartition> partitions = dao.getPartitions();
+            if(partitions.isEmpty()) {
+                LOGGER.warn("Grow chamber history is not partitioned, skipping partition maintenance");
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+            addFuturePartitions(partitions, now);
+            dropExpiredPartitions(partitions, now);
+        }
+        catch(Exception e) {
+            LOGGER.error("Grow chamber history partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * Splits monthly partitions off of the catch-all partition until the table
+     * covers the configured number of months ahead.
+     *
+     * @param partitions The current partitions in range order.
+     * @param now        The current UTC time.
+     */
+    private void addFuturePartitions(List<GrowChamberPartition> partitions, LocalDateTime now) {
+        GrowChamberPartition catchAll = partitions.get(partitions.size() - 1);
+        if(catchAll.getUpperBound() != null || partitions.size() < 2) {
+            LOGGER.warn("Grow chamber history has no catch-all partition, no months can be added");
+            return;
+        }
+
+        LocalDateTime target = now.toLocalDate().withDayOfMonth(1).plusMonths(monthsAhead + 1).atStartOfDay();
+        LocalDateTime bound = partitions.get(partitions.size() - 2).getUpperBound();
+
+        List<GrowChamberPartition> added = new ArrayList<>();
+        while(bound.isBefore(target)) {
+            added.add(new GrowChamberPartition(bound.format(PARTITION_NAME), bound.plusMonths(1)));
+            bound = bound.plusMonths(1);
+        }
+
+        if(!added.isEmpty()) {
+            dao.addPartitions(catchAll.getName(), added);
+            LOGGER.info("Added grow chamber history partitions {}", names(added));
+        }
+    }
+
+    /**
+     * Drops every partition whose whole range is older than the raw retention.
+     * Nothing is dropped when raw history is kept forever. With the archive
+     * enabled, partitions before the archive boundary are dropped once empty.
+     *
+     * @param partitions The current partitions in range order.
+     * @param now        The current UTC time.
+     */
+    private void dropExpiredPartitions(List<GrowChamberPartition> partitions, LocalDateTime now) {
+        if(!archive.isEnabled() && rawRetentionDays <= 0) {
+            return;
+        }
+
+        LocalDateTime horizon = archive.isEnabled() ? archive.getBoundary(now) : now.minusDays(rawRetentionDays);
+        List<GrowChamberPartition> expired = partitions.stream()
+                .filter(p -> p.getUpperBound() != null && !p.getUpperBound().isAfter(horizon))
+                .filter(p -> !archive.isEnabled() || dao.isEmpty(p)).collect(Collectors.toList());
+
+        if(!expired.isEmpty()) {
+            dao.dropPartitions(expired);
+            LOGGER.info("Dropped expired grow chamber history partitions {}", names(expired));
+        }
+    }
+
+    private List<String> names(List<GrowChamberPartition> partitions) {
+        return partitions.stream().map(GrowChamberPartition::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,95 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollupBackfill;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberRollupDAO;
+
+/**
+ * Adds the history systems had before rollups were recorded to the rollups.
+ * Each system left to backfill has a row in grow_chamber_history_rollup_backfill
+ * with the date rollups started being recorded and the keyset of the last log
+ * it got to. Runs work through the history in batches the same way as
+ * {@link GrowChamberLightRunBackfiller}, and a batch is only added when the
+ * saved keyset is still where it was read from, so instances running at the
+ * same time never add a log twice.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+public class GrowChamberRollupBackfiller {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberRollupBackfiller.class);
+    static final int BATCH_ROWS = 5000;
+    static final int BATCHES_PER_RUN = 20;
+
+    @Autowired
+    private GrowChamberRollupDAO dao;
+
+    @Autowired
+    private GrowChamberHistoryService historyService;
+
+    @Autowired
+    private GrowChamberRollupService rollupService;
+
+    /**
+     * Adds the next batches of the systems that are left to backfill.
+     */
+    @Scheduled(cron = "${grow-chamber.rollups.backfill-cron}")
+    public void backfillRollups() {
+        try {
+            int batches = 0;
+            for(GrowChamberRollupBackfill backfill : dao.getRollupBackfills()) {
+                boolean complete = false;
+                while(!complete && batches < BATCHES_PER_RUN) {
+                    complete = backfill(backfill);
+                    batches++;
+                }
+                if(batches >= BATCHES_PER_RUN) {
+                    return;
+                }
+            }
+        }
+        catch(Exception e) {
+            LOGGER.error("Grow chamber rollup backfill failed", e);
+        }
+    }
+
+    /**
+     * Adds the next batch of logs of a system.
+     *
+     * @param backfill The backfill progress of the system.
+     * @return {@link Boolean} if the system has no logs left to backfill.
+     */
+    private boolean backfill(GrowChamberRollupBackfill backfill) {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(backfill.getSystemId()));
+        request.setTo(backfill.getEndDate());
+        request.setAfterTimestamp(backfill.getLastDate());
+        request.setAfterId(backfill.getLastId());
+        request.setLimit(BATCH_ROWS);
+        List<GrowChamberLog> logs = historyService.getGrowChamberLogs(request);
+
+        Integer previousLastId = backfill.getLastId();
+        boolean complete = logs.size() < BATCH_ROWS;
+        if(!logs.isEmpty()) {
+            GrowChamberLog last = logs.get(logs.size() - 1);
+            backfill.setLastDate(last.getInsertDate());
+            backfill.setLastId(last.getId());
+        }
+        rollupService.recordBackfill(backfill, previousLastId, logs, complete);
+        if(complete) {
+            LOGGER.info("Backfilled the rollups of system '{}'", backfill.getSystemId());
+        }
+        return complete;
+    }
+}
@@ -0,0 +1,88 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberRollupDAO;
+
+/**
+ * Deletes minute and hour rollups once they are older than their retention.
+ * Day rollups are kept forever, so a series over an expired range is still
+ * read from the day buckets by the {@link GrowChamberSeriesPlanner}. A
+ * retention of zero keeps the resolution forever.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+public class GrowChamberRollupRetention {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberRollupRetention.class);
+    private static final int DELETE_BATCH_ROWS = 5000;
+
+    @Value("${grow-chamber.retention.minute-days}")
+    private int minuteRetentionDays;
+
+    @Value("${grow-chamber.retention.hour-days}")
+    private int hourRetentionDays;
+
+    @Autowired
+    private GrowChamberRollupDAO dao;
+
+    /**
+     * Deletes the expired minute and hour rollups of every system.
+     */
+    @Scheduled(cron = "${grow-chamber.retention.rollup-cron}")
+    public void deleteExpiredRollups() {
+        if(minuteRetentionDays <= 0 && hourRetentionDays <= 0) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+            for(int systemId : dao.getSystemIds()) {
+                deleteExpiredRollups(systemId, HistoryResolution.MINUTE, minuteRetentionDays, now);
+                deleteExpiredRollups(systemId, HistoryResolution.HOUR, hourRetentionDays, now);
+            }
+        }
+        catch(Exception e) {
+            LOGGER.error("Grow chamber rollup retention failed", e);
+        }
+    }
+
+    /**
+     * Deletes the rollups of a system at a resolution that are older than the
+     * retention, in batches of {@link #DELETE_BATCH_ROWS}.
+     *
+     * @param systemId      The id of the system.
+     * @param resolution    The resolution to delete.
+     * @param retentionDays The number of days to keep. Nothing is deleted when
+     *                      zero or less.
+     * @param now           The current UTC time.
+     */
+    private void deleteExpiredRollups(int systemId, HistoryResolution resolution, int retentionDays,
+            LocalDateTime now) {
+        if(retentionDays <= 0) {
+            return;
+        }
+
+        LocalDateTime horizon = now.minusDays(retentionDays);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = dao.deleteRollups(systemId, resolution, horizon, DELETE_BATCH_ROWS);
+            total += deleted;
+        } while(deleted == DELETE_BATCH_ROWS);
+
+        if(total > 0) {
+            LOGGER.info("Deleted '{}' expired {} rollups of system '{}'", total, resolution, systemId);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollup;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollupBackfill;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.MetricSummary;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberRollupDAO;
+
+import io.jsonwebtoken.lang.Assert;
+
+/**
+ * Service for maintaining and reading the minute, hour and day rollups of the
+ * grow chamber history. Rollups are updated incrementally as logs are
+ * inserted, so reading a long range never has to touch the raw history. The
+ * history from before rollups were recorded is added in the background by
+ * {@link GrowChamberRollupBackfiller}.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Transactional
+@Service
+public class GrowChamberRollupService {
+
+    @Autowired
+    private GrowChamberRollupDAO dao;
+
+    /**
+     * Get the rollups of the given systems at a resolution over a date range.
+     *
+     * @param systemId   The ids of the systems to get rollups for.
+     * @param resolution The resolution of the buckets.
+     * @param from       Start of the range, inclusive. Can be null.
+     * @param to         End of the range, exclusive. Can be null.
+     * @return List of {@link GrowChamberRollup} objects ordered by bucket.
+     */
+    public List<GrowChamberRollup> getRollups(Set<Integer> systemId, HistoryResolution resolution, LocalDateTime from,
+            LocalDateTime to) {
+        Assert.notNull(resolution, "Resolution is required for getting rollups.");
+        Assert.isTrue(resolution.isRollup(), "Raw history is not stored as a rollup.");
+        return dao.getRollups(systemId, resolution, from, to);
+    }
+
+    /**
+     * Adds the given logs to the rollups of every resolution. The logs are first
+     * combined in memory so each affected bucket is only written once.
+     *
+     * @param logs The logs that were inserted. Each log must have its insert date.
+     */
+    public void recordLogs(List<GrowChamberLog> logs) {
+        if(logs.isEmpty()) {
+            return;
+        }
+
+        Map<String, GrowChamberRollup> buckets = new LinkedHashMap<>();
+        for(GrowChamberLog log : logs) {
+            for(HistoryResolution resolution : HistoryResolution.rollups()) {
+                LocalDateTime bucketDate = resolution.truncate(log.getInsertDate());
+                String key = log.getSystemId() + ":" + resolution.getTextId() + ":" + bucketDate;
+                GrowChamberRollup rollup = buckets.computeIfAbsent(key,
+                                                                   k -> newRollup(log, resolution, bucketDate));
+                addToRollup(rollup, log);
+            }
+        }
+        dao.upsertRollups(new ArrayList<>(buckets.values()));
+    }
+
+    /**
+     * Adds logs that were inserted with an older insert date, such as a device
+     * backfill, to the rollups. Logs of a system whose history is still being
+     * backfilled are skipped when the backfill has not read past them yet, since
+     * the backfill will add them when it gets there. The backfill progress is
+     * locked until the transaction ends so it can not move past them in the
+     * meantime.
+     *
+     * @param logs The logs that were inserted. Each log must have its id and
+     *             insert date.
+     */
+    public void recordLateLogs(List<GrowChamberLog> logs) {
+        if(logs.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> systemIds = logs.stream().map(GrowChamberLog::getSystemId).collect(Collectors.toSet());
+        Map<Integer, GrowChamberRollupBackfill> backfills = dao.lockRollupBackfills(systemIds).stream()
+                .collect(Collectors.toMap(GrowChamberRollupBackfill::getSystemId, Function.identity()));
+        recordLogs(logs.stream().filter(l -> !isPendingBackfill(backfills.get(l.getSystemId()), l))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Adds a batch of the history a system had before rollups were recorded and
+     * saves how far the backfill got. The progress is only saved when it is still
+     * where the batch started, so a batch read by two instances at once is only
+     * added once.
+     *
+     * @param backfill       The backfill progress of the system, set to the last
+     *                       log of the batch.
+     * @param previousLastId The last id the batch was read after.
+     * @param logs           The logs of the batch.
+     * @param complete       If the system has no logs left to backfill.
+     * @throws IllegalStateException If another instance already added the batch.
+     */
+    public void recordBackfill(GrowChamberRollupBackfill backfill, Integer previousLastId, List<GrowChamberLog> logs,
+            boolean complete) {
+        boolean saved = complete ? dao.deleteRollupBackfill(backfill.getSystemId(), previousLastId)
+                                 : dao.updateRollupBackfill(backfill, previousLastId);
+        if(!saved) {
+            throw new IllegalStateException(String.format("Rollup backfill of system '%d' was already moved on.",
+                                                          backfill.getSystemId()));
+        }
+        recordLogs(logs);
+    }
+
+    /**
+     * Checks if the log is in the history a backfill still has to read.
+     *
+     * @param backfill The backfill progress of the system of the log. Can be null.
+     * @param log      The log to check.
+     * @return {@link Boolean} if the backfill will add the log later.
+     */
+    private boolean isPendingBackfill(GrowChamberRollupBackfill backfill, GrowChamberLog log) {
+        if(backfill == null || !log.getInsertDate().isBefore(backfill.getEndDate())) {
+            return false;
+        }
+        if(backfill.getLastDate() == null) {
+            return true;
+        }
+
+        int compare = log.getInsertDate().compareTo(backfill.getLastDate());
+        return compare > 0 || (compare == 0 && log.getId() > backfill.getLastId());
+    }
+
+    /**
+     * Creates an empty rollup for the bucket that the log falls in.
+     *
+     * @param log        The first log of the bucket.
+     * @param resolution The resolution of the bucket.
+     * @param bucketDate The start of the bucket.
+     * @return {@link GrowChamberRollup} with no readings.
+     */
+    private GrowChamberRollup newRollup(GrowChamberLog log, HistoryResolution resolution, LocalDateTime bucketDate) {
+        GrowChamberRollup rollup = new GrowChamberRollup();
+        rollup.setSystemId(log.getSystemId());
+        rollup.setResolution(resolution);
+        rollup.setBucketDate(bucketDate);
+        rollup.setLastDate(log.getInsertDate());
+        rollup.setPh(newSummary(log.getPh()));
+        rollup.setTds(newSummary(log.getTds()));
+        rollup.setWaterTemp(newSummary(log.getWaterTemp()));
+        rollup.setAirTemp(newSummary(log.getAirTemp()));
+        rollup.setHumidity(newSummary(log.getHumidity()));
+        return rollup;
+    }
+
+    /**
+     * Adds a single log to the rollup.
+     *
+     * @param rollup The rollup to add to.
+     * @param log    The log to add.
+     */
+    private void addToRollup(GrowChamberRollup rollup, GrowChamberLog log) {
+        boolean newest = !log.getInsertDate().isBefore(rollup.getLastDate());
+        rollup.setCount(rollup.getCount() + 1);
+        addToSummary(rollup.getPh(), log.getPh(), newest);
+        addToSummary(rollup.getTds(), log.getTds(), newest);
+        addToSummary(rollup.getWaterTemp(), log.getWaterTemp(), newest);
+        addToSummary(rollup.getAirTemp(), log.getAirTemp(), newest);
+        addToSummary(rollup.getHumidity(), log.getHumidity(), newest);
+
+        if(newest) {
+            rollup.setLastDate(log.getInsertDate());
+        }
+    }
+
+    private MetricSummary newSummary(float value) {
+        MetricSummary summary = new MetricSummary();
+        summary.setMin(value);
+        summary.setMax(value);
+        summary.setLast(value);
+        return summary;
+    }
+
+    private void addToSummary(MetricSummary summary, float value, boolean newest) {
+        summary.setMin(Math.min(summary.getMin(), value));
+        summary.setMax(Math.max(summary.getMax(), value));
+        summary.setSum(summary.getSum() + value);
+        if(newest) {
+            summary.setLast(value);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberSeriesSegment;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
+
+/**
+ * Picks which resolution a history range should be read from. The finest
+ * resolution that fits the range into the point budget is used, and any part
+ * of the range that is older than what that resolution keeps is read from the
+ * next coarser resolution instead.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class GrowChamberSeriesPlanner {
+
+    @Value("${grow-chamber.series.raw-interval-seconds}")
+    private long rawIntervalSeconds;
+
+    @Value("${grow-chamber.retention.raw-days}")
+    private int rawRetentionDays;
+
+    @Value("${grow-chamber.retention.minute-days}")
+    private int minuteRetentionDays;
+
+    @Value("${grow-chamber.retention.hour-days}")
+    private int hourRetentionDays;
+
+    /**
+     * Plans the segments to read for the given range.
+     *
+     * @param from      Start of the range, inclusive.
+     * @param to        End of the range, exclusive.
+     * @param maxPoints The most points the series should have.
+     * @param now       The current UTC time, used for the retention horizons.
+     * @return List of {@link GrowChamberSeriesSegment} objects, oldest first.
+     */
+    public List<GrowChamberSeriesSegment> plan(LocalDateTime from, LocalDateTime to, int maxPoints,
+            LocalDateTime now) {
+        LinkedList<GrowChamberSeriesSegment> segments = new LinkedList<>();
+        HistoryResolution resolution = chooseResolution(Duration.between(from, to), maxPoints);
+        LocalDateTime end = to;
+
+        while(from.isBefore(end)) {
+            LocalDateTime start = getCoverageStart(resolution, now);
+            if(start == null || !start.isAfter(from)) {
+                segments.addFirst(new GrowChamberSeriesSegment(resolution, from, end));
+                break;
+            }
+
+            if(start.isBefore(end)) {
+                segments.addFirst(new GrowChamberSeriesSegment(resolution, start, end));
+                end = start;
+            }
+            resolution = coarser(resolution);
+        }
+        return new ArrayList<>(segments);
+    }
+
+    /**
+     * Gets the finest resolution that keeps the range within the point budget.
+     * Raw history is assumed to have a reading every raw interval. That is only
+     * an estimate, so the history service still downsamples a raw segment that
+     * has more readings than its share of the budget.
+     *
+     * @param range     The length of the range.
+     * @param maxPoints The most points the series should have.
+     * @return {@link HistoryResolution} to read the range from.
+     */
+    private HistoryResolution chooseResolution(Duration range, int maxPoints) {
+        for(HistoryResolution resolution : HistoryResolution.values()) {
+            long width = resolution.isRollup() ? resolution.getDuration().getSeconds() : rawIntervalSeconds;
+            if(range.getSeconds() / Math.max(width, 1) <= maxPoints) {
+                return resolution;
+            }
+        }
+        return HistoryResolution.DAY;
+    }
+
+    /**
+     * Gets the oldest date that a resolution still has data for. The date is
+     * rounded up to a bucket of the next coarser resolution so that the two
+     * segments meet on a bucket boundary without overlapping.
+     *
+     * @param resolution The resolution to check.
+     * @param now        The current UTC time.
+     * @return {@link LocalDateTime} of the oldest covered date, or null if the
+     *         resolution is kept forever.
+     */
+    private LocalDateTime getCoverageStart(HistoryResolution resolution, LocalDateTime now) {
+        int retentionDays = getRetentionDays(resolution);
+        if(retentionDays <= 0) {
+            return null;
+        }
+
+        HistoryResolution coarser = coarser(resolution);
+        LocalDateTime horizon = now.minusDays(retentionDays);
+        LocalDateTime bucket = coarser.truncate(horizon);
+        return bucket.equals(horizon) ? bucket : bucket.plus(coarser.getDuration());
+    }
+
+    private int getRetentionDays(HistoryResolution resolution) {
+        switch(resolution) {
+            case RAW:
+                return rawRetentionDays;
+            case MINUTE:
+                return minuteRetentionDays;
+            case HOUR:
+                return hourRetentionDays;
+            default:
+                return 0;
+        }
+    }
+
+    private HistoryResolution coarser(HistoryResolution resolution) {
+        return HistoryResolution.values()[Math.min(resolution.ordinal() + 1, HistoryResolution.values().length - 1)];
+    }
+}
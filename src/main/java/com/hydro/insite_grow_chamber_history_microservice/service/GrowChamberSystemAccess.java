@@ -0,0 +1,86 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Sets;
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.common.jwt.utility.JwtHolder;
+import com.hydro.insite_hydro_system_microservice.client.HydroSystemClient;
+import com.hydro.insite_hydro_system_microservice.client.domain.request.HydroSystemGetRequest;
+
+/**
+ * Checks what the current user can do with a system. A user that owns a
+ * system or has it shared with them can use it, but only the owner can change
+ * how the system records its history. Admins can do both on every system.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Component
+public class GrowChamberSystemAccess {
+
+    @Autowired
+    private HydroSystemClient hydroSystemClient;
+
+    @Autowired
+    private JwtHolder jwtHolder;
+
+    /**
+     * Confirms the current user owns the system or has it shared with them, unless
+     * they are an admin.
+     *
+     * @param systemId The id of the system.
+     */
+    public void checkAccess(int systemId) {
+        if(!isAdmin() && !hydroSystemClient.hasSystemAccess(systemId, jwtHolder.getUserId())) {
+            throw new InsufficientPermissionsException("Insufficient permissions! You do not have access to this system.");
+        }
+    }
+
+    /**
+     * Confirms the current user owns the system, unless they are an admin.
+     *
+     * @param systemId The id of the system.
+     */
+    public void checkOwner(int systemId) {
+        if(!isAdmin() && !isOwner(systemId)) {
+            throw new InsufficientPermissionsException("Insufficient permissions! Only the owner of this system can change it.");
+        }
+    }
+
+    /**
+     * Determines if the current user is the owner of the system.
+     *
+     * @param systemId The id of the system.
+     * @return {@link Boolean} if the current user owns the system.
+     */
+    public boolean isOwner(int systemId) {
+        HydroSystemGetRequest request = new HydroSystemGetRequest();
+        request.setId(Sets.newHashSet(systemId));
+        List<HydroSystem> systems = hydroSystemClient.getSystems(request);
+        return !systems.isEmpty() && systems.get(0).getOwnerUserId() == jwtHolder.getUserId();
+    }
+
+    /**
+     * Determines if the current user is an admin.
+     *
+     * @return {@link Boolean} if the current user has the admin role.
+     */
+    public boolean isAdmin() {
+        return WebRole.ADMIN.equals(jwtHolder.getWebRole());
+    }
+
+    /**
+     * Gets the id of the current user.
+     *
+     * @return The id of the current user.
+     */
+    public int getUserId() {
+        return jwtHolder.getUserId();
+    }
+}
@@ -0,0 +1,55 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs work once the current transaction commits, so nothing outside of the
+ * database sees changes that were rolled back.
+ *
+ * <p>
+ * By the time an action runs the changes are already committed, so a failing
+ * action is logged and never thrown. Otherwise the caller would get an error
+ * for a write that went through, and the actions registered after it would
+ * not run. Each consumer should be registered as its own action so they fail
+ * independently.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public final class GrowChamberTransactions {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrowChamberTransactions.class);
+
+    private GrowChamberTransactions() {}
+
+    /**
+     * Runs the action once the current transaction commits. Runs it straight
+     * away when there is no transaction.
+     *
+     * @param action The action to run.
+     */
+    public static void afterCommit(Runnable action) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(action);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                run(action);
+            }
+        });
+    }
+
+    private static void run(Runnable action) {
+        try {
+            action.run();
+        }
+        catch(RuntimeException e) {
+            LOGGER.error("Failed to run an after commit action", e);
+        }
+    }
+}
@@ -32,4 +32,15 @@ public class HydroSystemClient {
     public List<HydroSystem> getSystems(HydroSystemGetRequest request) {
         return service.getSystems(request);
     }
+
+    /**
+     * Determines if a user owns the given system or has it shared with them.
+     * 
+     * @param systemId The id of the system.
+     * @param userId   The id of the user.
+     * @return {@link Boolean} if the user has access to the system.
+     */
+    public boolean hasSystemAccess(int systemId, int userId) {
+        return service.hasSystemAccess(systemId, userId);
+    }
 }
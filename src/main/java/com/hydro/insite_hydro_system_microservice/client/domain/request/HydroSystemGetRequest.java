@@ -25,6 +25,9 @@ public class HydroSystemGetRequest {
     @Schema(description = "List of system names.")
     private Set<String> name;
 
+    @Schema(description = "List of owner user ids.")
+    private Set<Integer> ownerUserId;
+
     public Set<Integer> getId() {
         return id;
     }
@@ -56,4 +59,12 @@ public class HydroSystemGetRequest {
     public void setName(Set<String> name) {
         this.name = name;
     }
+
+    public Set<Integer> getOwnerUserId() {
+        return ownerUserId;
+    }
+
+    public void setOwnerUserId(Set<Integer> ownerUserId) {
+        this.ownerUserId = ownerUserId;
+    }
 }
@@ -7,7 +7,10 @@ import java.util.List;
 import javax.sql.DataSource;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -26,9 +29,14 @@ import com.hydro.sql.builder.SqlParamBuilder;
 @Repository
 public class HydroSystemDAO extends BaseDao {
 
+    private final NamedParameterJdbcTemplate streamingTemplate;
+
     @Autowired
     public HydroSystemDAO(DataSource source) {
         super(source);
+        JdbcTemplate template = new JdbcTemplate(source);
+        template.setFetchSize(Integer.MIN_VALUE);
+        this.streamingTemplate = new NamedParameterJdbcTemplate(template);
     }
 
     /**
@@ -38,12 +46,35 @@ public class HydroSystemDAO extends BaseDao {
      * @return List of {@link HydroSystem} objects.
      */
     public List<HydroSystem> getSystems(HydroSystemGetRequest request) {
-        var params = SqlParamBuilder.with().withParam(ID, request.getId()).withParam(UUID, request.getUuid())
-                .withParam(PART_NUMBER, request.getPartNumber()).withParam(NAME, request.getName()).build();
-
+        var params = buildRequestParams(request);
         return getPage(getSql("getSystems", params), params, HYDRO_SYSTEM_MAPPER);
     }
 
+    /**
+     * Streams the systems for the given request to the handler one row at a time,
+     * with a forward-only streaming result set so the rows are not buffered by
+     * the driver.
+     * 
+     * @param request The hydro get request
+     * @param handler The handler to pass each row to.
+     */
+    public void streamSystems(HydroSystemGetRequest request, RowCallbackHandler handler) {
+        var params = buildRequestParams(request);
+        streamingTemplate.query(getSql("getSystems", params), params, handler);
+    }
+
+    /**
+     * Determines if a user owns the given system or has it shared with them.
+     * 
+     * @param systemId The id of the system.
+     * @param userId   The id of the user.
+     * @return {@link Boolean} if the user has access to the system.
+     */
+    public boolean hasSystemAccess(int systemId, int userId) {
+        var params = SqlParamBuilder.with().withParam(ID, systemId).withParam(USER_ID, userId).build();
+        return get(getSql("hasSystemAccess", params), params, Integer.class) > 0;
+    }
+
     /**
      * Method for registering a new hydroponic system.
      * 
@@ -80,4 +111,16 @@ public class HydroSystemDAO extends BaseDao {
     public long getNextSystemId() {
         return get(getSql("nextSystemId"), Long.class);
     }
+
+    /**
+     * Builds the query params for the given system request.
+     * 
+     * @param request The request to build the params from.
+     * @return {@link MapSqlParameterSource} of the request filters.
+     */
+    private MapSqlParameterSource buildRequestParams(HydroSystemGetRequest request) {
+        return SqlParamBuilder.with().withParam(ID, request.getId()).withParam(UUID, request.getUuid())
+                .withParam(PART_NUMBER, request.getPartNumber()).withParam(NAME, request.getName())
+                .withParam(OWNER_USER_ID, request.getOwnerUserId()).build();
+    }
 }
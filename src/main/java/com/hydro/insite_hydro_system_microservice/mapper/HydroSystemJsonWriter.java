@@ -0,0 +1,53 @@
+package com.hydro.insite_hydro_system_microservice.mapper;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.PartNumber;
+import com.hydro.streaming.JsonRowWriter;
+
+/**
+ * Writes a hydro system row as JSON straight from the result set. Field names
+ * and formats match the JSON of a {@link HydroSystem}. The part number is handed
+ * to the generator codec so it keeps the same shape.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class HydroSystemJsonWriter implements JsonRowWriter {
+	public static final HydroSystemJsonWriter HYDRO_SYSTEM_JSON_WRITER = new HydroSystemJsonWriter();
+
+	private static final String ID = "id";
+	private static final String UUID = "uuid";
+	private static final String PART_NUMBER = "part_number";
+	private static final String NAME = "name";
+	private static final String OWNER_USER_ID = "owner_user_id";
+	private static final String INSERT_DATE = "insert_date_utc";
+
+	@Override
+	public void write(ResultSet rs, JsonGenerator json) throws SQLException, IOException {
+		json.writeStartObject();
+		json.writeNumberField("id", rs.getInt(ID));
+
+		String uuid = rs.getString(UUID);
+		if(uuid != null) {
+			json.writeStringField("uuid", uuid);
+		}
+
+		json.writeObjectField("partNumber", new PartNumber(rs.getString(PART_NUMBER)));
+
+		String name = rs.getString(NAME);
+		if(name != null) {
+			json.writeStringField("name", name);
+		}
+
+		json.writeNumberField("ownerUserId", rs.getInt(OWNER_USER_ID));
+		json.writeStringField("insertDate",
+				DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(rs.getTimestamp(INSERT_DATE).toLocalDateTime()));
+		json.writeEndObject();
+	}
+}
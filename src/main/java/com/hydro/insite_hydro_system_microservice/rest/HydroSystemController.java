@@ -6,6 +6,7 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.hydro.common.annotations.interfaces.RestApiController;
 import com.hydro.common.dictionary.data.HydroSystem;
@@ -43,6 +45,20 @@ public class HydroSystemController {
         return service.getSystems(request);
     }
 
+    /**
+     * Method for streaming the systems for the given request as a JSON array. Rows
+     * are written to the response as they are read, without building the systems
+     * first.
+     * 
+     * @param request The hydro get request
+     * @return {@link StreamingResponseBody} that writes the systems.
+     */
+    @Operation(summary = "Stream a list of hydro systems.", description = "Same body as the list of hydro systems, written straight from the database rows.")
+    @GetMapping(value = "/stream")
+    public ResponseEntity<StreamingResponseBody> streamSystems(HydroSystemGetRequest request) {
+        return ResponseEntity.ok().contentType(APPLICATION_JSON).body(out -> service.streamSystems(request, out));
+    }
+
     /**
      * Method for getting a system by id.
      * 
@@ -1,5 +1,9 @@
 package com.hydro.insite_hydro_system_microservice.service;
 
+import static com.hydro.insite_hydro_system_microservice.mapper.HydroSystemJsonWriter.HYDRO_SYSTEM_JSON_WRITER;
+
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -11,6 +15,7 @@ import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
 import com.hydro.common.dictionary.data.HydroSystem;
 import com.hydro.common.dictionary.data.PartNumber;
@@ -20,11 +25,13 @@ import com.hydro.common.exception.InsufficientPermissionsException;
 import com.hydro.common.exception.NotFoundException;
 import com.hydro.common.jwt.utility.JwtHolder;
 import com.hydro.common.util.CommonUtil;
+import com.hydro.insite_grow_chamber_history_microservice.client.GrowChamberHistoryClient;
 import com.hydro.insite_hydro_system_microservice.client.domain.request.HydroSystemGetRequest;
 import com.hydro.insite_hydro_system_microservice.dao.HydroSystemDAO;
 import com.hydro.insite_subscription_microservice.client.SubscriptionNotifierClient;
 import com.hydro.insite_subscription_microservice.client.domain.NotificationSocket;
 import com.hydro.insite_subscription_microservice.notification.SystemLinkNotification;
+import com.hydro.streaming.JsonArrayRowHandler;
 
 import io.jsonwebtoken.lang.Assert;
 
@@ -51,6 +58,12 @@ public class HydroSystemService {
     @Autowired
     private SubscriptionNotifierClient subscriptionNotifierClient;
 
+    @Autowired
+    private GrowChamberHistoryClient growChamberHistoryClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Method for getting a list of systems based on the given request.
      * 
@@ -62,6 +75,21 @@ public class HydroSystemService {
         return systems;
     }
 
+    /**
+     * Writes the systems for the given request to the output stream as a JSON
+     * array. Each row is written as it is read, without building the systems.
+     * 
+     * @param request The hydro get request
+     * @param out     The stream to write the systems to.
+     * @throws IOException If the stream can not be written to.
+     */
+    @Transactional(readOnly = true)
+    public void streamSystems(HydroSystemGetRequest request, OutputStream out) throws IOException {
+        JsonArrayRowHandler handler = new JsonArrayRowHandler(objectMapper.getFactory(), out, HYDRO_SYSTEM_JSON_WRITER);
+        dao.streamSystems(request, handler);
+        handler.finish();
+    }
+
     /**
      * Method for getting a system by system id.
      * 
@@ -86,6 +114,17 @@ public class HydroSystemService {
         return getSystems(request).stream().findFirst().orElseThrow(() -> new NotFoundException("UUID", uuid));
     }
 
+    /**
+     * Determines if a user owns the given system or has it shared with them.
+     * 
+     * @param systemId The id of the system.
+     * @param userId   The id of the user.
+     * @return {@link Boolean} if the user has access to the system.
+     */
+    public boolean hasSystemAccess(int systemId, int userId) {
+        return dao.hasSystemAccess(systemId, userId);
+    }
+
     /**
      * Method for registering a new hydroponic system.
      * 
@@ -125,7 +164,9 @@ public class HydroSystemService {
     /**
      * Unregister a system by the given id. This will confirm that the system being
      * deleted is either by the user that created it or it is of a user with a role
-     * of type ADMIN.
+     * of type ADMIN. The grow chamber history is partitioned and has no foreign
+     * key to the systems table, so the history of the system is deleted here
+     * before the system is.
      * 
      * @param id The System unique identifier.
      */
@@ -136,6 +177,7 @@ public class HydroSystemService {
             throw new InsufficientPermissionsException("Insufficient permissions! You can not unregister this system.");
         }
 
+        growChamberHistoryClient.deleteGrowChamberLogs(id);
         dao.unregisterSystem(id);
         LOGGER.info("System successfully unregistered with UUID: '{}'", sys.getUuid());
     }
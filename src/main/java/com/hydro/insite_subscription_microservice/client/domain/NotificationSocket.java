@@ -13,6 +13,8 @@ public abstract class NotificationSocket {
     public static final String QUEUE_USER_NOTIFICATION = "/queue/user/notification";
     public static final String QUEUE_SYSTEM_NOTIFICATION = "/queue/system/notification";
     public static final String QUEUE_SYSTEM_LINK_NOTIFICATION = "/queue/system/link/notification";
+    public static final String QUEUE_SYSTEM_INGEST_NOTIFICATION = "/queue/system/ingest/notification";
 
     public static final String TOPIC_GENERAL_NOTIFICATION = "/topic/general/notification";
+    public static final String TOPIC_SYSTEM_TELEMETRY = "/topic/system/%d/telemetry";
 }
@@ -14,7 +14,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 public enum NotificationType implements TextEnum {
     USER("USER"),
     SYSTEM_FAILURE("SYSTEM_FAILURE"),
-    SYSTEM_LINK("SYSTEM_LINK");
+    SYSTEM_LINK("SYSTEM_LINK"),
+    TELEMETRY("TELEMETRY"),
+    ALERT_RULE("ALERT_RULE"),
+    INGEST_REJECTED("INGEST_REJECTED");
 
     private String textId;
 
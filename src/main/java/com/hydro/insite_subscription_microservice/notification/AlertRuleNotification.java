@@ -0,0 +1,67 @@
+package com.hydro.insite_subscription_microservice.notification;
+
+import java.time.LocalDateTime;
+
+import com.hydro.insite_subscription_microservice.client.domain.Notification;
+import com.hydro.insite_subscription_microservice.client.domain.NotificationType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Sent to the user that created an alert rule when the rule fires.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "Alert Rule Notification")
+public class AlertRuleNotification extends Notification {
+
+    @Schema(description = "Alert rule identifier.")
+    private int ruleId;
+
+    @Schema(description = "System identifier.")
+    private int systemId;
+
+    @Schema(description = "Message describing why the rule fired.")
+    private String message;
+
+    @Schema(description = "When the rule fired.")
+    private LocalDateTime created;
+
+    public int getRuleId() {
+        return ruleId;
+    }
+
+    public void setRuleId(int ruleId) {
+        this.ruleId = ruleId;
+    }
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public LocalDateTime getCreated() {
+        return created;
+    }
+
+    public void setCreated(LocalDateTime created) {
+        this.created = created;
+    }
+
+    @Override
+    public NotificationType getBodyType() {
+        return NotificationType.ALERT_RULE;
+    }
+}
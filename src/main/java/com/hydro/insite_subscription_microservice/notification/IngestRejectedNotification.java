@@ -0,0 +1,67 @@
+package com.hydro.insite_subscription_microservice.notification;
+
+import com.hydro.insite_subscription_microservice.client.domain.Notification;
+import com.hydro.insite_subscription_microservice.client.domain.NotificationType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Sent back to a system whose logs sent over the websocket were not accepted.
+ * The status matches the one the REST ingest endpoints answer with in the same
+ * case, so a device can handle both the same way.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Schema(description = "Ingest Rejected Notification")
+public class IngestRejectedNotification extends Notification {
+
+    @Schema(description = "HTTP status matching the reason the logs were rejected.")
+    private int status;
+
+    @Schema(description = "Message describing why the logs were rejected.")
+    private String message;
+
+    @Schema(description = "The number of logs that were rejected.")
+    private int logCount;
+
+    @Schema(description = "Seconds to wait before sending again. Only set when rate limited.")
+    private Long retryAfterSeconds;
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public int getLogCount() {
+        return logCount;
+    }
+
+    public void setLogCount(int logCount) {
+        this.logCount = logCount;
+    }
+
+    public Long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(Long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public NotificationType getBodyType() {
+        return NotificationType.INGEST_REJECTED;
+    }
+}
@@ -0,0 +1,123 @@
+package com.hydro.insite_subscription_microservice.notification;
+
+import java.time.LocalDateTime;
+
+import com.hydro.insite_subscription_microservice.client.domain.Notification;
+import com.hydro.insite_subscription_microservice.client.domain.NotificationType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Live reading of a system, published to the telemetry topic of the system as
+ * soon as the reading is stored.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Schema(description = "System Telemetry Notification")
+public class TelemetryNotification extends Notification {
+
+    @Schema(description = "Grow chamber log identifier.")
+    private int id;
+
+    @Schema(description = "System identifier.")
+    private int systemId;
+
+    @Schema(description = "PH level of the water.")
+    private float ph;
+
+    @Schema(description = "Total dissolved solids in the water.")
+    private float tds;
+
+    @Schema(description = "Water temp in celsius.")
+    private float waterTemp;
+
+    @Schema(description = "Air temp in celsius.")
+    private float airTemp;
+
+    @Schema(description = "Humidity level.")
+    private float humidity;
+
+    @Schema(description = "If the lights are on.")
+    private boolean lightsOn;
+
+    @Schema(description = "When the reading was stored.")
+    private LocalDateTime insertDate;
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public float getPh() {
+        return ph;
+    }
+
+    public void setPh(float ph) {
+        this.ph = ph;
+    }
+
+    public float getTds() {
+        return tds;
+    }
+
+    public void setTds(float tds) {
+        this.tds = tds;
+    }
+
+    public float getWaterTemp() {
+        return waterTemp;
+    }
+
+    public void setWaterTemp(float waterTemp) {
+        this.waterTemp = waterTemp;
+    }
+
+    public float getAirTemp() {
+        return airTemp;
+    }
+
+    public void setAirTemp(float airTemp) {
+        this.airTemp = airTemp;
+    }
+
+    public float getHumidity() {
+        return humidity;
+    }
+
+    public void setHumidity(float humidity) {
+        this.humidity = humidity;
+    }
+
+    public boolean isLightsOn() {
+        return lightsOn;
+    }
+
+    public void setLightsOn(boolean lightsOn) {
+        this.lightsOn = lightsOn;
+    }
+
+    public LocalDateTime getInsertDate() {
+        return insertDate;
+    }
+
+    public void setInsertDate(LocalDateTime insertDate) {
+        this.insertDate = insertDate;
+    }
+
+    @Override
+    public NotificationType getBodyType() {
+        return NotificationType.TELEMETRY;
+    }
+}
@@ -137,7 +137,8 @@ public class SubscriptionNotifierService {
      * @return List of SimpUser connections.
      */
     public List<UserPrincipal> getActiveUserSessions() {
-        return userRegistry.getUsers().stream().map(v -> (UserPrincipal) v.getPrincipal()).collect(Collectors.toList());
+        return userRegistry.getUsers().stream().filter(v -> v.getPrincipal() instanceof UserPrincipal)
+                .map(v -> (UserPrincipal) v.getPrincipal()).collect(Collectors.toList());
     }
 
     /**
@@ -146,8 +147,8 @@ public class SubscriptionNotifierService {
      * @return List of system connections.
      */
     public List<SystemPrincipal> getActiveSystemSessions() {
-        return userRegistry.getUsers().stream().map(v -> (SystemPrincipal) v.getPrincipal())
-                .collect(Collectors.toList());
+        return userRegistry.getUsers().stream().filter(v -> v.getPrincipal() instanceof SystemPrincipal)
+                .map(v -> (SystemPrincipal) v.getPrincipal()).collect(Collectors.toList());
     }
 
     /**
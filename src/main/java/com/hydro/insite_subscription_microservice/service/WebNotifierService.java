@@ -7,6 +7,7 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import com.hydro.insite_subscription_microservice.client.domain.Notification;
+import com.hydro.insite_subscription_microservice.client.domain.NotificationType;
 
 /**
  * Web Notifier Service wraps the common elements of sending web notifications
@@ -25,12 +26,18 @@ public class WebNotifierService {
 
     /**
      * Send a Web Notification for a given subscription match with the User
-     * Notification set.
+     * Notification set. Telemetry is sent for every reading, so it is only logged
+     * at debug level.
      * 
      * @param envelope {@link Notification} to be sent.
      */
     public <T extends Notification> void send(T body) {
-        LOGGER.info("Sending Web Notification to '{}' with type '{}'", body.getDestination(), body.getBodyType());
+        if(NotificationType.TELEMETRY.equals(body.getBodyType())) {
+            LOGGER.debug("Sending Web Notification to '{}' with type '{}'", body.getDestination(), body.getBodyType());
+        }
+        else {
+            LOGGER.info("Sending Web Notification to '{}' with type '{}'", body.getDestination(), body.getBodyType());
+        }
         sendNotification(body.getDestination(), body);
     }
 
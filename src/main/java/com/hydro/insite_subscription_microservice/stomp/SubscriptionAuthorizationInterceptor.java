@@ -0,0 +1,115 @@
+package com.hydro.insite_subscription_microservice.stomp;
+
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import com.hydro.common.dictionary.data.User;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.insite_hydro_system_microservice.client.HydroSystemClient;
+import com.hydro.insite_subscription_microservice.client.domain.SystemPrincipal;
+import com.hydro.insite_subscription_microservice.client.domain.UserPrincipal;
+
+/**
+ * Checks subscriptions to the system telemetry topics. A user can only
+ * subscribe to a system they own or that has been shared with them, unless
+ * they are an admin. A system can only subscribe to its own topic. Clients can
+ * only send to the application destinations, so nobody can publish straight to
+ * a broker topic.
+ * <p>
+ * The simple broker treats a subscription destination as an ant style pattern,
+ * so any subscription containing pattern characters is denied. Otherwise a
+ * subscription to {@code /topic/**} would receive the telemetry of every
+ * system. Any other {@code /topic/system} destination that is not an exact
+ * per-system topic is denied as well.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@Component
+public class SubscriptionAuthorizationInterceptor implements ChannelInterceptor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubscriptionAuthorizationInterceptor.class);
+    private static final Pattern SYSTEM_TOPIC = Pattern.compile("^/topic/system/(\\d{1,9})/[\\w/-]+$");
+    private static final String SYSTEM_TOPIC_PREFIX = "/topic/system/";
+    private static final String APP_PREFIX = "/app/";
+
+    @Autowired
+    private HydroSystemClient hydroSystemClient;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if(accessor == null || accessor.getDestination() == null) {
+            return message;
+        }
+
+        if(StompCommand.SEND.equals(accessor.getCommand()) && !accessor.getDestination().startsWith(APP_PREFIX)) {
+            LOGGER.warn("Send to '{}' denied for session '{}'", accessor.getDestination(), accessor.getSessionId());
+            throw new InsufficientPermissionsException("Insufficient permissions! You can not send to this destination.");
+        }
+
+        if(!StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if(isPattern(destination)) {
+            LOGGER.warn("Pattern subscription to '{}' denied for session '{}'", destination, accessor.getSessionId());
+            throw new InsufficientPermissionsException("Insufficient permissions! You can not subscribe to a destination pattern.");
+        }
+
+        if(!destination.startsWith(SYSTEM_TOPIC_PREFIX)) {
+            return message;
+        }
+
+        Matcher matcher = SYSTEM_TOPIC.matcher(destination);
+        if(!matcher.matches() || !canSubscribe(accessor.getUser(), Integer.parseInt(matcher.group(1)))) {
+            LOGGER.warn("Subscription to '{}' denied for session '{}'", destination, accessor.getSessionId());
+            throw new InsufficientPermissionsException("Insufficient permissions! You can not subscribe to this system.");
+        }
+        return message;
+    }
+
+    /**
+     * Determines if the destination would be treated as a pattern by the broker's
+     * path matcher.
+     *
+     * @param destination The subscription destination.
+     * @return {@link Boolean} if the destination contains pattern characters.
+     */
+    private boolean isPattern(String destination) {
+        return destination.indexOf('*') >= 0 || destination.indexOf('?') >= 0 || destination.indexOf('{') >= 0;
+    }
+
+    /**
+     * Determines if the principal of the session can subscribe to the topics of
+     * the given system.
+     *
+     * @param principal The principal of the session.
+     * @param systemId  The id of the system.
+     * @return {@link Boolean} if the subscription is allowed.
+     */
+    private boolean canSubscribe(Principal principal, int systemId) {
+        if(principal instanceof SystemPrincipal) {
+            return ((SystemPrincipal) principal).getSystem().getId() == systemId;
+        }
+
+        if(principal instanceof UserPrincipal) {
+            User user = ((UserPrincipal) principal).getUser();
+            return WebRole.ADMIN.equals(user.getWebRole()) || hydroSystemClient.hasSystemAccess(systemId, user.getId());
+        }
+        return false;
+    }
+}
@@ -5,6 +5,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -27,10 +28,14 @@ public class SubscriptionConfig implements WebSocketMessageBrokerConfigurer {
     private static final Logger LOGGER = LoggerFactory.getLogger(SubscriptionConfig.class);
     private final long DEFAULT_HEARTBEAT = 20000;
     private final String SOCKET_URI = "/subscription/socket";
+    private final String APP_PREFIX = "/app";
 
     @Autowired
     private JwtHolder jwtHolder;
 
+    @Autowired
+    private SubscriptionAuthorizationInterceptor authorizationInterceptor;
+
     @Bean
     public TaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler ts = new ThreadPoolTaskScheduler();
@@ -41,10 +46,16 @@ public class SubscriptionConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
+        config.setApplicationDestinationPrefixes(APP_PREFIX);
         config.setUserDestinationPrefix("/user").enableSimpleBroker("/queue", "/topic", "/user")
                 .setTaskScheduler(taskScheduler()).setHeartbeatValue(new long[] {DEFAULT_HEARTBEAT, DEFAULT_HEARTBEAT});
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(authorizationInterceptor);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         LOGGER.info("Websocket connection opened on uri '{}'", SOCKET_URI);
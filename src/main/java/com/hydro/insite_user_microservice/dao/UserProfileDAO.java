@@ -10,7 +10,10 @@ import javax.sql.DataSource;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -31,9 +34,14 @@ import com.hydro.sql.builder.SqlParamBuilder;
 @Repository
 public class UserProfileDAO extends BaseDao {
 
+	private final NamedParameterJdbcTemplate streamingTemplate;
+
 	@Autowired
 	public UserProfileDAO(DataSource source) {
 		super(source);
+		JdbcTemplate template = new JdbcTemplate(source);
+		template.setFetchSize(Integer.MIN_VALUE);
+		this.streamingTemplate = new NamedParameterJdbcTemplate(template);
 	}
 
 	/**
@@ -44,14 +52,23 @@ public class UserProfileDAO extends BaseDao {
 	 * @throws Exception
 	 */
 	public List<User> getUsers(UserGetRequest request) {
-		MapSqlParameterSource params = SqlParamBuilder.with().withParam(ID, request.getId())
-				.withParam(EMAIL, request.getEmail()).withParam(FIRST_NAME, request.getFirstName())
-				.withParam(LAST_NAME, request.getLastName()).withParamTextEnumCollection(WEB_ROLE, request.getWebRole())
-				.build();
-
+		MapSqlParameterSource params = buildRequestParams(request);
 		return getPage(getSql("getUsers", params), params, USER_MAPPER);
 	}
 
+	/**
+	 * Streams the users for the given request filter to the handler one row at a
+	 * time, with a forward-only streaming result set so the rows are not buffered
+	 * by the driver.
+	 * 
+	 * @param request of the user
+	 * @param handler The handler to pass each row to.
+	 */
+	public void streamUsers(UserGetRequest request, RowCallbackHandler handler) {
+		MapSqlParameterSource params = buildRequestParams(request);
+		streamingTemplate.query(getSql("getUsers", params), params, handler);
+	}
+
 	/**
 	 * This method returns a user profile object containing profile type information
 	 * about the user
@@ -149,4 +166,16 @@ public class UserProfileDAO extends BaseDao {
 		if(destination.getWebRole() == null) destination.setWebRole(source.getWebRole());
 		return destination;
 	}
+
+	/**
+	 * Builds the query params for the given user request.
+	 * 
+	 * @param request The request to build the params from.
+	 * @return {@link MapSqlParameterSource} of the request filters.
+	 */
+	private MapSqlParameterSource buildRequestParams(UserGetRequest request) {
+		return SqlParamBuilder.with().withParam(ID, request.getId()).withParam(EMAIL, request.getEmail())
+				.withParam(FIRST_NAME, request.getFirstName()).withParam(LAST_NAME, request.getLastName())
+				.withParamTextEnumCollection(WEB_ROLE, request.getWebRole()).build();
+	}
 }
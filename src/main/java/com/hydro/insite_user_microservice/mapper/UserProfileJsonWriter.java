@@ -0,0 +1,56 @@
+package com.hydro.insite_user_microservice.mapper;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hydro.common.dictionary.data.User;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.streaming.JsonRowWriter;
+
+/**
+ * Writes a user profile row as JSON straight from the result set. Field names
+ * and formats match the JSON of a {@link User}. The password is never written.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class UserProfileJsonWriter implements JsonRowWriter {
+	public static final UserProfileJsonWriter USER_JSON_WRITER = new UserProfileJsonWriter();
+
+	private static final String ID = "id";
+	private static final String FIRST_NAME = "first_name";
+	private static final String LAST_NAME = "last_name";
+	private static final String EMAIL = "email";
+	private static final String WEB_ROLE = "web_role";
+	private static final String LAST_LOGIN_DATE = "last_login_date_utc";
+	private static final String INSERT_DATE = "insert_date_utc";
+
+	@Override
+	public void write(ResultSet rs, JsonGenerator json) throws SQLException, IOException {
+		json.writeStartObject();
+		json.writeNumberField("id", rs.getInt(ID));
+		writeString(json, "firstName", rs.getString(FIRST_NAME));
+		writeString(json, "lastName", rs.getString(LAST_NAME));
+		writeString(json, "email", rs.getString(EMAIL));
+		json.writeObjectField("webRole", WebRole.valueOf(rs.getString(WEB_ROLE)));
+		writeDate(json, "lastLoginDate", rs.getTimestamp(LAST_LOGIN_DATE));
+		writeDate(json, "insertDate", rs.getTimestamp(INSERT_DATE));
+		json.writeEndObject();
+	}
+
+	private void writeString(JsonGenerator json, String field, String value) throws IOException {
+		if(value != null) {
+			json.writeStringField(field, value);
+		}
+	}
+
+	private void writeDate(JsonGenerator json, String field, Timestamp value) throws IOException {
+		if(value != null) {
+			json.writeStringField(field, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value.toLocalDateTime()));
+		}
+	}
+}
@@ -5,6 +5,7 @@ import static org.springframework.http.MediaType.*;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.hydro.common.annotations.interfaces.HasAccess;
 import com.hydro.common.dictionary.data.User;
@@ -50,6 +52,21 @@ public class UserProfileController {
 		return userProfileService.getUsers(request);
 	}
 
+	/**
+	 * Streams the users based of the request filter as a JSON array. Rows are
+	 * written to the response as they are read, without building the users first.
+	 * 
+	 * @param request to filter on
+	 * @return {@link StreamingResponseBody} that writes the users.
+	 */
+	@Operation(summary = "Stream a list of users.", description = "Same body as the list of users, written straight from the database rows.")
+	@GetMapping(path = "/stream")
+	@HasAccess(WebRole.SYSTEM)
+	public ResponseEntity<StreamingResponseBody> streamUsers(UserGetRequest request) {
+		return ResponseEntity.ok().contentType(APPLICATION_JSON)
+				.body(out -> userProfileService.streamUsers(request, out));
+	}
+
 	/**
 	 * Gets the current logged in user information.
 	 * 
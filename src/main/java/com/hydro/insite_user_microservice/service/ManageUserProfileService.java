@@ -6,10 +6,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.google.common.collect.Sets;
+import com.hydro.common.dictionary.data.HydroSystem;
 import com.hydro.common.dictionary.data.User;
 import com.hydro.common.dictionary.enums.WebRole;
 import com.hydro.common.exception.InsufficientPermissionsException;
 import com.hydro.common.jwt.utility.JwtHolder;
+import com.hydro.insite_grow_chamber_history_microservice.client.GrowChamberHistoryClient;
+import com.hydro.insite_hydro_system_microservice.client.HydroSystemClient;
+import com.hydro.insite_hydro_system_microservice.client.domain.request.HydroSystemGetRequest;
 import com.hydro.insite_user_microservice.client.UserCredentialsClient;
 import com.hydro.insite_user_microservice.dao.UserProfileDAO;
 
@@ -31,6 +36,12 @@ public class ManageUserProfileService {
 	@Autowired
 	private UserCredentialsClient userCredentialsClient;
 
+	@Autowired
+	private HydroSystemClient hydroSystemClient;
+
+	@Autowired
+	private GrowChamberHistoryClient growChamberHistoryClient;
+
 	@Autowired
 	private UserProfileDAO dao;
 
@@ -90,7 +101,10 @@ public class ManageUserProfileService {
 	}
 
 	/**
-	 * Delete the user for the given id.
+	 * Delete the user for the given id. The systems the user owns are deleted
+	 * along with them, but the grow chamber history is partitioned and can not
+	 * cascade from the systems table, so the history of those systems is deleted
+	 * here first.
 	 * 
 	 * @param id The id of the user being deleted
 	 * @throws Exception
@@ -100,6 +114,12 @@ public class ManageUserProfileService {
 		if(id != deletingUser.getId() && jwtHolder.getWebRole().getRank() <= deletingUser.getWebRole().getRank()) {
 			throw new InsufficientPermissionsException(jwtHolder.getWebRole(), deletingUser.getWebRole(), "delete");
 		}
+
+		HydroSystemGetRequest request = new HydroSystemGetRequest();
+		request.setOwnerUserId(Sets.newHashSet(id));
+		for(HydroSystem system : hydroSystemClient.getSystems(request)) {
+			growChamberHistoryClient.deleteGrowChamberLogs(system.getId());
+		}
 		dao.deleteUser(id);
 		LOGGER.info("User successfully deleted with ID: '{}'", id);
 	}
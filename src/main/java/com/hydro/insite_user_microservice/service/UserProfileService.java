@@ -1,15 +1,21 @@
 package com.hydro.insite_user_microservice.service;
 
+import static com.hydro.insite_user_microservice.mapper.UserProfileJsonWriter.USER_JSON_WRITER;
+
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
 import com.hydro.common.dictionary.data.User;
 import com.hydro.common.jwt.utility.JwtHolder;
 import com.hydro.insite_user_microservice.client.domain.request.UserGetRequest;
 import com.hydro.insite_user_microservice.dao.UserProfileDAO;
+import com.hydro.streaming.JsonArrayRowHandler;
 
 /**
  * User Service class that handles all service calls to the dao
@@ -26,6 +32,9 @@ public class UserProfileService {
 	@Autowired
 	private UserProfileDAO dao;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
 	/**
 	 * Get users based on given request filter
 	 * 
@@ -38,6 +47,20 @@ public class UserProfileService {
 		return users;
 	}
 
+	/**
+	 * Writes the users for the given request filter to the output stream as a JSON
+	 * array. Each row is written as it is read, without building the users.
+	 * 
+	 * @param request of the user
+	 * @param out     The stream to write the users to.
+	 * @throws IOException If the stream can not be written to.
+	 */
+	public void streamUsers(UserGetRequest request, OutputStream out) throws IOException {
+		JsonArrayRowHandler handler = new JsonArrayRowHandler(objectMapper.getFactory(), out, USER_JSON_WRITER);
+		dao.streamUsers(request, handler);
+		handler.finish();
+	}
+
 	/**
 	 * Get the current user from the jwt token.
 	 * 
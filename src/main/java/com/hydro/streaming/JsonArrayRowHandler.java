@@ -0,0 +1,73 @@
+package com.hydro.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Row handler that writes every row of a query as an element of a JSON array on
+ * an output stream as it is read. Used with a streaming query, a list endpoint
+ * holds no more than the current row in memory and no domain objects or
+ * intermediate list are created. The body is the same JSON array the list
+ * endpoint returns.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class JsonArrayRowHandler implements RowCallbackHandler {
+    private final JsonGenerator json;
+    private final JsonRowWriter rowWriter;
+
+    /**
+     * Creates the handler and starts the array.
+     *
+     * @param factory   The factory to create the generator with. The factory of
+     *                  the application object mapper keeps the JSON settings.
+     * @param out       The stream to write the array to.
+     * @param rowWriter Writes each row as an element of the array.
+     * @throws IOException If the stream can not be written to.
+     */
+    public JsonArrayRowHandler(JsonFactory factory, OutputStream out, JsonRowWriter rowWriter) throws IOException {
+        this.json = factory.createGenerator(out);
+        this.rowWriter = rowWriter;
+        json.writeStartArray();
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        try {
+            rowWriter.write(rs, json);
+        }
+        catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the generator the array is written to, so elements that do not come
+     * from the query can be written between the rows.
+     *
+     * @return The {@link JsonGenerator} of the array.
+     */
+    public JsonGenerator getGenerator() {
+        return json;
+    }
+
+    /**
+     * Ends the array and flushes anything still buffered to the stream. The stream
+     * itself is left open.
+     *
+     * @throws IOException If the stream can not be written to.
+     */
+    public void finish() throws IOException {
+        json.writeEndArray();
+        json.flush();
+    }
+}
@@ -0,0 +1,29 @@
+package com.hydro.streaming;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes the current row of a result set as a single JSON value, reading each
+ * column and writing it straight to the generator without building the domain
+ * object first.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@FunctionalInterface
+public interface JsonRowWriter {
+
+    /**
+     * Writes the current row.
+     *
+     * @param rs   The result set, positioned on the row to write.
+     * @param json The generator to write the row to.
+     * @throws SQLException If a column can not be read.
+     * @throws IOException  If the generator can not be written to.
+     */
+    void write(ResultSet rs, JsonGenerator json) throws SQLException, IOException;
+}
@@ -0,0 +1,20 @@
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- Script: V1.8.0.1__Add_Grow_Chamber_History_System_Date_Index.sql
+-- Author: Sam Butler
+-- Date: October 17, 2026
+-- Issue: 
+-- Version: v1.8.0
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: START
+-- ---------------------------------------------------------------------------------
+
+CREATE INDEX grow_chamber_history_IDX1 ON grow_chamber_history(system_id, insert_date_utc);
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: END
+-- ---------------------------------------------------------------------------------
+
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- END OF SCRIPT VERSION
@@ -0,0 +1,73 @@
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- Script: V1.8.0.2__Add_Grow_Chamber_History_Rollup_Table.sql
+-- Author: Sam Butler
+-- Date: October 17, 2026
+-- Issue: 
+-- Version: v1.8.0
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: START
+-- ---------------------------------------------------------------------------------
+
+CREATE TABLE grow_chamber_history_rollup (
+  system_id                        INT           UNSIGNED NOT NULL,
+  resolution                       VARCHAR(16)            NOT NULL,
+  bucket_date_utc                  DATETIME               NOT NULL,
+  reading_count                    INT           UNSIGNED NOT NULL DEFAULT 0,
+  ph_min                           DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  ph_max                           DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  ph_sum                           DECIMAL(16,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  ph_last                          DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  tds_min                          DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  tds_max                          DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  tds_sum                          DECIMAL(16,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  tds_last                         DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  water_temp_celsius_min           DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  water_temp_celsius_max           DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  water_temp_celsius_sum           DECIMAL(16,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  water_temp_celsius_last          DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  air_temp_celsius_min             DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  air_temp_celsius_max             DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  air_temp_celsius_sum             DECIMAL(16,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  air_temp_celsius_last            DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  humidity_min                     DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  humidity_max                     DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  humidity_sum                     DECIMAL(16,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  humidity_last                    DECIMAL(5,2)  UNSIGNED NOT NULL DEFAULT 0.0,
+  last_date_utc                    DATETIME               NOT NULL,
+  PRIMARY KEY (system_id, resolution, bucket_date_utc)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE grow_chamber_history_rollup ADD CONSTRAINT systems__grow_chamber_history_rollup__FK1 
+  FOREIGN KEY (system_id) REFERENCES systems(id) 
+    ON DELETE CASCADE 
+    ON UPDATE CASCADE;
+
+-- Rollups of the existing history are not built here, since that would scan
+-- the whole history table while the deploy waits on it. Each system gets a row
+-- instead, and the rollup backfill job adds the history before the migration
+-- to the rollups in small batches in the background. Logs after it are rolled
+-- up as they come in.
+CREATE TABLE grow_chamber_history_rollup_backfill (
+  system_id                        INT           UNSIGNED NOT NULL,
+  end_date_utc                     DATETIME               NOT NULL,
+  last_date_utc                    DATETIME               NULL,
+  last_id                          INT           UNSIGNED NULL,
+  PRIMARY KEY (system_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE grow_chamber_history_rollup_backfill ADD CONSTRAINT systems__grow_chamber_history_rollup_backfill__FK1 
+  FOREIGN KEY (system_id) REFERENCES systems(id) 
+    ON DELETE CASCADE 
+    ON UPDATE CASCADE;
+
+INSERT INTO grow_chamber_history_rollup_backfill (system_id, end_date_utc)
+  SELECT id, UTC_TIMESTAMP() FROM systems;
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: END
+-- ---------------------------------------------------------------------------------
+
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- END OF SCRIPT VERSION
@@ -0,0 +1,46 @@
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- Script: V1.8.0.3__Partition_Grow_Chamber_History_By_Month.sql
+-- Author: Sam Butler
+-- Date: October 17, 2026
+-- Issue: 
+-- Version: v1.8.0
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: START
+-- ---------------------------------------------------------------------------------
+
+-- Partitioned tables can not have foreign keys, and every unique key has to
+-- include the partition column. History is no longer removed by the cascade,
+-- so unregistering a system and deleting a user both delete the history of
+-- the systems involved before the systems themselves.
+ALTER TABLE grow_chamber_history DROP FOREIGN KEY system__grow_chamber_history__FK1;
+
+ALTER TABLE grow_chamber_history DROP PRIMARY KEY, ADD PRIMARY KEY (id, insert_date_utc);
+
+-- The monthly bounds are taken from the date the migration runs, starting at
+-- the current month and covering the two months after it. Everything older
+-- goes into p_start. Later months are added by the partition maintenance job,
+-- which splits them off of p_future ahead of time.
+SET @month = DATE_FORMAT(UTC_TIMESTAMP(), '%Y-%m-01');
+SET @partitions = CONCAT(
+  'ALTER TABLE grow_chamber_history PARTITION BY RANGE COLUMNS (insert_date_utc) (',
+  'PARTITION p_start VALUES LESS THAN (''', @month, '''), ',
+  'PARTITION p', DATE_FORMAT(@month, '%Y%m'),
+    ' VALUES LESS THAN (''', DATE_ADD(@month, INTERVAL 1 MONTH), '''), ',
+  'PARTITION p', DATE_FORMAT(DATE_ADD(@month, INTERVAL 1 MONTH), '%Y%m'),
+    ' VALUES LESS THAN (''', DATE_ADD(@month, INTERVAL 2 MONTH), '''), ',
+  'PARTITION p', DATE_FORMAT(DATE_ADD(@month, INTERVAL 2 MONTH), '%Y%m'),
+    ' VALUES LESS THAN (''', DATE_ADD(@month, INTERVAL 3 MONTH), '''), ',
+  'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+
+PREPARE partition_history FROM @partitions;
+EXECUTE partition_history;
+DEALLOCATE PREPARE partition_history;
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: END
+-- ---------------------------------------------------------------------------------
+
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- END OF SCRIPT VERSION
@@ -0,0 +1,48 @@
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- Script: V1.8.0.4__Add_Grow_Chamber_Alert_Rule_Table.sql
+-- Author: Sam Butler
+-- Date: October 17, 2026
+-- Issue: 
+-- Version: v1.8.0
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: START
+-- ---------------------------------------------------------------------------------
+
+CREATE TABLE grow_chamber_alert_rule (
+  id                 INT          UNSIGNED NOT NULL AUTO_INCREMENT,
+  system_id          INT          UNSIGNED NOT NULL,
+  user_id            INT          UNSIGNED NOT NULL,
+  name               VARCHAR(128)          NOT NULL,
+  metric             VARCHAR(16)           NOT NULL,
+  operator           VARCHAR(32)           NOT NULL,
+  threshold          DECIMAL(7,2)          NOT NULL,
+  duration_minutes   INT          UNSIGNED NOT NULL DEFAULT 0,
+  light_status       TINYINT(1)            NULL,
+  enabled            TINYINT(1)            NOT NULL DEFAULT 1,
+  insert_date_utc    DATETIME              NOT NULL DEFAULT CURRENT_TIMESTAMP(),
+  update_date_utc    DATETIME(3)           NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE INDEX grow_chamber_alert_rule_IDX1 ON grow_chamber_alert_rule(system_id);
+
+CREATE INDEX grow_chamber_alert_rule_IDX2 ON grow_chamber_alert_rule(user_id);
+
+ALTER TABLE grow_chamber_alert_rule ADD CONSTRAINT systems__grow_chamber_alert_rule__FK1 
+  FOREIGN KEY (system_id) REFERENCES systems(id) 
+    ON DELETE CASCADE 
+    ON UPDATE CASCADE;
+
+ALTER TABLE grow_chamber_alert_rule ADD CONSTRAINT user_profile__grow_chamber_alert_rule__FK2 
+  FOREIGN KEY (user_id) REFERENCES user_profile(id) 
+    ON DELETE CASCADE 
+    ON UPDATE CASCADE;
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: END
+-- ---------------------------------------------------------------------------------
+
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- END OF SCRIPT VERSION
@@ -0,0 +1,36 @@
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- Script: V1.8.0.5__Add_Grow_Chamber_History_Seq_Table.sql
+-- Author: Sam Butler
+-- Date: October 17, 2026
+-- Issue: 
+-- Version: v1.8.0
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: START
+-- ---------------------------------------------------------------------------------
+
+CREATE TABLE grow_chamber_history_seq (
+  system_id          INT          UNSIGNED NOT NULL,
+  seq                BIGINT       UNSIGNED NOT NULL,
+  claim_id           BIGINT                NOT NULL,
+  log_id             INT          UNSIGNED NULL,
+  insert_date_utc    DATETIME              NOT NULL DEFAULT CURRENT_TIMESTAMP(),
+  PRIMARY KEY (system_id, seq)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE INDEX grow_chamber_history_seq_IDX1 ON grow_chamber_history_seq(claim_id);
+
+CREATE INDEX grow_chamber_history_seq_IDX2 ON grow_chamber_history_seq(insert_date_utc);
+
+ALTER TABLE grow_chamber_history_seq ADD CONSTRAINT systems__grow_chamber_history_seq__FK1 
+  FOREIGN KEY (system_id) REFERENCES systems(id) 
+    ON DELETE CASCADE 
+    ON UPDATE CASCADE;
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: END
+-- ---------------------------------------------------------------------------------
+
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- END OF SCRIPT VERSION
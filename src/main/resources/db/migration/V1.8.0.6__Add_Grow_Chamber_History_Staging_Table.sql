@@ -0,0 +1,35 @@
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- Script: V1.8.0.6__Add_Grow_Chamber_History_Staging_Table.sql
+-- Author: Sam Butler
+-- Date: October 17, 2026
+-- Issue: 
+-- Version: v1.8.0
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: START
+-- ---------------------------------------------------------------------------------
+
+CREATE TABLE grow_chamber_history_staging (
+  batch_id                         BIGINT                NOT NULL,
+  row_num                          INT          UNSIGNED NOT NULL,
+  system_id                        INT          UNSIGNED NOT NULL,
+  ph                               DECIMAL(5,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  tds                              DECIMAL(5,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  water_temp_celsius               DECIMAL(5,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  air_temp_celsius                 DECIMAL(5,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  humidity                         DECIMAL(5,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  light_status                     TINYINT(1)   UNSIGNED NOT NULL DEFAULT 0,
+  insert_date_utc                  DATETIME              NOT NULL,
+  merged                           TINYINT(1)   UNSIGNED NOT NULL DEFAULT 0,
+  PRIMARY KEY (batch_id, row_num)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE INDEX grow_chamber_history_staging_IDX1 ON grow_chamber_history_staging(batch_id, system_id, insert_date_utc);
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: END
+-- ---------------------------------------------------------------------------------
+
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- END OF SCRIPT VERSION
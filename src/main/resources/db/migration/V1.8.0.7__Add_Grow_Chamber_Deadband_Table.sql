@@ -0,0 +1,37 @@
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- Script: V1.8.0.7__Add_Grow_Chamber_Deadband_Table.sql
+-- Author: Sam Butler
+-- Date: October 17, 2026
+-- Issue: 
+-- Version: v1.8.0
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: START
+-- ---------------------------------------------------------------------------------
+
+CREATE TABLE grow_chamber_deadband (
+  system_id                INT          UNSIGNED NOT NULL,
+  enabled                  TINYINT(1)            NOT NULL DEFAULT 1,
+  ph_threshold             DECIMAL(5,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  tds_threshold            DECIMAL(5,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  water_temp_threshold     DECIMAL(5,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  air_temp_threshold       DECIMAL(5,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  humidity_threshold       DECIMAL(5,2) UNSIGNED NOT NULL DEFAULT 0.0,
+  max_silence_seconds      INT          UNSIGNED NOT NULL DEFAULT 900,
+  insert_date_utc          DATETIME              NOT NULL DEFAULT CURRENT_TIMESTAMP(),
+  update_date_utc          DATETIME(3)           NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (system_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE grow_chamber_deadband ADD CONSTRAINT systems__grow_chamber_deadband__FK1 
+  FOREIGN KEY (system_id) REFERENCES systems(id) 
+    ON DELETE CASCADE 
+    ON UPDATE CASCADE;
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: END
+-- ---------------------------------------------------------------------------------
+
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- END OF SCRIPT VERSION
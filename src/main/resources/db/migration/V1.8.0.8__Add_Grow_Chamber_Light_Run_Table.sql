@@ -0,0 +1,52 @@
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- Script: V1.8.0.8__Add_Grow_Chamber_Light_Run_Table.sql
+-- Author: Sam Butler
+-- Date: October 17, 2026
+-- Issue: 
+-- Version: v1.8.0
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: START
+-- ---------------------------------------------------------------------------------
+
+CREATE TABLE grow_chamber_light_run (
+  system_id          INT          UNSIGNED NOT NULL,
+  start_date_utc     DATETIME              NOT NULL,
+  end_date_utc       DATETIME              NOT NULL,
+  light_status       TINYINT(1)   UNSIGNED NOT NULL DEFAULT 0,
+  PRIMARY KEY (system_id, start_date_utc)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE grow_chamber_light_run ADD CONSTRAINT systems__grow_chamber_light_run__FK1 
+  FOREIGN KEY (system_id) REFERENCES systems(id) 
+    ON DELETE CASCADE 
+    ON UPDATE CASCADE;
+
+-- Runs of the existing history are not built here, since that would scan the
+-- whole history table while the deploy waits on it. Each system gets a row
+-- instead, and the light run backfill job builds the runs of the history
+-- before the migration in small batches in the background. Runs after it are
+-- recorded as logs come in.
+CREATE TABLE grow_chamber_light_run_backfill (
+  system_id          INT          UNSIGNED NOT NULL,
+  end_date_utc       DATETIME              NOT NULL,
+  last_date_utc      DATETIME              NULL,
+  last_id            INT          UNSIGNED NULL,
+  PRIMARY KEY (system_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+ALTER TABLE grow_chamber_light_run_backfill ADD CONSTRAINT systems__grow_chamber_light_run_backfill__FK1 
+  FOREIGN KEY (system_id) REFERENCES systems(id) 
+    ON DELETE CASCADE 
+    ON UPDATE CASCADE;
+
+INSERT INTO grow_chamber_light_run_backfill (system_id, end_date_utc)
+  SELECT id, UTC_TIMESTAMP() FROM systems;
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: END
+-- ---------------------------------------------------------------------------------
+
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- END OF SCRIPT VERSION
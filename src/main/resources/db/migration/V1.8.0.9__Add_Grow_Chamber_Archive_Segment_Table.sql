@@ -0,0 +1,49 @@
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- Script: V1.8.0.9__Add_Grow_Chamber_Archive_Segment_Table.sql
+-- Author: Sam Butler
+-- Date: October 18, 2026
+-- Issue: 
+-- Version: v1.8.0
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: START
+-- ---------------------------------------------------------------------------------
+
+CREATE TABLE grow_chamber_archive_segment (
+  id                       INT          UNSIGNED NOT NULL AUTO_INCREMENT,
+  system_id                INT          UNSIGNED NOT NULL,
+  first_date_utc           DATETIME              NOT NULL,
+  last_date_utc            DATETIME              NOT NULL,
+  min_id                   INT          UNSIGNED NOT NULL,
+  max_id                   INT          UNSIGNED NOT NULL,
+  row_count                INT          UNSIGNED NOT NULL,
+  segment                  MEDIUMBLOB            NOT NULL,
+  insert_date_utc          DATETIME              NOT NULL DEFAULT CURRENT_TIMESTAMP(),
+  PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE INDEX grow_chamber_archive_segment_IDX1 ON grow_chamber_archive_segment(system_id, first_date_utc);
+CREATE INDEX grow_chamber_archive_segment_IDX2 ON grow_chamber_archive_segment(min_id, max_id);
+
+ALTER TABLE grow_chamber_archive_segment ADD CONSTRAINT systems__grow_chamber_archive_segment__FK1 
+  FOREIGN KEY (system_id) REFERENCES systems(id) 
+    ON DELETE CASCADE 
+    ON UPDATE CASCADE;
+
+-- Scheduled jobs that must only run on one instance at a time take a lease by
+-- name. A lease is held until it expires or its owner releases it, so a job
+-- whose instance dies is picked up again once the lease runs out.
+CREATE TABLE grow_chamber_job_lease (
+  name                     VARCHAR(64)           NOT NULL,
+  owner                    VARCHAR(64)           NOT NULL,
+  expires_date_utc         DATETIME              NOT NULL,
+  PRIMARY KEY (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- ---------------------------------------------------------------------------------
+-- HYDRO-4: END
+-- ---------------------------------------------------------------------------------
+
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- END OF SCRIPT VERSION
@@ -0,0 +1,154 @@
+package com.hydro.insite_grow_chamber_history_microservice.archive;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberArchiveSegment;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberArchiveDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Archive.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class GrowChamberArchiveTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+    private static final LocalDateTime START = LocalDateTime.of(2026, 5, 1, 0, 0);
+
+    @Mock
+    private GrowChamberArchiveDAO dao;
+
+    @InjectMocks
+    private GrowChamberArchive archive;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(archive, "enabled", true);
+        ReflectionTestUtils.setField(archive, "afterDays", 90);
+    }
+
+    @Test
+    public void testCoversWithoutFromAndNothingArchived() {
+        GrowChamberHistoryGetRequest request = request();
+
+        assertFalse(archive.covers(request, NOW), "Nothing is archived for the system");
+        verify(dao).getOldestDate(request.getSystemId());
+    }
+
+    @Test
+    public void testCoversWithoutFromAndArchivedLogs() {
+        GrowChamberHistoryGetRequest request = request();
+        when(dao.getOldestDate(any())).thenReturn(START);
+
+        assertTrue(archive.covers(request, NOW), "Archived logs before the end of the request");
+    }
+
+    @Test
+    public void testCoversFromAfterBoundary() {
+        GrowChamberHistoryGetRequest request = request();
+        request.setFrom(NOW.minusDays(1));
+
+        assertFalse(archive.covers(request, NOW), "Request starts after the boundary");
+        verify(dao, never()).getOldestDate(any());
+    }
+
+    @Test
+    public void testCoversKeysetPastBoundary() {
+        GrowChamberHistoryGetRequest request = request();
+        request.setFrom(START);
+        request.setAfterTimestamp(NOW.minusDays(1));
+        request.setAfterId(5);
+
+        assertFalse(archive.covers(request, NOW), "Cursor is already past the boundary");
+    }
+
+    @Test
+    public void testCoversDisabled() {
+        ReflectionTestUtils.setField(archive, "enabled", false);
+        GrowChamberHistoryGetRequest request = request();
+        request.setFrom(START);
+
+        assertFalse(archive.covers(request, NOW), "Disabled archive");
+    }
+
+    @Test
+    public void testReadStopsOnceLimitIsReached() throws Exception {
+        when(dao.getSegments(any(), any(), any(), any(), any()))
+                .thenReturn(Arrays.asList(segment(1, START), segment(2, START.plusDays(1))));
+        when(dao.getSegmentData(1)).thenReturn(GrowChamberSegmentFile.encode(7, logs(1, START, 10)));
+        GrowChamberHistoryGetRequest request = request();
+        request.setLimit(5);
+
+        List<GrowChamberLog> logs = archive.read(request);
+
+        assertEquals(5, logs.size(), "Logs are trimmed to the limit");
+        assertEquals(1, logs.get(0).getId(), "First log");
+        assertEquals(5, logs.get(4).getId(), "Last log");
+        verify(dao, never()).getSegmentData(2);
+    }
+
+    @Test
+    public void testReadAppliesKeyset() throws Exception {
+        when(dao.getSegments(any(), any(), any(), any(), any()))
+                .thenReturn(Arrays.asList(segment(1, START), segment(2, START.plusDays(1))));
+        when(dao.getSegmentData(1)).thenReturn(GrowChamberSegmentFile.encode(7, logs(1, START, 10)));
+        when(dao.getSegmentData(2)).thenReturn(GrowChamberSegmentFile.encode(7, logs(11, START.plusDays(1), 10)));
+        GrowChamberHistoryGetRequest request = request();
+        request.setAfterTimestamp(START.plusMinutes(7));
+        request.setAfterId(8);
+        request.setLimit(5);
+
+        List<GrowChamberLog> logs = archive.read(request);
+
+        verify(dao).getSegments(request.getSystemId(), START.plusMinutes(7), null, null, null);
+        assertEquals(5, logs.size(), "Logs are trimmed to the limit");
+        assertEquals(9, logs.get(0).getId(), "First log after the cursor");
+        assertEquals(13, logs.get(4).getId(), "Page continues into the next segment");
+    }
+
+    private GrowChamberHistoryGetRequest request() {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(7));
+        return request;
+    }
+
+    private GrowChamberArchiveSegment segment(int id, LocalDateTime firstDate) {
+        GrowChamberArchiveSegment segment = new GrowChamberArchiveSegment();
+        segment.setId(id);
+        segment.setSystemId(7);
+        segment.setFirstDate(firstDate);
+        segment.setLastDate(firstDate.plusMinutes(9));
+        return segment;
+    }
+
+    private List<GrowChamberLog> logs(int firstId, LocalDateTime start, int count) {
+        List<GrowChamberLog> logs = new ArrayList<>();
+        for(int i = 0; i < count; i++) {
+            GrowChamberLog log = new GrowChamberLog();
+            log.setId(firstId + i);
+            log.setSystemId(7);
+            log.setPh(6.0f);
+            log.setInsertDate(start.plusMinutes(i));
+            logs.add(log);
+        }
+        return logs;
+    }
+}
@@ -0,0 +1,92 @@
+package com.hydro.insite_grow_chamber_history_microservice.archive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+
+/**
+ * Test class for the Grow Chamber Segment File.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberSegmentFileTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 7, 1, 0, 0);
+
+    @Test
+    public void testWriteAndReadAll() throws IOException {
+        List<GrowChamberLog> logs = logs(3000);
+
+        byte[] segment = GrowChamberSegmentFile.encode(4, logs);
+        List<GrowChamberLog> read = GrowChamberSegmentFile.decode(segment, null, null);
+
+        assertEquals(logs.size(), read.size(), "Row Count");
+        for(int i = 0; i < logs.size(); i++) {
+            assertEquals(logs.get(i).getId(), read.get(i).getId(), "Id");
+            assertEquals(4, read.get(i).getSystemId(), "System Id");
+            assertEquals(logs.get(i).getInsertDate(), read.get(i).getInsertDate(), "Insert Date");
+            assertEquals(logs.get(i).getPh(), read.get(i).getPh(), "PH");
+            assertEquals(logs.get(i).getHumidity(), read.get(i).getHumidity(), "Humidity");
+            assertEquals(logs.get(i).isLightsOn(), read.get(i).isLightsOn(), "Lights On");
+        }
+    }
+
+    @Test
+    public void testWriteAndReadUnroundedValues() throws IOException {
+        List<GrowChamberLog> logs = logs(10);
+        logs.get(3).setPh(6.123f);
+
+        byte[] segment = GrowChamberSegmentFile.encode(4, logs);
+        List<GrowChamberLog> read = GrowChamberSegmentFile.decode(segment, null, null);
+
+        assertEquals(6.123f, read.get(3).getPh(), "PH");
+        assertEquals(logs.get(4).getTds(), read.get(4).getTds(), "TDS");
+    }
+
+    @Test
+    public void testReadRange() throws IOException {
+        byte[] segment = GrowChamberSegmentFile.encode(4, logs(3000));
+
+        List<GrowChamberLog> read = GrowChamberSegmentFile.decode(segment, START.plusMinutes(1500),
+                                                                  START.plusMinutes(1510));
+
+        assertEquals(10, read.size(), "Row Count");
+        assertEquals(START.plusMinutes(1500), read.get(0).getInsertDate(), "First Insert Date");
+    }
+
+    @Test
+    public void testDecodeTruncatedSegment() throws IOException {
+        byte[] segment = GrowChamberSegmentFile.encode(4, logs(10));
+
+        IOException e = assertThrows(IOException.class, () -> GrowChamberSegmentFile
+                .decode(Arrays.copyOf(segment, segment.length - 8), null, null));
+
+        assertEquals("Unexpected end of segment", e.getMessage(), "Exception Message");
+    }
+
+    private List<GrowChamberLog> logs(int count) {
+        List<GrowChamberLog> logs = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            GrowChamberLog log = new GrowChamberLog();
+            log.setId(100 + i);
+            log.setSystemId(4);
+            log.setInsertDate(START.plusMinutes(i));
+            log.setPh(6.0f + (i % 10) / 100f);
+            log.setTds(400f + i % 7);
+            log.setWaterTemp(20.5f);
+            log.setAirTemp(23.25f);
+            log.setHumidity(55f + (i % 3));
+            log.setLightsOn(i % 1440 < 960);
+            logs.add(log);
+        }
+        return logs;
+    }
+}
@@ -0,0 +1,61 @@
+package com.hydro.insite_grow_chamber_history_microservice.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the Gorilla Block Encoder and Decoder.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GorillaBlockCodecTest {
+    private static final long START = 1782864000000L;
+
+    @Test
+    public void testRoundTrip() {
+        int rows = 1024;
+        long[] timestamps = new long[rows];
+        float[][] values = new float[rows][];
+        GorillaBlockEncoder encoder = new GorillaBlockEncoder(3, rows);
+        for(int i = 0; i < rows; i++) {
+            timestamps[i] = START + i * 60000L + (i % 5 == 0 ? 150 : 0) + (i == 500 ? 86400000L : 0);
+            values[i] = new float[] { 6.0f + (i % 10) / 100f, i % 7 == 0 ? Float.NaN : 400f + i, -i * 1.5f };
+            encoder.append(timestamps[i], values[i], i % 3 == 0);
+        }
+
+        GorillaBlockDecoder decoder = new GorillaBlockDecoder(encoder.toByteArray());
+        assertEquals(rows, decoder.getRows(), "Row Count");
+        assertEquals(3, decoder.getMetrics(), "Metric Count");
+        for(int i = 0; i < rows; i++) {
+            assertTrue(decoder.next(), "Has Next");
+            assertEquals(timestamps[i], decoder.getTimestamp(), "Timestamp");
+            for(int m = 0; m < 3; m++) {
+                assertEquals(Float.floatToRawIntBits(values[i][m]), Float.floatToRawIntBits(decoder.getValue(m)),
+                             "Value");
+            }
+            assertEquals(i % 3 == 0, decoder.getFlag(), "Flag");
+        }
+        assertFalse(decoder.next(), "Has Next");
+    }
+
+    @Test
+    public void testSteadyReadingsCompress() {
+        GorillaBlockEncoder encoder = new GorillaBlockEncoder(5, 1024);
+        float[] values = { 6.1f, 800f, 20.5f, 23.25f, 55f };
+        for(int i = 0; i < 1024; i++) {
+            encoder.append(START + i * 60000L, values, true);
+        }
+
+        assertTrue(encoder.toByteArray().length < 1024, "Steady readings take under a byte each");
+    }
+
+    @Test
+    public void testEmptyBlock() {
+        GorillaBlockDecoder decoder = new GorillaBlockDecoder(new GorillaBlockEncoder(5, 0).toByteArray());
+
+        assertEquals(0, decoder.getRows(), "Row Count");
+        assertFalse(decoder.next(), "Has Next");
+    }
+}
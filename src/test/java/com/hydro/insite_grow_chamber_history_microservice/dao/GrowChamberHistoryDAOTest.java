@@ -0,0 +1,173 @@
+package com.hydro.insite_grow_chamber_history_microservice.dao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberStats;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.test.factory.annotations.HydroDaoTest;
+import com.hydro.utility.HydroDAOTestConfig;
+
+/**
+ * Test class for the Grow Chamber History DAO.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Sql("/scripts/history/growChamberHistoryDAO/init.sql")
+@ContextConfiguration(classes = HydroDAOTestConfig.class)
+@HydroDaoTest
+public class GrowChamberHistoryDAOTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 10, 17, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 10, 18, 0, 0);
+
+    @Autowired
+    private GrowChamberHistoryDAO dao;
+
+    @Test
+    public void testGetGrowChamberLogStats() {
+        List<GrowChamberStats> stats = dao.getGrowChamberLogStats(request(FROM, TO, 1, 2));
+
+        assertEquals(2, stats.size(), "Stats Count");
+        GrowChamberStats system = stats.get(0);
+        assertEquals(1, system.getSystemId(), "Ordered by system id");
+        assertEquals(4, system.getCount(), "Readings outside of the window are left out");
+        assertEquals(6.0f, system.getPh().getMin(), "PH Min");
+        assertEquals(7.0f, system.getPh().getMax(), "PH Max");
+        assertEquals(6.4, system.getPh().getMean(), 0.0001, "PH Mean");
+        assertEquals(Math.sqrt(0.14), system.getPh().getStddev(), 0.0001, "PH Stddev");
+        assertEquals(415.0, system.getTds().getMean(), 0.0001, "TDS Mean");
+        assertEquals(56.0f, system.getHumidity().getMax(), "Humidity Max");
+        assertEquals(2, stats.get(1).getSystemId(), "Second system");
+        assertEquals(1, stats.get(1).getCount(), "Second system count");
+    }
+
+    @Test
+    public void testGetGrowChamberLogStatsPercentiles() {
+        GrowChamberStats stats = dao.getGrowChamberLogStats(request(FROM, TO, 1)).get(0);
+
+        assertEquals(6.2f, stats.getPh().getP50(), "PH P50 is the second of four readings");
+        assertEquals(7.0f, stats.getPh().getP95(), "PH P95 is the last of four readings");
+        assertEquals(410.0f, stats.getTds().getP50(), "TDS P50");
+        assertEquals(430.0f, stats.getTds().getP95(), "TDS P95");
+        assertEquals(21.0f, stats.getWaterTemp().getP50(), "Water Temp P50");
+        assertEquals(24.5f, stats.getAirTemp().getP50(), "Air Temp P50");
+        assertEquals(52.0f, stats.getHumidity().getP50(), "Humidity P50");
+    }
+
+    @Test
+    public void testGetGrowChamberLogStatsSingleReading() {
+        GrowChamberStats stats = dao.getGrowChamberLogStats(request(FROM, TO, 2)).get(0);
+
+        assertEquals(5.8f, stats.getPh().getMin(), "PH Min");
+        assertEquals(5.8f, stats.getPh().getP50(), "PH P50");
+        assertEquals(5.8f, stats.getPh().getP95(), "PH P95");
+        assertEquals(0.0, stats.getPh().getStddev(), 0.0001, "PH Stddev");
+    }
+
+    @Test
+    public void testGetGrowChamberLogStatsEmptyWindow() {
+        assertTrue(dao.getGrowChamberLogStats(request(TO.plusDays(1), TO.plusDays(2), 1)).isEmpty(),
+                   "System without readings is left out");
+    }
+
+    @Test
+    public void testGetGrowChamberLogsFirstPage() {
+        GrowChamberHistoryGetRequest request = request(null, null, 1);
+        request.setLimit(3);
+
+        assertEquals(Arrays.asList(1, 2, 3), ids(dao.getGrowChamberLogs(request)), "Oldest logs first");
+    }
+
+    @Test
+    public void testGetGrowChamberLogsAfterKeyset() {
+        GrowChamberHistoryGetRequest request = request(null, null, 1);
+        request.setAfterTimestamp(LocalDateTime.of(2026, 10, 17, 0, 2));
+        request.setAfterId(3);
+        request.setLimit(3);
+
+        assertEquals(Arrays.asList(4, 6), ids(dao.getGrowChamberLogs(request)),
+                     "Log with the same insert date and a higher id is on the next page");
+    }
+
+    @Test
+    public void testGetGrowChamberLogsAfterKeysetStopsAtTo() {
+        GrowChamberHistoryGetRequest request = request(null, TO, 1);
+        request.setAfterTimestamp(LocalDateTime.of(2026, 10, 17, 0, 1));
+        request.setAfterId(2);
+
+        assertEquals(Arrays.asList(3, 4), ids(dao.getGrowChamberLogs(request)), "Logs at the to date are left out");
+    }
+
+    @Test
+    public void testMergeGrowChamberLogs() {
+        GrowChamberLog existing = log(1, LocalDateTime.of(2026, 10, 17, 0, 0), 6.9f);
+        GrowChamberLog added = log(1, LocalDateTime.of(2026, 10, 16, 12, 0), 6.1f);
+        GrowChamberLog repeated = log(1, LocalDateTime.of(2026, 10, 16, 12, 0), 6.3f);
+        GrowChamberLog otherSystem = log(2, LocalDateTime.of(2026, 10, 16, 12, 0), 5.9f);
+
+        List<GrowChamberLog> merged = dao.mergeGrowChamberLogs(Arrays.asList(existing, added, repeated, otherSystem));
+
+        assertEquals(Arrays.asList(added, otherSystem), merged, "Only logs at a free insert date are added");
+        assertEquals(1, existing.getId(), "Existing log keeps the id of the stored log");
+        assertEquals(added.getId(), repeated.getId(), "Repeated log gets the id of the first log of the upload");
+        assertNotEquals(added.getId(), otherSystem.getId(), "Other system gets its own log");
+
+        GrowChamberHistoryGetRequest request = request(LocalDateTime.of(2026, 10, 16, 12, 0), FROM, 1);
+        List<GrowChamberLog> stored = dao.getGrowChamberLogs(request);
+        assertEquals(1, stored.size(), "Repeated log is not stored");
+        assertEquals(6.1f, stored.get(0).getPh(), "First log of the upload is stored");
+    }
+
+    @Test
+    public void testMergeGrowChamberLogsAgain() {
+        GrowChamberLog first = log(1, LocalDateTime.of(2026, 10, 16, 12, 0), 6.1f);
+        dao.mergeGrowChamberLogs(Arrays.asList(first));
+
+        GrowChamberLog again = log(1, LocalDateTime.of(2026, 10, 16, 12, 0), 6.1f);
+        List<GrowChamberLog> merged = dao.mergeGrowChamberLogs(Arrays.asList(again));
+
+        assertTrue(merged.isEmpty(), "Upload sent again adds nothing");
+        assertEquals(first.getId(), again.getId(), "Log sent again gets the stored id");
+    }
+
+    @Test
+    public void testMergeGrowChamberLogsEmpty() {
+        assertTrue(dao.mergeGrowChamberLogs(Arrays.asList()).isEmpty(), "Nothing to merge");
+    }
+
+    private List<Integer> ids(List<GrowChamberLog> logs) {
+        return logs.stream().map(GrowChamberLog::getId).collect(Collectors.toList());
+    }
+
+    private GrowChamberLog log(int systemId, LocalDateTime insertDate, float ph) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setSystemId(systemId);
+        log.setPh(ph);
+        log.setTds(400.0f);
+        log.setWaterTemp(20.0f);
+        log.setAirTemp(24.0f);
+        log.setHumidity(50.0f);
+        log.setInsertDate(insertDate);
+        return log;
+    }
+
+    private GrowChamberHistoryGetRequest request(LocalDateTime from, LocalDateTime to, Integer... systemIds) {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(systemIds));
+        request.setFrom(from);
+        request.setTo(to);
+        return request;
+    }
+}
@@ -0,0 +1,167 @@
+package com.hydro.insite_grow_chamber_history_microservice.dao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollup;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollupBackfill;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.MetricSummary;
+import com.hydro.test.factory.annotations.HydroDaoTest;
+import com.hydro.utility.HydroDAOTestConfig;
+
+/**
+ * Test class for the Grow Chamber Rollup DAO.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Sql("/scripts/history/growChamberRollupDAO/init.sql")
+@ContextConfiguration(classes = HydroDAOTestConfig.class)
+@HydroDaoTest
+public class GrowChamberRollupDAOTest {
+    private static final LocalDateTime BUCKET = LocalDateTime.of(2026, 10, 17, 10, 0);
+
+    @Autowired
+    private GrowChamberRollupDAO dao;
+
+    @Test
+    public void testGetRollups() {
+        List<GrowChamberRollup> rollups = dao.getRollups(Sets.newHashSet(1), HistoryResolution.HOUR, BUCKET,
+                                                         BUCKET.plusHours(2));
+
+        assertEquals(2, rollups.size(), "Rollup Count");
+        GrowChamberRollup rollup = rollups.get(0);
+        assertEquals(BUCKET, rollup.getBucketDate(), "Ordered by bucket");
+        assertEquals(2, rollup.getCount(), "Reading count");
+        assertEquals(6.0f, rollup.getPh().getMin(), "PH Min");
+        assertEquals(6.2f, rollup.getPh().getAvg(), 0.0001, "PH Avg is the sum over the count");
+        assertEquals(6.4f, rollup.getPh().getLast(), "PH Last");
+        assertEquals(BUCKET.plusHours(1), rollups.get(1).getBucketDate(), "Second bucket");
+    }
+
+    @Test
+    public void testGetRollupsToIsExclusive() {
+        assertEquals(1, dao.getRollups(Sets.newHashSet(1), HistoryResolution.HOUR, BUCKET, BUCKET.plusHours(1))
+                .size(), "Bucket at the to date is left out");
+    }
+
+    @Test
+    public void testUpsertRollupsMergesIntoExistingBucket() {
+        dao.upsertRollups(Arrays.asList(rollup(1, BUCKET, 7.0f, BUCKET.plusMinutes(45)),
+                                        rollup(1, BUCKET.plusHours(2), 6.8f, BUCKET.plusHours(2))));
+
+        List<GrowChamberRollup> rollups = dao.getRollups(Sets.newHashSet(1), HistoryResolution.HOUR, BUCKET,
+                                                         BUCKET.plusHours(3));
+        assertEquals(3, rollups.size(), "New bucket is inserted");
+        GrowChamberRollup rollup = rollups.get(0);
+        assertEquals(3, rollup.getCount(), "Reading count is added");
+        assertEquals(6.0f, rollup.getPh().getMin(), "PH Min is kept");
+        assertEquals(7.0f, rollup.getPh().getMax(), "PH Max is raised");
+        assertEquals(6.4667f, rollup.getPh().getAvg(), 0.0001, "PH Avg includes the new reading");
+        assertEquals(7.0f, rollup.getPh().getLast(), "Newer reading is the last");
+        assertEquals(BUCKET.plusMinutes(45), rollup.getLastDate(), "Last date");
+        assertEquals(6.8f, rollups.get(2).getPh().getLast(), "New bucket PH Last");
+    }
+
+    @Test
+    public void testUpsertRollupsOlderReadingKeepsLast() {
+        dao.upsertRollups(Arrays.asList(rollup(1, BUCKET, 5.0f, BUCKET.plusMinutes(5))));
+
+        GrowChamberRollup rollup = dao.getRollups(Sets.newHashSet(1), HistoryResolution.HOUR, BUCKET,
+                                                  BUCKET.plusHours(1))
+                .get(0);
+        assertEquals(5.0f, rollup.getPh().getMin(), "PH Min is lowered");
+        assertEquals(6.4f, rollup.getPh().getLast(), "Older reading is not the last");
+        assertEquals(BUCKET.plusMinutes(30), rollup.getLastDate(), "Last date is kept");
+    }
+
+    @Test
+    public void testDeleteRollups() {
+        int deleted = dao.deleteRollups(1, HistoryResolution.HOUR, BUCKET.plusHours(1), 10);
+
+        assertEquals(1, deleted, "Only buckets before the date are deleted");
+        assertEquals(1, dao.getRollups(Sets.newHashSet(1, 2), HistoryResolution.HOUR, null, null).stream()
+                .filter(r -> r.getSystemId() == 1).count(), "Remaining buckets of the system");
+    }
+
+    @Test
+    public void testGetRollupBackfills() {
+        List<GrowChamberRollupBackfill> backfills = dao.getRollupBackfills();
+
+        assertEquals(2, backfills.size(), "Backfill Count");
+        assertEquals(1, backfills.get(0).getSystemId(), "Ordered by system id");
+        assertNull(backfills.get(0).getLastId(), "Backfill that has not started");
+        assertEquals(LocalDateTime.of(2026, 10, 16, 10, 0), backfills.get(1).getLastDate(), "Last date");
+        assertEquals(5, backfills.get(1).getLastId(), "Last id");
+    }
+
+    @Test
+    public void testLockRollupBackfills() {
+        List<GrowChamberRollupBackfill> backfills = dao.lockRollupBackfills(Sets.newHashSet(2, 3));
+
+        assertEquals(1, backfills.size(), "Systems without a backfill are left out");
+        assertEquals(2, backfills.get(0).getSystemId(), "System id");
+    }
+
+    @Test
+    public void testUpdateRollupBackfill() {
+        GrowChamberRollupBackfill backfill = dao.getRollupBackfills().get(1);
+        backfill.setLastDate(LocalDateTime.of(2026, 10, 16, 11, 0));
+        backfill.setLastId(9);
+
+        assertTrue(dao.updateRollupBackfill(backfill, 5), "Progress is saved");
+        assertFalse(dao.updateRollupBackfill(backfill, 5), "Batch that was already saved is not saved again");
+        assertEquals(9, dao.getRollupBackfills().get(1).getLastId(), "Last id");
+    }
+
+    @Test
+    public void testUpdateRollupBackfillNotStarted() {
+        GrowChamberRollupBackfill backfill = dao.getRollupBackfills().get(0);
+        backfill.setLastDate(LocalDateTime.of(2026, 10, 16, 11, 0));
+        backfill.setLastId(3);
+
+        assertTrue(dao.updateRollupBackfill(backfill, null), "Null last id matches a backfill that has not started");
+        assertFalse(dao.updateRollupBackfill(backfill, null), "First batch is not saved twice");
+    }
+
+    @Test
+    public void testDeleteRollupBackfill() {
+        assertFalse(dao.deleteRollupBackfill(2, 4), "Backfill that moved on is kept");
+        assertTrue(dao.deleteRollupBackfill(2, 5), "Backfill is removed");
+        assertEquals(1, dao.getRollupBackfills().size(), "Remaining backfills");
+    }
+
+    private GrowChamberRollup rollup(int systemId, LocalDateTime bucketDate, float ph, LocalDateTime lastDate) {
+        GrowChamberRollup rollup = new GrowChamberRollup();
+        rollup.setSystemId(systemId);
+        rollup.setResolution(HistoryResolution.HOUR);
+        rollup.setBucketDate(bucketDate);
+        rollup.setCount(1);
+        rollup.setLastDate(lastDate);
+        rollup.setPh(summary(ph));
+        rollup.setTds(summary(400.0f));
+        rollup.setWaterTemp(summary(20.0f));
+        rollup.setAirTemp(summary(24.0f));
+        rollup.setHumidity(summary(50.0f));
+        return rollup;
+    }
+
+    private MetricSummary summary(float value) {
+        MetricSummary summary = new MetricSummary();
+        summary.setMin(value);
+        summary.setMax(value);
+        summary.setSum(value);
+        summary.setLast(value);
+        return summary;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hydro.insite_grow_chamber_history_microservice.dao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.test.factory.annotations.HydroDaoTest;
+import com.hydro.utility.HydroDAOTestConfig;
+
+/**
+ * Test class for the Grow Chamber Seq DAO.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@Sql("/scripts/history/growChamberSeqDAO/init.sql")
+@ContextConfiguration(classes = HydroDAOTestConfig.class)
+@HydroDaoTest
+public class GrowChamberSeqDAOTest {
+
+    @Autowired
+    private GrowChamberSeqDAO dao;
+
+    @Test
+    public void testClaimSeqsIgnoresClaimedSeqs() {
+        int claimed = dao.claimSeqs(200, Arrays.asList(log(1, 11), log(1, 12), log(2, 11)));
+
+        assertEquals(2, claimed, "Seq that is already claimed is ignored");
+        List<GrowChamberLog> seqs = dao.getClaimedSeqs(200);
+        assertEquals(2, seqs.size(), "Claimed Seq Count");
+        assertTrue(seqs.stream().noneMatch(l -> l.getSystemId() == 1 && l.getSeq() == 11),
+                   "Seq of the earlier claim is not part of this claim");
+    }
+
+    @Test
+    public void testUpdateSeqLogIds() {
+        dao.claimSeqs(200, Arrays.asList(log(1, 12)));
+
+        dao.updateSeqLogIds(200, Arrays.asList(log(1, 11, 9), log(1, 12, 8)));
+
+        List<GrowChamberLog> seqs = dao.getSeqs(1, Sets.newHashSet(11L, 12L));
+        assertEquals(2, seqs.size(), "Seq Count");
+        assertEquals(5, seqs.stream().filter(l -> l.getSeq() == 11).findFirst().get().getId(),
+                     "Log id of another claim is not changed");
+        assertEquals(8, seqs.stream().filter(l -> l.getSeq() == 12).findFirst().get().getId(),
+                     "Log id of the claim");
+    }
+
+    @Test
+    public void testDeleteSeqsBefore() {
+        int deleted = dao.deleteSeqsBefore(LocalDateTime.of(2026, 10, 15, 0, 0), 1);
+
+        assertEquals(1, deleted, "Only seqs claimed before the date are deleted");
+        assertEquals(1, dao.getSeqs(1, Sets.newHashSet(10L, 11L)).size(), "Remaining Seq Count");
+    }
+
+    @Test
+    public void testDeleteSeqs() {
+        dao.deleteSeqs(1);
+
+        assertTrue(dao.getSeqs(1, Sets.newHashSet(10L, 11L)).isEmpty(), "Seqs of the system are deleted");
+    }
+
+    private GrowChamberLog log(int systemId, long seq) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setSystemId(systemId);
+        log.setSeq(seq);
+        return log;
+    }
+
+    private GrowChamberLog log(int systemId, long seq, int id) {
+        GrowChamberLog log = log(systemId, seq);
+        log.setId(id);
+        return log;
+    }
+}
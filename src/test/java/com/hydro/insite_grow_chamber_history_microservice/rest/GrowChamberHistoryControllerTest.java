@@ -0,0 +1,309 @@
+package com.hydro.insite_grow_chamber_history_microservice.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.MediaType.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.jwt.utility.JwtHolder;
+import com.hydro.configs.ObjectMapperConfiguration;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.ExportFormat;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.mapper.GrowChamberLogRowWriter;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberHistoryService;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberIngestBuffer;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberIngestRateLimiter;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber History Controller.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class GrowChamberHistoryControllerTest {
+    private static final String CSV = "id,systemId,ph,tds,waterTemp,airTemp,humidity,lightsOn,insertDate\n"
+            + "12,7,6.5,800.0,21.5,24.0,55.0,true,2026-10-18T09:30:00\n";
+    private static final String NDJSON = "{\"id\":12,\"systemId\":7,\"ph\":6.5,\"tds\":800.0,\"waterTemp\":21.5,"
+            + "\"airTemp\":24.0,\"humidity\":55.0,\"lightsOn\":true,\"insertDate\":\"2026-10-18T09:30:00\"}\n";
+
+    @Mock
+    private GrowChamberHistoryService service;
+
+    @Mock
+    private GrowChamberIngestBuffer ingestBuffer;
+
+    @Mock
+    private GrowChamberIngestRateLimiter rateLimiter;
+
+    @Mock
+    private JwtHolder jwtHolder;
+
+    @InjectMocks
+    private GrowChamberHistoryController controller;
+
+    private GrowChamberLog log;
+
+    private MockMvc mvc;
+
+    private ObjectMapper cborMapper;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        log = new GrowChamberLog();
+        log.setId(12);
+        log.setSystemId(7);
+        log.setPh(6.5f);
+        log.setTds(800.0f);
+        log.setWaterTemp(21.5f);
+        log.setAirTemp(24.0f);
+        log.setHumidity(55.0f);
+        log.setLightsOn(true);
+        log.setInsertDate(LocalDateTime.of(2026, 10, 18, 9, 30));
+
+        ObjectMapperConfiguration mappers = new ObjectMapperConfiguration();
+        cborMapper = mappers.cborHttpMessageConverter().getObjectMapper();
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(mappers.objectMapper()),
+                                      mappers.cborHttpMessageConverter())
+                .build();
+
+        HydroSystem system = new HydroSystem();
+        system.setId(4);
+        lenient().when(jwtHolder.getWebRole()).thenReturn(WebRole.SYSTEM);
+        lenient().when(jwtHolder.getSystem()).thenReturn(system);
+        lenient().when(rateLimiter.tryAcquire(eq(4), anyInt())).thenReturn(true);
+
+        lenient().doAnswer(invocation -> {
+            GrowChamberLogRowWriter writer = new GrowChamberLogRowWriter(new JsonFactory(), invocation.getArgument(1),
+                                                                         invocation.<OutputStream>getArgument(2));
+            writer.write(log);
+            writer.flush();
+            return null;
+        }).when(service).exportGrowChamberLogs(any(), any(), any());
+    }
+
+    @Test
+    public void testInsertUsesTokenSystem() {
+        when(service.insertGrowChamberLog(log)).thenReturn(log);
+
+        ResponseEntity<GrowChamberLog> response = controller.insertGrowChamberLog(log);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "Status");
+        assertEquals(4, log.getSystemId(), "System id is taken from the token");
+    }
+
+    @Test
+    public void testInsertBatchChargesRemainingRows() {
+        GrowChamberLog other = new GrowChamberLog();
+        other.setSystemId(9);
+        List<GrowChamberLog> logs = List.of(log, other, new GrowChamberLog());
+        when(service.insertGrowChamberLogs(logs)).thenReturn(List.of(12, 13, 14));
+
+        ResponseEntity<List<Integer>> response = controller.insertGrowChamberLogs(logs);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "Status");
+        assertTrue(logs.stream().allMatch(l -> l.getSystemId() == 4), "Every log is bound to the token system");
+        verify(rateLimiter).tryAcquire(4, 2);
+    }
+
+    @Test
+    public void testInsertBatchRateLimited() {
+        when(rateLimiter.tryAcquire(4, 1)).thenReturn(false);
+        when(rateLimiter.getRetryAfterSeconds(4, 2)).thenReturn(3L);
+
+        ResponseEntity<List<Integer>> response = controller.insertGrowChamberLogs(List.of(log, new GrowChamberLog()));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode(), "Status");
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER), "Retry After");
+        verify(service, never()).insertGrowChamberLogs(anyList());
+        verify(ingestBuffer, never()).offer(anyList());
+    }
+
+    @Test
+    public void testBackfillRateLimited() {
+        when(rateLimiter.tryAcquire(4, 1)).thenReturn(false);
+        when(rateLimiter.getRetryAfterSeconds(4, 2)).thenReturn(1L);
+
+        ResponseEntity<List<Integer>> response = controller.backfillGrowChamberLogs(List.of(log,
+                                                                                            new GrowChamberLog()));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode(), "Status");
+        assertEquals(4, log.getSystemId(), "System id is taken from the token");
+        verify(service, never()).backfillGrowChamberLogs(anyList());
+    }
+
+    @Test
+    public void testInsertCborRoundTrip() throws Exception {
+        when(service.insertGrowChamberLog(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MvcResult result = mvc
+                .perform(post("/api/grow-chamber-history-app/logs").contentType(APPLICATION_CBOR)
+                        .accept(APPLICATION_CBOR).content(cborMapper.writeValueAsBytes(log)))
+                .andExpect(status().isOk()).andExpect(content().contentType(APPLICATION_CBOR)).andReturn();
+
+        ArgumentCaptor<GrowChamberLog> captor = ArgumentCaptor.forClass(GrowChamberLog.class);
+        verify(service).insertGrowChamberLog(captor.capture());
+        assertEquals(6.5f, captor.getValue().getPh(), "PH is read from the CBOR body");
+        assertEquals(log.getInsertDate(), captor.getValue().getInsertDate(), "Insert date is read from the CBOR body");
+
+        GrowChamberLog response = cborMapper.readValue(result.getResponse().getContentAsByteArray(),
+                                                       GrowChamberLog.class);
+        assertEquals(12, response.getId(), "Id");
+        assertEquals(4, response.getSystemId(), "System id is taken from the token");
+        assertEquals(6.5f, response.getPh(), "PH");
+        assertEquals(800.0f, response.getTds(), "TDS");
+        assertEquals(21.5f, response.getWaterTemp(), "Water Temp");
+        assertEquals(24.0f, response.getAirTemp(), "Air Temp");
+        assertEquals(55.0f, response.getHumidity(), "Humidity");
+        assertTrue(response.isLightsOn(), "Lights On");
+        assertEquals(log.getInsertDate(), response.getInsertDate(), "Insert Date");
+    }
+
+    @Test
+    public void testInsertBatchCborRoundTrip() throws Exception {
+        when(service.insertGrowChamberLogs(anyList())).thenReturn(List.of(12, 13));
+
+        MvcResult result = mvc
+                .perform(post("/api/grow-chamber-history-app/logs/batch").contentType(APPLICATION_CBOR)
+                        .accept(APPLICATION_CBOR).content(cborMapper.writeValueAsBytes(List.of(log, log))))
+                .andExpect(status().isOk()).andExpect(content().contentType(APPLICATION_CBOR)).andReturn();
+
+        assertEquals(List.of(12, 13), cborMapper.readValue(result.getResponse().getContentAsByteArray(),
+                                                           new TypeReference<List<Integer>>() {}),
+                     "Ids are written as CBOR");
+        verify(rateLimiter).tryAcquire(4, 1);
+    }
+
+    @Test
+    public void testGetLogsCborIsSmallerThanJson() throws Exception {
+        when(service.getGrowChamberLogs(any())).thenReturn(List.of(log, log, log));
+
+        byte[] cbor = mvc.perform(get("/api/grow-chamber-history-app/logs").accept(APPLICATION_CBOR))
+                .andExpect(status().isOk()).andExpect(content().contentType(APPLICATION_CBOR)).andReturn()
+                .getResponse().getContentAsByteArray();
+        byte[] json = mvc.perform(get("/api/grow-chamber-history-app/logs").accept(APPLICATION_JSON))
+                .andExpect(status().isOk()).andExpect(content().contentType(APPLICATION_JSON)).andReturn()
+                .getResponse().getContentAsByteArray();
+
+        List<GrowChamberLog> logs = cborMapper.readValue(cbor, new TypeReference<List<GrowChamberLog>>() {});
+        assertEquals(3, logs.size(), "Log Count");
+        assertEquals(6.5f, logs.get(0).getPh(), "PH");
+        assertTrue(cbor.length < json.length, "CBOR body is smaller than the JSON body");
+    }
+
+    @Test
+    public void testExportCsv() throws Exception {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportGrowChamberLogs(7, ExportFormat.CSV, null,
+                                                                                          request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "Status");
+        assertEquals("text/csv", response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE), "Content Type");
+        assertTrue(request.getSystemId().contains(7), "System id is set from the path");
+        assertEquals(CSV, write(response), "CSV body");
+        verify(service).exportGrowChamberLogs(eq(request), eq(ExportFormat.CSV), any());
+    }
+
+    @Test
+    public void testExportNdjson() throws Exception {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportGrowChamberLogs(7, ExportFormat.NDJSON,
+                                                                                          "text/csv", request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "Status");
+        assertEquals("application/x-ndjson", response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE), "Content Type");
+        assertEquals(NDJSON, write(response), "NDJSON body");
+        verify(service).exportGrowChamberLogs(eq(request), eq(ExportFormat.NDJSON), any());
+    }
+
+    @Test
+    public void testExportAcceptCsv() throws Exception {
+        MockHttpServletResponse response = export(get("/api/grow-chamber-history-app/logs/7/export")
+                .accept("text/csv"));
+
+        assertEquals("text/csv", response.getContentType(), "Content Type");
+        assertEquals(CSV, response.getContentAsString(), "CSV body");
+        verify(service).exportGrowChamberLogs(argThat(r -> r.getSystemId().contains(7)), eq(ExportFormat.CSV), any());
+    }
+
+    @Test
+    public void testExportAcceptNdjson() throws Exception {
+        MockHttpServletResponse response = export(get("/api/grow-chamber-history-app/logs/7/export")
+                .accept("application/x-ndjson"));
+
+        assertEquals("application/x-ndjson", response.getContentType(), "Content Type");
+        assertEquals(NDJSON, response.getContentAsString(), "NDJSON body");
+        verify(service).exportGrowChamberLogs(any(), eq(ExportFormat.NDJSON), any());
+    }
+
+    @Test
+    public void testExportAcceptPrefersHigherQuality() throws Exception {
+        MockHttpServletResponse response = export(get("/api/grow-chamber-history-app/logs/7/export")
+                .header(HttpHeaders.ACCEPT, "application/x-ndjson;q=0.5, text/csv"));
+
+        assertEquals("text/csv", response.getContentType(), "Content Type");
+        assertEquals(CSV, response.getContentAsString(), "CSV body");
+    }
+
+    @Test
+    public void testExportAcceptAnyDefaultsToNdjson() throws Exception {
+        MockHttpServletResponse response = export(get("/api/grow-chamber-history-app/logs/7/export").accept(ALL));
+
+        assertEquals("application/x-ndjson", response.getContentType(), "Content Type");
+        assertEquals(NDJSON, response.getContentAsString(), "NDJSON body");
+    }
+
+    @Test
+    public void testExportFormatParameterWinsOverAccept() throws Exception {
+        MockHttpServletResponse response = export(get("/api/grow-chamber-history-app/logs/7/export")
+                .param("format", "CSV").accept("application/x-ndjson"));
+
+        assertEquals("text/csv", response.getContentType(), "Content Type");
+        assertEquals(CSV, response.getContentAsString(), "CSV body");
+    }
+
+    private MockHttpServletResponse export(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mvc.perform(asyncDispatch(result)).andExpect(status().isOk()).andReturn().getResponse();
+    }
+
+    private String write(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
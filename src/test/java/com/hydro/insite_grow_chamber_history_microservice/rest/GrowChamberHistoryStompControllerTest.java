@@ -0,0 +1,153 @@
+package com.hydro.insite_grow_chamber_history_microservice.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.security.Principal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberHistoryService;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberIngestBuffer;
+import com.hydro.insite_grow_chamber_history_microservice.service.GrowChamberIngestRateLimiter;
+import com.hydro.insite_subscription_microservice.client.SubscriptionNotifierClient;
+import com.hydro.insite_subscription_microservice.client.domain.NotificationSocket;
+import com.hydro.insite_subscription_microservice.client.domain.SystemPrincipal;
+import com.hydro.insite_subscription_microservice.notification.IngestRejectedNotification;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber History Stomp Controller.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class GrowChamberHistoryStompControllerTest {
+    private static final String SESSION = "4f0c9a2e-session";
+
+    @Mock
+    private GrowChamberHistoryService service;
+
+    @Mock
+    private GrowChamberIngestBuffer ingestBuffer;
+
+    @Mock
+    private GrowChamberIngestRateLimiter rateLimiter;
+
+    @Mock
+    private SubscriptionNotifierClient subscriptionNotifierClient;
+
+    @InjectMocks
+    private GrowChamberHistoryStompController controller;
+
+    private SystemPrincipal principal;
+
+    @BeforeEach
+    public void setup() {
+        HydroSystem system = new HydroSystem();
+        system.setId(4);
+        principal = new SystemPrincipal(SESSION, system);
+
+        lenient().when(rateLimiter.tryAcquire(eq(4), anyInt())).thenReturn(true);
+    }
+
+    @Test
+    public void testInsertInlineUsesSessionSystem() {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setSystemId(99);
+
+        controller.insertGrowChamberLog(log, principal);
+
+        verify(service).insertGrowChamberLogs(List.of(log));
+        assertEquals(4, log.getSystemId(), "System Id");
+        verify(subscriptionNotifierClient, never()).sendToSystem(any(), anyString(), anyString());
+    }
+
+    @Test
+    public void testInsertBufferedAccepted() {
+        List<GrowChamberLog> logs = List.of(new GrowChamberLog(), new GrowChamberLog());
+        when(ingestBuffer.isEnabled()).thenReturn(true);
+        when(ingestBuffer.offer(logs)).thenReturn(true);
+
+        controller.insertGrowChamberLogs(logs, principal);
+
+        verify(service, never()).insertGrowChamberLogs(anyList());
+        verify(subscriptionNotifierClient, never()).sendToSystem(any(), anyString(), anyString());
+    }
+
+    @Test
+    public void testInsertBufferFullNotifiesSession() {
+        List<GrowChamberLog> logs = List.of(new GrowChamberLog(), new GrowChamberLog(), new GrowChamberLog());
+        when(ingestBuffer.isEnabled()).thenReturn(true);
+        when(ingestBuffer.offer(logs)).thenReturn(false);
+
+        controller.insertGrowChamberLogs(logs, principal);
+
+        IngestRejectedNotification notification = captureRejection();
+        assertEquals(503, notification.getStatus(), "Status");
+        assertEquals(3, notification.getLogCount(), "Log Count");
+        assertNull(notification.getRetryAfterSeconds(), "Retry After");
+    }
+
+    @Test
+    public void testInsertRateLimitedNotifiesSession() {
+        when(rateLimiter.tryAcquire(eq(4), anyInt())).thenReturn(false);
+        when(rateLimiter.getRetryAfterSeconds(eq(4), anyInt())).thenReturn(2L);
+
+        controller.insertGrowChamberLogs(List.of(new GrowChamberLog(), new GrowChamberLog()), principal);
+
+        verify(rateLimiter).tryAcquire(4, 2);
+        verify(service, never()).insertGrowChamberLogs(anyList());
+        verify(ingestBuffer, never()).offer(anyList());
+        IngestRejectedNotification notification = captureRejection();
+        assertEquals(429, notification.getStatus(), "Status");
+        assertEquals(2, notification.getLogCount(), "Log Count");
+        assertEquals(2L, notification.getRetryAfterSeconds(), "Retry After");
+    }
+
+    @Test
+    public void testInsertNonSystemPrincipal() {
+        Principal user = () -> "user-session";
+
+        InsufficientPermissionsException e = assertThrows(InsufficientPermissionsException.class,
+                                                          () -> controller.insertGrowChamberLog(new GrowChamberLog(),
+                                                                                                user));
+
+        assertEquals("Insufficient permissions! Only systems can send logs.", e.getMessage(), "Exception Message");
+        verify(service, never()).insertGrowChamberLogs(anyList());
+    }
+
+    @Test
+    public void testHandleExceptionNotifiesSession() {
+        controller.handleException(new IllegalArgumentException("Invalid grow chamber log"), principal);
+
+        IngestRejectedNotification notification = captureRejection();
+        assertEquals(400, notification.getStatus(), "Status");
+        assertEquals("Invalid grow chamber log", notification.getMessage(), "Message");
+    }
+
+    @Test
+    public void testHandleExceptionUnexpectedError() {
+        controller.handleException(new IllegalStateException("Connection lost"), principal);
+
+        assertEquals(500, captureRejection().getStatus(), "Status");
+    }
+
+    private IngestRejectedNotification captureRejection() {
+        ArgumentCaptor<IngestRejectedNotification> captor = ArgumentCaptor.forClass(IngestRejectedNotification.class);
+        verify(subscriptionNotifierClient).sendToSystem(captor.capture(),
+                                                        eq(NotificationSocket.QUEUE_SYSTEM_INGEST_NOTIFICATION),
+                                                        eq(SESSION));
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,224 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.AlertRuleOperator;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberAlertRule;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberMetric;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberAlertRuleGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberAlertRuleDAO;
+import com.hydro.insite_hydro_system_microservice.client.HydroSystemClient;
+import com.hydro.insite_hydro_system_microservice.client.domain.request.HydroSystemGetRequest;
+import com.hydro.insite_subscription_microservice.client.SubscriptionNotifierClient;
+import com.hydro.insite_subscription_microservice.notification.AlertRuleNotification;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Alert Rule Engine.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@HydroServiceTest
+public class GrowChamberAlertRuleEngineTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 17, 0, 0);
+
+    @Mock
+    private GrowChamberAlertRuleDAO dao;
+
+    @Mock
+    private HydroSystemClient hydroSystemClient;
+
+    @Mock
+    private SubscriptionNotifierClient subscriptionNotifierClient;
+
+    @InjectMocks
+    private GrowChamberAlertRuleEngine ruleEngine;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(ruleEngine, "enabled", true);
+
+        HydroSystem system = new HydroSystem();
+        system.setId(4);
+        system.setName("Basil");
+        system.setOwnerUserId(12);
+        lenient().when(hydroSystemClient.getSystems(any(HydroSystemGetRequest.class))).thenReturn(List.of(system));
+        lenient().when(hydroSystemClient.hasSystemAccess(4, 20)).thenReturn(true);
+    }
+
+    @Test
+    public void testRuleFiresOnceConditionHoldsForDuration() {
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule(5.5f)));
+        ruleEngine.loadRules();
+
+        ruleEngine.evaluate(logs(0, 10, 5.4f, true));
+        verify(subscriptionNotifierClient, never()).sendToUser(any(AlertRuleNotification.class), anyInt());
+
+        ruleEngine.evaluate(logs(10, 3, 5.4f, true));
+        ArgumentCaptor<AlertRuleNotification> captor = ArgumentCaptor.forClass(AlertRuleNotification.class);
+        verify(subscriptionNotifierClient, times(1)).sendToUser(captor.capture(), eq(20));
+        assertEquals("Rule 'Low pH' on system 'Basil': PH of 5.40 has been below 5.50 for 10 minutes",
+                     captor.getValue().getMessage(), "Message");
+        assertEquals(START.plusMinutes(10), captor.getValue().getCreated(), "Created");
+        assertEquals(3, captor.getValue().getRuleId(), "Rule Id");
+    }
+
+    @Test
+    public void testLightsOffRestartsCondition() {
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule(5.5f)));
+        ruleEngine.loadRules();
+
+        ruleEngine.evaluate(logs(0, 6, 5.4f, true));
+        ruleEngine.evaluate(logs(6, 1, 5.4f, false));
+        ruleEngine.evaluate(logs(7, 10, 5.4f, true));
+        verify(subscriptionNotifierClient, never()).sendToUser(any(AlertRuleNotification.class), anyInt());
+
+        ruleEngine.evaluate(logs(17, 1, 5.4f, true));
+        verify(subscriptionNotifierClient, times(1)).sendToUser(any(AlertRuleNotification.class), eq(20));
+    }
+
+    @Test
+    public void testReloadKeepsStateOfUnchangedRules() {
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule(5.5f)));
+        ruleEngine.loadRules();
+        ruleEngine.evaluate(logs(0, 5, 5.4f, true));
+
+        ruleEngine.reload(4);
+        ruleEngine.evaluate(logs(5, 6, 5.4f, true));
+        verify(subscriptionNotifierClient, times(1)).sendToUser(any(AlertRuleNotification.class), eq(20));
+
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule(5.6f)));
+        ruleEngine.reload(4);
+        ruleEngine.evaluate(logs(11, 10, 5.4f, true));
+        verify(subscriptionNotifierClient, times(1)).sendToUser(any(AlertRuleNotification.class), eq(20));
+
+        ruleEngine.evaluate(logs(21, 1, 5.4f, true));
+        verify(subscriptionNotifierClient, times(2)).sendToUser(any(AlertRuleNotification.class), eq(20));
+    }
+
+    @Test
+    public void testOtherSystemsAreNotEvaluated() {
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule(5.5f)));
+        ruleEngine.loadRules();
+
+        List<GrowChamberLog> logs = logs(0, 20, 5.4f, true);
+        logs.forEach(l -> l.setSystemId(5));
+        ruleEngine.evaluate(logs);
+
+        verify(subscriptionNotifierClient, never()).sendToUser(any(AlertRuleNotification.class), anyInt());
+    }
+
+    @Test
+    public void testRenameKeepsStateAndUsesNewName() {
+        GrowChamberAlertRule renamed = rule(5.5f);
+        renamed.setName("Acidic");
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule(5.5f)),
+                                                                                     List.of(renamed));
+        ruleEngine.loadRules();
+        ruleEngine.evaluate(logs(0, 5, 5.4f, true));
+
+        ruleEngine.reload(4);
+        ruleEngine.evaluate(logs(5, 6, 5.4f, true));
+
+        ArgumentCaptor<AlertRuleNotification> captor = ArgumentCaptor.forClass(AlertRuleNotification.class);
+        verify(subscriptionNotifierClient, times(1)).sendToUser(captor.capture(), eq(20));
+        assertTrue(captor.getValue().getMessage().startsWith("Rule 'Acidic' on system 'Basil'"), "Message");
+    }
+
+    @Test
+    public void testUserWithoutAccessIsNotNotified() {
+        when(hydroSystemClient.hasSystemAccess(4, 20)).thenReturn(false);
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule(5.5f)));
+        ruleEngine.loadRules();
+
+        ruleEngine.evaluate(logs(0, 11, 5.4f, true));
+
+        verify(hydroSystemClient).hasSystemAccess(4, 20);
+        verify(subscriptionNotifierClient, never()).sendToUser(any(AlertRuleNotification.class), anyInt());
+    }
+
+    @Test
+    public void testFailedNotificationDoesNotStopEvaluation() {
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule(5.5f)));
+        doThrow(new IllegalStateException()).when(subscriptionNotifierClient)
+                .sendToUser(any(AlertRuleNotification.class), anyInt());
+        ruleEngine.loadRules();
+
+        assertDoesNotThrow(() -> ruleEngine.evaluate(logs(0, 11, 5.4f, true)));
+        assertDoesNotThrow(() -> ruleEngine.evaluate(logs(11, 1, 5.6f, true)));
+        assertDoesNotThrow(() -> ruleEngine.evaluate(logs(12, 11, 5.4f, true)));
+
+        verify(subscriptionNotifierClient, times(2)).sendToUser(any(AlertRuleNotification.class), eq(20));
+    }
+
+    @Test
+    public void testLoadRulesOnlyRecompilesWhenVersionChanged() {
+        when(dao.getAlertRuleVersion()).thenReturn("1:2026-10-17 00:00:00.000");
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule(5.5f)));
+        ruleEngine.loadRules();
+        ruleEngine.loadRules();
+
+        verify(dao, times(1)).getAlertRules(any(GrowChamberAlertRuleGetRequest.class));
+    }
+
+    @Test
+    public void testLoadRulesDropsRulesDeletedByAnotherInstance() {
+        when(dao.getAlertRuleVersion()).thenReturn("1:2026-10-17 00:00:00.000", "0:");
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule(5.5f)), List.of());
+        ruleEngine.loadRules();
+
+        ruleEngine.loadRules();
+        ruleEngine.evaluate(logs(0, 15, 5.4f, true));
+
+        verify(subscriptionNotifierClient, never()).sendToUser(any(AlertRuleNotification.class), anyInt());
+    }
+
+    private GrowChamberAlertRule rule(float threshold) {
+        GrowChamberAlertRule rule = new GrowChamberAlertRule();
+        rule.setId(3);
+        rule.setSystemId(4);
+        rule.setUserId(20);
+        rule.setName("Low pH");
+        rule.setMetric(GrowChamberMetric.PH);
+        rule.setOperator(AlertRuleOperator.LESS_THAN);
+        rule.setThreshold(threshold);
+        rule.setDurationMinutes(10);
+        rule.setLightStatus(true);
+        rule.setEnabled(true);
+        return rule;
+    }
+
+    /**
+     * Logs one minute apart, starting the given number of minutes after
+     * {@link #START}.
+     */
+    private List<GrowChamberLog> logs(int startMinute, int count, float ph, boolean lightsOn) {
+        List<GrowChamberLog> logs = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            GrowChamberLog log = new GrowChamberLog();
+            log.setId(startMinute + i + 1);
+            log.setSystemId(4);
+            log.setPh(ph);
+            log.setLightsOn(lightsOn);
+            log.setInsertDate(START.plusMinutes(startMinute + i));
+            logs.add(log);
+        }
+        return logs;
+    }
+}
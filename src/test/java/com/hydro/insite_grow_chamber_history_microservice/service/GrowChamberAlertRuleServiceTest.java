@@ -0,0 +1,128 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.AlertRuleOperator;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberAlertRule;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberMetric;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberAlertRuleGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberAlertRuleDAO;
+import com.hydro.insite_hydro_system_microservice.client.HydroSystemClient;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Alert Rule Service.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class GrowChamberAlertRuleServiceTest {
+
+    @Mock
+    private GrowChamberAlertRuleDAO dao;
+
+    @Mock
+    private GrowChamberAlertRuleEngine ruleEngine;
+
+    @Mock
+    private HydroSystemClient hydroSystemClient;
+
+    @Mock
+    private GrowChamberSystemAccess systemAccess;
+
+    @InjectMocks
+    private GrowChamberAlertRuleService service;
+
+    @Test
+    public void testUpdateAlertRuleByCreator() {
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule()));
+        when(systemAccess.getUserId()).thenReturn(20);
+
+        service.updateAlertRule(3, rule());
+
+        verify(dao).updateAlertRule(eq(3), any(GrowChamberAlertRule.class));
+        verify(ruleEngine).reload(4);
+    }
+
+    @Test
+    public void testDeleteAlertRuleBySystemOwner() {
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule()));
+        when(systemAccess.getUserId()).thenReturn(12);
+        when(systemAccess.isOwner(4)).thenReturn(true);
+
+        service.deleteAlertRule(3);
+
+        verify(dao).deleteAlertRule(3);
+        verify(ruleEngine).reload(4);
+    }
+
+    @Test
+    public void testDeleteAlertRuleByAdmin() {
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule()));
+        when(systemAccess.isAdmin()).thenReturn(true);
+
+        service.deleteAlertRule(3);
+
+        verify(dao).deleteAlertRule(3);
+    }
+
+    @Test
+    public void testUpdateAlertRuleBySharedUserDenied() {
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule()));
+        when(systemAccess.getUserId()).thenReturn(30);
+        when(systemAccess.isOwner(4)).thenReturn(false);
+
+        InsufficientPermissionsException e = assertThrows(InsufficientPermissionsException.class,
+                                                          () -> service.updateAlertRule(3, rule()));
+
+        verify(dao, never()).updateAlertRule(anyInt(), any(GrowChamberAlertRule.class));
+        verify(ruleEngine, never()).reload(anyInt());
+        assertEquals("Insufficient permissions! You can not change this alert rule.", e.getMessage(),
+                     "Exception Message");
+    }
+
+    @Test
+    public void testDeleteAlertRuleBySharedUserDenied() {
+        when(dao.getAlertRules(any(GrowChamberAlertRuleGetRequest.class))).thenReturn(List.of(rule()));
+        when(systemAccess.getUserId()).thenReturn(30);
+        when(systemAccess.isOwner(4)).thenReturn(false);
+
+        assertThrows(InsufficientPermissionsException.class, () -> service.deleteAlertRule(3));
+
+        verify(dao, never()).deleteAlertRule(anyInt());
+    }
+
+    @Test
+    public void testCreateAlertRuleWithoutAccessDenied() {
+        when(systemAccess.getUserId()).thenReturn(30);
+        when(hydroSystemClient.hasSystemAccess(4, 30)).thenReturn(false);
+
+        assertThrows(InsufficientPermissionsException.class, () -> service.createAlertRule(4, rule()));
+
+        verify(dao, never()).insertAlertRule(any(GrowChamberAlertRule.class));
+    }
+
+    private GrowChamberAlertRule rule() {
+        GrowChamberAlertRule rule = new GrowChamberAlertRule();
+        rule.setId(3);
+        rule.setSystemId(4);
+        rule.setUserId(20);
+        rule.setName("Low pH");
+        rule.setMetric(GrowChamberMetric.PH);
+        rule.setOperator(AlertRuleOperator.LESS_THAN);
+        rule.setThreshold(5.5f);
+        rule.setDurationMinutes(10);
+        rule.setEnabled(true);
+        return rule;
+    }
+}
@@ -0,0 +1,131 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_hydro_system_microservice.client.HydroSystemClient;
+import com.hydro.insite_hydro_system_microservice.client.domain.request.HydroSystemGetRequest;
+import com.hydro.insite_subscription_microservice.client.SubscriptionNotifierClient;
+import com.hydro.insite_subscription_microservice.notification.SystemFailureNotification;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Anomaly Detector.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@HydroServiceTest
+public class GrowChamberAnomalyDetectorTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 17, 0, 0);
+
+    @Mock
+    private HydroSystemClient hydroSystemClient;
+
+    @Mock
+    private SubscriptionNotifierClient subscriptionNotifierClient;
+
+    @InjectMocks
+    private GrowChamberAnomalyDetector detector;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(detector, "enabled", true);
+        ReflectionTestUtils.setField(detector, "alpha", 0.1);
+        ReflectionTestUtils.setField(detector, "zThreshold", 4.0);
+        ReflectionTestUtils.setField(detector, "warmupReadings", 30);
+        ReflectionTestUtils.setField(detector, "phMin", 5.0);
+        ReflectionTestUtils.setField(detector, "phMax", 7.0);
+        ReflectionTestUtils.setField(detector, "tdsMin", 300.0);
+        ReflectionTestUtils.setField(detector, "tdsMax", 1500.0);
+        ReflectionTestUtils.setField(detector, "waterTempMin", 15.0);
+        ReflectionTestUtils.setField(detector, "waterTempMax", 28.0);
+        ReflectionTestUtils.setField(detector, "airTempMin", 10.0);
+        ReflectionTestUtils.setField(detector, "airTempMax", 35.0);
+        ReflectionTestUtils.setField(detector, "phMinDeviation", 0.05);
+        ReflectionTestUtils.setField(detector, "tdsMinDeviation", 10.0);
+        ReflectionTestUtils.setField(detector, "waterTempMinDeviation", 0.2);
+        ReflectionTestUtils.setField(detector, "airTempMinDeviation", 0.3);
+        ReflectionTestUtils.setField(detector, "humidityMinDeviation", 1.0);
+
+        HydroSystem system = new HydroSystem();
+        system.setId(4);
+        system.setName("Basil");
+        system.setOwnerUserId(12);
+        lenient().when(hydroSystemClient.getSystems(any(HydroSystemGetRequest.class))).thenReturn(List.of(system));
+    }
+
+    @Test
+    public void testStaticThresholdNotifiesOncePerExcursion() {
+        detector.evaluate(List.of(log(0, 6.0f, 55f), log(1, 7.5f, 55f), log(2, 7.6f, 55f)));
+
+        ArgumentCaptor<SystemFailureNotification> captor = ArgumentCaptor.forClass(SystemFailureNotification.class);
+        verify(subscriptionNotifierClient, times(1)).sendToUser(captor.capture(), eq(12));
+        assertEquals("System 'Basil': PH of 7.50 is outside of 5.00 to 7.00", captor.getValue().getMessage(),
+                     "Message");
+        assertEquals(START.plusMinutes(1), captor.getValue().getCreated(), "Created");
+
+        detector.evaluate(List.of(log(3, 6.0f, 55f), log(4, 4.0f, 55f)));
+        verify(subscriptionNotifierClient, times(2)).sendToUser(any(SystemFailureNotification.class), eq(12));
+    }
+
+    @Test
+    public void testZScoreAfterWarmup() {
+        for(int i = 0; i < 60; i++) {
+            detector.evaluate(List.of(log(i, 6.0f, 55f + (i % 2))));
+        }
+        verify(subscriptionNotifierClient, never()).sendToUser(any(SystemFailureNotification.class), anyInt());
+
+        detector.evaluate(List.of(log(60, 6.0f, 80f)));
+
+        ArgumentCaptor<SystemFailureNotification> captor = ArgumentCaptor.forClass(SystemFailureNotification.class);
+        verify(subscriptionNotifierClient).sendToUser(captor.capture(), eq(12));
+        assertTrue(captor.getValue().getMessage().startsWith("System 'Basil': HUMIDITY of 80.00 is"), "Message");
+    }
+
+    @Test
+    public void testFailedNotificationDoesNotStopEvaluation() {
+        when(hydroSystemClient.getSystems(any(HydroSystemGetRequest.class))).thenThrow(new IllegalStateException());
+
+        assertDoesNotThrow(() -> detector.evaluate(List.of(log(0, 6.0f, 55f), log(1, 7.5f, 55f), log(2, 6.0f, 55f),
+                                                            log(3, 4.0f, 55f))));
+
+        verify(hydroSystemClient, times(2)).getSystems(any(HydroSystemGetRequest.class));
+        verify(subscriptionNotifierClient, never()).sendToUser(any(SystemFailureNotification.class), anyInt());
+    }
+
+    @Test
+    public void testDisabled() {
+        ReflectionTestUtils.setField(detector, "enabled", false);
+
+        detector.evaluate(List.of(log(0, 9.0f, 55f)));
+
+        verify(subscriptionNotifierClient, never()).sendToUser(any(SystemFailureNotification.class), anyInt());
+    }
+
+    private GrowChamberLog log(int minute, float ph, float humidity) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setId(minute + 1);
+        log.setSystemId(4);
+        log.setInsertDate(START.plusMinutes(minute));
+        log.setPh(ph);
+        log.setTds(800f);
+        log.setWaterTemp(20f);
+        log.setAirTemp(23f);
+        log.setHumidity(humidity);
+        return log;
+    }
+}
@@ -0,0 +1,122 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+
+/**
+ * Test class for the Grow Chamber Cursor.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class GrowChamberCursorTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 30, 15);
+
+    @Test
+    public void testResolveCursor() {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setId(42);
+        log.setInsertDate(NOW);
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setCursor(GrowChamberCursor.encode(log));
+
+        GrowChamberCursor.resolve(request);
+
+        assertEquals(NOW, request.getAfterTimestamp(), "After Timestamp");
+        assertEquals(42, request.getAfterId(), "After Id");
+        assertNull(request.getCursor(), "Cursor");
+    }
+
+    @Test
+    public void testResolveCursorIsOpaque() {
+        String cursor = GrowChamberCursor.encode(1760790615000L, 42);
+
+        assertFalse(cursor.contains("42"), "Id is not readable");
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), "Cursor is url safe");
+    }
+
+    @Test
+    public void testResolveWithoutKeyset() {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+
+        GrowChamberCursor.resolve(request);
+
+        assertNull(request.getAfterTimestamp(), "After Timestamp");
+        assertNull(request.getAfterId(), "After Id");
+    }
+
+    @Test
+    public void testResolveAfterTimestampAndAfterId() {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setAfterTimestamp(NOW);
+        request.setAfterId(42);
+
+        GrowChamberCursor.resolve(request);
+
+        assertEquals(NOW, request.getAfterTimestamp(), "After Timestamp");
+        assertEquals(42, request.getAfterId(), "After Id");
+    }
+
+    @Test
+    public void testResolveAfterTimestampWithoutAfterId() {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setAfterTimestamp(NOW);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> GrowChamberCursor.resolve(request));
+
+        assertEquals("After timestamp and after id must be given together.", e.getMessage(), "Exception Message");
+    }
+
+    @Test
+    public void testResolveAfterIdWithoutAfterTimestamp() {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setAfterId(42);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> GrowChamberCursor.resolve(request));
+
+        assertEquals("After timestamp and after id must be given together.", e.getMessage(), "Exception Message");
+    }
+
+    @Test
+    public void testResolveCursorWithAfterId() {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setCursor(GrowChamberCursor.encode(1760790615000L, 42));
+        request.setAfterId(42);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> GrowChamberCursor.resolve(request));
+
+        assertEquals("Cursor can not be combined with an after timestamp or after id.", e.getMessage(),
+                     "Exception Message");
+    }
+
+    @Test
+    public void testResolveInvalidCursor() {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setCursor("not a cursor!");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> GrowChamberCursor.resolve(request));
+
+        assertEquals("Invalid cursor.", e.getMessage(), "Exception Message");
+    }
+
+    @Test
+    public void testResolveCursorWithoutId() {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setCursor("MTc2MDc5MDYxNTAwMA");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> GrowChamberCursor.resolve(request));
+
+        assertEquals("Invalid cursor.", e.getMessage(), "Exception Message");
+    }
+}
@@ -0,0 +1,129 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberDeadband;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberDeadbandDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Deadband Filter.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@HydroServiceTest
+public class GrowChamberDeadbandFilterTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+    @Mock
+    private GrowChamberDeadbandDAO dao;
+
+    @InjectMocks
+    private GrowChamberDeadbandFilter deadbandFilter;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(deadbandFilter, "enabled", true);
+
+        GrowChamberDeadband deadband = new GrowChamberDeadband();
+        deadband.setSystemId(7);
+        deadband.setEnabled(true);
+        deadband.setPhThreshold(0.1f);
+        deadband.setMaxSilenceSeconds(600);
+        when(dao.getDeadbands(isNull(), eq(true))).thenReturn(Arrays.asList(deadband));
+        deadbandFilter.loadSettings();
+    }
+
+    @Test
+    public void testFilterWithinBatch() {
+        GrowChamberLog first = log(7, 0, 6.0f, true);
+        GrowChamberLog same = log(7, 1, 6.0f, true);
+        GrowChamberLog small = log(7, 2, 6.1f, true);
+        GrowChamberLog large = log(7, 3, 6.11f, true);
+        GrowChamberLog lights = log(7, 4, 6.11f, false);
+        GrowChamberLog other = log(8, 4, 6.0f, true);
+
+        Map<GrowChamberLog, GrowChamberLog> suppressed = deadbandFilter
+                .filter(Arrays.asList(first, same, small, large, lights, other));
+
+        assertEquals(2, suppressed.size(), "Suppressed Count");
+        assertSame(first, suppressed.get(same), "Unchanged reading stands in for the first");
+        assertSame(first, suppressed.get(small), "Change equal to the threshold is suppressed");
+        assertFalse(suppressed.containsKey(large), "Change past the threshold is stored");
+        assertFalse(suppressed.containsKey(lights), "Light change is stored");
+        assertFalse(suppressed.containsKey(other), "System without a deadband is stored");
+    }
+
+    @Test
+    public void testFilterAgainstLastStored() {
+        GrowChamberLog stored = log(7, 0, 6.0f, true);
+        stored.setId(42);
+        deadbandFilter.remember(List.of(stored));
+
+        GrowChamberLog same = log(7, 5, 6.0f, true);
+        GrowChamberLog heartbeat = log(7, 10, 6.0f, true);
+
+        Map<GrowChamberLog, GrowChamberLog> suppressed = deadbandFilter.filter(Arrays.asList(same, heartbeat));
+
+        assertSame(stored, suppressed.get(same), "Compared to the last stored reading");
+        assertFalse(suppressed.containsKey(heartbeat), "Max silence has passed");
+    }
+
+    @Test
+    public void testReloadRemovesDeletedSettings() {
+        when(dao.getDeadbands(anySet(), eq(true))).thenReturn(List.of());
+
+        deadbandFilter.reload(7);
+
+        assertFalse(deadbandFilter.isActive(7), "Settings were deleted");
+        assertTrue(deadbandFilter.filter(Arrays.asList(log(7, 0, 6.0f, true), log(7, 1, 6.0f, true))).isEmpty(),
+                   "Every reading is stored");
+    }
+
+    @Test
+    public void testLoadSettingsOnlyReloadsWhenVersionChanged() {
+        when(dao.getDeadbandVersion()).thenReturn("1:2026-10-17 00:00:00.000");
+        deadbandFilter.loadSettings();
+        deadbandFilter.loadSettings();
+
+        verify(dao, times(2)).getDeadbands(isNull(), eq(true));
+    }
+
+    @Test
+    public void testLoadSettingsDropsSettingsDeletedByAnotherInstance() {
+        GrowChamberLog stored = log(7, 0, 6.0f, true);
+        stored.setId(42);
+        deadbandFilter.remember(List.of(stored));
+        when(dao.getDeadbandVersion()).thenReturn("0:");
+        when(dao.getDeadbands(isNull(), eq(true))).thenReturn(List.of());
+
+        deadbandFilter.loadSettings();
+
+        assertFalse(deadbandFilter.isActive(7), "Settings were deleted");
+        assertTrue(deadbandFilter.filter(Arrays.asList(log(7, 5, 6.0f, true))).isEmpty(), "Every reading is stored");
+    }
+
+    private GrowChamberLog log(int systemId, int minute, float ph, boolean lightsOn) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setSystemId(systemId);
+        log.setPh(ph);
+        log.setLightsOn(lightsOn);
+        log.setInsertDate(NOW.plusMinutes(minute));
+        return log;
+    }
+}
@@ -0,0 +1,105 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberDeadband;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberDeadbandDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Deadband Service.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class GrowChamberDeadbandServiceTest {
+
+    @Mock
+    private GrowChamberDeadbandDAO dao;
+
+    @Mock
+    private GrowChamberDeadbandFilter deadbandFilter;
+
+    @Mock
+    private GrowChamberSystemAccess systemAccess;
+
+    @InjectMocks
+    private GrowChamberDeadbandService service;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(service, "maxSilenceSeconds", 3600);
+        ReflectionTestUtils.setField(service, "maxPhThreshold", 1.0f);
+        ReflectionTestUtils.setField(service, "maxTdsThreshold", 200f);
+        ReflectionTestUtils.setField(service, "maxWaterTempThreshold", 5f);
+        ReflectionTestUtils.setField(service, "maxAirTempThreshold", 5f);
+        ReflectionTestUtils.setField(service, "maxHumidityThreshold", 20f);
+    }
+
+    @Test
+    public void testSaveDeadband() {
+        GrowChamberDeadband deadband = deadband(0.1f, 600);
+        when(dao.getDeadbands(anySet(), isNull())).thenReturn(List.of(deadband));
+
+        service.saveDeadband(7, deadband);
+
+        verify(systemAccess).checkOwner(7);
+        verify(dao).upsertDeadband(deadband);
+        verify(deadbandFilter).reload(7);
+        assertEquals(7, deadband.getSystemId(), "System Id");
+    }
+
+    @Test
+    public void testSaveDeadbandNotOwner() {
+        doThrow(new InsufficientPermissionsException("Insufficient permissions!")).when(systemAccess).checkOwner(7);
+
+        assertThrows(InsufficientPermissionsException.class, () -> service.saveDeadband(7, deadband(0.1f, 600)));
+
+        verify(dao, never()).upsertDeadband(any(GrowChamberDeadband.class));
+        verify(deadbandFilter, never()).reload(anyInt());
+    }
+
+    @Test
+    public void testDeleteDeadbandNotOwner() {
+        doThrow(new InsufficientPermissionsException("Insufficient permissions!")).when(systemAccess).checkOwner(7);
+
+        assertThrows(InsufficientPermissionsException.class, () -> service.deleteDeadband(7));
+
+        verify(dao, never()).deleteDeadband(anyInt());
+    }
+
+    @Test
+    public void testSaveDeadbandAboveLimits() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> service.saveDeadband(7, deadband(0.1f, 86400)));
+        assertEquals("Deadband max silence can be at most 3600 seconds.", e.getMessage(), "Exception Message");
+
+        e = assertThrows(IllegalArgumentException.class, () -> service.saveDeadband(7, deadband(5f, 600)));
+        assertEquals("Deadband pH threshold can be at most 1.0.", e.getMessage(), "Exception Message");
+
+        verify(dao, never()).upsertDeadband(any(GrowChamberDeadband.class));
+    }
+
+    private GrowChamberDeadband deadband(float phThreshold, int maxSilenceSeconds) {
+        GrowChamberDeadband deadband = new GrowChamberDeadband();
+        deadband.setPhThreshold(phThreshold);
+        deadband.setTdsThreshold(10f);
+        deadband.setWaterTempThreshold(0.2f);
+        deadband.setAirTempThreshold(0.2f);
+        deadband.setHumidityThreshold(1f);
+        deadband.setMaxSilenceSeconds(maxSilenceSeconds);
+        return deadband;
+    }
+}
@@ -0,0 +1,570 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.archive.GrowChamberArchive;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLogColumns;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberSeries;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberSeriesSegment;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberStats;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberHistoryDAO;
+import com.hydro.insite_subscription_microservice.client.SubscriptionNotifierClient;
+import com.hydro.insite_subscription_microservice.notification.TelemetryNotification;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber History Service.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@HydroServiceTest
+public class GrowChamberHistoryServiceTest {
+
+    @Mock
+    private GrowChamberHistoryDAO dao;
+
+    @Mock
+    private GrowChamberRollupService rollupService;
+
+    @Mock
+    private GrowChamberLightCycleService lightCycleService;
+
+    @Mock
+    private GrowChamberSeriesPlanner seriesPlanner;
+
+    @Mock
+    private GrowChamberLatestCache latestCache;
+
+    @Mock
+    private GrowChamberHotWindow hotWindow;
+
+    @Mock
+    private GrowChamberAnomalyDetector anomalyDetector;
+
+    @Mock
+    private GrowChamberAlertRuleEngine ruleEngine;
+
+    @Mock
+    private GrowChamberIngestDeduplicator deduplicator;
+
+    @Mock
+    private GrowChamberDeadbandFilter deadbandFilter;
+
+    @Mock
+    private SubscriptionNotifierClient subscriptionNotifierClient;
+
+    @Mock
+    private GrowChamberArchive archive;
+
+    @InjectMocks
+    private GrowChamberHistoryService service;
+
+    @Test
+    public void testInsertGrowChamberLogs() {
+        GrowChamberLog l1 = new GrowChamberLog();
+        GrowChamberLog l2 = new GrowChamberLog();
+        when(dao.insertGrowChamberLogs(anyList())).thenReturn(Arrays.asList(4, 5));
+
+        List<Integer> ids = service.insertGrowChamberLogs(Arrays.asList(l1, l2));
+
+        verify(dao).insertGrowChamberLogs(anyList());
+        verify(rollupService).recordLogs(anyList());
+        verify(lightCycleService).recordLogs(anyList());
+        verify(latestCache).update(anyList());
+        verify(hotWindow).append(anyList());
+        verify(anomalyDetector).evaluate(anyList());
+        verify(ruleEngine).evaluate(anyList());
+        verify(subscriptionNotifierClient, times(2)).send(any(TelemetryNotification.class), anyString());
+        assertEquals(Arrays.asList(4, 5), ids, "Generated ids");
+        assertEquals(4, l1.getId(), "First log id");
+        assertEquals(5, l2.getId(), "Second log id");
+        assertNotNull(l1.getInsertDate(), "Insert date should be stamped");
+        assertEquals(l1.getInsertDate(), l2.getInsertDate(), "Batch should share one insert date");
+        verify(deduplicator, never()).insertNew(anyList(), any());
+    }
+
+    @Test
+    public void testInsertGrowChamberLogsConsumerFailure() {
+        GrowChamberLog l1 = new GrowChamberLog();
+        when(dao.insertGrowChamberLogs(anyList())).thenReturn(Arrays.asList(4));
+        doThrow(new IllegalStateException()).when(anomalyDetector).evaluate(anyList());
+
+        List<Integer> ids = service.insertGrowChamberLogs(Arrays.asList(l1));
+
+        assertEquals(Arrays.asList(4), ids, "Generated ids");
+        verify(ruleEngine).evaluate(anyList());
+        verify(deadbandFilter).remember(anyList());
+    }
+
+    @Test
+    public void testInsertGrowChamberLogsEmpty() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> service.insertGrowChamberLogs(Collections.emptyList()));
+
+        verify(dao, never()).insertGrowChamberLogs(anyList());
+        assertEquals("At least one log is required for a batch insert.", e.getMessage(), "Exception Message");
+    }
+
+    @Test
+    public void testPersistGrowChamberLogsDeadband() {
+        GrowChamberLog l1 = new GrowChamberLog();
+        GrowChamberLog l2 = new GrowChamberLog();
+        GrowChamberLog l3 = new GrowChamberLog();
+        Map<GrowChamberLog, GrowChamberLog> suppressed = new IdentityHashMap<>();
+        suppressed.put(l2, l1);
+        when(deadbandFilter.filter(anyList())).thenReturn(suppressed);
+        when(dao.insertGrowChamberLogs(anyList())).thenReturn(Arrays.asList(4, 5));
+
+        List<Integer> ids = service.persistGrowChamberLogs(Arrays.asList(l1, l2, l3));
+
+        verify(dao).insertGrowChamberLogs(Arrays.asList(l1, l3));
+        verify(rollupService).recordLogs(Arrays.asList(l1, l3));
+        verify(hotWindow).append(Arrays.asList(l1, l3));
+        verify(deadbandFilter).remember(Arrays.asList(l1, l3));
+        verify(lightCycleService).recordLogs(Arrays.asList(l1, l2, l3));
+        verify(latestCache).update(Arrays.asList(l1, l2, l3));
+        verify(anomalyDetector).evaluate(Arrays.asList(l1, l2, l3));
+        verify(ruleEngine).evaluate(Arrays.asList(l1, l2, l3));
+        verify(subscriptionNotifierClient, times(3)).send(any(TelemetryNotification.class), anyString());
+        assertEquals(Arrays.asList(4, null, 5), ids, "Suppressed log has no id");
+        assertEquals(0, l2.getId(), "Suppressed log id");
+    }
+
+    @Test
+    public void testPersistGrowChamberLogsDropsDuplicatesBeforeDeadband() {
+        GrowChamberLog retry = new GrowChamberLog();
+        retry.setSeq(1L);
+        GrowChamberLog l2 = new GrowChamberLog();
+        l2.setSeq(2L);
+        GrowChamberLog l3 = new GrowChamberLog();
+        l3.setSeq(3L);
+        when(deduplicator.insertNew(anyList(), any())).thenAnswer(invocation -> {
+            List<GrowChamberLog> logs = invocation.getArgument(0);
+            logs.get(0).setId(9);
+            List<GrowChamberLog> created = new ArrayList<>(logs.subList(1, logs.size()));
+            List<Integer> ids = invocation.<Function<List<GrowChamberLog>, List<Integer>>>getArgument(1).apply(created);
+            for(int i = 0; i < ids.size(); i++) {
+                created.get(i).setId(ids.get(i));
+            }
+            return created;
+        });
+        Map<GrowChamberLog, GrowChamberLog> suppressed = new IdentityHashMap<>();
+        suppressed.put(l3, l2);
+        when(deadbandFilter.filter(anyList())).thenReturn(suppressed);
+        when(dao.insertGrowChamberLogs(anyList())).thenReturn(Arrays.asList(4));
+
+        List<Integer> ids = service.persistGrowChamberLogs(Arrays.asList(retry, l2, l3));
+
+        verify(deadbandFilter).filter(Arrays.asList(l2, l3));
+        verify(dao).insertGrowChamberLogs(Arrays.asList(l2));
+        verify(hotWindow).append(Arrays.asList(l2));
+        verify(anomalyDetector).evaluate(Arrays.asList(l2, l3));
+        verify(ruleEngine).evaluate(Arrays.asList(l2, l3));
+        assertEquals(Arrays.asList(9, 4, null), ids, "Retry keeps the id of the stored log");
+    }
+
+    @Test
+    public void testInsertGrowChamberLogStampsInsertDate() {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setSystemId(7);
+        GrowChamberLog stored = new GrowChamberLog();
+        stored.setId(5);
+        when(dao.insertGrowChamberLog(log)).thenReturn(5);
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenReturn(Arrays.asList(stored));
+
+        LocalDateTime before = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+        GrowChamberLog created = service.insertGrowChamberLog(log);
+
+        assertSame(stored, created, "Stored log");
+        assertNotNull(log.getInsertDate(), "Insert date is stamped before the insert");
+        assertFalse(log.getInsertDate().isBefore(before), "Insert date is the current time");
+        assertEquals(0, log.getInsertDate().getNano(), "Insert date is truncated to the second");
+    }
+
+    @Test
+    public void testInsertGrowChamberLogSuppressedByDeadband() {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setSystemId(7);
+        Map<GrowChamberLog, GrowChamberLog> suppressed = new IdentityHashMap<>();
+        suppressed.put(log, new GrowChamberLog());
+        when(deadbandFilter.isActive(7)).thenReturn(true);
+        when(deadbandFilter.filter(anyList())).thenReturn(suppressed);
+
+        GrowChamberLog created = service.insertGrowChamberLog(log);
+
+        assertSame(log, created, "Reading is returned as received");
+        verify(dao, never()).insertGrowChamberLogs(anyList());
+        verify(dao, never()).getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class));
+        verify(latestCache).update(List.of(log));
+        verify(ruleEngine).evaluate(List.of(log));
+    }
+
+    @Test
+    public void testGetGrowChamberLogsResolvesCursor() {
+        LocalDateTime insertDate = LocalDateTime.of(2026, 10, 18, 9, 0);
+        GrowChamberLog last = new GrowChamberLog();
+        last.setId(42);
+        last.setInsertDate(insertDate);
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setCursor(GrowChamberCursor.encode(last));
+        request.setLimit(100);
+
+        service.getGrowChamberLogs(request);
+
+        ArgumentCaptor<GrowChamberHistoryGetRequest> captor = ArgumentCaptor.forClass(GrowChamberHistoryGetRequest.class);
+        verify(dao).getGrowChamberLogs(captor.capture());
+        assertEquals(insertDate, captor.getValue().getAfterTimestamp(), "After Timestamp");
+        assertEquals(42, captor.getValue().getAfterId(), "After Id");
+    }
+
+    @Test
+    public void testGetGrowChamberLogsAfterTimestampWithoutAfterId() {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setAfterTimestamp(LocalDateTime.of(2026, 10, 18, 9, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> service.getGrowChamberLogs(request));
+        verify(dao, never()).getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class));
+    }
+
+    @Test
+    public void testGetGrowChamberLogColumnsStreamsFromDatabase() {
+        GrowChamberLogColumns columns = service.getGrowChamberLogColumns(new GrowChamberHistoryGetRequest());
+
+        verify(dao).streamGrowChamberLogs(any(GrowChamberHistoryGetRequest.class), any(RowCallbackHandler.class));
+        verify(dao, never()).getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class));
+        assertEquals(0, columns.getTimes().length, "Row Count");
+    }
+
+    @Test
+    public void testGetGrowChamberStats() {
+        LocalDateTime from = LocalDateTime.of(2026, 10, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 10, 17, 0, 0);
+        GrowChamberStats stats = new GrowChamberStats();
+        stats.setSystemId(7);
+        ArgumentCaptor<GrowChamberHistoryGetRequest> captor = ArgumentCaptor
+                .forClass(GrowChamberHistoryGetRequest.class);
+        when(dao.getGrowChamberLogStats(captor.capture())).thenReturn(Arrays.asList(stats));
+
+        List<GrowChamberStats> result = service.getGrowChamberStats(Sets.newHashSet(7, 8), from, to);
+
+        verify(dao, never()).getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class));
+        assertEquals(Sets.newHashSet(7, 8), captor.getValue().getSystemId(), "Systems of the request");
+        assertEquals(from, captor.getValue().getFrom(), "From of the request");
+        assertEquals(to, captor.getValue().getTo(), "To of the request");
+        assertNull(captor.getValue().getLimit(), "No limit on the request");
+        assertEquals(1, result.size(), "Stats Count");
+        assertEquals(from, result.get(0).getFrom(), "From of the stats");
+        assertEquals(to, result.get(0).getTo(), "To of the stats");
+    }
+
+    @Test
+    public void testGetGrowChamberStatsInvalidWindow() {
+        LocalDateTime date = LocalDateTime.of(2026, 10, 17, 0, 0);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> service.getGrowChamberStats(Sets.newHashSet(7), date, date));
+
+        verify(dao, never()).getGrowChamberLogStats(any(GrowChamberHistoryGetRequest.class));
+        assertEquals("From date must be before the to date.", e.getMessage(), "Exception Message");
+    }
+
+    @Test
+    public void testGetGrowChamberStatsBeforeArchiveBoundary() {
+        LocalDateTime boundary = LocalDateTime.now(ZoneOffset.UTC).minusMonths(3);
+        when(archive.isEnabled()).thenReturn(true);
+        when(archive.getBoundary(any(LocalDateTime.class))).thenReturn(boundary);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> service.getGrowChamberStats(Sets.newHashSet(7),
+                                                                                    boundary.minusDays(1), boundary));
+
+        verify(dao, never()).getGrowChamberLogStats(any(GrowChamberHistoryGetRequest.class));
+        assertEquals("From date is older than the history that is kept in the database.", e.getMessage(),
+                     "Exception Message");
+    }
+
+    @Test
+    public void testGetGrowChamberStatsBeforeRawRetention() {
+        ReflectionTestUtils.setField(service, "rawRetentionDays", 30);
+        LocalDateTime to = LocalDateTime.now(ZoneOffset.UTC);
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> service.getGrowChamberStats(Sets.newHashSet(7), to.minusDays(31), to));
+        verify(dao, never()).getGrowChamberLogStats(any(GrowChamberHistoryGetRequest.class));
+    }
+
+    @Test
+    public void testGetGrowChamberSeriesCapsRawSegment() {
+        LocalDateTime from = LocalDateTime.of(2026, 10, 17, 0, 0);
+        LocalDateTime mid = LocalDateTime.of(2026, 10, 17, 6, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 10, 17, 12, 0);
+        when(seriesPlanner.plan(eq(from), eq(to), eq(100), any(LocalDateTime.class)))
+                .thenReturn(Arrays.asList(new GrowChamberSeriesSegment(HistoryResolution.HOUR, from, mid),
+                                          new GrowChamberSeriesSegment(HistoryResolution.RAW, mid, to)));
+        ArgumentCaptor<GrowChamberHistoryGetRequest> captor = ArgumentCaptor
+                .forClass(GrowChamberHistoryGetRequest.class);
+        when(dao.getGrowChamberLogCounts(captor.capture())).thenReturn(Collections.emptyMap());
+
+        GrowChamberSeries series = service.getGrowChamberSeries(7, from, to, 100);
+
+        verify(rollupService).getRollups(Sets.newHashSet(7), HistoryResolution.HOUR, from, mid);
+        assertEquals(50, captor.getValue().getMaxPoints(), "Raw segment gets half of the budget");
+        assertEquals(mid, captor.getValue().getFrom(), "From of the raw segment");
+        assertEquals(2, series.getSegments().size(), "Segment Count");
+    }
+
+    @Test
+    public void testStreamGrowChamberLogsEmpty() throws IOException {
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.streamGrowChamberLogs(new GrowChamberHistoryGetRequest(), out);
+
+        verify(dao).streamGrowChamberLogs(any(GrowChamberHistoryGetRequest.class), any(RowCallbackHandler.class));
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8), "Empty array is written");
+    }
+
+    @Test
+    public void testStreamGrowChamberLogsIncludesArchive() throws IOException {
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        LocalDateTime boundary = LocalDateTime.of(2026, 8, 1, 0, 0);
+        GrowChamberLog archived = new GrowChamberLog();
+        archived.setId(3);
+        archived.setSystemId(7);
+        archived.setInsertDate(LocalDateTime.of(2026, 7, 12, 0, 0));
+        when(archive.covers(any(GrowChamberHistoryGetRequest.class), any(LocalDateTime.class))).thenReturn(true);
+        when(archive.getBoundary(any(LocalDateTime.class))).thenReturn(boundary);
+        when(archive.read(any(GrowChamberHistoryGetRequest.class))).thenReturn(Arrays.asList(archived));
+        ArgumentCaptor<GrowChamberHistoryGetRequest> captor = ArgumentCaptor
+                .forClass(GrowChamberHistoryGetRequest.class);
+
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(7));
+        request.setFrom(LocalDateTime.of(2026, 7, 10, 0, 0));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.streamGrowChamberLogs(request, out);
+
+        verify(dao).streamGrowChamberLogs(captor.capture(), any(RowCallbackHandler.class));
+        assertEquals(boundary, captor.getValue().getFrom(), "MySQL is streamed from the boundary");
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("[{\"id\":3,\"systemId\":7,"),
+                   "Archived log is written");
+    }
+
+    @Test
+    public void testGetGrowChamberLogsByIdFromArchive() {
+        GrowChamberLog archived = new GrowChamberLog();
+        archived.setId(3);
+        when(archive.isEnabled()).thenReturn(true);
+        when(archive.read(any(GrowChamberHistoryGetRequest.class))).thenReturn(Arrays.asList(archived));
+
+        GrowChamberLog log = service.getGrowChamberLogsById(3);
+
+        verify(dao).getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class));
+        assertSame(archived, log, "Log is read from the archive");
+    }
+
+    @Test
+    public void testArchiveGrowChamberLogs() {
+        LocalDateTime from = LocalDateTime.of(2026, 7, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 8, 1, 0, 0);
+        GrowChamberLog l1 = new GrowChamberLog();
+        l1.setId(3);
+        GrowChamberLog l2 = new GrowChamberLog();
+        l2.setId(4);
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenReturn(Arrays.asList(l1, l2));
+
+        int count = service.archiveGrowChamberLogs(7, from, to);
+
+        verify(archive).write(7, Arrays.asList(l1, l2));
+        verify(dao).deleteGrowChamberLogs(7, Arrays.asList(3, 4), from, to);
+        assertEquals(2, count, "Archived Count");
+    }
+
+    @Test
+    public void testArchiveGrowChamberLogsPagesThroughRange() {
+        LocalDateTime from = LocalDateTime.of(2026, 7, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 8, 1, 0, 0);
+        List<GrowChamberLog> page = new ArrayList<>();
+        for(int i = 0; i < GrowChamberArchive.SEGMENT_ROWS; i++) {
+            GrowChamberLog log = new GrowChamberLog();
+            log.setId(i + 1);
+            log.setInsertDate(from.plusSeconds(i));
+            page.add(log);
+        }
+        GrowChamberLog last = new GrowChamberLog();
+        last.setId(GrowChamberArchive.SEGMENT_ROWS + 1);
+        last.setInsertDate(from.plusDays(20));
+        List<Integer> afterIds = new ArrayList<>();
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenAnswer(invocation -> {
+            GrowChamberHistoryGetRequest request = invocation.getArgument(0);
+            assertEquals(GrowChamberArchive.SEGMENT_ROWS, request.getLimit(), "Page size");
+            afterIds.add(request.getAfterId());
+            return afterIds.size() == 1 ? page : Arrays.asList(last);
+        });
+
+        int count = service.archiveGrowChamberLogs(7, from, to);
+
+        assertEquals(Arrays.asList(null, GrowChamberArchive.SEGMENT_ROWS), afterIds, "Keyset of each page");
+        verify(archive).write(7, page);
+        verify(archive).write(7, Arrays.asList(last));
+        verify(dao, times(2)).deleteGrowChamberLogs(eq(7), anyList(), eq(from), eq(to));
+        assertEquals(GrowChamberArchive.SEGMENT_ROWS + 1, count, "Archived Count");
+    }
+
+    @Test
+    public void testGetGrowChamberLogColumnsFromHotWindow() {
+        GrowChamberLog l1 = new GrowChamberLog();
+        l1.setId(4);
+        l1.setSystemId(7);
+        l1.setPh(6.2f);
+        l1.setLightsOn(true);
+        l1.setInsertDate(LocalDateTime.of(2026, 10, 17, 12, 0));
+        GrowChamberLog l2 = new GrowChamberLog();
+        l2.setId(5);
+        l2.setSystemId(7);
+        l2.setPh(6.3f);
+        l2.setInsertDate(LocalDateTime.of(2026, 10, 17, 12, 1));
+        when(hotWindow.covers(any(GrowChamberHistoryGetRequest.class), any(LocalDateTime.class))).thenReturn(true);
+        when(hotWindow.getCoveredFrom(any(GrowChamberHistoryGetRequest.class), any(LocalDateTime.class)))
+                .thenReturn(LocalDateTime.of(2026, 10, 17, 0, 0));
+        when(hotWindow.read(any(GrowChamberHistoryGetRequest.class), any(LocalDateTime.class)))
+                .thenReturn(Arrays.asList(l1, l2));
+
+        GrowChamberLogColumns columns = service.getGrowChamberLogColumns(new GrowChamberHistoryGetRequest());
+
+        verify(dao, never()).streamGrowChamberLogs(any(GrowChamberHistoryGetRequest.class),
+                                                   any(RowCallbackHandler.class));
+        assertArrayEquals(new int[] { 4, 5 }, columns.getId(), "Ids");
+        assertArrayEquals(new float[] { 6.2f, 6.3f }, columns.getPh(), "PH");
+        assertArrayEquals(new boolean[] { true, false }, columns.getLightsOn(), "Lights On");
+        assertEquals(60000, columns.getTimes()[1] - columns.getTimes()[0], "Time between logs");
+    }
+
+    @Test
+    public void testGetGrowChamberLogsReadsOnlyOlderPartFromDatabase() {
+        LocalDateTime coveredFrom = LocalDateTime.of(2026, 10, 17, 0, 0);
+        GrowChamberLog older = new GrowChamberLog();
+        older.setId(1);
+        older.setInsertDate(coveredFrom.minusHours(1));
+        GrowChamberLog recent = new GrowChamberLog();
+        recent.setId(2);
+        recent.setInsertDate(coveredFrom.plusHours(1));
+        when(hotWindow.getCoveredFrom(any(GrowChamberHistoryGetRequest.class), any(LocalDateTime.class)))
+                .thenReturn(coveredFrom);
+        ArgumentCaptor<GrowChamberHistoryGetRequest> daoCaptor = ArgumentCaptor
+                .forClass(GrowChamberHistoryGetRequest.class);
+        when(dao.getGrowChamberLogs(daoCaptor.capture())).thenReturn(Arrays.asList(older));
+        ArgumentCaptor<GrowChamberHistoryGetRequest> windowCaptor = ArgumentCaptor
+                .forClass(GrowChamberHistoryGetRequest.class);
+        when(hotWindow.read(windowCaptor.capture(), any(LocalDateTime.class))).thenReturn(Arrays.asList(recent));
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(7));
+        request.setFrom(coveredFrom.minusDays(2));
+        request.setLimit(10);
+
+        List<GrowChamberLog> logs = service.getGrowChamberLogs(request);
+
+        assertEquals(Arrays.asList(older, recent), logs, "Older logs first");
+        assertEquals(coveredFrom.minusDays(2), daoCaptor.getValue().getFrom(), "Database from");
+        assertEquals(coveredFrom, daoCaptor.getValue().getTo(), "Database only reads up to the hot window");
+        assertEquals(coveredFrom, windowCaptor.getValue().getFrom(), "Hot window from");
+        assertEquals(9, windowCaptor.getValue().getLimit(), "Hot window gets what is left of the limit");
+    }
+
+    @Test
+    public void testGetGrowChamberLogsSkipsHotWindowOnceLimitIsReached() {
+        LocalDateTime coveredFrom = LocalDateTime.of(2026, 10, 17, 0, 0);
+        when(hotWindow.getCoveredFrom(any(GrowChamberHistoryGetRequest.class), any(LocalDateTime.class)))
+                .thenReturn(coveredFrom);
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class)))
+                .thenReturn(Arrays.asList(new GrowChamberLog()));
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(7));
+        request.setLimit(1);
+
+        assertEquals(1, service.getGrowChamberLogs(request).size(), "Row Count");
+        verify(hotWindow, never()).read(any(GrowChamberHistoryGetRequest.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    public void testGetGrowChamberLogsFallsBackWhenHotWindowMovedOn() {
+        LocalDateTime coveredFrom = LocalDateTime.of(2026, 10, 17, 0, 0);
+        when(hotWindow.getCoveredFrom(any(GrowChamberHistoryGetRequest.class), any(LocalDateTime.class)))
+                .thenReturn(coveredFrom);
+        when(hotWindow.read(any(GrowChamberHistoryGetRequest.class), any(LocalDateTime.class))).thenReturn(null);
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(7));
+        request.setFrom(coveredFrom.plusHours(1));
+
+        service.getGrowChamberLogs(request);
+
+        verify(dao).getGrowChamberLogs(request);
+    }
+
+    @Test
+    public void testBackfillGrowChamberLogs() {
+        ReflectionTestUtils.setField(service, "backfillMaxRows", 100);
+        LocalDateTime deviceDate = LocalDateTime.now(ZoneOffset.UTC).minusDays(2).withNano(123000000);
+        GrowChamberLog l1 = new GrowChamberLog();
+        l1.setDeviceDate(deviceDate);
+        GrowChamberLog l2 = new GrowChamberLog();
+        l2.setDeviceDate(deviceDate.minusMinutes(1));
+        when(dao.mergeGrowChamberLogs(anyList())).thenAnswer(invocation -> {
+            l1.setId(8);
+            l2.setId(3);
+            return Arrays.asList(l1);
+        });
+
+        List<Integer> ids = service.backfillGrowChamberLogs(Arrays.asList(l1, l2));
+
+        verify(rollupService).recordLateLogs(Arrays.asList(l1));
+        verify(lightCycleService).rebuildLogs(Arrays.asList(l1));
+        verify(latestCache).update(Arrays.asList(l1));
+        verify(hotWindow).append(Arrays.asList(l1));
+        verify(anomalyDetector, never()).evaluate(anyList());
+        verify(ruleEngine, never()).evaluate(anyList());
+        verify(subscriptionNotifierClient, never()).send(any(TelemetryNotification.class), anyString());
+        assertEquals(Arrays.asList(8, 3), ids, "Ids in request order");
+        assertEquals(deviceDate.withNano(0), l1.getInsertDate(), "Insert date should be the device date");
+    }
+
+    @Test
+    public void testBackfillGrowChamberLogsMissingDeviceDate() {
+        ReflectionTestUtils.setField(service, "backfillMaxRows", 100);
+        List<GrowChamberLog> logs = Arrays.asList(new GrowChamberLog());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> service.backfillGrowChamberLogs(logs));
+
+        verify(dao, never()).mergeGrowChamberLogs(anyList());
+        assertEquals("Device date is required for a backfill.", e.getMessage(), "Exception Message");
+    }
+}
\ No newline at end of file
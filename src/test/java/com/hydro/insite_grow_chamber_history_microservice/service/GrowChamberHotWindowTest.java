@@ -0,0 +1,219 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberHistoryDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Hot Window.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@HydroServiceTest
+public class GrowChamberHotWindowTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+    @Mock
+    private GrowChamberHistoryDAO dao;
+
+    @InjectMocks
+    private GrowChamberHotWindow hotWindow;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(hotWindow, "enabled", true);
+        ReflectionTestUtils.setField(hotWindow, "hours", 24);
+        ReflectionTestUtils.setField(hotWindow, "refreshMinutes", 5);
+        ReflectionTestUtils.setField(hotWindow, "idleMinutes", 60);
+    }
+
+    @Test
+    public void testCovers() {
+        assertTrue(hotWindow.covers(request(NOW.minusHours(1)), NOW), "Last hour");
+        assertFalse(hotWindow.covers(request(NOW.minusHours(25)), NOW), "Older than the window");
+        assertFalse(hotWindow.covers(new GrowChamberHistoryGetRequest(), NOW), "No system or from date");
+    }
+
+    @Test
+    public void testReadLoadsOnceAndAppends() {
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenReturn(logs(1, 120));
+
+        List<GrowChamberLog> first = hotWindow.read(request(NOW.minusHours(1)), NOW);
+        hotWindow.append(logs(121, 1));
+        List<GrowChamberLog> second = hotWindow.read(request(NOW.minusHours(1)), NOW);
+
+        verify(dao, times(1)).getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class));
+        assertEquals(61, first.size(), "Logs in the last hour");
+        assertEquals(NOW.minusHours(1), first.get(0).getInsertDate(), "First Insert Date");
+        assertEquals(62, second.size(), "Logs in the last hour after append");
+        assertEquals(121, second.get(61).getId(), "Appended log id");
+        assertEquals(7, second.get(61).getSystemId(), "System Id");
+    }
+
+    @Test
+    public void testReadAppliesFiltersAndLimit() {
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenReturn(logs(1, 120));
+        GrowChamberHistoryGetRequest request = request(NOW.minusHours(2));
+        request.setTo(NOW.minusHours(1));
+        request.setAfterTimestamp(NOW.minusMinutes(110));
+        request.setAfterId(10);
+        request.setLimit(5);
+
+        List<GrowChamberLog> logs = hotWindow.read(request, NOW);
+
+        assertEquals(5, logs.size(), "Row Count");
+        assertEquals(11, logs.get(0).getId(), "First id after the cursor");
+    }
+
+    @Test
+    public void testReadKeysetBoundaryOnSharedInsertDate() {
+        List<GrowChamberLog> logs = logs(1, 120);
+        logs.subList(85, 95).forEach(l -> l.setInsertDate(NOW.minusMinutes(30)));
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenReturn(logs);
+        GrowChamberHistoryGetRequest request = request(NOW.minusHours(1));
+        request.setAfterTimestamp(NOW.minusMinutes(30));
+        request.setAfterId(90);
+        request.setLimit(6);
+
+        List<GrowChamberLog> page = hotWindow.read(request, NOW);
+
+        assertEquals(6, page.size(), "Row Count");
+        assertEquals(91, page.get(0).getId(), "First id after the cursor");
+        assertEquals(NOW.minusMinutes(30), page.get(4).getInsertDate(), "Last log with the shared insert date");
+        assertEquals(96, page.get(5).getId(), "First log after the shared insert date");
+    }
+
+    @Test
+    public void testReadKeysetAfterLastLog() {
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenReturn(logs(1, 120));
+        GrowChamberHistoryGetRequest request = request(NOW.minusHours(1));
+        request.setAfterTimestamp(NOW);
+        request.setAfterId(120);
+
+        assertTrue(hotWindow.read(request, NOW.plusMinutes(1)).isEmpty(), "Nothing after the last log");
+    }
+
+    @Test
+    public void testReadKeepsEveryLogOfTheWindow() {
+        List<GrowChamberLog> logs = new ArrayList<>();
+        for(int i = 0; i < 8000; i++) {
+            logs.add(log(i + 1, NOW.minusSeconds(8000 - i)));
+        }
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenReturn(logs);
+
+        assertEquals(8000, hotWindow.read(request(NOW.minusHours(23)), NOW).size(), "Every log of the window");
+    }
+
+    @Test
+    public void testAppendDropsLogsOlderThanTheWindow() {
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenReturn(logs(1, 120));
+        hotWindow.read(request(NOW.minusHours(1)), NOW);
+
+        hotWindow.append(Arrays.asList(log(121, NOW.plusHours(23))));
+
+        assertEquals(NOW.minusMinutes(61).plusNanos(1000000),
+                     hotWindow.getCoveredFrom(request(NOW.minusHours(1)), NOW.plusHours(23)),
+                     "Window starts after the dropped logs");
+        assertNull(hotWindow.read(request(NOW.minusHours(2)), NOW.plusHours(23)), "Start of the range was dropped");
+    }
+
+    @Test
+    public void testGetCoveredFrom() {
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenReturn(logs(1, 120));
+        GrowChamberHistoryGetRequest older = request(NOW.minusDays(3));
+        older.setTo(NOW.minusDays(2));
+
+        assertEquals(NOW.minusHours(24), hotWindow.getCoveredFrom(request(NOW.minusDays(3)), NOW),
+                     "Window holds the last hours");
+        assertNull(hotWindow.getCoveredFrom(older, NOW), "Request ends before the window");
+        assertNull(hotWindow.getCoveredFrom(new GrowChamberHistoryGetRequest(), NOW), "No system");
+    }
+
+    @Test
+    public void testReadRefreshesStaleWindow() {
+        List<GrowChamberLog> refreshed = new ArrayList<>(logs(119, 2));
+        refreshed.add(log(121, NOW.plusSeconds(30)));
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenReturn(logs(1, 120), refreshed);
+
+        hotWindow.read(request(NOW.minusHours(1)), NOW);
+        List<GrowChamberLog> fresh = hotWindow.read(request(NOW.minusHours(1)), NOW.plusMinutes(4));
+        List<GrowChamberLog> refreshedLogs = hotWindow.read(request(NOW.minusHours(1)), NOW.plusMinutes(5));
+
+        ArgumentCaptor<GrowChamberHistoryGetRequest> captor = ArgumentCaptor.forClass(GrowChamberHistoryGetRequest.class);
+        verify(dao, times(2)).getGrowChamberLogs(captor.capture());
+        assertEquals(NOW.minusHours(24), captor.getAllValues().get(0).getFrom(), "First load reads the window");
+        assertEquals(NOW.minusMinutes(1), captor.getAllValues().get(1).getFrom(),
+                     "Refresh only reads from shortly before the newest log");
+        assertEquals(120, fresh.get(fresh.size() - 1).getId(), "Window is not refreshed before the refresh minutes");
+        assertEquals(62, refreshedLogs.size(), "Logs the window already held are not added again");
+        assertEquals(121, refreshedLogs.get(61).getId(), "Log written by another instance");
+    }
+
+    @Test
+    public void testEvictIdleWindows() {
+        when(dao.getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class))).thenReturn(logs(1, 120));
+        hotWindow.read(request(NOW.minusHours(1)), NOW);
+
+        hotWindow.evictIdleWindows(NOW.plusMinutes(60));
+        hotWindow.read(request(NOW.minusHours(1)), NOW);
+        verify(dao, times(1)).getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class));
+
+        hotWindow.evictIdleWindows(NOW.plusMinutes(61));
+        hotWindow.append(logs(121, 1));
+        List<GrowChamberLog> logs = hotWindow.read(request(NOW.minusHours(1)), NOW);
+
+        verify(dao, times(2)).getGrowChamberLogs(any(GrowChamberHistoryGetRequest.class));
+        assertEquals(120, logs.get(logs.size() - 1).getId(), "Evicted window is not appended to");
+    }
+
+    private GrowChamberLog log(int id, LocalDateTime insertDate) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setId(id);
+        log.setSystemId(7);
+        log.setPh(6.0f);
+        log.setInsertDate(insertDate);
+        return log;
+    }
+
+    private GrowChamberHistoryGetRequest request(LocalDateTime from) {
+        GrowChamberHistoryGetRequest request = new GrowChamberHistoryGetRequest();
+        request.setSystemId(Sets.newHashSet(7));
+        request.setFrom(from);
+        return request;
+    }
+
+    /**
+     * Logs one minute apart, where the log with id 120 is at {@link #NOW}.
+     */
+    private List<GrowChamberLog> logs(int firstId, int count) {
+        List<GrowChamberLog> logs = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            GrowChamberLog log = new GrowChamberLog();
+            log.setId(firstId + i);
+            log.setSystemId(7);
+            log.setPh(6.0f);
+            log.setInsertDate(NOW.minusMinutes(120 - firstId - i));
+            logs.add(log);
+        }
+        return logs;
+    }
+}
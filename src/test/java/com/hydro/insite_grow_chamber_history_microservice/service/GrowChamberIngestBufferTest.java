@@ -0,0 +1,174 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberIngestStats;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Ingest Buffer.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class GrowChamberIngestBufferTest {
+    private static final long WAIT_MILLIS = 5000;
+
+    @Mock
+    private GrowChamberHistoryService service;
+
+    @InjectMocks
+    private GrowChamberIngestBuffer ingestBuffer;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(ingestBuffer, "enabled", true);
+        ReflectionTestUtils.setField(ingestBuffer, "capacity", 10);
+        ReflectionTestUtils.setField(ingestBuffer, "flushIntervalMillis", 50L);
+        ReflectionTestUtils.setField(ingestBuffer, "flushRows", 3);
+        ReflectionTestUtils.setField(ingestBuffer, "flushRetries", 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ingestBuffer.stop();
+    }
+
+    @Test
+    public void testFlushOnSize() {
+        ReflectionTestUtils.setField(ingestBuffer, "flushIntervalMillis", 60000L);
+        ingestBuffer.start();
+
+        assertTrue(ingestBuffer.offer(logs(3)), "Accepted");
+
+        verify(service, timeout(WAIT_MILLIS)).persistGrowChamberLogs(argThat(l -> l.size() == 3));
+    }
+
+    @Test
+    public void testFlushOnInterval() {
+        ReflectionTestUtils.setField(ingestBuffer, "flushRows", 100);
+        ingestBuffer.start();
+
+        assertTrue(ingestBuffer.offer(logs(2)), "Accepted");
+
+        verify(service, timeout(WAIT_MILLIS)).persistGrowChamberLogs(argThat(l -> l.size() == 2));
+        assertEquals(2, ingestBuffer.getStats().getAcceptedCount(), "Accepted Count");
+    }
+
+    @Test
+    public void testOfferBufferFull() {
+        ReflectionTestUtils.setField(ingestBuffer, "capacity", 2);
+        ingestBuffer.start();
+
+        assertFalse(ingestBuffer.offer(logs(3)), "Accepted");
+
+        GrowChamberIngestStats stats = ingestBuffer.getStats();
+        assertEquals(0, stats.getAcceptedCount(), "Accepted Count");
+        assertEquals(3, stats.getRejectedCount(), "Rejected Count");
+        verify(service, never()).persistGrowChamberLogs(anyList());
+    }
+
+    @Test
+    public void testOfferNotStarted() {
+        assertFalse(ingestBuffer.offer(logs(1)), "Accepted");
+        assertEquals(1, ingestBuffer.getStats().getRejectedCount(), "Rejected Count");
+    }
+
+    @Test
+    public void testStopDrainsQueue() {
+        ReflectionTestUtils.setField(ingestBuffer, "flushRows", 100);
+        ingestBuffer.start();
+        assertTrue(ingestBuffer.offer(logs(4)), "Accepted");
+
+        ingestBuffer.stop();
+
+        assertFalse(ingestBuffer.isRunning(), "Running");
+        assertEquals(4, ingestBuffer.getStats().getFlushedCount(), "Flushed Count");
+        assertEquals(0, ingestBuffer.getStats().getQueueDepth(), "Queue Depth");
+        assertFalse(ingestBuffer.offer(logs(1)), "Accepted after stop");
+    }
+
+    @Test
+    public void testFlushFailureIsRetried() {
+        when(service.persistGrowChamberLogs(anyList())).thenThrow(new IllegalStateException("Connection lost"))
+                .thenReturn(List.of(1, 2, 3));
+        ingestBuffer.start();
+
+        ingestBuffer.offer(logs(3));
+
+        verify(service, timeout(WAIT_MILLIS).times(2)).persistGrowChamberLogs(argThat(l -> l.size() == 3));
+        ingestBuffer.stop();
+        GrowChamberIngestStats stats = ingestBuffer.getStats();
+        assertEquals(3, stats.getFlushedCount(), "Flushed Count");
+        assertEquals(0, stats.getFailedCount(), "Failed Count");
+        assertEquals(1, stats.getRetries(), "Retries");
+    }
+
+    @Test
+    public void testFlushFailureAfterEveryRetry() {
+        when(service.persistGrowChamberLogs(anyList())).thenThrow(new IllegalStateException("Connection lost"));
+        ingestBuffer.start();
+
+        ingestBuffer.offer(logs(3));
+
+        verify(service, timeout(WAIT_MILLIS).times(3)).persistGrowChamberLogs(anyList());
+        ingestBuffer.stop();
+        GrowChamberIngestStats stats = ingestBuffer.getStats();
+        assertEquals(0, stats.getFlushedCount(), "Flushed Count");
+        assertEquals(3, stats.getFailedCount(), "Failed Count");
+        assertEquals(2, stats.getRetries(), "Retries");
+    }
+
+    @Test
+    public void testFlushConstraintFailureDropsOnlyFailingSystem() {
+        when(service.persistGrowChamberLogs(anyList())).thenAnswer(invocation -> {
+            List<GrowChamberLog> batch = invocation.getArgument(0);
+            if(batch.stream().anyMatch(l -> l.getSystemId() == 5)) {
+                throw new DataIntegrityViolationException("Unknown system");
+            }
+            return List.of(1);
+        });
+        ingestBuffer.start();
+        List<GrowChamberLog> logs = logs(2);
+        logs.addAll(logs(1, 5));
+
+        ingestBuffer.offer(logs);
+
+        verify(service, timeout(WAIT_MILLIS)).persistGrowChamberLogs(argThat(l -> l.size() == 2));
+        ingestBuffer.stop();
+        verify(service, times(3)).persistGrowChamberLogs(anyList());
+        GrowChamberIngestStats stats = ingestBuffer.getStats();
+        assertEquals(2, stats.getFlushedCount(), "Flushed Count");
+        assertEquals(1, stats.getFailedCount(), "Failed Count");
+        assertEquals(0, stats.getRetries(), "Constraint failures are not retried");
+    }
+
+    private List<GrowChamberLog> logs(int count) {
+        return logs(count, 4);
+    }
+
+    private List<GrowChamberLog> logs(int count, int systemId) {
+        List<GrowChamberLog> logs = new ArrayList<>();
+        for(int i = 0; i < count; i++) {
+            GrowChamberLog log = new GrowChamberLog();
+            log.setSystemId(systemId);
+            logs.add(log);
+        }
+        return logs;
+    }
+}
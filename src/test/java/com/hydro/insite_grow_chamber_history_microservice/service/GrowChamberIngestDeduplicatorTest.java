@@ -0,0 +1,112 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberSeqDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Ingest Deduplicator.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@HydroServiceTest
+public class GrowChamberIngestDeduplicatorTest {
+
+    @Mock
+    private GrowChamberSeqDAO dao;
+
+    @InjectMocks
+    private GrowChamberIngestDeduplicator deduplicator;
+
+    private final List<List<GrowChamberLog>> inserted = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(deduplicator, "windowSize", 256);
+        inserted.clear();
+    }
+
+    @Test
+    public void testWindowDropsRecentDuplicates() {
+        GrowChamberLog stored = log(1L);
+        stored.setId(10);
+        deduplicator.remember(List.of(stored));
+        when(dao.claimSeqs(anyLong(), anyList())).thenReturn(1);
+
+        GrowChamberLog retry = log(1L);
+        GrowChamberLog next = log(2L);
+        List<GrowChamberLog> created = deduplicator.insertNew(Arrays.asList(retry, next), this::insert);
+
+        verify(dao).claimSeqs(anyLong(), argThat(l -> l.size() == 1 && l.get(0) == next));
+        assertEquals(List.of(next), created, "Created logs");
+        assertEquals(10, retry.getId(), "Duplicate gets the stored id");
+        assertEquals(100, next.getId(), "New log id");
+    }
+
+    @Test
+    public void testAlreadyClaimedGetsStoredId() {
+        GrowChamberLog claimed = log(2L);
+        when(dao.claimSeqs(anyLong(), anyList())).thenReturn(1);
+        when(dao.getClaimedSeqs(anyLong())).thenReturn(List.of(claimed));
+        GrowChamberLog stored = log(1L);
+        stored.setId(7);
+        when(dao.getSeqs(4, Set.of(1L))).thenReturn(List.of(stored));
+
+        GrowChamberLog retry = log(1L);
+        GrowChamberLog next = log(2L);
+        List<GrowChamberLog> created = deduplicator.insertNew(Arrays.asList(retry, next), this::insert);
+
+        assertEquals(List.of(next), created, "Created logs");
+        assertEquals(7, retry.getId(), "Duplicate gets the stored id");
+        verify(dao).updateSeqLogIds(anyLong(), eq(List.of(next)));
+    }
+
+    @Test
+    public void testRepeatWithinBatchIsStoredOnce() {
+        when(dao.claimSeqs(anyLong(), anyList())).thenReturn(1);
+
+        GrowChamberLog first = log(5L);
+        GrowChamberLog repeat = log(5L);
+        GrowChamberLog unsequenced = log(null);
+        List<GrowChamberLog> created = deduplicator.insertNew(Arrays.asList(first, repeat, unsequenced),
+                                                              this::insert);
+
+        assertEquals(List.of(first, unsequenced), created, "Created logs");
+        assertEquals(1, inserted.size(), "Single insert");
+        assertEquals(100, first.getId(), "First id");
+        assertEquals(100, repeat.getId(), "Repeat gets the id of the first");
+        assertEquals(101, unsequenced.getId(), "Unsequenced id");
+    }
+
+    private List<Integer> insert(List<GrowChamberLog> logs) {
+        inserted.add(logs);
+        List<Integer> ids = new ArrayList<>();
+        for(int i = 0; i < logs.size(); i++) {
+            ids.add(100 + i);
+        }
+        return ids;
+    }
+
+    private GrowChamberLog log(Long seq) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setSystemId(4);
+        log.setSeq(seq);
+        return log;
+    }
+}
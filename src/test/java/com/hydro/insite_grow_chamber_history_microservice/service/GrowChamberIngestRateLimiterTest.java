@@ -0,0 +1,155 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRateLimitStats;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Ingest Rate Limiter.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@HydroServiceTest
+public class GrowChamberIngestRateLimiterTest {
+    private static final long SECOND = 1000000000L;
+
+    @InjectMocks
+    private GrowChamberIngestRateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "rowsPerSecond", 2.0);
+        ReflectionTestUtils.setField(rateLimiter, "burst", 5);
+    }
+
+    @Test
+    public void testBurstThenRefill() {
+        for(int i = 0; i < 5; i++) {
+            assertTrue(rateLimiter.tryAcquire(1, 1, 0), "Request " + i + " of the burst");
+        }
+        assertFalse(rateLimiter.tryAcquire(1, 1, 0), "Over the burst");
+        assertFalse(rateLimiter.tryAcquire(1, 1, SECOND / 4), "Before a token is refilled");
+        assertTrue(rateLimiter.tryAcquire(1, 1, SECOND / 2), "Token refilled");
+        assertFalse(rateLimiter.tryAcquire(1, 1, SECOND / 2), "Only one token refilled");
+        assertTrue(rateLimiter.tryAcquire(2, 1, 0), "Other systems have their own bucket");
+    }
+
+    @Test
+    public void testIdleBucketDoesNotGrowPastBurst() {
+        rateLimiter.tryAcquire(1, 1, 0);
+
+        int allowed = 0;
+        while(rateLimiter.tryAcquire(1, 1, 60 * SECOND)) {
+            allowed++;
+        }
+        assertEquals(5, allowed, "Allowed after being idle");
+    }
+
+    @Test
+    public void testBatchChargesEveryRow() {
+        assertTrue(rateLimiter.tryAcquire(1, 3, 0), "Batch within the burst");
+        assertFalse(rateLimiter.tryAcquire(1, 3, 0), "Batch over the tokens that are left");
+        assertTrue(rateLimiter.tryAcquire(1, 2, 0), "Batch of the tokens that are left");
+        assertFalse(rateLimiter.tryAcquire(1, 1, 0), "Bucket is empty");
+    }
+
+    @Test
+    public void testBatchLargerThanBurst() {
+        rateLimiter.tryAcquire(1, 1, 0);
+        assertFalse(rateLimiter.tryAcquire(1, 10, 0), "Batch over the burst while the bucket is not full");
+        assertTrue(rateLimiter.tryAcquire(1, 10, SECOND / 2), "Batch over the burst once the bucket is full");
+        assertFalse(rateLimiter.tryAcquire(1, 1, 5 * SECOND), "Rows of the batch are not paid back yet");
+        assertTrue(rateLimiter.tryAcquire(1, 1, 6 * SECOND), "Rows of the batch are paid back");
+    }
+
+    @Test
+    public void testGetRetryAfterSeconds() {
+        rateLimiter.tryAcquire(1, 5, 0);
+
+        assertEquals(1, rateLimiter.getRetryAfterSeconds(1, 1, 0), "Wait for one token");
+        assertEquals(2, rateLimiter.getRetryAfterSeconds(1, 3, 0), "Wait for three tokens");
+        assertEquals(3, rateLimiter.getRetryAfterSeconds(1, 20, 0), "Batch over the burst waits for a full bucket");
+        assertEquals(1, rateLimiter.getRetryAfterSeconds(2, 1, 0), "System without a bucket");
+    }
+
+    @Test
+    public void testStats() {
+        for(int i = 0; i < 8; i++) {
+            rateLimiter.tryAcquire(3, 1, 0);
+        }
+        rateLimiter.tryAcquire(4, 1, 0);
+
+        GrowChamberRateLimitStats stats = rateLimiter.getStats();
+
+        assertEquals(6, stats.getAllowedCount(), "Allowed Count");
+        assertEquals(3, stats.getDroppedCount(), "Dropped Count");
+        assertEquals(2, stats.getSystemCount(), "System Count");
+        assertEquals(3L, stats.getDroppedBySystem().get(3), "Dropped for system 3");
+        assertFalse(stats.getDroppedBySystem().containsKey(4), "System 4 had nothing dropped");
+    }
+
+    @Test
+    public void testStatsCountRows() {
+        rateLimiter.tryAcquire(3, 4, 0);
+        rateLimiter.tryAcquire(3, 3, 0);
+
+        GrowChamberRateLimitStats stats = rateLimiter.getStats();
+
+        assertEquals(4, stats.getAllowedCount(), "Allowed rows");
+        assertEquals(3, stats.getDroppedCount(), "Dropped rows");
+        assertEquals(3L, stats.getDroppedBySystem().get(3), "Dropped rows for system 3");
+    }
+
+    @Test
+    public void testDisabled() {
+        ReflectionTestUtils.setField(rateLimiter, "enabled", false);
+
+        for(int i = 0; i < 100; i++) {
+            assertTrue(rateLimiter.tryAcquire(1, 1, 0), "Disabled limiter allows everything");
+        }
+    }
+
+    @Test
+    public void testConcurrentAcquireNeverExceedsBurst() throws InterruptedException {
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for(int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                }
+                catch(InterruptedException e) {
+                    return;
+                }
+                for(int i = 0; i < 100; i++) {
+                    if(rateLimiter.tryAcquire(1, 1, 0)) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for(Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(5, allowed.get(), "Allowed across threads");
+        assertEquals(795, rateLimiter.getStats().getDroppedCount(), "Dropped across threads");
+    }
+}
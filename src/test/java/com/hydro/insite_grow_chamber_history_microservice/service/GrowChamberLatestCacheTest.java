@@ -0,0 +1,110 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberHistoryDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Latest Cache.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class GrowChamberLatestCacheTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Mock
+    private GrowChamberHistoryDAO dao;
+
+    @InjectMocks
+    private GrowChamberLatestCache cache;
+
+    @Test
+    public void testWarm() {
+        when(dao.getLatestGrowChamberLogs()).thenReturn(Arrays.asList(log(1, 7, NOW), log(2, 8, NOW)));
+
+        cache.warm();
+
+        assertEquals(1, cache.get(7).getId(), "Latest log of system 7");
+        assertEquals(2, cache.get(8).getId(), "Latest log of system 8");
+        assertNull(cache.get(9), "System without logs");
+    }
+
+    @Test
+    public void testUpdateKeepsNewest() {
+        cache.update(Arrays.asList(log(2, 7, NOW), log(1, 7, NOW.minusMinutes(1)), log(3, 7, NOW)));
+
+        assertEquals(3, cache.get(7).getId(), "Same insert date is ordered by id");
+
+        cache.update(Arrays.asList(log(4, 7, NOW.minusHours(1))));
+
+        assertEquals(3, cache.get(7).getId(), "Older log does not replace the latest");
+    }
+
+    @Test
+    public void testGetSystems() {
+        cache.update(Arrays.asList(log(1, 7, NOW), log(2, 8, NOW)));
+
+        List<GrowChamberLog> logs = cache.get(Arrays.asList(7, 9, 8));
+
+        assertEquals(2, logs.size(), "Systems without logs are left out");
+        assertEquals(7, logs.get(0).getSystemId(), "First system");
+        assertEquals(8, logs.get(1).getSystemId(), "Second system");
+    }
+
+    @Test
+    public void testUpdateStoresCopy() {
+        GrowChamberLog log = log(1, 7, NOW);
+        cache.update(Arrays.asList(log));
+
+        log.setSeq(42L);
+        log.setPh(9.0f);
+
+        assertNull(cache.get(7).getSeq(), "Cached seq is not changed by the caller");
+        assertEquals(6.0f, cache.get(7).getPh(), "Cached ph is not changed by the caller");
+    }
+
+    @Test
+    public void testGetReturnsCopy() {
+        cache.update(Arrays.asList(log(1, 7, NOW)));
+
+        GrowChamberLog log = cache.get(7);
+        log.setSeq(42L);
+        cache.get(Arrays.asList(7)).get(0).setPh(9.0f);
+
+        assertNotSame(log, cache.get(7), "Each get returns a new log");
+        assertNull(cache.get(7).getSeq(), "Cached seq is not changed by the caller");
+        assertEquals(6.0f, cache.get(7).getPh(), "Cached ph is not changed by the caller");
+        assertEquals(NOW, cache.get(7).getInsertDate(), "Insert date is copied");
+    }
+
+    @Test
+    public void testEvict() {
+        cache.update(Arrays.asList(log(1, 7, NOW)));
+
+        cache.evict(7);
+
+        assertNull(cache.get(7), "Evicted system");
+    }
+
+    private GrowChamberLog log(int id, int systemId, LocalDateTime insertDate) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setId(id);
+        log.setSystemId(systemId);
+        log.setPh(6.0f);
+        log.setInsertDate(insertDate);
+        return log;
+    }
+}
@@ -0,0 +1,209 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightCycles;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightRun;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightRunBackfill;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberHistoryDAO;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberLightRunDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Light Cycle Service.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@HydroServiceTest
+public class GrowChamberLightCycleServiceTest {
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 10, 17, 0, 0);
+
+    @Mock
+    private GrowChamberLightRunDAO dao;
+
+    @Mock
+    private GrowChamberHistoryDAO historyDao;
+
+    @InjectMocks
+    private GrowChamberLightCycleService service;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(service, "maxGapSeconds", 7200L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRecordLogs() {
+        GrowChamberLightRun current = run(true, DAY.plusHours(6), DAY.plusHours(10));
+        when(dao.getLightRunAt(7, DAY.plusHours(11))).thenReturn(current);
+
+        service.recordLogs(Arrays.asList(log(7, 12, false), log(7, 11, true), log(7, 13, false), log(8, 11, true)));
+
+        ArgumentCaptor<List<GrowChamberLightRun>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dao).upsertLightRuns(captor.capture());
+        List<GrowChamberLightRun> runs = captor.getValue();
+        assertEquals(3, runs.size(), "Changed runs");
+        assertSame(current, runs.get(0), "Current run is extended");
+        assertEquals(DAY.plusHours(11), current.getEndDate(), "Current run end");
+        assertFalse(runs.get(1).isLightsOn(), "Lights turned off");
+        assertEquals(DAY.plusHours(12), runs.get(1).getStartDate(), "Off run start");
+        assertEquals(DAY.plusHours(13), runs.get(1).getEndDate(), "Off run end");
+        assertEquals(8, runs.get(2).getSystemId(), "First run of a new system");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRecordLogsAfterGap() {
+        GrowChamberLightRun current = run(true, DAY.plusHours(6), DAY.plusHours(10));
+        when(dao.getLightRunAt(7, DAY.plusHours(14))).thenReturn(current);
+
+        service.recordLogs(Arrays.asList(log(7, 14, true)));
+
+        ArgumentCaptor<List<GrowChamberLightRun>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dao).upsertLightRuns(captor.capture());
+        List<GrowChamberLightRun> runs = captor.getValue();
+        assertEquals(1, runs.size(), "Changed runs");
+        assertNotSame(current, runs.get(0), "A new run starts after the gap");
+        assertEquals(DAY.plusHours(14), runs.get(0).getStartDate(), "New run start");
+        assertEquals(DAY.plusHours(10), current.getEndDate(), "Current run ends at its last reading");
+    }
+
+    @Test
+    public void testGetLightCycles() {
+        when(dao.getLightRuns(7, DAY, DAY.plusDays(2)))
+                .thenReturn(Arrays.asList(run(false, DAY.minusHours(2), DAY.plusHours(5).plusMinutes(59)),
+                                          run(true, DAY.plusHours(6), DAY.plusHours(12)),
+                                          run(true, DAY.plusHours(13), DAY.plusHours(21).plusMinutes(59)),
+                                          run(false, DAY.plusHours(22), DAY.plusDays(1).plusHours(3))));
+
+        GrowChamberLightCycles cycles = service.getLightCycles(7, DAY, DAY.plusDays(2));
+
+        assertEquals(3, cycles.getIntervals().size(), "Runs with the same status are joined");
+        assertEquals(DAY, cycles.getIntervals().get(0).getStartDate(), "First interval is clipped to the range");
+        assertEquals(DAY.plusHours(6), cycles.getIntervals().get(0).getEndDate(), "Interval lasts until the next");
+        assertEquals(DAY.plusDays(1).plusHours(3), cycles.getIntervals().get(2).getEndDate(), "Last reading");
+        assertEquals(2, cycles.getDays().size(), "Days");
+        assertEquals(LocalDate.of(2026, 10, 17), cycles.getDays().get(0).getDate(), "First day");
+        assertEquals(16.0, cycles.getDays().get(0).getLightHours(), "Light hours of the first day");
+        assertEquals(8 * 3600, cycles.getDays().get(0).getDarkSeconds(), "Dark time of the first day");
+        assertEquals(3 * 3600, cycles.getDays().get(1).getDarkSeconds(), "Dark time of the second day");
+        assertEquals(16 * 3600, cycles.getLightSeconds(), "Light time of the range");
+        assertEquals(11 * 3600, cycles.getDarkSeconds(), "Dark time of the range");
+    }
+
+    @Test
+    public void testGetLightCyclesAcrossGap() {
+        when(dao.getLightRuns(7, DAY, DAY.plusDays(1)))
+                .thenReturn(Arrays.asList(run(true, DAY, DAY.plusHours(4)), run(true, DAY.plusHours(8), DAY.plusHours(10))));
+
+        GrowChamberLightCycles cycles = service.getLightCycles(7, DAY, DAY.plusDays(1));
+
+        assertEquals(2, cycles.getIntervals().size(), "Runs are not joined across the gap");
+        assertEquals(DAY.plusHours(4), cycles.getIntervals().get(0).getEndDate(), "Interval ends at its last reading");
+        assertEquals(6 * 3600, cycles.getLightSeconds(), "The gap is not counted as light time");
+        assertEquals(0, cycles.getDarkSeconds(), "The gap is not counted as dark time");
+    }
+
+    @Test
+    public void testGetLightCyclesInvalidRange() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> service.getLightCycles(7, DAY, DAY));
+
+        assertEquals("From date must be before the to date.", e.getMessage(), "Exception Message");
+        verify(dao, never()).getLightRuns(anyInt(), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRebuildLogs() {
+        when(dao.getLightRuns(7, DAY.plusHours(7), DAY.plusHours(8).plusSeconds(1)))
+                .thenReturn(Arrays.asList(run(true, DAY.plusHours(6), DAY.plusHours(12))));
+        when(historyDao.getGrowChamberLogs(any()))
+                .thenReturn(Arrays.asList(log(7, 6, true), log(7, 7, false), log(7, 8, false)));
+
+        service.rebuildLogs(Arrays.asList(log(7, 8, false), log(7, 7, false)));
+
+        ArgumentCaptor<List<GrowChamberLightRun>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dao).rebuildLightRuns(eq(7), eq(DAY.plusHours(6)), eq(DAY.plusHours(12)), captor.capture());
+        List<GrowChamberLightRun> runs = captor.getValue();
+        assertEquals(3, runs.size(), "The run is split by the backfilled logs");
+        assertEquals(DAY.plusHours(7), runs.get(1).getStartDate(), "Off run start");
+        assertEquals(DAY.plusHours(8), runs.get(1).getEndDate(), "Off run end");
+        assertTrue(runs.get(2).isLightsOn(), "The run after the backfilled logs");
+        assertEquals(DAY.plusHours(12), runs.get(2).getEndDate(), "Run keeps the end of the old run");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRebuildLogsKeepsSuppressedReadings() {
+        when(dao.getLightRuns(7, DAY.plusHours(9), DAY.plusHours(9).plusSeconds(1)))
+                .thenReturn(Arrays.asList(run(true, DAY.plusHours(6), DAY.plusHours(12))));
+        when(historyDao.getGrowChamberLogs(any())).thenReturn(Arrays.asList(log(7, 6, true), log(7, 9, true)));
+
+        service.rebuildLogs(Arrays.asList(log(7, 9, true)));
+
+        ArgumentCaptor<List<GrowChamberLightRun>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dao).rebuildLightRuns(eq(7), eq(DAY.plusHours(6)), eq(DAY.plusHours(12)), captor.capture());
+        List<GrowChamberLightRun> runs = captor.getValue();
+        assertEquals(1, runs.size(), "Readings inside the old run are not split by the gap");
+        assertEquals(DAY.plusHours(6), runs.get(0).getStartDate(), "Run start");
+        assertEquals(DAY.plusHours(12), runs.get(0).getEndDate(), "Run keeps the readings the deadband did not store");
+    }
+
+    @Test
+    public void testRecordBackfill() {
+        GrowChamberLightRunBackfill backfill = new GrowChamberLightRunBackfill();
+        backfill.setSystemId(7);
+
+        service.recordBackfill(backfill, Arrays.asList(log(7, 6, true)), false);
+
+        verify(dao).upsertLightRuns(anyList());
+        verify(dao).updateLightRunBackfill(backfill);
+        verify(dao, never()).deleteLightRunBackfill(anyInt());
+    }
+
+    @Test
+    public void testRecordBackfillComplete() {
+        GrowChamberLightRunBackfill backfill = new GrowChamberLightRunBackfill();
+        backfill.setSystemId(7);
+
+        service.recordBackfill(backfill, Arrays.asList(log(7, 6, true)), true);
+
+        verify(dao).deleteLightRunBackfill(7);
+        verify(dao, never()).updateLightRunBackfill(any());
+    }
+
+    private GrowChamberLightRun run(boolean lightsOn, LocalDateTime start, LocalDateTime end) {
+        GrowChamberLightRun run = new GrowChamberLightRun();
+        run.setSystemId(7);
+        run.setLightsOn(lightsOn);
+        run.setStartDate(start);
+        run.setEndDate(end);
+        return run;
+    }
+
+    private GrowChamberLog log(int systemId, int hour, boolean lightsOn) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setSystemId(systemId);
+        log.setLightsOn(lightsOn);
+        log.setInsertDate(DAY.plusHours(hour));
+        return log;
+    }
+}
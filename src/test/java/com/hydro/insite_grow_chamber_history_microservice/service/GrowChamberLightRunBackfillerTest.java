@@ -0,0 +1,123 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLightRunBackfill;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberLightRunDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Light Run Backfiller.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class GrowChamberLightRunBackfillerTest {
+    private static final LocalDateTime END = LocalDateTime.of(2026, 10, 18, 0, 0);
+
+    @Mock
+    private GrowChamberLightRunDAO dao;
+
+    @Mock
+    private GrowChamberHistoryService historyService;
+
+    @Mock
+    private GrowChamberLightCycleService lightCycleService;
+
+    @InjectMocks
+    private GrowChamberLightRunBackfiller backfiller;
+
+    @Test
+    public void testBackfillLightRuns() {
+        GrowChamberLightRunBackfill backfill = backfill(7);
+        when(dao.getLightRunBackfills()).thenReturn(Arrays.asList(backfill));
+        List<GrowChamberLog> logs = Arrays.asList(log(3, END.minusHours(2)), log(4, END.minusHours(1)));
+        when(historyService.getGrowChamberLogs(any())).thenReturn(logs);
+
+        backfiller.backfillLightRuns();
+
+        ArgumentCaptor<GrowChamberHistoryGetRequest> captor = ArgumentCaptor.forClass(GrowChamberHistoryGetRequest.class);
+        verify(historyService).getGrowChamberLogs(captor.capture());
+        assertTrue(captor.getValue().getSystemId().contains(7), "System id");
+        assertEquals(END, captor.getValue().getTo(), "Only the history before runs were recorded");
+        assertNull(captor.getValue().getAfterTimestamp(), "First batch starts at the oldest log");
+        assertEquals(GrowChamberLightRunBackfiller.BATCH_ROWS, captor.getValue().getLimit(), "Batch size");
+        assertEquals(END.minusHours(1), backfill.getLastDate(), "Last date");
+        assertEquals(4, backfill.getLastId(), "Last id");
+        verify(lightCycleService).recordBackfill(backfill, logs, true);
+    }
+
+    @Test
+    public void testBackfillLightRunsResumesFromLastLog() {
+        GrowChamberLightRunBackfill backfill = backfill(7);
+        backfill.setLastDate(END.minusHours(3));
+        backfill.setLastId(2);
+        when(dao.getLightRunBackfills()).thenReturn(Arrays.asList(backfill));
+        when(historyService.getGrowChamberLogs(any())).thenReturn(Collections.emptyList());
+
+        backfiller.backfillLightRuns();
+
+        ArgumentCaptor<GrowChamberHistoryGetRequest> captor = ArgumentCaptor.forClass(GrowChamberHistoryGetRequest.class);
+        verify(historyService).getGrowChamberLogs(captor.capture());
+        assertEquals(END.minusHours(3), captor.getValue().getAfterTimestamp(), "After timestamp");
+        assertEquals(2, captor.getValue().getAfterId(), "After id");
+        verify(lightCycleService).recordBackfill(backfill, Collections.emptyList(), true);
+    }
+
+    @Test
+    public void testBackfillLightRunsStopsAfterBatchLimit() {
+        when(dao.getLightRunBackfills()).thenReturn(Arrays.asList(backfill(7), backfill(8)));
+        List<GrowChamberLog> logs = new ArrayList<>();
+        for(int i = 0; i < GrowChamberLightRunBackfiller.BATCH_ROWS; i++) {
+            logs.add(log(i + 1, END.minusSeconds(GrowChamberLightRunBackfiller.BATCH_ROWS - i)));
+        }
+        when(historyService.getGrowChamberLogs(any())).thenReturn(logs);
+
+        backfiller.backfillLightRuns();
+
+        verify(historyService, times(GrowChamberLightRunBackfiller.BATCHES_PER_RUN)).getGrowChamberLogs(any());
+        verify(lightCycleService, times(GrowChamberLightRunBackfiller.BATCHES_PER_RUN))
+                .recordBackfill(any(), anyList(), eq(false));
+    }
+
+    @Test
+    public void testBackfillLightRunsFailureIsLogged() {
+        when(dao.getLightRunBackfills()).thenReturn(Arrays.asList(backfill(7)));
+        when(historyService.getGrowChamberLogs(any())).thenThrow(new RuntimeException("Database down"));
+
+        assertDoesNotThrow(() -> backfiller.backfillLightRuns(), "Failures are logged");
+        verify(lightCycleService, never()).recordBackfill(any(), anyList(), anyBoolean());
+    }
+
+    private GrowChamberLightRunBackfill backfill(int systemId) {
+        GrowChamberLightRunBackfill backfill = new GrowChamberLightRunBackfill();
+        backfill.setSystemId(systemId);
+        backfill.setEndDate(END);
+        return backfill;
+    }
+
+    private GrowChamberLog log(int id, LocalDateTime insertDate) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setId(id);
+        log.setSystemId(7);
+        log.setLightsOn(true);
+        log.setInsertDate(insertDate);
+        return log;
+    }
+}
@@ -0,0 +1,96 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberMetric;
+
+/**
+ * Test class for the Grow Chamber Log Downsampler.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+public class GrowChamberLogDownsamplerTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    @Test
+    public void testDownsampleKeepsEndsAndSpike() {
+        GrowChamberLogDownsampler downsampler = new GrowChamberLogDownsampler(10000, 500, null);
+        for(int i = 0; i < 10000; i++) {
+            downsampler.add(log(i, i == 4321 ? 9.0f : 6.0f + (i % 10) / 100f));
+        }
+
+        List<GrowChamberLog> points = downsampler.getPoints();
+
+        assertEquals(500, points.size(), "Point Count");
+        assertEquals(0, points.get(0).getId(), "First log is kept");
+        assertEquals(9999, points.get(499).getId(), "Last log is kept");
+        assertTrue(points.stream().anyMatch(l -> l.getId() == 4321), "Spike is kept");
+        for(int i = 1; i < points.size(); i++) {
+            assertTrue(points.get(i).getId() > points.get(i - 1).getId(), "Points are in order");
+        }
+    }
+
+    @Test
+    public void testDownsampleSingleMetric() {
+        GrowChamberLogDownsampler downsampler = new GrowChamberLogDownsampler(1000, 10, GrowChamberMetric.PH);
+        for(int i = 0; i < 1000; i++) {
+            downsampler.add(log(i, i == 500 ? 4.0f : 6.0f));
+        }
+
+        List<GrowChamberLog> points = downsampler.getPoints();
+
+        assertEquals(10, points.size(), "Point Count");
+        assertTrue(points.stream().anyMatch(l -> l.getId() == 500), "Dip is kept");
+    }
+
+    @Test
+    public void testFewerRowsThanMaxPoints() {
+        GrowChamberLogDownsampler downsampler = new GrowChamberLogDownsampler(5, 500, null);
+        for(int i = 0; i < 5; i++) {
+            downsampler.add(log(i, 6.0f));
+        }
+
+        assertEquals(5, downsampler.getPoints().size(), "Every log is kept");
+    }
+
+    @Test
+    public void testRowsPastTheCountGoToTheLastBucket() {
+        GrowChamberLogDownsampler downsampler = new GrowChamberLogDownsampler(100, 10, null);
+        for(int i = 0; i < 105; i++) {
+            downsampler.add(log(i, 6.0f));
+        }
+
+        List<GrowChamberLog> points = downsampler.getPoints();
+
+        assertEquals(10, points.size(), "Point Count");
+        assertEquals(104, points.get(9).getId(), "Last log is kept");
+    }
+
+    @Test
+    public void testMaxPointsTooSmall() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> new GrowChamberLogDownsampler(100, 2, null));
+
+        assertEquals("Max points must be at least 3.", e.getMessage(), "Exception Message");
+    }
+
+    private GrowChamberLog log(int id, float ph) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setId(id);
+        log.setSystemId(4);
+        log.setInsertDate(START.plusMinutes(id));
+        log.setPh(ph);
+        log.setTds(800f);
+        log.setWaterTemp(20.5f);
+        log.setAirTemp(23f);
+        log.setHumidity(55f);
+        return log;
+    }
+}
@@ -0,0 +1,150 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hydro.insite_grow_chamber_history_microservice.archive.GrowChamberArchive;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberPartition;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberPartitionDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Partition Maintenance.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class GrowChamberPartitionMaintenanceTest {
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    @Mock
+    private GrowChamberPartitionDAO dao;
+
+    @Mock
+    private GrowChamberArchive archive;
+
+    @InjectMocks
+    private GrowChamberPartitionMaintenance maintenance;
+
+    private LocalDateTime month;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(maintenance, "monthsAhead", 2);
+        ReflectionTestUtils.setField(maintenance, "rawRetentionDays", 0);
+        month = LocalDateTime.now(ZoneOffset.UTC).toLocalDate().withDayOfMonth(1).atStartOfDay();
+    }
+
+    @Test
+    public void testMaintainPartitionsNotPartitioned() {
+        when(dao.getPartitions()).thenReturn(List.of());
+
+        maintenance.maintainPartitions();
+
+        verify(dao, never()).addPartitions(anyString(), anyList());
+        verify(dao, never()).dropPartitions(anyList());
+    }
+
+    @Test
+    public void testMaintainPartitionsAddsMissingMonths() {
+        when(dao.getPartitions()).thenReturn(Arrays.asList(new GrowChamberPartition("p_start", month),
+                                                           new GrowChamberPartition("p_future", null)));
+
+        maintenance.maintainPartitions();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GrowChamberPartition>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dao).addPartitions(eq("p_future"), captor.capture());
+        List<GrowChamberPartition> added = captor.getValue();
+        assertEquals(List.of(month.format(PARTITION_NAME), month.plusMonths(1).format(PARTITION_NAME),
+                             month.plusMonths(2).format(PARTITION_NAME)),
+                     added.stream().map(GrowChamberPartition::getName).collect(Collectors.toList()),
+                     "Added Partitions");
+        assertEquals(month.plusMonths(3), added.get(2).getUpperBound(), "Last Upper Bound");
+    }
+
+    @Test
+    public void testMaintainPartitionsAlreadyCovered() {
+        when(dao.getPartitions()).thenReturn(Arrays.asList(new GrowChamberPartition("p_start", month),
+                                                           new GrowChamberPartition("p_ahead", month.plusMonths(3)),
+                                                           new GrowChamberPartition("p_future", null)));
+
+        maintenance.maintainPartitions();
+
+        verify(dao, never()).addPartitions(anyString(), anyList());
+    }
+
+    @Test
+    public void testMaintainPartitionsNoCatchAll() {
+        when(dao.getPartitions()).thenReturn(Arrays.asList(new GrowChamberPartition("p_start", month)));
+
+        maintenance.maintainPartitions();
+
+        verify(dao, never()).addPartitions(anyString(), anyList());
+    }
+
+    @Test
+    public void testMaintainPartitionsDropsExpiredMonths() {
+        ReflectionTestUtils.setField(maintenance, "rawRetentionDays", 60);
+        GrowChamberPartition expired = new GrowChamberPartition("p_start", month.minusMonths(3));
+        when(dao.getPartitions()).thenReturn(Arrays.asList(expired,
+                                                           new GrowChamberPartition("p_current", month.plusMonths(3)),
+                                                           new GrowChamberPartition("p_future", null)));
+
+        maintenance.maintainPartitions();
+
+        verify(dao).dropPartitions(List.of(expired));
+        verify(dao, never()).isEmpty(any(GrowChamberPartition.class));
+    }
+
+    @Test
+    public void testMaintainPartitionsKeptForever() {
+        when(dao.getPartitions()).thenReturn(Arrays.asList(new GrowChamberPartition("p_start", month.minusYears(2)),
+                                                           new GrowChamberPartition("p_current", month.plusMonths(3)),
+                                                           new GrowChamberPartition("p_future", null)));
+
+        maintenance.maintainPartitions();
+
+        verify(dao, never()).dropPartitions(anyList());
+    }
+
+    @Test
+    public void testMaintainPartitionsArchiveDropsOnlyEmptyMonths() {
+        GrowChamberPartition empty = new GrowChamberPartition("p_start", month.minusMonths(2));
+        GrowChamberPartition notArchived = new GrowChamberPartition("p_last", month.minusMonths(1));
+        when(archive.isEnabled()).thenReturn(true);
+        when(archive.getBoundary(any(LocalDateTime.class))).thenReturn(month.minusMonths(1));
+        when(dao.isEmpty(empty)).thenReturn(true);
+        when(dao.isEmpty(notArchived)).thenReturn(false);
+        when(dao.getPartitions()).thenReturn(Arrays.asList(empty, notArchived,
+                                                           new GrowChamberPartition("p_current", month.plusMonths(3)),
+                                                           new GrowChamberPartition("p_future", null)));
+
+        maintenance.maintainPartitions();
+
+        verify(dao).dropPartitions(List.of(empty));
+    }
+
+    @Test
+    public void testMaintainPartitionsFailureIsLogged() {
+        when(dao.getPartitions()).thenThrow(new IllegalStateException("Connection lost"));
+
+        assertDoesNotThrow(() -> maintenance.maintainPartitions(), "Maintenance failure");
+    }
+}
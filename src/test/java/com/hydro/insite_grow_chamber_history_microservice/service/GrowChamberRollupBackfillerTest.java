@@ -0,0 +1,134 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollupBackfill;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.request.GrowChamberHistoryGetRequest;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberRollupDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Rollup Backfiller.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class GrowChamberRollupBackfillerTest {
+    private static final LocalDateTime END = LocalDateTime.of(2026, 10, 18, 0, 0);
+
+    @Mock
+    private GrowChamberRollupDAO dao;
+
+    @Mock
+    private GrowChamberHistoryService historyService;
+
+    @Mock
+    private GrowChamberRollupService rollupService;
+
+    @InjectMocks
+    private GrowChamberRollupBackfiller backfiller;
+
+    @Test
+    public void testBackfillLightRuns() {
+        GrowChamberRollupBackfill backfill = backfill(7);
+        when(dao.getRollupBackfills()).thenReturn(Arrays.asList(backfill));
+        List<GrowChamberLog> logs = Arrays.asList(log(3, END.minusHours(2)), log(4, END.minusHours(1)));
+        when(historyService.getGrowChamberLogs(any())).thenReturn(logs);
+
+        backfiller.backfillRollups();
+
+        ArgumentCaptor<GrowChamberHistoryGetRequest> captor = ArgumentCaptor.forClass(GrowChamberHistoryGetRequest.class);
+        verify(historyService).getGrowChamberLogs(captor.capture());
+        assertTrue(captor.getValue().getSystemId().contains(7), "System id");
+        assertEquals(END, captor.getValue().getTo(), "Only the history before rollups were recorded");
+        assertNull(captor.getValue().getAfterTimestamp(), "First batch starts at the oldest log");
+        assertEquals(GrowChamberRollupBackfiller.BATCH_ROWS, captor.getValue().getLimit(), "Batch size");
+        assertEquals(END.minusHours(1), backfill.getLastDate(), "Last date");
+        assertEquals(4, backfill.getLastId(), "Last id");
+        verify(rollupService).recordBackfill(backfill, null, logs, true);
+    }
+
+    @Test
+    public void testBackfillLightRunsResumesFromLastLog() {
+        GrowChamberRollupBackfill backfill = backfill(7);
+        backfill.setLastDate(END.minusHours(3));
+        backfill.setLastId(2);
+        when(dao.getRollupBackfills()).thenReturn(Arrays.asList(backfill));
+        when(historyService.getGrowChamberLogs(any())).thenReturn(Collections.emptyList());
+
+        backfiller.backfillRollups();
+
+        ArgumentCaptor<GrowChamberHistoryGetRequest> captor = ArgumentCaptor.forClass(GrowChamberHistoryGetRequest.class);
+        verify(historyService).getGrowChamberLogs(captor.capture());
+        assertEquals(END.minusHours(3), captor.getValue().getAfterTimestamp(), "After timestamp");
+        assertEquals(2, captor.getValue().getAfterId(), "After id");
+        verify(rollupService).recordBackfill(backfill, 2, Collections.emptyList(), true);
+    }
+
+    @Test
+    public void testBackfillLightRunsStopsAfterBatchLimit() {
+        when(dao.getRollupBackfills()).thenReturn(Arrays.asList(backfill(7), backfill(8)));
+        List<GrowChamberLog> logs = new ArrayList<>();
+        for(int i = 0; i < GrowChamberRollupBackfiller.BATCH_ROWS; i++) {
+            logs.add(log(i + 1, END.minusSeconds(GrowChamberRollupBackfiller.BATCH_ROWS - i)));
+        }
+        when(historyService.getGrowChamberLogs(any())).thenReturn(logs);
+
+        backfiller.backfillRollups();
+
+        verify(historyService, times(GrowChamberRollupBackfiller.BATCHES_PER_RUN)).getGrowChamberLogs(any());
+        verify(rollupService, times(GrowChamberRollupBackfiller.BATCHES_PER_RUN))
+                .recordBackfill(any(), any(), anyList(), eq(false));
+    }
+
+    @Test
+    public void testBackfillLightRunsFailureIsLogged() {
+        when(dao.getRollupBackfills()).thenReturn(Arrays.asList(backfill(7)));
+        when(historyService.getGrowChamberLogs(any())).thenThrow(new RuntimeException("Database down"));
+
+        assertDoesNotThrow(() -> backfiller.backfillRollups(), "Failures are logged");
+        verify(rollupService, never()).recordBackfill(any(), any(), anyList(), anyBoolean());
+    }
+
+    @Test
+    public void testBackfillRollupsMovedOnByAnotherInstanceIsLogged() {
+        when(dao.getRollupBackfills()).thenReturn(Arrays.asList(backfill(7), backfill(8)));
+        when(historyService.getGrowChamberLogs(any())).thenReturn(Collections.emptyList());
+        doThrow(new IllegalStateException("Moved on")).when(rollupService).recordBackfill(any(), any(), anyList(),
+                                                                                           anyBoolean());
+
+        assertDoesNotThrow(() -> backfiller.backfillRollups(), "Failures are logged");
+        verify(rollupService, times(1)).recordBackfill(any(), any(), anyList(), anyBoolean());
+    }
+
+    private GrowChamberRollupBackfill backfill(int systemId) {
+        GrowChamberRollupBackfill backfill = new GrowChamberRollupBackfill();
+        backfill.setSystemId(systemId);
+        backfill.setEndDate(END);
+        return backfill;
+    }
+
+    private GrowChamberLog log(int id, LocalDateTime insertDate) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setId(id);
+        log.setSystemId(7);
+        log.setPh(6.0f);
+        log.setInsertDate(insertDate);
+        return log;
+    }
+}
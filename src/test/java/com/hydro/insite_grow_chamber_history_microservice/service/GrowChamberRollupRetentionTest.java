@@ -0,0 +1,79 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberRollupDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Rollup Retention.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class GrowChamberRollupRetentionTest {
+
+    @Mock
+    private GrowChamberRollupDAO dao;
+
+    @InjectMocks
+    private GrowChamberRollupRetention retention;
+
+    @Test
+    public void testDeleteExpiredRollups() {
+        ReflectionTestUtils.setField(retention, "minuteRetentionDays", 7);
+        ReflectionTestUtils.setField(retention, "hourRetentionDays", 90);
+        when(dao.getSystemIds()).thenReturn(Arrays.asList(4));
+        ArgumentCaptor<LocalDateTime> minuteHorizon = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(dao.deleteRollups(eq(4), eq(HistoryResolution.MINUTE), minuteHorizon.capture(), anyInt()))
+                .thenReturn(5000, 12);
+        when(dao.deleteRollups(eq(4), eq(HistoryResolution.HOUR), any(LocalDateTime.class), anyInt())).thenReturn(0);
+
+        retention.deleteExpiredRollups();
+
+        verify(dao, times(2)).deleteRollups(eq(4), eq(HistoryResolution.MINUTE), any(LocalDateTime.class), eq(5000));
+        verify(dao).deleteRollups(eq(4), eq(HistoryResolution.HOUR), any(LocalDateTime.class), eq(5000));
+        verify(dao, never()).deleteRollups(anyInt(), eq(HistoryResolution.DAY), any(LocalDateTime.class), anyInt());
+        LocalDateTime expected = LocalDateTime.now(ZoneOffset.UTC).minusDays(7);
+        assertTrue(Math.abs(Duration.between(expected, minuteHorizon.getValue()).getSeconds()) < 60,
+                   "Minute horizon");
+    }
+
+    @Test
+    public void testDeleteExpiredRollupsKeptForever() {
+        ReflectionTestUtils.setField(retention, "minuteRetentionDays", 0);
+        ReflectionTestUtils.setField(retention, "hourRetentionDays", 0);
+
+        retention.deleteExpiredRollups();
+
+        verify(dao, never()).getSystemIds();
+    }
+
+    @Test
+    public void testDeleteExpiredRollupsOnlyMinute() {
+        ReflectionTestUtils.setField(retention, "minuteRetentionDays", 7);
+        ReflectionTestUtils.setField(retention, "hourRetentionDays", 0);
+        when(dao.getSystemIds()).thenReturn(Arrays.asList(4, 5));
+
+        retention.deleteExpiredRollups();
+
+        verify(dao).deleteRollups(eq(4), eq(HistoryResolution.MINUTE), any(LocalDateTime.class), anyInt());
+        verify(dao).deleteRollups(eq(5), eq(HistoryResolution.MINUTE), any(LocalDateTime.class), anyInt());
+        verify(dao, never()).deleteRollups(anyInt(), eq(HistoryResolution.HOUR), any(LocalDateTime.class), anyInt());
+    }
+}
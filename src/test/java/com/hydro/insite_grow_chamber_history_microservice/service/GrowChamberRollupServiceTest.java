@@ -0,0 +1,141 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.google.common.collect.Sets;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberLog;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollup;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberRollupBackfill;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
+import com.hydro.insite_grow_chamber_history_microservice.dao.GrowChamberRollupDAO;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Rollup Service.
+ * 
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@HydroServiceTest
+public class GrowChamberRollupServiceTest {
+
+    @Mock
+    private GrowChamberRollupDAO dao;
+
+    @InjectMocks
+    private GrowChamberRollupService service;
+
+    @Captor
+    private ArgumentCaptor<List<GrowChamberRollup>> rollupCaptor;
+
+    @Test
+    public void testRecordLogsCombinesBuckets() {
+        GrowChamberLog l1 = log(6.5f, LocalDateTime.of(2026, 10, 17, 10, 15, 5));
+        GrowChamberLog l2 = log(5.5f, LocalDateTime.of(2026, 10, 17, 10, 15, 45));
+        GrowChamberLog l3 = log(7.0f, LocalDateTime.of(2026, 10, 17, 10, 16, 0));
+
+        service.recordLogs(Arrays.asList(l1, l2, l3));
+
+        verify(dao).upsertRollups(rollupCaptor.capture());
+        List<GrowChamberRollup> rollups = rollupCaptor.getValue();
+        assertEquals(4, rollups.size(), "Two minute buckets, one hour and one day bucket");
+
+        GrowChamberRollup minute = rollups.get(0);
+        assertEquals(HistoryResolution.MINUTE, minute.getResolution(), "Resolution");
+        assertEquals(LocalDateTime.of(2026, 10, 17, 10, 15), minute.getBucketDate(), "Bucket date");
+        assertEquals(2, minute.getCount(), "Reading count");
+        assertEquals(5.5f, minute.getPh().getMin(), "PH min");
+        assertEquals(6.5f, minute.getPh().getMax(), "PH max");
+        assertEquals(12.0, minute.getPh().getSum(), 0.0001, "PH sum");
+        assertEquals(5.5f, minute.getPh().getLast(), "PH last");
+
+        GrowChamberRollup hour = rollups.get(1);
+        assertEquals(HistoryResolution.HOUR, hour.getResolution(), "Resolution");
+        assertEquals(3, hour.getCount(), "Reading count");
+        assertEquals(7.0f, hour.getPh().getLast(), "PH last");
+        assertEquals(l3.getInsertDate(), hour.getLastDate(), "Last date");
+    }
+
+    @Test
+    public void testRecordLogsEmpty() {
+        service.recordLogs(Arrays.asList());
+
+        verify(dao, never()).upsertRollups(anyList());
+    }
+
+    @Test
+    public void testRecordLateLogsSkipsLogsTheBackfillWillRead() {
+        LocalDateTime end = LocalDateTime.of(2026, 10, 17, 0, 0);
+        GrowChamberRollupBackfill backfill = new GrowChamberRollupBackfill();
+        backfill.setSystemId(1);
+        backfill.setEndDate(end);
+        backfill.setLastDate(end.minusDays(2));
+        backfill.setLastId(5);
+        when(dao.lockRollupBackfills(anySet())).thenReturn(Arrays.asList(backfill));
+        GrowChamberLog read = log(6.0f, end.minusDays(3));
+        read.setId(9);
+        GrowChamberLog sameDateRead = log(6.0f, end.minusDays(2));
+        sameDateRead.setId(4);
+        GrowChamberLog pending = log(6.0f, end.minusDays(1));
+        pending.setId(10);
+        GrowChamberLog live = log(6.0f, end.plusHours(1));
+        live.setId(11);
+        GrowChamberLog otherSystem = log(6.0f, end.minusDays(1));
+        otherSystem.setId(12);
+        otherSystem.setSystemId(2);
+
+        service.recordLateLogs(Arrays.asList(read, sameDateRead, pending, live, otherSystem));
+
+        verify(dao).lockRollupBackfills(Sets.newHashSet(1, 2));
+        verify(dao).upsertRollups(rollupCaptor.capture());
+        assertEquals(4, rollupCaptor.getValue().stream().filter(r -> r.getResolution() == HistoryResolution.DAY)
+                .count(), "Only the log the backfill has not read yet is skipped");
+    }
+
+    @Test
+    public void testRecordBackfill() {
+        GrowChamberRollupBackfill backfill = new GrowChamberRollupBackfill();
+        backfill.setSystemId(1);
+        when(dao.updateRollupBackfill(backfill, 5)).thenReturn(true);
+
+        service.recordBackfill(backfill, 5, Arrays.asList(log(6.0f, LocalDateTime.of(2026, 10, 17, 10, 15))), false);
+
+        verify(dao).upsertRollups(anyList());
+        verify(dao, never()).deleteRollupBackfill(anyInt(), any());
+    }
+
+    @Test
+    public void testRecordBackfillAlreadyMovedOn() {
+        GrowChamberRollupBackfill backfill = new GrowChamberRollupBackfill();
+        backfill.setSystemId(1);
+        when(dao.deleteRollupBackfill(1, null)).thenReturn(false);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                                               () -> service.recordBackfill(backfill, null, Arrays
+                                                       .asList(log(6.0f, LocalDateTime.of(2026, 10, 17, 10, 15))),
+                                                                            true));
+
+        assertEquals("Rollup backfill of system '1' was already moved on.", e.getMessage(), "Exception message");
+        verify(dao, never()).upsertRollups(anyList());
+    }
+
+    private GrowChamberLog log(float ph, LocalDateTime date) {
+        GrowChamberLog log = new GrowChamberLog();
+        log.setSystemId(1);
+        log.setPh(ph);
+        log.setInsertDate(date);
+        return log;
+    }
+}
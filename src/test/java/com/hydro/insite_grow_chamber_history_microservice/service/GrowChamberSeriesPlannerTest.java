@@ -0,0 +1,76 @@
+package com.hydro.insite_grow_chamber_history_microservice.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.GrowChamberSeriesSegment;
+import com.hydro.insite_grow_chamber_history_microservice.client.domain.HistoryResolution;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Grow Chamber Series Planner.
+ *
+ * @author Sam Butler
+ * @since October 17, 2026
+ */
+@HydroServiceTest
+public class GrowChamberSeriesPlannerTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 12, 0, 30);
+
+    @InjectMocks
+    private GrowChamberSeriesPlanner planner;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(planner, "rawIntervalSeconds", 60L);
+        ReflectionTestUtils.setField(planner, "rawRetentionDays", 7);
+        ReflectionTestUtils.setField(planner, "minuteRetentionDays", 30);
+        ReflectionTestUtils.setField(planner, "hourRetentionDays", 365);
+    }
+
+    @Test
+    public void testPlanShortRangeUsesRaw() {
+        List<GrowChamberSeriesSegment> segments = planner.plan(NOW.minusHours(2), NOW, 500, NOW);
+
+        assertEquals(1, segments.size(), "Segment Size");
+        assertEquals(HistoryResolution.RAW, segments.get(0).getResolution(), "Resolution");
+    }
+
+    @Test
+    public void testPlanLongRangeUsesCoarserResolution() {
+        List<GrowChamberSeriesSegment> segments = planner.plan(NOW.minusDays(60), NOW, 2000, NOW);
+
+        assertEquals(1, segments.size(), "Segment Size");
+        assertEquals(HistoryResolution.HOUR, segments.get(0).getResolution(), "Resolution");
+    }
+
+    @Test
+    public void testPlanStitchesExpiredRange() {
+        LocalDateTime from = NOW.minusDays(10);
+        List<GrowChamberSeriesSegment> segments = planner.plan(from, NOW, 20000, NOW);
+
+        LocalDateTime seam = LocalDateTime.of(2026, 10, 10, 12, 1);
+        assertEquals(2, segments.size(), "Segment Size");
+        assertEquals(HistoryResolution.MINUTE, segments.get(0).getResolution(), "Older Resolution");
+        assertEquals(from, segments.get(0).getFrom(), "Older From");
+        assertEquals(seam, segments.get(0).getTo(), "Older To");
+        assertEquals(HistoryResolution.RAW, segments.get(1).getResolution(), "Recent Resolution");
+        assertEquals(seam, segments.get(1).getFrom(), "Recent From");
+        assertEquals(NOW, segments.get(1).getTo(), "Recent To");
+    }
+
+    @Test
+    public void testPlanFullyExpiredRangeSkipsResolution() {
+        List<GrowChamberSeriesSegment> segments = planner.plan(NOW.minusDays(20), NOW.minusDays(10), 20000, NOW);
+
+        assertEquals(1, segments.size(), "Segment Size");
+        assertEquals(HistoryResolution.MINUTE, segments.get(0).getResolution(), "Resolution");
+    }
+}
@@ -2,6 +2,8 @@ package com.hydro.insite_hydro_system_microservice.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -9,6 +11,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -57,6 +60,17 @@ public class HydroSystemDAOTest {
         assertEquals(resultStatus, actualResult, "Result of system register");
     }
 
+    @Test
+    public void testStreamSystems() {
+        HydroSystemGetRequest req = new HydroSystemGetRequest();
+        req.setId(Sets.newHashSet(1, 2));
+        List<Integer> ids = new ArrayList<>();
+        dao.streamSystems(req, (RowCallbackHandler) rs -> ids.add(rs.getInt("id")));
+
+        assertEquals(2, ids.size(), "Streamed systems");
+        assertEquals(dao.getSystems(req).size(), ids.size(), "Same rows as the list");
+    }
+
     @Test
     public void testUnregisterSystem() {
         HydroSystemGetRequest req = new HydroSystemGetRequest();
@@ -21,6 +21,7 @@ import com.hydro.common.exception.InsufficientPermissionsException;
 import com.hydro.common.exception.NotFoundException;
 import com.hydro.common.jwt.utility.JwtHolder;
 import com.hydro.common.jwt.utility.JwtTokenUtil;
+import com.hydro.insite_grow_chamber_history_microservice.client.GrowChamberHistoryClient;
 import com.hydro.insite_hydro_system_microservice.client.domain.request.HydroSystemGetRequest;
 import com.hydro.insite_hydro_system_microservice.dao.HydroSystemDAO;
 import com.hydro.test.factory.annotations.HydroServiceTest;
@@ -46,6 +47,9 @@ public class HydroSystemServiceTest {
     @Mock
     private JwtHolder jwtHolder;
 
+    @Mock
+    private GrowChamberHistoryClient growChamberHistoryClient;
+
     @InjectMocks
     private HydroSystemService service;
 
@@ -137,6 +141,7 @@ public class HydroSystemServiceTest {
         when(jwtHolder.getWebRole()).thenReturn(WebRole.ADMIN);
 
         service.unregisterSystem(8);
+        verify(growChamberHistoryClient).deleteGrowChamberLogs(8);
         verify(hydroSystemDAO).unregisterSystem(8);
     }
 
@@ -147,6 +152,7 @@ public class HydroSystemServiceTest {
         when(jwtHolder.getUserId()).thenReturn(2);
 
         service.unregisterSystem(8);
+        verify(growChamberHistoryClient).deleteGrowChamberLogs(8);
         verify(hydroSystemDAO).unregisterSystem(8);
     }
 
@@ -159,6 +165,7 @@ public class HydroSystemServiceTest {
         InsufficientPermissionsException e = assertThrows(InsufficientPermissionsException.class,
                                                           () -> service.unregisterSystem(8));
 
+        verify(growChamberHistoryClient, never()).deleteGrowChamberLogs(anyInt());
         verify(hydroSystemDAO, never()).unregisterSystem(anyInt());
         assertEquals("Insufficient permissions! You can not unregister this system.", e.getMessage(),
                      "Exception Message");
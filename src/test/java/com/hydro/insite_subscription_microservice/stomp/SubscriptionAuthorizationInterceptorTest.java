@@ -0,0 +1,138 @@
+package com.hydro.insite_subscription_microservice.stomp;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.security.Principal;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.hydro.common.dictionary.data.HydroSystem;
+import com.hydro.common.dictionary.data.User;
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.common.exception.InsufficientPermissionsException;
+import com.hydro.insite_hydro_system_microservice.client.HydroSystemClient;
+import com.hydro.insite_subscription_microservice.client.domain.SystemPrincipal;
+import com.hydro.insite_subscription_microservice.client.domain.UserPrincipal;
+import com.hydro.test.factory.annotations.HydroServiceTest;
+
+/**
+ * Test class for the Subscription Authorization Interceptor.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@HydroServiceTest
+public class SubscriptionAuthorizationInterceptorTest {
+
+    @Mock
+    private HydroSystemClient hydroSystemClient;
+
+    @InjectMocks
+    private SubscriptionAuthorizationInterceptor interceptor;
+
+    @Test
+    public void testSubscribeToSharedSystem() {
+        when(hydroSystemClient.hasSystemAccess(4, 12)).thenReturn(true);
+        Message<?> message = message(StompCommand.SUBSCRIBE, "/topic/system/4/telemetry", user(WebRole.USER));
+
+        assertSame(message, interceptor.preSend(message, null), "Message allowed");
+    }
+
+    @Test
+    public void testSubscribeAsAdmin() {
+        Message<?> message = message(StompCommand.SUBSCRIBE, "/topic/system/4/telemetry", user(WebRole.ADMIN));
+
+        assertSame(message, interceptor.preSend(message, null), "Message allowed");
+        verify(hydroSystemClient, never()).hasSystemAccess(anyInt(), anyInt());
+    }
+
+    @Test
+    public void testSubscribeToOwnSystemTopic() {
+        Message<?> message = message(StompCommand.SUBSCRIBE, "/topic/system/4/telemetry", system(4));
+
+        assertSame(message, interceptor.preSend(message, null), "Message allowed");
+    }
+
+    @Test
+    public void testSubscribeToGeneralTopic() {
+        Message<?> message = message(StompCommand.SUBSCRIBE, "/topic/general/notification", user(WebRole.USER));
+
+        assertSame(message, interceptor.preSend(message, null), "Message allowed");
+    }
+
+    @Test
+    public void testSubscribeToUnsharedSystemDenied() {
+        when(hydroSystemClient.hasSystemAccess(4, 12)).thenReturn(false);
+        Message<?> message = message(StompCommand.SUBSCRIBE, "/topic/system/4/telemetry", user(WebRole.USER));
+
+        assertThrows(InsufficientPermissionsException.class, () -> interceptor.preSend(message, null));
+    }
+
+    @Test
+    public void testSubscribeToOtherSystemTopicDenied() {
+        Message<?> message = message(StompCommand.SUBSCRIBE, "/topic/system/5/telemetry", system(4));
+
+        assertThrows(InsufficientPermissionsException.class, () -> interceptor.preSend(message, null));
+    }
+
+    @Test
+    public void testSubscribeWithWildcardDenied() {
+        for(String destination : new String[] {"/topic/system/*/telemetry", "/topic/**", "/topic/system/4?/telemetry",
+                                               "/topic/system/{id}/telemetry", "/queue/**"}) {
+            Message<?> message = message(StompCommand.SUBSCRIBE, destination, user(WebRole.ADMIN));
+
+            assertThrows(InsufficientPermissionsException.class, () -> interceptor.preSend(message, null),
+                         destination);
+        }
+        verify(hydroSystemClient, never()).hasSystemAccess(anyInt(), anyInt());
+    }
+
+    @Test
+    public void testSubscribeToMalformedSystemTopicDenied() {
+        for(String destination : new String[] {"/topic/system/99999999999999999999/telemetry",
+                                               "/topic/system/abc/telemetry", "/topic/system/4",
+                                               "/topic/system/4/../5/telemetry"}) {
+            Message<?> message = message(StompCommand.SUBSCRIBE, destination, user(WebRole.ADMIN));
+
+            assertThrows(InsufficientPermissionsException.class, () -> interceptor.preSend(message, null),
+                         destination);
+        }
+    }
+
+    @Test
+    public void testSendToBrokerDestinationDenied() {
+        Message<?> message = message(StompCommand.SEND, "/topic/system/4/telemetry", system(4));
+
+        assertThrows(InsufficientPermissionsException.class, () -> interceptor.preSend(message, null));
+    }
+
+    private Message<?> message(StompCommand command, String destination, Principal principal) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setSessionId("session");
+        accessor.setUser(principal);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private UserPrincipal user(WebRole role) {
+        User user = new User();
+        user.setId(12);
+        user.setWebRole(role);
+        return new UserPrincipal("user", user);
+    }
+
+    private SystemPrincipal system(int systemId) {
+        HydroSystem system = new HydroSystem();
+        system.setId(systemId);
+        return new SystemPrincipal("system", system);
+    }
+}
@@ -2,11 +2,13 @@ package com.hydro.insite_user_microservice.dao;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -61,6 +63,16 @@ public class UserProfileDAOTest {
         assertTrue(dao.getUsers(request).isEmpty(), "User list should be empty");
     }
 
+    @Test
+    public void testStreamUsersWithFilter() {
+        UserGetRequest request = new UserGetRequest();
+        request.setWebRole(Sets.newHashSet(WebRole.USER));
+        List<String> names = new ArrayList<>();
+        dao.streamUsers(request, (RowCallbackHandler) rs -> names.add(rs.getString("first_name")));
+
+        assertEquals(List.of("Test", "Bill"), names, "Streamed users in id order");
+    }
+
     @Test
     public void testGetUserById() throws Exception {
         User user = dao.getUserById(1);
@@ -4,15 +4,21 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import com.hydro.common.dictionary.data.HydroSystem;
 import com.hydro.common.dictionary.data.User;
 import com.hydro.common.dictionary.enums.WebRole;
 import com.hydro.common.exception.InsufficientPermissionsException;
 import com.hydro.common.exception.NotFoundException;
 import com.hydro.common.jwt.utility.JwtHolder;
+import com.hydro.insite_grow_chamber_history_microservice.client.GrowChamberHistoryClient;
+import com.hydro.insite_hydro_system_microservice.client.HydroSystemClient;
+import com.hydro.insite_hydro_system_microservice.client.domain.request.HydroSystemGetRequest;
 import com.hydro.insite_user_microservice.client.UserCredentialsClient;
 import com.hydro.insite_user_microservice.dao.UserProfileDAO;
 import com.hydro.test.factory.annotations.HydroServiceTest;
@@ -33,6 +39,12 @@ public class ManageUserProfileServiceTest {
     @Mock
     private UserCredentialsClient userCredentialsClient;
 
+    @Mock
+    private HydroSystemClient hydroSystemClient;
+
+    @Mock
+    private GrowChamberHistoryClient growChamberHistoryClient;
+
     @Mock
     private UserProfileDAO dao;
 
@@ -113,6 +125,24 @@ public class ManageUserProfileServiceTest {
 
         service.deleteUser(5);
         verify(dao).deleteUser(5);
+        verify(growChamberHistoryClient, never()).deleteGrowChamberLogs(anyInt());
+    }
+
+    @Test
+    public void testDeleteUserDeletesHistoryOfOwnedSystems() throws Exception {
+        User userToDelete = UserFactoryData.userData();
+        userToDelete.setWebRole(WebRole.SYSTEM);
+        HydroSystem system = new HydroSystem();
+        system.setId(4);
+
+        when(dao.getUserById(anyInt())).thenReturn(userToDelete);
+        when(jwtHolder.getWebRole()).thenReturn(WebRole.ADMIN);
+        when(hydroSystemClient.getSystems(any(HydroSystemGetRequest.class))).thenReturn(List.of(system));
+
+        service.deleteUser(5);
+
+        verify(growChamberHistoryClient).deleteGrowChamberLogs(4);
+        verify(dao).deleteUser(5);
     }
 
     @Test
@@ -126,6 +156,7 @@ public class ManageUserProfileServiceTest {
                                                           () -> service.deleteUser(5));
 
         verify(dao, never()).deleteUser(anyInt());
+        verify(growChamberHistoryClient, never()).deleteGrowChamberLogs(anyInt());
         assertEquals("Your role of 'ADMIN' can not delete a user of role 'ADMIN'", e.getMessage(), "Exception Message");
     }
 }
@@ -9,5 +9,6 @@ import org.springframework.context.annotation.ComponentScan;
  * @since April 25, 2022
  */
 @ComponentScan(basePackages = { "com.hydro.insite_hydro_system_microservice.dao",
-                                "com.hydro.insite_user_microservice.dao", "com.hydro.insite_auth_microservice.dao" })
+                                "com.hydro.insite_user_microservice.dao", "com.hydro.insite_auth_microservice.dao",
+                                "com.hydro.insite_grow_chamber_history_microservice.dao" })
 public class HydroDAOTestConfig {}
\ No newline at end of file
@@ -0,0 +1,16 @@
+DELETE FROM grow_chamber_history;
+DELETE FROM systems;
+
+INSERT INTO systems(id, uuid, part_number, name, password)
+VALUES
+(1, '71d9ec65-265b-3388-a6e4-654128db3263', '335155D000001', 'partNumberTest', "fakePassword1"),
+(2, '3d6b0a4d-d2f3-31bf-a637-2326625bb5b0', '276674D000002', 'otherSystem', "fakePassword1");
+
+INSERT INTO grow_chamber_history (id, system_id, ph, tds, water_temp_celsius, air_temp_celsius, humidity, light_status, insert_date_utc)
+VALUES
+(1, 1, 6.40, 400.00, 20.00, 24.00, 50.00, 1, '2026-10-17 00:00:00'),
+(2, 1, 6.00, 410.00, 21.00, 24.50, 52.00, 1, '2026-10-17 00:01:00'),
+(3, 1, 7.00, 420.00, 22.00, 25.00, 54.00, 1, '2026-10-17 00:02:00'),
+(4, 1, 6.20, 430.00, 23.00, 25.50, 56.00, 0, '2026-10-17 00:02:00'),
+(5, 2, 5.80, 600.00, 19.00, 22.00, 60.00, 0, '2026-10-17 00:01:00'),
+(6, 1, 9.00, 900.00, 30.00, 30.00, 90.00, 0, '2026-10-18 00:00:00');
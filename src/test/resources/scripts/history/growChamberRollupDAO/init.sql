@@ -0,0 +1,19 @@
+DELETE FROM grow_chamber_history_rollup;
+DELETE FROM grow_chamber_history_rollup_backfill;
+DELETE FROM systems;
+
+INSERT INTO systems(id, uuid, part_number, name, password)
+VALUES
+(1, '71d9ec65-265b-3388-a6e4-654128db3263', '335155D000001', 'partNumberTest', "fakePassword1"),
+(2, '3d6b0a4d-d2f3-31bf-a637-2326625bb5b0', '276674D000002', 'otherSystem', "fakePassword1");
+
+INSERT INTO grow_chamber_history_rollup (system_id, resolution, bucket_date_utc, reading_count, ph_min, ph_max, ph_sum, ph_last, tds_min, tds_max, tds_sum, tds_last, water_temp_celsius_min, water_temp_celsius_max, water_temp_celsius_sum, water_temp_celsius_last, air_temp_celsius_min, air_temp_celsius_max, air_temp_celsius_sum, air_temp_celsius_last, humidity_min, humidity_max, humidity_sum, humidity_last, last_date_utc)
+VALUES
+(1, 'HOUR', '2026-10-17 10:00:00', 2, 6.00, 6.40, 12.40, 6.40, 400.00, 420.00, 820.00, 420.00, 20.00, 21.00, 41.00, 21.00, 24.00, 25.00, 49.00, 25.00, 50.00, 52.00, 102.00, 52.00, '2026-10-17 10:30:00'),
+(1, 'HOUR', '2026-10-17 11:00:00', 1, 6.50, 6.50, 6.50, 6.50, 430.00, 430.00, 430.00, 430.00, 22.00, 22.00, 22.00, 22.00, 25.50, 25.50, 25.50, 25.50, 54.00, 54.00, 54.00, 54.00, '2026-10-17 11:05:00'),
+(2, 'HOUR', '2026-10-17 10:00:00', 1, 5.80, 5.80, 5.80, 5.80, 600.00, 600.00, 600.00, 600.00, 19.00, 19.00, 19.00, 19.00, 22.00, 22.00, 22.00, 22.00, 60.00, 60.00, 60.00, 60.00, '2026-10-17 10:10:00');
+
+INSERT INTO grow_chamber_history_rollup_backfill (system_id, end_date_utc, last_date_utc, last_id)
+VALUES
+(1, '2026-10-17 00:00:00', NULL, NULL),
+(2, '2026-10-17 00:00:00', '2026-10-16 10:00:00', 5);
@@ -0,0 +1,12 @@
+DELETE FROM grow_chamber_history_seq;
+DELETE FROM systems;
+
+INSERT INTO systems(id, uuid, part_number, name, password)
+VALUES
+(1, '71d9ec65-265b-3388-a6e4-654128db3263', '335155D000001', 'partNumberTest', "fakePassword1"),
+(2, '3d6b0a4d-d2f3-31bf-a637-2326625bb5b0', '276674D000002', 'otherSystem', "fakePassword1");
+
+INSERT INTO grow_chamber_history_seq (system_id, seq, claim_id, log_id, insert_date_utc)
+VALUES
+(1, 10, 100, 4, '2026-10-10 00:00:00'),
+(1, 11, 100, 5, '2026-10-17 00:00:00');